@@ -537,4 +537,122 @@ CREATE TABLE notice_files (
                               file_id VARCHAR(36) NOT NULL, -- file_id 추가
                               CONSTRAINT fk_notice_files_notice_id FOREIGN KEY (notice_id) REFERENCES notices(id),
                               CONSTRAINT fk_notice_files_file_id FOREIGN KEY (file_id) REFERENCES files(id)  -- 이것도 추가
-);
\ No newline at end of file
+);
+
+-- 상품별 베스트 점수 집계 (결제 완료 / 리뷰 이벤트로 증분 갱신, 스케줄러가 주기적으로 전체 재계산)
+-- 상품 등록 / 대량 등록 시 0점 행을 만들어 베스트 탭은 이 테이블만 인덱스 순서로 읽습니다.
+CREATE TABLE IF NOT EXISTS product_best_scores (
+                                                   product_id VARCHAR(36) PRIMARY KEY,
+                                                   seller_id VARCHAR(36) NOT NULL,
+                                                   sales_quantity BIGINT NOT NULL DEFAULT 0,
+                                                   total_revenue BIGINT NOT NULL DEFAULT 0,
+                                                   rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+                                                   review_count BIGINT NOT NULL DEFAULT 0,
+                                                   recent_order_count BIGINT NOT NULL DEFAULT 0, -- 최근 30일 주문 수 (전체 재계산 때 보정)
+                                                   best_score DOUBLE PRECISION NOT NULL DEFAULT 0,
+                                                   updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_best_scores_seller_score
+    ON product_best_scores(seller_id, best_score DESC);
+
+
+-- 판매자별 일간 집계 (sellerDailyStatsJob 이 하루 단위로 채움)
+-- 스토어 집계는 이 테이블 합계 + 반영 기준일 이후 원본 실시간 집계로 계산합니다.
+CREATE TABLE IF NOT EXISTS seller_daily_stats (
+                                                  seller_id VARCHAR(36) NOT NULL,
+                                                  stat_date DATE NOT NULL,
+                                                  sales_quantity BIGINT NOT NULL DEFAULT 0,
+                                                  revenue BIGINT NOT NULL DEFAULT 0,
+                                                  delivery_seconds_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+                                                  delivery_count BIGINT NOT NULL DEFAULT 0,
+                                                  review_count BIGINT NOT NULL DEFAULT 0,
+                                                  updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                                  PRIMARY KEY (seller_id, stat_date)
+);
+
+-- 집계 테이블별 반영 기준일 (live_from 이전은 집계 테이블, 이후는 원본 테이블에서 읽음)
+CREATE TABLE IF NOT EXISTS stats_rollup_watermarks (
+                                                       rollup_name VARCHAR(50) PRIMARY KEY,
+                                                       live_from DATE NOT NULL,
+                                                       updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+
+-- 스토어 상품 커서 페이징 (created_at, id) / (price, id) 키셋
+CREATE INDEX IF NOT EXISTS idx_products_seller_created ON products(seller_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_seller_price ON products(seller_id, price, id);
+
+
+-- 상품 카드 페이지 단위 평점 / 대표 이미지 조회
+CREATE INDEX IF NOT EXISTS idx_reviews_product_star ON reviews(product_id, star);
+CREATE INDEX IF NOT EXISTS idx_products_images_product_created ON products_images(product_id, created_at);
+
+
+-- 상품별 평점 합계 / 리뷰 수 비정규화 (리뷰 등록 / 수정 / 삭제 시 증감, 평점 복구 배치가 원본으로 보정)
+CREATE TABLE IF NOT EXISTS product_rating_stats (
+                                                    product_id VARCHAR(36) PRIMARY KEY,
+                                                    rating_sum DECIMAL(14,1) NOT NULL DEFAULT 0,
+                                                    review_count BIGINT NOT NULL DEFAULT 0,
+                                                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+
+-- 구매자 상품 목록 키셋 페이징 (최신순 / 가격순)
+CREATE INDEX IF NOT EXISTS idx_products_created ON products(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_price ON products(price, id);
+
+-- 상품 검색 (부분 일치) - 애플리케이션 시작 시에도 CONCURRENTLY 로 확인 / 재생성합니다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_products_title_trgm ON products USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_products_contents_trgm ON products USING gin (contents gin_trgm_ops);
+
+
+-- 상품 대량 등록 / 수정 작업의 행 단위 오류 (배치 Job 이 기록, 작업 상태 조회 시 줄 번호 순으로 노출)
+CREATE TABLE IF NOT EXISTS product_import_errors (
+                                                     id VARCHAR(36) PRIMARY KEY,
+                                                     job_execution_id BIGINT NOT NULL,
+                                                     line_number BIGINT NOT NULL,
+                                                     message VARCHAR(500) NOT NULL,
+                                                     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_import_errors_job_line
+    ON product_import_errors(job_execution_id, line_number);
+
+
+-- 상품 리뷰 피드 키셋 페이징 (최신순)
+CREATE INDEX IF NOT EXISTS idx_reviews_product_created ON reviews(product_id, created_at, id);
+
+
+-- 리뷰 요약 증분 배치: 구간 안에서 바뀐 리뷰 / 별점 집계 조회
+CREATE INDEX IF NOT EXISTS idx_reviews_updated ON reviews(updated_at);
+CREATE INDEX IF NOT EXISTS idx_product_rating_stats_updated ON product_rating_stats(updated_at);
+
+-- 리뷰 요약은 상품당 한 행 (배치에서 product_id 로 upsert)
+ALTER TABLE reviews_summary_llm ADD COLUMN IF NOT EXISTS created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE reviews_summary_llm ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP;
+
+-- 제약 추가 전에 상품별 중복 요약은 가장 최근 행만 남김
+DELETE FROM reviews_summary_llm s
+    USING reviews_summary_llm newer
+WHERE s.product_id = newer.product_id
+  AND (COALESCE(s.updated_at, s.created_at, '-infinity'), s.id)
+    < (COALESCE(newer.updated_at, newer.created_at, '-infinity'), newer.id);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_reviews_summary_llm_product_id') THEN
+        ALTER TABLE reviews_summary_llm
+            ADD CONSTRAINT uk_reviews_summary_llm_product_id UNIQUE (product_id);
+    END IF;
+END $$;
+
+
+-- 이미지 리사이즈 변형 (백그라운드 작업이 채우며, 없으면 원본 image_url 사용)
+ALTER TABLE images ADD COLUMN IF NOT EXISTS small_image_url VARCHAR(255);
+ALTER TABLE images ADD COLUMN IF NOT EXISTS medium_image_url VARCHAR(255);
+ALTER TABLE images ADD COLUMN IF NOT EXISTS large_image_url VARCHAR(255);
+
+-- 판매자 브랜드 이미지 썸네일 (없으면 vendor_profile_image 사용)
+ALTER TABLE sellers ADD COLUMN IF NOT EXISTS vendor_profile_thumbnail VARCHAR(255);
@@ -0,0 +1,8 @@
+package com.team5.catdogeats.auth.dto;
+
+import java.time.Instant;
+
+public record AccessTokenDTO(String token,
+                             String jti,
+                             Instant expiresAt) {
+}
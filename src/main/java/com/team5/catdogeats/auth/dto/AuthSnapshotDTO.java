@@ -0,0 +1,10 @@
+package com.team5.catdogeats.auth.dto;
+
+public record AuthSnapshotDTO(String userId,
+                              String provider,
+                              String providerId,
+                              String name,
+                              String role,
+                              String userNameAttribute,
+                              long authVersion) {
+}
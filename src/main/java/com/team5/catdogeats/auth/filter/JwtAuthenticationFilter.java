@@ -1,9 +1,12 @@
 package com.team5.catdogeats.auth.filter;
 
 import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
 import com.team5.catdogeats.auth.service.JwtService;
 import com.team5.catdogeats.auth.util.JwtUtils;
+import com.team5.catdogeats.auth.util.RouteClassifier;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,26 +28,33 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private static final String REFRESH_TOKEN_PATH = "/v1/auth/refresh";
     private final JwtUtils jwtUtils;
     private final JwtService jwtService;
+    private final AccessTokenDenylistService accessTokenDenylistService;
+    private final RouteClassifier routeClassifier;
+
+    // 정적 리소스, 공개 조회 API, 리프레시 토큰 엔드포인트는 쿠키 파싱 없이 통과
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routeClassifier.classify(request) == RouteClassifier.AuthRequirement.NONE;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String path = request.getRequestURI();
-
-        if (path.equals(REFRESH_TOKEN_PATH)) {
-            logger.debug("Skipping JWT validation for refresh token endpoint");
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String token = jwtUtils.extractToken(request);
 
-        if (StringUtils.hasText(token) && jwtUtils.validateToken(token)) {
+        if (StringUtils.hasText(token)) {
             try {
+                // 서명 검증은 parseToken 한 번으로 처리 (validateToken 과 중복 검증하지 않음)
                 Claims claims = jwtUtils.parseToken(token);
+                if (accessTokenDenylistService.isRevoked(claims.getId())) {
+                    log.debug("Revoked access token: {}", claims.getId());
+                    SecurityContextHolder.clearContext();
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
                 String providerId = claims.getSubject();
                 String provider = (String) claims.get("provider");
                 String authorities = (String) claims.get("authorities");
@@ -64,6 +74,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.debug("Authentication set for providerId: {}, authorities: {}",
                         providerId, authorities);
 
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Invalid JWT: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
             } catch (Exception e) {
                 log.error("Error setting authentication from token", e);
                 SecurityContextHolder.clearContext();
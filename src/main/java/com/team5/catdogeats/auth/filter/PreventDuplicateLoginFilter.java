@@ -1,6 +1,7 @@
 package com.team5.catdogeats.auth.filter;
 
 import com.team5.catdogeats.auth.util.JwtUtils;
+import com.team5.catdogeats.auth.util.RouteClassifier;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,21 +17,24 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class PreventDuplicateLoginFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
+    private final RouteClassifier routeClassifier;
+
+    // OAuth2 로그인 진입 경로에서만 동작
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !routeClassifier.isLoginEntry(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String requestURI = request.getRequestURI();
         String url = request.getContextPath() + "/?error=already_authenticated";
-        if (requestURI.startsWith("/oauth2/authorization/") ||
-                requestURI.startsWith("/login/oauth2/code/")) {
 
-            // 이미 인증된 사용자인지 확인
-            String token = jwtUtils.extractToken(request);
-            if (StringUtils.hasText(token) && jwtUtils.validateToken(token)) {
-                response.sendRedirect(url);
-                return;
-            }
+        // 이미 인증된 사용자인지 확인
+        String token = jwtUtils.extractToken(request);
+        if (StringUtils.hasText(token) && jwtUtils.validateToken(token)) {
+            response.sendRedirect(url);
+            return;
         }
         filterChain.doFilter(request, response);
     }
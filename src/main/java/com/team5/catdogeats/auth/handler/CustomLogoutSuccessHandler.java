@@ -1,8 +1,11 @@
 package com.team5.catdogeats.auth.handler;
 
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
 import com.team5.catdogeats.auth.util.CookieUtils;
 import com.team5.catdogeats.auth.util.JwtUtils;
 import com.team5.catdogeats.global.exception.TokenErrorException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,6 +15,7 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 
@@ -21,10 +25,12 @@ import java.io.IOException;
 public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
     private final JwtUtils jwtUtils;
     private final CookieUtils cookieUtils;
+    private final AccessTokenDenylistService accessTokenDenylistService;
 
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         try {
+            revokeAccessToken(request);
             String url = request.getContextPath() + "/";
             ResponseCookie cookie = cookieUtils.createCookie("token", 0, null);
             ResponseCookie refreshIdCookie = cookieUtils.createCookie("refreshTokenId", 0, null);
@@ -39,4 +45,19 @@ public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
             response.sendRedirect("/?logout-error=true");
         }
     }
+
+    // 쿠키를 지워도 토큰 자체는 만료 전까지 유효하므로 폐기 목록에 등록
+    private void revokeAccessToken(HttpServletRequest request) {
+        String token = jwtUtils.extractToken(request);
+        if (!StringUtils.hasText(token)) {
+            return;
+        }
+        try {
+            Claims claims = jwtUtils.parseToken(token);
+            accessTokenDenylistService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        } catch (JwtException e) {
+            // 이미 만료되었거나 잘못된 토큰은 폐기할 필요가 없음
+            log.debug("Skip revoking access token on logout: {}", e.getMessage());
+        }
+    }
 }
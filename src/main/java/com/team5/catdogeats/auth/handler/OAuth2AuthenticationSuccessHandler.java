@@ -1,5 +1,6 @@
 package com.team5.catdogeats.auth.handler;
 
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
 import com.team5.catdogeats.auth.service.JwtService;
 import com.team5.catdogeats.auth.service.RefreshTokenService;
 import com.team5.catdogeats.auth.util.CookieUtils;
@@ -30,8 +31,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws ServletException, IOException {
 
-        String token = jwtService.createAccessToken(authentication);
-        String refreshTokenId = refreshTokenService.createRefreshToken(authentication);
+        AccessTokenDTO accessToken = jwtService.issueAccessToken(authentication);
+        String token = accessToken.token();
+        String refreshTokenId = refreshTokenService.createRefreshToken(authentication, accessToken);
         log.debug("Created refresh token: {}", refreshTokenId);
         String url = request.getContextPath() + "/";
         ResponseCookie cookie = cookieUtils.createCookie("token", cookieProperties.getMaxAge(), token);
@@ -1,5 +1,6 @@
 package com.team5.catdogeats.auth.redis;
 
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import jakarta.persistence.Id;
 import lombok.*;
 import org.springframework.data.redis.core.RedisHash;
@@ -30,7 +31,25 @@ public class RefreshTokens implements Serializable {
     private Instant expiresAt;
     private Instant createdAt; // 토큰 생성 시간 (정렬용)
 
+    // 토큰 회전 시 DB 조회 없이 인증 객체를 만들기 위한 유저 스냅샷
+    private String name;
+    private String role;
+    private String userNameAttribute;
+    private Long authVersion;
+
+    // 함께 발급된 액세스 토큰, 재사용 감지 시 폐기 대상
+    private String accessTokenJti;
+    private Instant accessTokenExpiresAt;
+
     public void markUsed() {
         this.used = true;
     }
+
+    public boolean hasSnapshot() {
+        return role != null && authVersion != null;
+    }
+
+    public AuthSnapshotDTO toSnapshot() {
+        return new AuthSnapshotDTO(userId, provider, providerId, name, role, userNameAttribute, authVersion);
+    }
 }
\ No newline at end of file
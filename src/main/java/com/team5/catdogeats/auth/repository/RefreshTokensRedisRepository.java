@@ -8,6 +8,7 @@ import java.util.Optional;
 
 public interface RefreshTokensRedisRepository extends CrudRepository<RefreshTokens, String> {
     List<RefreshTokens> findByUserIdAndUsedIsFalse(String userId);
+    List<RefreshTokens> findByUserId(String userId);
     void deleteByUserId(String userId);
 
     void deleteById(String id);
@@ -0,0 +1,8 @@
+package com.team5.catdogeats.auth.service;
+
+import java.time.Instant;
+
+public interface AccessTokenDenylistService {
+    void revoke(String jti, Instant expiresAt);
+    boolean isRevoked(String jti);
+}
@@ -0,0 +1,8 @@
+package com.team5.catdogeats.auth.service;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+
+public interface AuthVersionService {
+    long currentVersion(UserPrincipal userPrincipal);
+    void bumpVersion(UserPrincipal userPrincipal);
+}
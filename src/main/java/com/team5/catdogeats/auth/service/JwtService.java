@@ -1,9 +1,13 @@
 package com.team5.catdogeats.auth.service;
 
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import org.springframework.security.core.Authentication;
 
 public interface JwtService {
     String createAccessToken(Authentication authentication);
+    AccessTokenDTO issueAccessToken(Authentication authentication);
     Authentication getAuthentication(UserPrincipal userPrincipal);
+    Authentication getAuthentication(AuthSnapshotDTO snapshot);
 }
@@ -1,8 +1,11 @@
 package com.team5.catdogeats.auth.service;
 
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import org.springframework.security.core.Authentication;
 
 public interface RefreshTokenService {
-    String createRefreshToken(Authentication authentication);
+    String createRefreshToken(Authentication authentication, AccessTokenDTO accessToken);
+    String createRefreshToken(AuthSnapshotDTO snapshot, AccessTokenDTO accessToken);
 
 }
@@ -0,0 +1,122 @@
+package com.team5.catdogeats.auth.service.impl;
+
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
+import com.team5.catdogeats.auth.util.JtiBloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * Redis 에 jti 를 토큰의 남은 수명만큼 저장하고, 각 서버는 pub/sub 으로 받은 jti 를 로컬 블룸 필터에 추가합니다.
+ * 블룸 필터에 없는 토큰(대부분)은 Redis 조회 없이 통과합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenDenylistServiceImpl implements AccessTokenDenylistService, MessageListener {
+    private static final String KEY_PREFIX = "revokedAccessToken:";
+    private static final String CHANNEL = "revokedAccessTokens";
+    // 액세스 토큰 수명(30분) 동안 폐기될 수 있는 토큰 수 기준
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile JtiBloomFilter bloomFilter = newFilter();
+    private volatile JtiBloomFilter rebuildingFilter;
+    // 초기 적재에 실패하면 필터를 신뢰할 수 없으므로 재구성 전까지 Redis 로 직접 확인
+    private volatile boolean filterReady = false;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuildFilter();
+    }
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null) {
+            return;
+        }
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        // 키 저장 후 발행해야 재구성 중인 필터가 SCAN 으로 놓치지 않는다
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", ttl);
+        stringRedisTemplate.convertAndSend(CHANNEL, jti);
+        addToFilters(jti);
+        log.debug("Access token revoked: {}, ttl={}s", jti, ttl.toSeconds());
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (filterReady && !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            // Redis 장애 시 모든 요청을 막지 않도록 통과시키고 로그만 남김 (토큰 수명은 최대 30분)
+            log.error("Access token denylist lookup failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilters(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 만료된 jti 가 필터에 계속 쌓이지 않도록 Redis 에 남아 있는 키로 필터를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.rebuild-interval-ms:600000}",
+            initialDelayString = "${jwt.denylist.rebuild-interval-ms:600000}")
+    public void rebuildFilter() {
+        JtiBloomFilter next = newFilter();
+        rebuildingFilter = next;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(KEY_PREFIX.length()));
+            }
+            bloomFilter = next;
+            filterReady = true;
+        } catch (Exception e) {
+            log.warn("Access token denylist filter rebuild failed: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void addToFilters(String jti) {
+        bloomFilter.put(jti);
+        JtiBloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(jti);
+        }
+    }
+
+    private static JtiBloomFilter newFilter() {
+        return new JtiBloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
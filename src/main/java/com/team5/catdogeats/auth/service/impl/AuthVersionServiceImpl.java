@@ -0,0 +1,44 @@
+package com.team5.catdogeats.auth.service.impl;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.auth.service.AuthVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 유저 권한 변경 / 탈퇴 여부를 나타내는 버전 마커
+ * 리프레시 토큰에 저장된 권한 스냅샷이 최신인지 판단할 때 사용합니다.
+ * 마커가 없으면 0 으로 간주하고, 권한이 바뀔 때마다 1씩 증가합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthVersionServiceImpl implements AuthVersionService {
+    private static final String KEY_PREFIX = "authVersion:";
+    // 리프레시 토큰 TTL(1일)과 동일, 마커가 만료되기 전에 변경 이전 스냅샷을 가진 토큰은 모두 만료된다
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long currentVersion(UserPrincipal userPrincipal) {
+        String version = stringRedisTemplate.opsForValue().get(key(userPrincipal));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public void bumpVersion(UserPrincipal userPrincipal) {
+        String key = key(userPrincipal);
+        Long version = stringRedisTemplate.opsForValue().increment(key);
+        stringRedisTemplate.expire(key, VERSION_TTL);
+        log.debug("Auth version bumped: {} -> {}", key, version);
+    }
+
+    private String key(UserPrincipal userPrincipal) {
+        return KEY_PREFIX + userPrincipal.provider() + ":" + userPrincipal.providerId();
+    }
+}
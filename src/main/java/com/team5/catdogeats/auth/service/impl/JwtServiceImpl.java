@@ -2,14 +2,17 @@ package com.team5.catdogeats.auth.service.impl;
 
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategy;
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategyFactory;
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import com.team5.catdogeats.auth.dto.AuthenticationDTO;
 import com.team5.catdogeats.auth.dto.TokenDTO;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.auth.service.JwtService;
+import com.team5.catdogeats.auth.util.JwtKeyRing;
 import com.team5.catdogeats.auth.util.TokenFactory;
-import com.team5.catdogeats.global.config.JwtConfig;
 import com.team5.catdogeats.global.exception.TokenErrorException;
 import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
 import com.team5.catdogeats.users.repository.UserRepository;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +28,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -34,13 +38,20 @@ public class JwtServiceImpl implements JwtService {
     private final OAuth2ProviderStrategyFactory oAuth2ProviderStrategyFactory;
     private final OAuth2ProviderStrategyFactory strategyFactory;
     private final UserRepository userRepository;
-    private final JwtConfig jwtConfig;
+    private final JwtKeyRing jwtKeyRing;
 
     @Override
     public String createAccessToken(Authentication authentication) {
+        return issueAccessToken(authentication).token();
+    }
+
+    // jti 는 액세스 토큰 폐기 목록의 키로 사용
+    @Override
+    public AccessTokenDTO issueAccessToken(Authentication authentication) {
         try {
             TokenDTO dto = tokenFactory.createFromAuthentication(authentication);
-            return getCompact(dto);
+            String jti = UUID.randomUUID().toString();
+            return new AccessTokenDTO(getCompact(dto, jti), jti, dto.expiration().toInstant());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -54,15 +65,7 @@ public class JwtServiceImpl implements JwtService {
             Users user = userRepository.findByProviderAndProviderId(userPrincipal.provider(), userPrincipal.providerId())
                     .orElseThrow(() -> new NoSuchElementException("User not found for provider: " + userPrincipal.provider() + ", id: " + userPrincipal.providerId()));
 
-            AuthenticationDTO authDTO = getUser(user.getRole().toString(), user.getProvider());
-
-            OAuth2User oAuth2User = new DefaultOAuth2User(
-                    authDTO.authorities(),
-                    authDTO.providerStrategy().buildUserAttributes(user),
-                    user.getUserNameAttribute()
-            );
-
-            return new OAuth2AuthenticationToken(oAuth2User, authDTO.authorities(), user.getProvider());
+            return buildAuthentication(user);
 
         } catch (TokenErrorException e) {
             log.error("Error getting authentication: {}", e.getMessage());
@@ -70,6 +73,33 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
+    // 리프레시 토큰에 저장된 스냅샷으로 인증 객체 생성 (DB 조회 없음)
+    @Override
+    public Authentication getAuthentication(AuthSnapshotDTO snapshot) {
+        Users user = Users.builder()
+                .id(snapshot.userId())
+                .provider(snapshot.provider())
+                .providerId(snapshot.providerId())
+                .name(snapshot.name())
+                .role(Role.valueOf(snapshot.role()))
+                .userNameAttribute(snapshot.userNameAttribute())
+                .build();
+
+        return buildAuthentication(user);
+    }
+
+    private Authentication buildAuthentication(Users user) {
+        AuthenticationDTO authDTO = getUser(user.getRole().toString(), user.getProvider());
+
+        OAuth2User oAuth2User = new DefaultOAuth2User(
+                authDTO.authorities(),
+                authDTO.providerStrategy().buildUserAttributes(user),
+                user.getUserNameAttribute()
+        );
+
+        return new OAuth2AuthenticationToken(oAuth2User, authDTO.authorities(), user.getProvider());
+    }
+
     private AuthenticationDTO getUser(String role, String provider) {
         List<SimpleGrantedAuthority> authorities =
                 Collections.singletonList(new SimpleGrantedAuthority(role));
@@ -79,8 +109,11 @@ public class JwtServiceImpl implements JwtService {
         return new AuthenticationDTO(authorities, strategy);
     }
 
-    private String getCompact(TokenDTO tokenDTO) {
+    private String getCompact(TokenDTO tokenDTO, String jti) {
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.signingKey();
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(jti)
                 .subject(tokenDTO.providerId())
                 .claim("authorities", tokenDTO.authorities())
                 .claim("provider", tokenDTO.registrationId())
@@ -88,7 +121,7 @@ public class JwtServiceImpl implements JwtService {
                 .expiration(Date.from(tokenDTO.expiration().toInstant()))
                 .issuer("cake7-auth-server") // ✅ 발급자 설정
                 .audience().add("cake7-client").and()
-                .signWith(jwtConfig.secretKey(), Jwts.SIG.HS256)
+                .signWith(signingKey.privateKey(), jwtKeyRing.algorithm())
                 .compact();
     }
 }
@@ -2,9 +2,12 @@ package com.team5.catdogeats.auth.service.impl;
 
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategy;
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategyFactory;
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.auth.redis.RefreshTokens;
 import com.team5.catdogeats.auth.repository.RefreshTokensRedisRepository;
+import com.team5.catdogeats.auth.service.AuthVersionService;
 import com.team5.catdogeats.auth.service.RefreshTokenService;
 import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.users.domain.Users;
@@ -29,27 +32,49 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     private final OAuth2ProviderStrategyFactory strategyFactory;
     private final UserRepository userRepository;
     private final RefreshTokensRedisRepository refreshTokenRepository;
+    private final AuthVersionService authVersionService;
     private static final int MAX_TOKENS_PER_USER = 3;
     
     @Override
     @JpaTransactional
-    public String createRefreshToken(Authentication authentication) {
+    public String createRefreshToken(Authentication authentication, AccessTokenDTO accessToken) {
         UserPrincipal principal = getUserPrincipal(authentication);
         log.debug("로그가 나가는지 테스트입니다");
+        // 버전을 먼저 읽어야 조회 직후 권한이 바뀌면 스냅샷의 버전이 낮아 다음 회전에서 걸러짐
+        long authVersion = authVersionService.currentVersion(principal);
         Users user = userRepository.findByProviderAndProviderId(principal.provider(), principal.providerId())
                 .orElseThrow(() -> new NoSuchElementException("User not found"));
 
-        RefreshTokens newToken = buildRefreshTokens(principal, user);
+        AuthSnapshotDTO snapshot = new AuthSnapshotDTO(
+                user.getId(),
+                principal.provider(),
+                principal.providerId(),
+                user.getName(),
+                user.getRole().toString(),
+                user.getUserNameAttribute(),
+                authVersion);
 
-        verification(user);
+        return saveRefreshToken(snapshot, accessToken);
+    }
+
+    // 토큰 회전 경로: 이전 토큰의 스냅샷을 그대로 이어받아 DB 조회 없이 발급
+    @Override
+    public String createRefreshToken(AuthSnapshotDTO snapshot, AccessTokenDTO accessToken) {
+        return saveRefreshToken(snapshot, accessToken);
+    }
+
+    private String saveRefreshToken(AuthSnapshotDTO snapshot, AccessTokenDTO accessToken) {
+        RefreshTokens newToken = buildRefreshTokens(snapshot, accessToken);
+
+        verification(snapshot.userId());
         RefreshTokens token = refreshTokenRepository.save(newToken);
         log.debug("Created refresh token: {}", token.getId());
         return token.getId();
     }
 
-    private void verification(Users user) {
+    private void verification(String userId) {
         List<RefreshTokens> tokens = refreshTokenRepository
-                .findByUserIdAndUsedIsFalse(user.getId());
+                .findByUserIdAndUsedIsFalse(userId);
 
         log.debug("토큰 리스트가 나오는지 검증 로그 Tokens: {}", tokens);
 
@@ -61,19 +86,25 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
         }
     }
 
-    private RefreshTokens buildRefreshTokens(UserPrincipal principal, Users user) {
+    private RefreshTokens buildRefreshTokens(AuthSnapshotDTO snapshot, AccessTokenDTO accessToken) {
         String id = UUID.randomUUID().toString();
         ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
         ZonedDateTime expiresAt = now.plusDays(1);
 
         return  RefreshTokens.builder()
                 .id(id)
-                .provider(principal.provider())
-                .providerId(principal.providerId())
-                .userId(user.getId())
+                .provider(snapshot.provider())
+                .providerId(snapshot.providerId())
+                .userId(snapshot.userId())
                 .used(false)
                 .expiresAt(expiresAt.toInstant())
                 .createdAt(now.toInstant())
+                .name(snapshot.name())
+                .role(snapshot.role())
+                .userNameAttribute(snapshot.userNameAttribute())
+                .authVersion(snapshot.authVersion())
+                .accessTokenJti(accessToken.jti())
+                .accessTokenExpiresAt(accessToken.expiresAt())
                 .build();
     }
 
@@ -1,9 +1,13 @@
 package com.team5.catdogeats.auth.service.impl;
 
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import com.team5.catdogeats.auth.dto.RotateTokenDTO;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.auth.redis.RefreshTokens;
 import com.team5.catdogeats.auth.repository.RefreshTokensRedisRepository;
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
+import com.team5.catdogeats.auth.service.AuthVersionService;
 import com.team5.catdogeats.auth.service.JwtService;
 import com.team5.catdogeats.auth.service.RefreshTokenService;
 import com.team5.catdogeats.auth.service.RotateRefreshTokenService;
@@ -25,6 +29,8 @@ public class RotateRefreshTokenServiceImpl implements RotateRefreshTokenService
     private final RefreshTokensRedisRepository refreshTokenRepository;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
+    private final AuthVersionService authVersionService;
+    private final AccessTokenDenylistService accessTokenDenylistService;
 
     @Override
     @JpaTransactional
@@ -48,19 +54,44 @@ public class RotateRefreshTokenServiceImpl implements RotateRefreshTokenService
 
         if (token.isUsed()) {
             log.warn("Token reuse detected: {}", refreshTokenId);
+            revokeIssuedAccessTokens(token.getUserId());
             refreshTokenRepository.deleteByUserId(token.getUserId());
             throw new InvalidTokenException();
         }
     }
 
+    // 탈취 가능성이 있으므로 이미 발급된 액세스 토큰도 만료 전까지 사용할 수 없도록 폐기
+    private void revokeIssuedAccessTokens(String userId) {
+        for (RefreshTokens issued : refreshTokenRepository.findByUserId(userId)) {
+            accessTokenDenylistService.revoke(issued.getAccessTokenJti(), issued.getAccessTokenExpiresAt());
+        }
+    }
+
     private RotateTokenDTO buildRefreshTokens(RefreshTokens token) {
         // 새 토큰 발급
         UserPrincipal principal = new UserPrincipal(token.getProvider(), token.getProviderId());
 
-        Authentication authentication = jwtService.getAuthentication(principal);
-        String newAccessToken = jwtService.createAccessToken(authentication);
-        String newRefreshToken = refreshTokenService.createRefreshToken(authentication);
+        AccessTokenDTO newAccessToken;
+        String newRefreshToken;
+        if (isSnapshotFresh(token, principal)) {
+            // 권한 변경이 없으면 Redis 에 저장된 스냅샷만으로 재발급
+            AuthSnapshotDTO snapshot = token.toSnapshot();
+            Authentication authentication = jwtService.getAuthentication(snapshot);
+            newAccessToken = jwtService.issueAccessToken(authentication);
+            newRefreshToken = refreshTokenService.createRefreshToken(snapshot, newAccessToken);
+        } else {
+            // 스냅샷이 없거나 권한 변경 / 탈퇴로 버전이 바뀐 경우 DB 에서 다시 조회
+            log.debug("Stale auth snapshot, reloading user: {}", token.getUserId());
+            Authentication authentication = jwtService.getAuthentication(principal);
+            newAccessToken = jwtService.issueAccessToken(authentication);
+            newRefreshToken = refreshTokenService.createRefreshToken(authentication, newAccessToken);
+        }
+
+        return new RotateTokenDTO(newAccessToken.token(), newRefreshToken, "Cookie", 60 * 60 * 24);
+    }
 
-        return new RotateTokenDTO(newAccessToken, newRefreshToken, "Cookie", 60 * 60 * 24);
+    private boolean isSnapshotFresh(RefreshTokens token, UserPrincipal principal) {
+        return token.hasSnapshot()
+                && token.getAuthVersion() == authVersionService.currentVersion(principal);
     }
 }
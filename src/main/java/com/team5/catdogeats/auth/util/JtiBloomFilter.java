@@ -0,0 +1,69 @@
+package com.team5.catdogeats.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 액세스 토큰 jti 용 블룸 필터
+ * mightContain 은 문자열의 char 를 직접 해싱하므로 객체를 생성하지 않습니다.
+ * false 면 확실히 폐기되지 않은 토큰, true 면 Redis 로 한 번 더 확인해야 합니다.
+ */
+public class JtiBloomFilter {
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public JtiBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    public void put(String jti) {
+        long h1 = hash(jti, 0x9E3779B97F4A7C15L);
+        long h2 = hash(jti, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1 + i * h2);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String jti) {
+        long h1 = hash(jti, 0x9E3779B97F4A7C15L);
+        long h2 = hash(jti, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long combined) {
+        return (int) ((combined & Long.MAX_VALUE) % bitSize);
+    }
+
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        // murmur3 fmix64
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,176 @@
+package com.team5.catdogeats.auth.util;
+
+import com.team5.catdogeats.global.config.JwtConfig;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 / 검증 키 관리
+ * 현재 서명 키 1개와 검증 전용 이전 키들을 kid 기준으로 보관합니다.
+ * 검증 키 맵은 교체 시점에만 새로 만들어 지고, 검증 시에는 kid 로 바로 조회합니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+    // 현재 키 + 교체 중 겹치는 이전 키
+    private static final int MAX_VERIFICATION_KEYS = 3;
+
+    private final JwtConfig jwtConfig;
+    private final SignatureAlgorithm algorithm;
+
+    private volatile SigningKey signingKey;
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+    private volatile Map<String, Object> jwks = Map.of("keys", List.of());
+
+    // 서명 키 없이 임시 키로 기동할 수 있는 프로필 (서버 1대, 재기동 시 로그아웃되어도 되는 환경)
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("dev", "test");
+
+    public JwtKeyRing(JwtConfig jwtConfig, Environment environment) {
+        this.jwtConfig = jwtConfig;
+        this.algorithm = resolveAlgorithm(jwtConfig.getSigningAlgorithm());
+
+        if (StringUtils.hasText(jwtConfig.getPreviousPublicKey())) {
+            PublicKey previous = decodePublicKey(jwtConfig.getPreviousPublicKey());
+            addVerificationKey(resolveKid(jwtConfig.getPreviousKid(), previous), previous);
+        }
+
+        KeyPair keyPair;
+        if (StringUtils.hasText(jwtConfig.getSigningPrivateKey()) && StringUtils.hasText(jwtConfig.getSigningPublicKey())) {
+            keyPair = new KeyPair(decodePublicKey(jwtConfig.getSigningPublicKey()),
+                    decodePrivateKey(jwtConfig.getSigningPrivateKey()));
+        } else if (environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+            log.warn("JWT 서명 키가 설정되지 않아 임시 키를 생성합니다. 다중 서버 환경에서는 jwt.signing.* 설정이 필요합니다.");
+            keyPair = generateKeyPair();
+        } else {
+            // 서버마다 다른 키로 서명하면 다른 서버가 발급한 토큰을 검증할 수 없으므로 기동하지 않음
+            throw new IllegalStateException("JWT 서명 키가 설정되지 않았습니다. "
+                    + "jwt.signing.private-key / jwt.signing.public-key (JWT_SIGNING_PRIVATE_KEY / JWT_SIGNING_PUBLIC_KEY) 를 설정해주세요.");
+        }
+        rotate(resolveKid(jwtConfig.getSigningKid(), keyPair.getPublic()), keyPair);
+    }
+
+    /**
+     * 새 키로 교체합니다. 이전 키는 검증 전용으로 남아 이미 발급된 토큰이 만료될 때까지 유효합니다.
+     */
+    public synchronized void rotate(String kid, KeyPair keyPair) {
+        addVerificationKey(kid, keyPair.getPublic());
+        this.signingKey = new SigningKey(kid, keyPair.getPrivate());
+        log.info("JWT 서명 키 교체: alg={}, kid={}, verificationKeys={}", algorithm.getId(), kid, verificationKeys.keySet());
+    }
+
+    public synchronized void rotate() {
+        KeyPair keyPair = generateKeyPair();
+        rotate(resolveKid(null, keyPair.getPublic()), keyPair);
+    }
+
+    /**
+     * 현재 서명 키 (kid 와 개인키 한 쌍)
+     * 서명 도중 키가 교체되어도 kid 와 키가 어긋나지 않도록 한 번 읽은 값으로 헤더와 서명을 모두 만듭니다.
+     */
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            // kid 가 없는 토큰은 HS256 으로 발급된 기존 토큰
+            return jwtConfig.isAcceptLegacyHmac() ? jwtConfig.secretKey() : null;
+        }
+        return verificationKeys.get(kid);
+    }
+
+    private void addVerificationKey(String kid, PublicKey publicKey) {
+        LinkedHashMap<String, PublicKey> keys = new LinkedHashMap<>(verificationKeys);
+        keys.remove(kid);
+        keys.put(kid, publicKey);
+        while (keys.size() > MAX_VERIFICATION_KEYS) {
+            keys.remove(keys.keySet().iterator().next());
+        }
+
+        List<PublicJwk<?>> jwkList = new ArrayList<>();
+        keys.forEach((id, key) -> jwkList.add(Jwks.builder().key(key).id(id).build()));
+
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+        this.jwks = Map.of("keys", List.copyOf(jwkList));
+    }
+
+    private KeyPair generateKeyPair() {
+        if (algorithm == Jwts.SIG.EdDSA) {
+            return Jwks.CRV.Ed25519.keyPair().build();
+        }
+        return Jwts.SIG.ES256.keyPair().build();
+    }
+
+    private String resolveKid(String kid, PublicKey publicKey) {
+        if (StringUtils.hasText(kid)) {
+            return kid;
+        }
+        // 같은 키를 쓰는 서버끼리 동일한 kid 를 갖도록 RFC 7638 thumbprint 사용
+        return Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+    }
+
+    private PublicKey decodePublicKey(String encoded) {
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 공개키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private PrivateKey decodePrivateKey(String encoded) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 개인키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == Jwts.SIG.EdDSA ? "Ed25519" : "EC");
+    }
+
+    private static SignatureAlgorithm resolveAlgorithm(String name) {
+        return switch (name) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EdDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + name);
+        };
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+}
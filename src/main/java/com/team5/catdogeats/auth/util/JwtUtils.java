@@ -1,15 +1,14 @@
 package com.team5.catdogeats.auth.util;
 
-import com.team5.catdogeats.global.config.JwtConfig;
 import com.team5.catdogeats.global.exception.InvalidTokenException;
 import com.team5.catdogeats.global.exception.TokenErrorException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -19,16 +18,20 @@ import java.util.Date;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtils {
-    private final JwtConfig jwtConfig;
+    // 파서는 불변이므로 한 번만 생성, 검증 키는 kid 로 JwtKeyRing 에서 조회
+    private final JwtParser jwtParser;
+
+    public JwtUtils(JwtKeyRing jwtKeyRing) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyRing)
+                .build();
+    }
 
     public Claims parseToken(String token) {
         try {
 
-            return Jwts.parser()
-                    .verifyWith(jwtConfig.secretKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (TokenErrorException e) {
@@ -39,9 +42,7 @@ public class JwtUtils {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(jwtConfig.secretKey())
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
@@ -0,0 +1,63 @@
+package com.team5.catdogeats.auth.util;
+
+import com.team5.catdogeats.auth.util.RouteClassifier.AuthRequirement;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+/**
+ * 로그인 없이 접근할 수 있는 경로 목록
+ * SecurityConfig 의 permitAll 과 RouteClassifier 의 토큰 파싱 생략 규칙을 모두 이 목록에서 만들므로,
+ * 공개 경로를 추가 / 변경할 때는 여기만 수정합니다.
+ */
+public final class PublicRoutes {
+
+    /**
+     * @param method      null 이면 모든 메서드
+     * @param requirement NONE 은 토큰을 보지 않음, OPTIONAL 은 로그인 정보가 있으면 사용
+     */
+    public record PublicRoute(HttpMethod method, String pattern, AuthRequirement requirement) {
+    }
+
+    // 먼저 일치하는 규칙이 적용되므로 NONE 을 OPTIONAL 보다 앞에 둠
+    public static final List<PublicRoute> ROUTES = List.of(
+            // 정적 리소스 / 문서
+            route(null, "/index.html", AuthRequirement.NONE), // 개발할때만 사용 로그인 페이지
+            route(null, "/favicon.ico", AuthRequirement.NONE),
+            route(null, "/error", AuthRequirement.NONE),
+            route(null, "/swagger-ui.html", AuthRequirement.NONE),
+            route(null, "/swagger-ui/**", AuthRequirement.NONE),
+            route(null, "/v3/api-docs/**", AuthRequirement.NONE),
+            route(null, "/.well-known/**", AuthRequirement.NONE),
+            route(null, "/css/**", AuthRequirement.NONE),
+            route(null, "/js/**", AuthRequirement.NONE),
+            route(null, "/images/**", AuthRequirement.NONE),
+            // 리프레시 토큰 엔드포인트는 만료된 액세스 토큰을 직접 다룸
+            route(null, "/v1/auth/refresh", AuthRequirement.NONE),
+
+            // 공개 조회 API (GET)
+            route(HttpMethod.GET, "/", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/withdraw", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/notices", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/notices/**", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/faqs", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/buyers/products/list", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/buyers/products/{product-number}", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/buyers/reviews/{product-number}/list", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/buyers/reviews/{product-number}/feed", AuthRequirement.NONE),
+            route(HttpMethod.GET, "/v1/users/{vendor-name}", AuthRequirement.NONE),
+
+            // 로그인 진입점 (중복 로그인 확인을 위해 토큰 확인)
+            route(null, "/oauth2/authorization/**", AuthRequirement.OPTIONAL),
+            route(null, "/login/oauth2/code/**", AuthRequirement.OPTIONAL),
+            // /v1/buyers/reviews/list (내 리뷰) 와 경로가 겹치므로 토큰 파싱 유지
+            route(HttpMethod.GET, "/v1/buyers/reviews/{product-number}", AuthRequirement.OPTIONAL)
+    );
+
+    private PublicRoutes() {
+    }
+
+    private static PublicRoute route(HttpMethod method, String pattern, AuthRequirement requirement) {
+        return new PublicRoute(method, pattern, requirement);
+    }
+}
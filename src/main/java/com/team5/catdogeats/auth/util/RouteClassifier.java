@@ -0,0 +1,98 @@
+package com.team5.catdogeats.auth.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 경로별 인증 필요 여부 분류
+ * 패턴은 기동 시 한 번만 PathPattern 으로 컴파일하고, 분류 결과는 (메서드, 경로) 별로 캐시합니다.
+ * NONE 으로 분류된 요청은 JWT 쿠키 파싱 자체를 건너뜁니다.
+ */
+@Component
+public class RouteClassifier {
+
+    public enum AuthRequirement {
+        NONE,       // 정적 리소스, 공개 조회 API - 토큰을 보지 않음
+        OPTIONAL,   // permitAll 이지만 로그인 정보를 사용할 수 있는 경로
+        REQUIRED    // 인증 필요
+    }
+
+    // 경로 변수가 있는 공개 페이지(상점명, 공지 ID 등) 때문에 캐시 크기를 제한
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private static final List<Rule> RULES = buildRules();
+
+    private static final String OAUTH2_AUTHORIZATION_PREFIX = "/oauth2/authorization/";
+    private static final String OAUTH2_CALLBACK_PREFIX = "/login/oauth2/code/";
+
+    private final Map<String, AuthRequirement> getCache = new ConcurrentHashMap<>();
+    private final Map<String, AuthRequirement> otherCache = new ConcurrentHashMap<>();
+
+    public AuthRequirement classify(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        boolean get = HttpMethod.GET.matches(request.getMethod());
+        Map<String, AuthRequirement> cache = get ? getCache : otherCache;
+
+        AuthRequirement cached = cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+
+        AuthRequirement requirement = match(get ? HttpMethod.GET : HttpMethod.valueOf(request.getMethod()), path);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.put(path, requirement);
+        }
+        return requirement;
+    }
+
+    // 고정 접두사라 패턴 매칭 없이 비교
+    public boolean isLoginEntry(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        return path.startsWith(OAUTH2_AUTHORIZATION_PREFIX) || path.startsWith(OAUTH2_CALLBACK_PREFIX);
+    }
+
+    private AuthRequirement match(HttpMethod method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : RULES) {
+            if ((rule.method() == null || rule.method().equals(method)) && rule.pattern().matches(container)) {
+                return rule.requirement();
+            }
+        }
+        return AuthRequirement.REQUIRED;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+
+    // 공개 경로는 SecurityConfig 의 permitAll 과 같은 목록(PublicRoutes)에서 만듦
+    private static List<Rule> buildRules() {
+        List<Rule> rules = new ArrayList<>();
+        // 관리자 페이지는 세션 기반 체인에서 처리
+        rules.add(rule(null, "/v1/admin/**", AuthRequirement.NONE));
+        for (PublicRoutes.PublicRoute route : PublicRoutes.ROUTES) {
+            rules.add(rule(route.method(), route.pattern(), route.requirement()));
+        }
+        // 로그아웃은 logout 설정에서 permitAll
+        rules.add(rule(null, "/v1/auth/logout", AuthRequirement.OPTIONAL));
+        return List.copyOf(rules);
+    }
+
+    private static Rule rule(HttpMethod method, String pattern, AuthRequirement requirement) {
+        return new Rule(method, PathPatternParser.defaultInstance.parse(pattern), requirement);
+    }
+
+    private record Rule(HttpMethod method, PathPattern pattern, AuthRequirement requirement) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ProductImportItem;
+import com.team5.catdogeats.batch.dto.ProductImportRow;
+import com.team5.catdogeats.batch.mapper.ProductImportErrorMapper;
+import com.team5.catdogeats.products.exception.ProductImportValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 대량 작업 행 오류 기록
+ * 파싱 / 검증 / 저장에서 건너뛴 행(SkipListener)과 Writer 에서 반영하지 못한 행을 같은 테이블에 남깁니다.
+ * Skip 콜백은 chunk 트랜잭션 안에서 호출되므로 오류 기록도 chunk 와 함께 커밋됩니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class ProductImportErrorRecorder implements SkipListener<ProductImportRow, ProductImportItem> {
+    // product_import_errors.message 컬럼 길이
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final ProductImportErrorMapper productImportErrorMapper;
+    private final Long jobExecutionId;
+
+    public ProductImportErrorRecorder(ProductImportErrorMapper productImportErrorMapper,
+                                      @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        this.productImportErrorMapper = productImportErrorMapper;
+        this.jobExecutionId = jobExecutionId;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        if (t instanceof FlatFileParseException e) {
+            record(e.getLineNumber(), "행을 읽을 수 없습니다: " + rootMessage(e));
+        } else {
+            log.warn("상품 대량 작업 읽기 오류 - jobExecutionId: {}, error: {}", jobExecutionId, t.getMessage());
+        }
+    }
+
+    @Override
+    public void onSkipInProcess(ProductImportRow row, Throwable t) {
+        long lineNumber = t instanceof ProductImportValidationException e ? e.getLineNumber() : row.lineNumber();
+        record(lineNumber, t.getMessage());
+    }
+
+    // 저장 실패는 chunk 를 한 건씩 다시 쓰며 찾아낸 행만 넘어옴
+    @Override
+    public void onSkipInWrite(ProductImportItem item, Throwable t) {
+        record(item.lineNumber(), "상품을 저장할 수 없습니다: " + rootMessage(t));
+    }
+
+    public void record(long lineNumber, String message) {
+        String trimmed = message == null ? "알 수 없는 오류" : message;
+        if (trimmed.length() > MAX_MESSAGE_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_MESSAGE_LENGTH);
+        }
+        productImportErrorMapper.insertError(jobExecutionId, lineNumber, trimmed);
+    }
+
+    private static String rootMessage(Throwable t) {
+        Throwable cause = t;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+}
@@ -0,0 +1,120 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ProductImportItem;
+import com.team5.catdogeats.batch.dto.ProductImportRow;
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.dto.ProductCreateRequestDto;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.ProductImportMode;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.exception.ProductImportValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 대량 작업 행 검증 / 형 변환
+ * 단건 등록(ProductCreateRequestDto)과 같은 검증 규칙을 적용하고,
+ * 실패한 행은 ProductImportValidationException 으로 건너뛰어 오류로 기록됩니다.
+ */
+@Component
+@StepScope
+public class ProductImportItemProcessor implements ItemProcessor<ProductImportRow, ProductImportItem> {
+    // products.title 컬럼 길이
+    private static final int MAX_TITLE_LENGTH = 50;
+
+    private final Validator validator;
+    private final ProductImportMode mode;
+
+    public ProductImportItemProcessor(Validator validator,
+                                      @Value("#{jobParameters['mode']}") String mode) {
+        this.validator = validator;
+        this.mode = ProductImportMode.valueOf(mode);
+    }
+
+    @Override
+    public ProductImportItem process(ProductImportRow row) {
+        if (row.isBlank()) {
+            return null;
+        }
+        return mode == ProductImportMode.CREATE ? toCreateItem(row) : toUpdateItem(row);
+    }
+
+    private ProductImportItem toCreateItem(ProductImportRow row) {
+        String isDiscounted = row.get("isDiscounted");
+        ProductCreateRequestDto product = new ProductCreateRequestDto(
+                row.get("title"),
+                row.get("contents"),
+                parse(row, "petCategory", v -> PetCategory.valueOf(v.toUpperCase())),
+                parse(row, "productCategory", v -> ProductCategory.valueOf(v.toUpperCase())),
+                parse(row, "stockStatus", v -> StockStatus.valueOf(v.toUpperCase())),
+                isDiscounted != null ? parseBoolean(row, isDiscounted) : Boolean.FALSE,
+                parse(row, "discountRate", Double::valueOf),
+                parse(row, "price", Long::valueOf),
+                parse(row, "leadTime", Short::valueOf),
+                parse(row, "stock", Integer::valueOf)
+        );
+
+        Set<ConstraintViolation<ProductCreateRequestDto>> violations = validator.validate(product);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .reduce((a, b) -> a + " " + b)
+                    .orElse("");
+            throw new ProductImportValidationException(row.lineNumber(), message);
+        }
+        if (product.title().length() > MAX_TITLE_LENGTH) {
+            throw new ProductImportValidationException(row.lineNumber(),
+                    "상품명은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+        }
+        return ProductImportItem.forCreate(row.lineNumber(), product);
+    }
+
+    private ProductImportItem toUpdateItem(ProductImportRow row) {
+        Long productNumber = parse(row, "productNumber", Long::valueOf);
+        if (productNumber == null) {
+            throw new ProductImportValidationException(row.lineNumber(), "상품 번호는 필수입니다.");
+        }
+
+        Long price = parse(row, "price", Long::valueOf);
+        Integer stock = parse(row, "stock", Integer::valueOf);
+        StockStatus stockStatus = parse(row, "stockStatus", v -> StockStatus.valueOf(v.toUpperCase()));
+        if (price == null && stock == null && stockStatus == null) {
+            throw new ProductImportValidationException(row.lineNumber(), "수정할 값(price, stock, stockStatus)이 없습니다.");
+        }
+        if (price != null && price < 0) {
+            throw new ProductImportValidationException(row.lineNumber(), "가격은 0 이상이어야 합니다.");
+        }
+        if (stock != null && stock < 0) {
+            throw new ProductImportValidationException(row.lineNumber(), "재고는 0 이상이어야 합니다.");
+        }
+        return ProductImportItem.forUpdate(row.lineNumber(), productNumber, price, stock, stockStatus);
+    }
+
+    private <T> T parse(ProductImportRow row, String column, Function<String, T> parser) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new ProductImportValidationException(row.lineNumber(), column + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private Boolean parseBoolean(ProductImportRow row, String value) {
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        throw new ProductImportValidationException(row.lineNumber(), "isDiscounted 값이 올바르지 않습니다: " + value);
+    }
+}
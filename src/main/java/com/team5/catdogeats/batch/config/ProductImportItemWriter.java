@@ -0,0 +1,195 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ProductImportItem;
+import com.team5.catdogeats.orders.mapper.ProductBestScoreMapper;
+import com.team5.catdogeats.products.domain.dto.ProductCreateRequestDto;
+import com.team5.catdogeats.products.domain.enums.ProductImportMode;
+import com.team5.catdogeats.products.event.ProductBulkChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 대량 등록 / 수정 Writer
+ * chunk 단위로 JDBC batch 를 실행해 상품마다 엔티티를 만들고 flush 하는 비용을 줄입니다.
+ * 등록은 상품 번호가 겹친 행만 번호를 새로 뽑아 재시도하고, 수정은 본인 상품만 반영합니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class ProductImportItemWriter implements ItemWriter<ProductImportItem> {
+    private static final int MAX_NUMBER_RETRY = 3;
+    private static final ProductNumberGenerator NUMBER_GENERATOR = new ProductNumberGenerator();
+
+    private static final String INSERT_SQL = """
+            INSERT INTO products (id, product_number, seller_id, title, contents, petcategory, productcategory,
+                                  stock_status, is_discounted, discount_rate, price, lead_time, stock, version,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, NOW(), NOW())
+            ON CONFLICT (product_number) DO NOTHING
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE products
+            SET price = COALESCE(?, price),
+                stock = COALESCE(?, stock),
+                stock_status = COALESCE(?, stock_status),
+                version = version + 1,
+                updated_at = NOW()
+            WHERE product_number = ?
+            AND seller_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductImportErrorRecorder errorRecorder;
+    private final ProductBestScoreMapper productBestScoreMapper;
+    private final String sellerId;
+    private final ProductImportMode mode;
+
+    public ProductImportItemWriter(JdbcTemplate jdbcTemplate,
+                                   NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ProductImportErrorRecorder errorRecorder,
+                                   ProductBestScoreMapper productBestScoreMapper,
+                                   @Value("#{jobParameters['sellerId']}") String sellerId,
+                                   @Value("#{jobParameters['mode']}") String mode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.errorRecorder = errorRecorder;
+        this.productBestScoreMapper = productBestScoreMapper;
+        this.sellerId = sellerId;
+        this.mode = ProductImportMode.valueOf(mode);
+    }
+
+    @Override
+    public void write(Chunk<? extends ProductImportItem> chunk) {
+        List<ProductImportItem> items = new ArrayList<>(chunk.getItems());
+        if (items.isEmpty()) {
+            return;
+        }
+
+        if (mode == ProductImportMode.CREATE) {
+            List<String> insertedIds = insertProducts(items);
+            // 베스트 탭이 products 를 훑지 않도록 신규 상품의 0점 행을 같은 chunk 트랜잭션에서 생성
+            if (!insertedIds.isEmpty()) {
+                productBestScoreMapper.insertZeroScores(insertedIds);
+            }
+            // 신규 상품은 상세 캐시가 없으므로 판매자 단위 캐시만 무효화
+            eventPublisher.publishEvent(ProductBulkChangedEvent.of(sellerId, List.of()));
+        } else {
+            List<String> updatedIds = updateProducts(items);
+            if (!updatedIds.isEmpty()) {
+                eventPublisher.publishEvent(ProductBulkChangedEvent.of(sellerId, updatedIds));
+            }
+        }
+    }
+
+    private List<String> insertProducts(List<ProductImportItem> items) {
+        List<String> insertedIds = new ArrayList<>();
+        List<ProductImportItem> pending = items;
+        for (int attempt = 0; attempt < MAX_NUMBER_RETRY && !pending.isEmpty(); attempt++) {
+            List<Long> numbers = NUMBER_GENERATOR.next(pending.size());
+            List<Object[]> args = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                args.add(insertArgs(pending.get(i).product(), numbers.get(i)));
+            }
+
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, args, insertTypes());
+            List<ProductImportItem> conflicted = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    conflicted.add(pending.get(i));
+                } else {
+                    insertedIds.add((String) args.get(i)[0]);
+                }
+            }
+            if (!conflicted.isEmpty()) {
+                log.warn("상품 번호 중복 - {}건 재시도 (attempt: {})", conflicted.size(), attempt + 1);
+            }
+            pending = conflicted;
+        }
+
+        for (ProductImportItem item : pending) {
+            errorRecorder.record(item.lineNumber(), "상품 번호 생성에 실패했습니다. 다시 시도해주세요.");
+        }
+        return insertedIds;
+    }
+
+    private List<String> updateProducts(List<ProductImportItem> items) {
+        List<Object[]> args = items.stream()
+                .map(item -> new Object[]{
+                        item.price(),
+                        item.stock(),
+                        item.stockStatus() != null ? item.stockStatus().name() : null,
+                        item.productNumber(),
+                        sellerId
+                })
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args,
+                new int[]{Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.BIGINT, Types.VARCHAR});
+
+        List<Long> updatedNumbers = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            ProductImportItem item = items.get(i);
+            if (counts[i] == 0) {
+                errorRecorder.record(item.lineNumber(), "상품을 찾을 수 없습니다: " + item.productNumber());
+            } else {
+                updatedNumbers.add(item.productNumber());
+            }
+        }
+        if (updatedNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.queryForList("""
+                        SELECT id FROM products
+                        WHERE seller_id = :sellerId
+                        AND product_number IN (:productNumbers)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("sellerId", sellerId)
+                        .addValue("productNumbers", updatedNumbers),
+                String.class);
+    }
+
+    private Object[] insertArgs(ProductCreateRequestDto product, Long productNumber) {
+        return new Object[]{
+                UUID.randomUUID().toString(),
+                productNumber,
+                sellerId,
+                product.title(),
+                product.contents(),
+                product.petCategory().name(),
+                product.productCategory().name(),
+                product.stockStatus().name(),
+                Boolean.TRUE.equals(product.isDiscounted()),
+                product.discountRate(),
+                product.price(),
+                product.leadTime(),
+                product.stock()
+        };
+    }
+
+    private static int[] insertTypes() {
+        return new int[]{
+                Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.DECIMAL, Types.BIGINT, Types.SMALLINT,
+                Types.INTEGER
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package com.team5.catdogeats.batch.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team5.catdogeats.batch.dto.ProductImportItem;
+import com.team5.catdogeats.batch.dto.ProductImportRow;
+import com.team5.catdogeats.products.exception.ProductImportValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 판매자 상품 대량 등록 / 수정 Job
+ * 업로드 파일(CSV, NDJSON)을 한 줄씩 읽어 chunk 단위로 반영하므로 파일 크기와 무관하게 메모리 사용량이 일정합니다.
+ * 잘못된 행(파싱 / 검증 실패, 저장 시 제약 조건 위반)은 건너뛰고 product_import_errors 에 줄 번호와 함께 기록합니다.
+ */
+@Slf4j
+@Configuration
+public class ProductImportJobConfig {
+    public static final String FORMAT_CSV = "CSV";
+    public static final String FORMAT_NDJSON = "NDJSON";
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    private final JobRepository jobRepo;
+    private final PlatformTransactionManager batchTransactionManager;
+    private final ProductImportProperties props;
+    private final ProductImportItemProcessor productImportItemProcessor;
+    private final ProductImportItemWriter productImportItemWriter;
+    private final ProductImportErrorRecorder productImportErrorRecorder;
+    private final ObjectMapper objectMapper;
+
+    // Lombok은 @Qualifier와 같은 Spring 어노테이션을 자동으로 생성자에 복사하지않아 명시적으로 생성자 선언
+    public ProductImportJobConfig(JobRepository jobRepo,
+                                  @Qualifier("batchTransactionManager") PlatformTransactionManager batchTransactionManager,
+                                  ProductImportProperties props,
+                                  ProductImportItemProcessor productImportItemProcessor,
+                                  ProductImportItemWriter productImportItemWriter,
+                                  ProductImportErrorRecorder productImportErrorRecorder,
+                                  ObjectMapper objectMapper) {
+        this.jobRepo = jobRepo;
+        this.batchTransactionManager = batchTransactionManager;
+        this.props = props;
+        this.productImportItemProcessor = productImportItemProcessor;
+        this.productImportItemWriter = productImportItemWriter;
+        this.productImportErrorRecorder = productImportErrorRecorder;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public Job productImportJob() {
+        return new JobBuilder("productImportJob", jobRepo)
+                .start(productImportStep())
+                .listener(productImportFileCleanupListener())
+                .build();
+    }
+
+    @Bean
+    public Step productImportStep() {
+        return new StepBuilder("productImportStep", jobRepo)
+                .<ProductImportRow, ProductImportItem>chunk(props.getChunkSize(), batchTransactionManager)
+                .reader(productImportReader(null, null))
+                .processor(productImportItemProcessor)
+                .writer(productImportItemWriter)
+                .faultTolerant()
+                .skip(FlatFileParseException.class)
+                .skip(ProductImportValidationException.class)
+                // 제약 조건 위반은 chunk 를 한 건씩 다시 써서 문제 행만 건너뛰고 기록
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(props.getErrorLimit())
+                .listener(productImportErrorRecorder)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<ProductImportRow> productImportReader(
+            @Value("#{jobParameters['filePath']}") String filePath,
+            @Value("#{jobParameters['format']}") String format) {
+        FlatFileItemReaderBuilder<ProductImportRow> builder = new FlatFileItemReaderBuilder<ProductImportRow>()
+                .name("productImportReader")
+                .resource(new FileSystemResource(filePath))
+                .encoding(StandardCharsets.UTF_8.name());
+
+        if (FORMAT_NDJSON.equals(format)) {
+            return builder.lineMapper(ndjsonLineMapper()).build();
+        }
+
+        // 첫 줄(헤더)의 컬럼명으로 각 행을 매핑하므로 컬럼 순서는 자유롭게 둘 수 있습니다.
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setStrict(false);
+        return builder
+                .linesToSkip(1)
+                .skippedLinesCallback(header -> tokenizer.setNames(parseHeader(header)))
+                .recordSeparatorPolicy(new DefaultRecordSeparatorPolicy())
+                .lineMapper(csvLineMapper(tokenizer))
+                .build();
+    }
+
+    @Bean
+    public JobExecutionListener productImportFileCleanupListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                String filePath = jobExecution.getJobParameters().getString("filePath");
+                if (filePath == null) {
+                    return;
+                }
+                try {
+                    Files.deleteIfExists(Path.of(filePath));
+                } catch (IOException e) {
+                    log.warn("상품 대량 작업 파일 삭제 실패 - path: {}, error: {}", filePath, e.getMessage());
+                }
+            }
+        };
+    }
+
+    private LineMapper<ProductImportRow> csvLineMapper(DelimitedLineTokenizer tokenizer) {
+        return (line, lineNumber) -> {
+            FieldSet fieldSet = tokenizer.tokenize(line);
+            String[] names = fieldSet.getNames();
+            String[] values = fieldSet.getValues();
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                fields.put(names[i], values[i]);
+            }
+            return new ProductImportRow(lineNumber, fields);
+        };
+    }
+
+    private LineMapper<ProductImportRow> ndjsonLineMapper() {
+        return (line, lineNumber) -> {
+            Map<String, String> fields = new LinkedHashMap<>();
+            if (!line.isBlank()) {
+                objectMapper.readValue(stripBom(line), ROW_TYPE)
+                        .forEach((key, value) -> fields.put(key, value == null ? null : String.valueOf(value)));
+            }
+            return new ProductImportRow(lineNumber, fields);
+        };
+    }
+
+    private static String[] parseHeader(String header) {
+        return Arrays.stream(stripBom(header).split(","))
+                .map(name -> name.strip().replace("\"", ""))
+                .toArray(String[]::new);
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == UTF8_BOM ? line.substring(1) : line;
+    }
+}
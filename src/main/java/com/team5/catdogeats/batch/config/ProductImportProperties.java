@@ -0,0 +1,27 @@
+package com.team5.catdogeats.batch.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class ProductImportProperties {
+    @Value("${batch.product-import.chunk-size:500}")
+    private int chunkSize;
+
+    // 이 개수를 넘게 건너뛰면 Job 을 실패 처리
+    @Value("${batch.product-import.error-limit:1000}")
+    private int errorLimit;
+
+    // 업로드 파일을 잠시 저장하는 디렉터리 (Job 종료 시 삭제)
+    @Value("${batch.product-import.work-dir:${java.io.tmpdir}/product-import}")
+    private String workDir;
+
+    // 동시에 실행할 수 있는 대량 작업 수
+    @Value("${batch.product-import.concurrency:2}")
+    private int concurrency;
+
+    @Value("${batch.product-import.queue-capacity:20}")
+    private int queueCapacity;
+}
@@ -0,0 +1,53 @@
+package com.team5.catdogeats.batch.config;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대량 등록용 상품 번호 생성 (단건 등록과 같은 yyMMddHHmmss + 4자리 형식)
+ * 같은 초 안에서는 중복 없이 뽑고, 그 초의 번호를 다 쓰면 다음 초까지 기다립니다.
+ * 다른 요청과의 충돌은 INSERT ... ON CONFLICT DO NOTHING 후 재시도로 처리합니다.
+ */
+class ProductNumberGenerator {
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyMMddHHmmss");
+    private static final int MIN_SUFFIX = 1000;
+    private static final int MAX_SUFFIX = 10000;
+
+    private String currentSecond;
+    private final Set<Integer> usedSuffixes = new HashSet<>();
+
+    synchronized List<Long> next(int count) {
+        List<Long> numbers = new ArrayList<>(count);
+        while (numbers.size() < count) {
+            String second = FORMAT.format(LocalDateTime.now());
+            if (!second.equals(currentSecond)) {
+                currentSecond = second;
+                usedSuffixes.clear();
+            }
+            if (usedSuffixes.size() >= MAX_SUFFIX - MIN_SUFFIX) {
+                sleepUntilNextSecond();
+                continue;
+            }
+
+            int suffix = ThreadLocalRandom.current().nextInt(MIN_SUFFIX, MAX_SUFFIX);
+            if (usedSuffixes.add(suffix)) {
+                numbers.add(Long.parseLong(second + suffix));
+            }
+        }
+        return numbers;
+    }
+
+    private static void sleepUntilNextSecond() {
+        try {
+            Thread.sleep(1000 - System.currentTimeMillis() % 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 번호 생성이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.mapper.ProductRatingStatsRepairMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.batch.MyBatisPagingItemReader;
+import org.mybatis.spring.batch.builder.MyBatisPagingItemReaderBuilder;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 별점 집계(product_rating_stats) 복구 Job
+ * 증분 갱신이 누락되거나(배포 전 리뷰, 장애 등) 어긋난 값을 리뷰 테이블 기준으로 바로잡습니다.
+ * 상품 ID 를 chunk 단위로 읽어 잠금 → 재집계를 한 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Configuration
+public class ProductRatingRepairJobConfig {
+
+    private final JobRepository jobRepo;
+    private final PlatformTransactionManager batchTransactionManager;
+    private final ProductRatingStatsRepairMapper repairMapper;
+    private final ProductRatingRepairProperties props;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    // Lombok은 @Qualifier와 같은 Spring 어노테이션을 자동으로 생성자에 복사하지않아 명시적으로 생성자 선언
+    public ProductRatingRepairJobConfig(JobRepository jobRepo,
+                                        @Qualifier("batchTransactionManager") PlatformTransactionManager batchTransactionManager,
+                                        ProductRatingStatsRepairMapper repairMapper,
+                                        ProductRatingRepairProperties props,
+                                        SqlSessionFactory sqlSessionFactory) {
+        this.jobRepo = jobRepo;
+        this.batchTransactionManager = batchTransactionManager;
+        this.repairMapper = repairMapper;
+        this.props = props;
+        this.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    @Bean
+    public Job productRatingRepairJob() {
+        return new JobBuilder("productRatingRepairJob", jobRepo)
+                .start(productRatingRepairStep())
+                .build();
+    }
+
+    @Bean
+    public Step productRatingRepairStep() {
+        return new StepBuilder("productRatingRepairStep", jobRepo)
+                .<String, String>chunk(props.getChunkSize(), batchTransactionManager)
+                .reader(productIdReader())
+                .writer(chunk -> {
+                    List<String> productIds = new ArrayList<>(chunk.getItems());
+                    repairMapper.lockStats(productIds);
+                    int repaired = repairMapper.repairStats(productIds);
+                    if (repaired > 0) {
+                        log.info("상품 별점 집계 보정 - {}건", repaired);
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public MyBatisPagingItemReader<String> productIdReader() {
+        return new MyBatisPagingItemReaderBuilder<String>()
+                .sqlSessionFactory(sqlSessionFactory)
+                .queryId("com.team5.catdogeats.batch.mapper.ProductRatingStatsRepairMapper.selectProductIds")
+                .pageSize(props.getChunkSize())
+                .build();
+    }
+}
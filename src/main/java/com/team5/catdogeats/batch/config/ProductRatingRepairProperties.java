@@ -0,0 +1,15 @@
+package com.team5.catdogeats.batch.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class ProductRatingRepairProperties {
+    @Value("${batch.rating-repair.cron:0 30 3 * * ?}")
+    private String cron;
+
+    @Value("${batch.rating-repair.chunk-size:500}")
+    private int chunkSize;
+}
@@ -0,0 +1,98 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ReviewSummaryItem;
+import com.team5.catdogeats.batch.mapper.ReviewSummaryMapper;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import com.team5.catdogeats.reviews.service.ReviewSummarizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 상품 한 건의 리뷰 요약
+ * 리뷰를 reviewPageSize 단위로 읽어 요약기에 넘기므로 리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+ * 읽는 김에 한 줄 요약(reviews.summary)이 비어 있는 리뷰의 요약도 만들어 두고 (100자 이하 요약만 모음), 저장은 Writer 에서 합니다.
+ * (chunk 재시도 시 Processor 가 다시 호출될 수 있으므로 Processor 에서는 DB 에 쓰지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryItemProcessor implements ItemProcessor<String, ReviewSummaryItem> {
+
+    private final ReviewSummaryMapper reviewSummaryMapper;
+    private final ReviewSummarizer reviewSummarizer;
+    private final ReviewSummaryProperties props;
+
+    @Override
+    public ReviewSummaryItem process(String productId) {
+        List<ReviewTextDTO> reviewSummaries = new ArrayList<>();
+        return new ReviewSummaryItem(
+                reviewSummarizer.summarizeProduct(productId, new ReviewPageIterator(productId, reviewSummaries)),
+                reviewSummaries);
+    }
+
+    private void summarizeMissing(List<ReviewTextDTO> page, List<ReviewTextDTO> summaries) {
+        for (ReviewTextDTO review : page) {
+            if (review.summary() != null) {
+                continue;
+            }
+            String summary = reviewSummarizer.summarizeReview(review);
+            if (summary != null && !summary.isBlank()) {
+                summaries.add(new ReviewTextDTO(review.reviewId(), review.star(), review.contents(), summary, review.createdAt()));
+            }
+        }
+    }
+
+    // 작성 순 (created_at, id) 키셋으로 다음 page 를 필요할 때 읽음
+    private final class ReviewPageIterator implements Iterator<List<ReviewTextDTO>> {
+        private final String productId;
+        private final List<ReviewTextDTO> summaries;
+        private List<ReviewTextDTO> next;
+        private ReviewTextDTO last;
+        private boolean exhausted;
+
+        private ReviewPageIterator(String productId, List<ReviewTextDTO> summaries) {
+            this.productId = productId;
+            this.summaries = summaries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                fetch();
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<ReviewTextDTO> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<ReviewTextDTO> page = next;
+            next = null;
+            return page;
+        }
+
+        private void fetch() {
+            List<ReviewTextDTO> page = reviewSummaryMapper.findReviewTexts(
+                    productId,
+                    last == null ? null : last.createdAt(),
+                    last == null ? null : last.reviewId(),
+                    props.getReviewPageSize());
+            if (page.size() < props.getReviewPageSize()) {
+                exhausted = true;
+            }
+            if (page.isEmpty()) {
+                return;
+            }
+            last = page.get(page.size() - 1);
+            summarizeMissing(page, summaries);
+            next = page;
+        }
+    }
+}
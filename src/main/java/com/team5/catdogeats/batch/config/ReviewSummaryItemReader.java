@@ -0,0 +1,77 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.mapper.ReviewSummaryMapper;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 리뷰 요약 대상 상품 ID Reader
+ * Job 파라미터 [since, until) 구간에 리뷰가 바뀐 상품만 product_id 키셋으로 나눠 읽습니다.
+ * 마지막으로 넘긴 상품 ID 를 StepExecutionContext 에 남겨 두어 실패 후 재시작하면 그 다음 상품부터 이어서 처리합니다.
+ */
+@Component
+@StepScope
+public class ReviewSummaryItemReader implements ItemStreamReader<String> {
+    static final String SINCE_PARAM = "since";
+    static final String UNTIL_PARAM = "until";
+    public static final String LAST_PRODUCT_ID_KEY = "reviewSummary.lastProductId";
+
+    private final ReviewSummaryMapper reviewSummaryMapper;
+    private final ReviewSummaryProperties props;
+    private final OffsetDateTime since;
+    private final OffsetDateTime until;
+
+    private final Deque<String> buffer = new ArrayDeque<>();
+    private String lastFetchedId = "";
+    private String lastReadId = "";
+    private boolean exhausted;
+
+    public ReviewSummaryItemReader(ReviewSummaryMapper reviewSummaryMapper,
+                                   ReviewSummaryProperties props,
+                                   @Value("#{jobParameters['" + SINCE_PARAM + "']}") String since,
+                                   @Value("#{jobParameters['" + UNTIL_PARAM + "']}") String until) {
+        this.reviewSummaryMapper = reviewSummaryMapper;
+        this.props = props;
+        this.since = OffsetDateTime.parse(since);
+        this.until = OffsetDateTime.parse(until);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastReadId = executionContext.getString(LAST_PRODUCT_ID_KEY, "");
+        lastFetchedId = lastReadId;
+    }
+
+    @Override
+    public String read() {
+        if (buffer.isEmpty() && !exhausted) {
+            List<String> productIds = reviewSummaryMapper.findChangedProductIds(since, until, lastFetchedId, props.getChunkSize());
+            if (productIds.size() < props.getChunkSize()) {
+                exhausted = true;
+            }
+            if (!productIds.isEmpty()) {
+                lastFetchedId = productIds.get(productIds.size() - 1);
+                buffer.addAll(productIds);
+            }
+        }
+
+        String productId = buffer.poll();
+        if (productId != null) {
+            lastReadId = productId;
+        }
+        return productId;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putString(LAST_PRODUCT_ID_KEY, lastReadId);
+    }
+}
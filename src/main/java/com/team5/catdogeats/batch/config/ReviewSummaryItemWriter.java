@@ -0,0 +1,57 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ReviewSummaryItem;
+import com.team5.catdogeats.batch.mapper.ReviewSummaryMapper;
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 리뷰 요약 반영
+ * chunk 단위로 한 번의 upsert 와 한 번의 삭제만 실행합니다.
+ * Processor 가 만든 리뷰 한 줄 요약(reviews.summary)도 같은 chunk 트랜잭션에서 reviewPageSize 단위로 나눠 채웁니다.
+ * 긍정 / 부정 요약이 모두 비어 있는 상품(리뷰가 모두 삭제되었거나 보통 별점만 남은 경우)은 기존 요약을 지웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryItemWriter implements ItemWriter<ReviewSummaryItem> {
+
+    private final ReviewSummaryMapper reviewSummaryMapper;
+    private final ReviewSummaryProperties props;
+
+    @Override
+    public void write(Chunk<? extends ReviewSummaryItem> chunk) {
+        List<ProductReviewSummaryDTO> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        List<ReviewTextDTO> reviewSummaries = new ArrayList<>();
+        for (ReviewSummaryItem item : chunk.getItems()) {
+            reviewSummaries.addAll(item.reviewSummaries());
+            ProductReviewSummaryDTO summary = item.productSummary();
+            if (summary.isEmpty()) {
+                deletes.add(summary.productId());
+            } else {
+                upserts.add(summary);
+            }
+        }
+
+        for (int from = 0; from < reviewSummaries.size(); from += props.getReviewPageSize()) {
+            int to = Math.min(from + props.getReviewPageSize(), reviewSummaries.size());
+            reviewSummaryMapper.fillReviewSummaries(reviewSummaries.subList(from, to));
+        }
+        if (!upserts.isEmpty()) {
+            reviewSummaryMapper.upsertProductSummaries(upserts);
+        }
+        if (!deletes.isEmpty()) {
+            int deleted = reviewSummaryMapper.deleteProductSummaries(deletes);
+            log.debug("리뷰 요약 삭제 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ReviewSummaryItem;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 상품 리뷰 요약(reviews_summary_llm) 증분 갱신 Job
+ * Job 파라미터 [since, until) 구간에 리뷰가 바뀐 상품만 다시 요약합니다.
+ * 구간은 스케줄러가 JobRepository 의 직전 완료 실행을 기준으로 정하므로 별도 진행 테이블이 필요 없습니다.
+ */
+@Configuration
+public class ReviewSummaryJobConfig {
+
+    private final JobRepository jobRepo;
+    private final PlatformTransactionManager batchTransactionManager;
+    private final ReviewSummaryProperties props;
+    private final ReviewSummaryItemReader reviewSummaryItemReader;
+    private final ReviewSummaryItemProcessor reviewSummaryItemProcessor;
+    private final ReviewSummaryItemWriter reviewSummaryItemWriter;
+    private final ReviewSummarySkipLogger reviewSummarySkipLogger;
+
+    // Lombok은 @Qualifier와 같은 Spring 어노테이션을 자동으로 생성자에 복사하지않아 명시적으로 생성자 선언
+    public ReviewSummaryJobConfig(JobRepository jobRepo,
+                                  @Qualifier("batchTransactionManager") PlatformTransactionManager batchTransactionManager,
+                                  ReviewSummaryProperties props,
+                                  ReviewSummaryItemReader reviewSummaryItemReader,
+                                  ReviewSummaryItemProcessor reviewSummaryItemProcessor,
+                                  ReviewSummaryItemWriter reviewSummaryItemWriter,
+                                  ReviewSummarySkipLogger reviewSummarySkipLogger) {
+        this.jobRepo = jobRepo;
+        this.batchTransactionManager = batchTransactionManager;
+        this.props = props;
+        this.reviewSummaryItemReader = reviewSummaryItemReader;
+        this.reviewSummaryItemProcessor = reviewSummaryItemProcessor;
+        this.reviewSummaryItemWriter = reviewSummaryItemWriter;
+        this.reviewSummarySkipLogger = reviewSummarySkipLogger;
+    }
+
+    @Bean
+    public Job reviewSummaryJob() {
+        return new JobBuilder("reviewSummaryJob", jobRepo)
+                .start(reviewSummaryStep())
+                .build();
+    }
+
+    @Bean
+    public Step reviewSummaryStep() {
+        return new StepBuilder("reviewSummaryStep", jobRepo)
+                .<String, ReviewSummaryItem>chunk(props.getChunkSize(), batchTransactionManager)
+                .reader(reviewSummaryItemReader)
+                .processor(reviewSummaryItemProcessor)
+                .writer(reviewSummaryItemWriter)
+                // 한 상품의 오류는 건너뛰고 기록 (Writer 오류는 한 건씩 다시 처리해 문제 상품만 건너뜀)
+                .faultTolerant()
+                .skip(Exception.class)
+                .skipLimit(props.getSkipLimit())
+                .listener(reviewSummarySkipLogger)
+                .build();
+    }
+}
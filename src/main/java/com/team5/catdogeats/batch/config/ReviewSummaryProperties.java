@@ -0,0 +1,36 @@
+package com.team5.catdogeats.batch.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class ReviewSummaryProperties {
+    @Value("${batch.review-summary.cron:0 15 * * * ?}")
+    private String cron;
+
+    // chunk 당 상품 수
+    @Value("${batch.review-summary.chunk-size:100}")
+    private int chunkSize;
+
+    // 상품 리뷰를 나눠 읽는 단위
+    @Value("${batch.review-summary.review-page-size:500}")
+    private int reviewPageSize;
+
+    // 직전 실행 구간과 겹쳐 읽는 시간 (실행 중 커밋된 리뷰 누락 방지)
+    @Value("${batch.review-summary.overlap-minutes:10}")
+    private long overlapMinutes;
+
+    // 실패 / 중단된 구간을 다시 실행하는 최대 횟수 (넘으면 구간을 포기하고 새 구간으로 실행)
+    @Value("${batch.review-summary.max-restart-attempts:3}")
+    private int maxRestartAttempts;
+
+    // 실행 중(STARTED) 상태로 이 시간 동안 갱신이 없으면 서버가 죽어 남은 실행으로 보고 재시작
+    @Value("${batch.review-summary.stale-minutes:60}")
+    private long staleMinutes;
+
+    // 한 Step 에서 오류로 건너뛸 수 있는 최대 상품 수 (넘으면 Step 실패)
+    @Value("${batch.review-summary.skip-limit:100}")
+    private int skipLimit;
+}
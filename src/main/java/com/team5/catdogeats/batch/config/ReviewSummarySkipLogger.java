@@ -0,0 +1,32 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ReviewSummaryItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 요약에서 건너뛴 상품 기록
+ * 한 상품의 요약 / 저장 오류로 구간 전체가 실패하지 않도록 Step 에서 건너뛰고, 다시 처리할 수 있게 상품 ID 를 남깁니다.
+ * 건너뛴 상품은 리뷰가 다시 바뀌면 다음 구간에서 다시 요약됩니다.
+ */
+@Slf4j
+@Component
+public class ReviewSummarySkipLogger implements SkipListener<String, ReviewSummaryItem> {
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.error("리뷰 요약 대상 조회 오류로 건너뜀 - error: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(String productId, Throwable t) {
+        log.error("리뷰 요약 실패로 상품을 건너뜀 - productId: {}, error: {}", productId, t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(ReviewSummaryItem item, Throwable t) {
+        log.error("리뷰 요약 저장 실패로 상품을 건너뜀 - productId: {}, error: {}",
+                item.productSummary().productId(), t.getMessage());
+    }
+}
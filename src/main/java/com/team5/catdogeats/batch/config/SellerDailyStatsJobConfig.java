@@ -0,0 +1,42 @@
+package com.team5.catdogeats.batch.config;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class SellerDailyStatsJobConfig {
+
+    private final JobRepository jobRepo;
+    private final PlatformTransactionManager batchTransactionManager;
+    private final SellerDailyStatsRollupTasklet rollupTasklet;
+
+    // Lombok은 @Qualifier와 같은 Spring 어노테이션을 자동으로 생성자에 복사하지않아 명시적으로 생성자 선언
+    public SellerDailyStatsJobConfig(JobRepository jobRepo,
+                                     @Qualifier("batchTransactionManager") PlatformTransactionManager batchTransactionManager,
+                                     SellerDailyStatsRollupTasklet rollupTasklet) {
+        this.jobRepo = jobRepo;
+        this.batchTransactionManager = batchTransactionManager;
+        this.rollupTasklet = rollupTasklet;
+    }
+
+    @Bean
+    public Job sellerDailyStatsJob() {
+        return new JobBuilder("sellerDailyStatsJob", jobRepo)
+                .start(sellerDailyStatsRollupStep())
+                .build();
+    }
+
+    @Bean
+    public Step sellerDailyStatsRollupStep() {
+        return new StepBuilder("sellerDailyStatsRollupStep", jobRepo)
+                .tasklet(rollupTasklet, batchTransactionManager)
+                .build();
+    }
+}
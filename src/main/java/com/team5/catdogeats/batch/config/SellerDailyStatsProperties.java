@@ -0,0 +1,16 @@
+package com.team5.catdogeats.batch.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class SellerDailyStatsProperties {
+    @Value("${batch.seller-stats.cron:0 10 0 * * ?}")
+    private String cron;
+
+    // 주문 상태 변경 / 늦게 도착한 배송 완료 처리를 반영하기 위해 매번 다시 집계하는 기간
+    @Value("${batch.seller-stats.recompute-days:7}")
+    private int recomputeDays;
+}
@@ -0,0 +1,78 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.mapper.SellerDailyStatsRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * seller_daily_stats 하루치 집계
+ * 한 번 실행에 하루씩 처리하고 CONTINUABLE 을 반환하므로 날짜별로 트랜잭션이 나뉩니다.
+ * 진행 날짜는 StepExecutionContext 에 남겨 두어 실패 후 재시작하면 이어서 처리합니다.
+ * 모든 날짜를 마치면 live_from 을 오늘로 옮겨 조회 쿼리가 오늘치만 원본에서 계산하도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerDailyStatsRollupTasklet implements Tasklet {
+
+    static final String FROM_DATE_PARAM = "fromDate";
+    static final String NEXT_DATE_KEY = "sellerDailyStats.nextDate";
+    static final String TODAY_KEY = "sellerDailyStats.today";
+
+    private final SellerDailyStatsRollupMapper rollupMapper;
+    private final SellerDailyStatsProperties props;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        if (!context.containsKey(NEXT_DATE_KEY)) {
+            String fromDateParam = chunkContext.getStepContext().getStepExecution()
+                    .getJobParameters().getString(FROM_DATE_PARAM);
+            LocalDate today = rollupMapper.findToday();
+            LocalDate fromDate = resolveFromDate(fromDateParam, today);
+            context.putString(TODAY_KEY, today.toString());
+            context.putString(NEXT_DATE_KEY, fromDate.toString());
+            log.info("판매자 일간 집계 시작: {} ~ {}", fromDate, today.minusDays(1));
+        }
+
+        LocalDate day = LocalDate.parse(context.getString(NEXT_DATE_KEY));
+        LocalDate today = LocalDate.parse(context.getString(TODAY_KEY));
+
+        if (day.isBefore(today)) {
+            rollupMapper.deleteDay(day);
+            int rows = rollupMapper.insertSales(day)
+                    + rollupMapper.insertDeliveries(day)
+                    + rollupMapper.insertReviews(day);
+            contribution.incrementWriteCount(rows);
+            context.putString(NEXT_DATE_KEY, day.plusDays(1).toString());
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        rollupMapper.upsertLiveFrom(today);
+        log.info("판매자 일간 집계 완료: live_from={}", today);
+        return RepeatStatus.FINISHED;
+    }
+
+    private LocalDate resolveFromDate(String fromDateParam, LocalDate today) {
+        if (fromDateParam != null && !fromDateParam.isBlank()) {
+            return LocalDate.parse(fromDateParam);
+        }
+
+        LocalDate liveFrom = rollupMapper.findLiveFrom();
+        if (liveFrom != null) {
+            return liveFrom.minusDays(props.getRecomputeDays());
+        }
+
+        // 최초 실행: 가장 오래된 주문/배송/리뷰 날짜부터 전부 집계
+        LocalDate earliest = rollupMapper.findEarliestActivityDate();
+        return earliest != null ? earliest : today;
+    }
+}
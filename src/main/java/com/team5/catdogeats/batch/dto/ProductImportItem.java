@@ -0,0 +1,25 @@
+package com.team5.catdogeats.batch.dto;
+
+import com.team5.catdogeats.products.domain.dto.ProductCreateRequestDto;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+
+/**
+ * 검증을 마친 상품 대량 작업 항목
+ * 등록은 product, 수정은 productNumber + 변경할 값(null 이면 유지)을 사용합니다.
+ */
+public record ProductImportItem(long lineNumber,
+                                ProductCreateRequestDto product,
+                                Long productNumber,
+                                Long price,
+                                Integer stock,
+                                StockStatus stockStatus) {
+
+    public static ProductImportItem forCreate(long lineNumber, ProductCreateRequestDto product) {
+        return new ProductImportItem(lineNumber, product, null, null, null, null);
+    }
+
+    public static ProductImportItem forUpdate(long lineNumber, Long productNumber, Long price,
+                                              Integer stock, StockStatus stockStatus) {
+        return new ProductImportItem(lineNumber, null, productNumber, price, stock, stockStatus);
+    }
+}
@@ -0,0 +1,21 @@
+package com.team5.catdogeats.batch.dto;
+
+import java.util.Map;
+
+/**
+ * 상품 대량 작업 파일의 한 행 (CSV / NDJSON 공통)
+ * 컬럼명 → 원본 문자열 값, 형 변환과 검증은 Processor 에서 합니다.
+ */
+public record ProductImportRow(long lineNumber,
+                               Map<String, String> fields) {
+
+    public String get(String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    // 빈 줄 (CSV 빈 행, NDJSON 빈 객체)
+    public boolean isBlank() {
+        return fields.values().stream().allMatch(value -> value == null || value.isBlank());
+    }
+}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.batch.dto;
+
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+
+import java.util.List;
+
+/**
+ * 상품 한 건의 리뷰 요약 처리 결과
+ * Processor 는 저장하지 않고 결과만 만들며, 상품 요약과 비어 있던 리뷰 한 줄 요약은 Writer 가 함께 저장합니다.
+ *
+ * @param reviewSummaries 새로 만든 리뷰 한 줄 요약 (summary 가 채워진 리뷰만)
+ */
+public record ReviewSummaryItem(ProductReviewSummaryDTO productSummary,
+                                List<ReviewTextDTO> reviewSummaries) {
+}
@@ -0,0 +1,44 @@
+package com.team5.catdogeats.batch.mapper;
+
+import com.team5.catdogeats.products.domain.dto.ProductImportErrorDTO;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+/**
+ * 상품 대량 작업 행 오류 (product_import_errors)
+ */
+@Mapper
+public interface ProductImportErrorMapper {
+
+    @Insert("""
+        INSERT INTO product_import_errors (id, job_execution_id, line_number, message, created_at)
+        VALUES (gen_random_uuid()::text, #{jobExecutionId}, #{lineNumber}, #{message}, NOW())
+        """)
+    void insertError(@Param("jobExecutionId") Long jobExecutionId,
+                     @Param("lineNumber") long lineNumber,
+                     @Param("message") String message);
+
+    // 줄 번호 키셋 페이징
+    @Select("""
+        SELECT line_number as lineNumber, message
+        FROM product_import_errors
+        WHERE job_execution_id = #{jobExecutionId}
+        AND line_number > #{afterLine}
+        ORDER BY line_number
+        LIMIT #{limit}
+        """)
+    List<ProductImportErrorDTO> findErrors(@Param("jobExecutionId") Long jobExecutionId,
+                                           @Param("afterLine") long afterLine,
+                                           @Param("limit") int limit);
+
+    @Select("""
+        SELECT COUNT(*)
+        FROM product_import_errors
+        WHERE job_execution_id = #{jobExecutionId}
+        """)
+    long countErrors(@Param("jobExecutionId") Long jobExecutionId);
+}
@@ -0,0 +1,67 @@
+package com.team5.catdogeats.batch.mapper;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+/**
+ * product_rating_stats 복구 (리뷰 테이블 기준 재집계)
+ * lockStats → repairStats 를 같은 트랜잭션에서 호출해야 합니다.
+ */
+@Mapper
+public interface ProductRatingStatsRepairMapper {
+
+    // MyBatisPagingItemReader 용 (_pagesize, _skiprows 는 리더가 전달)
+    @Select("""
+        SELECT p.id
+        FROM products p
+        ORDER BY p.id
+        LIMIT #{_pagesize} OFFSET #{_skiprows}
+        """)
+    List<String> selectProductIds();
+
+    /**
+     * 집계 행 잠금
+     * 증분 갱신 중인 트랜잭션이 끝날 때까지 기다린 뒤 재집계하므로, 복구가 동시 증분을 덮어쓰지 않습니다.
+     */
+    @Select("""
+        <script>
+        SELECT product_id
+        FROM product_rating_stats
+        WHERE product_id IN
+        <foreach collection="productIds" item="productId" open="(" separator="," close=")">
+            #{productId}
+        </foreach>
+        ORDER BY product_id
+        FOR UPDATE
+        </script>
+        """)
+    List<String> lockStats(@Param("productIds") List<String> productIds);
+
+    /**
+     * 리뷰 테이블 기준으로 다시 계산해 값이 다른 행만 갱신 (반환값: 생성 + 보정된 행 수)
+     */
+    @Insert("""
+        <script>
+        INSERT INTO product_rating_stats (product_id, rating_sum, review_count, updated_at)
+        SELECT p.id, COALESCE(SUM(r.star), 0), COUNT(r.id), NOW()
+        FROM products p
+        LEFT JOIN reviews r ON r.product_id = p.id
+        WHERE p.id IN
+        <foreach collection="productIds" item="productId" open="(" separator="," close=")">
+            #{productId}
+        </foreach>
+        GROUP BY p.id
+        ON CONFLICT (product_id) DO UPDATE SET
+            rating_sum = EXCLUDED.rating_sum,
+            review_count = EXCLUDED.review_count,
+            updated_at = NOW()
+        WHERE product_rating_stats.rating_sum IS DISTINCT FROM EXCLUDED.rating_sum
+           OR product_rating_stats.review_count IS DISTINCT FROM EXCLUDED.review_count
+        </script>
+        """)
+    int repairStats(@Param("productIds") List<String> productIds);
+}
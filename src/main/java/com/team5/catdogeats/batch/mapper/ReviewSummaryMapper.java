@@ -0,0 +1,112 @@
+package com.team5.catdogeats.batch.mapper;
+
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 리뷰 요약 배치 (reviews_summary_llm, reviews.summary)
+ */
+@Mapper
+public interface ReviewSummaryMapper {
+
+    /**
+     * [since, until) 사이에 리뷰가 등록 / 수정 / 삭제된 상품 ID (product_id 키셋)
+     * 삭제는 리뷰 행이 남지 않으므로 product_rating_stats 갱신 시각으로 감지합니다.
+     */
+    @Select("""
+        SELECT changed.product_id
+        FROM (
+            SELECT r.product_id
+            FROM reviews r
+            WHERE r.updated_at >= #{since}
+            AND r.updated_at < #{until}
+            UNION
+            SELECT prs.product_id
+            FROM product_rating_stats prs
+            WHERE prs.updated_at >= #{since}
+            AND prs.updated_at < #{until}
+        ) changed
+        WHERE changed.product_id > #{afterProductId}
+        ORDER BY changed.product_id
+        LIMIT #{limit}
+        """)
+    List<String> findChangedProductIds(@Param("since") OffsetDateTime since,
+                                       @Param("until") OffsetDateTime until,
+                                       @Param("afterProductId") String afterProductId,
+                                       @Param("limit") int limit);
+
+    // 상품 리뷰를 작성 순으로 나눠 읽기 (idx_reviews_product_created 사용)
+    @Select("""
+        <script>
+        SELECT
+            r.id as reviewId,
+            r.star,
+            r.contents,
+            r.summary,
+            r.created_at as createdAt
+        FROM reviews r
+        WHERE r.product_id = #{productId}
+        <if test="afterReviewId != null">
+            AND (r.created_at, r.id) &gt; (#{afterCreatedAt}, #{afterReviewId})
+        </if>
+        ORDER BY r.created_at, r.id
+        LIMIT #{limit}
+        </script>
+        """)
+    List<ReviewTextDTO> findReviewTexts(@Param("productId") String productId,
+                                        @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+                                        @Param("afterReviewId") String afterReviewId,
+                                        @Param("limit") int limit);
+
+    // 작성자가 직접 입력한 요약은 덮어쓰지 않음
+    @Update("""
+        <script>
+        UPDATE reviews r
+        SET summary = v.summary
+        FROM (VALUES
+            <foreach collection="summaries" item="item" separator=",">
+                (#{item.reviewId}, #{item.summary})
+            </foreach>
+        ) AS v(review_id, summary)
+        WHERE r.id = v.review_id
+        AND r.summary IS NULL
+        </script>
+        """)
+    int fillReviewSummaries(@Param("summaries") List<ReviewTextDTO> summaries);
+
+    @Insert("""
+        <script>
+        INSERT INTO reviews_summary_llm (id, product_id, positive_review, negative_review, created_at, updated_at)
+        VALUES
+        <foreach collection="summaries" item="item" separator=",">
+            (gen_random_uuid()::text, #{item.productId}, #{item.positiveReview}, #{item.negativeReview}, NOW(), NOW())
+        </foreach>
+        ON CONFLICT (product_id) DO UPDATE SET
+            positive_review = EXCLUDED.positive_review,
+            negative_review = EXCLUDED.negative_review,
+            updated_at = NOW()
+        </script>
+        """)
+    int upsertProductSummaries(@Param("summaries") List<ProductReviewSummaryDTO> summaries);
+
+    // 리뷰가 모두 삭제된 상품
+    @Delete("""
+        <script>
+        DELETE FROM reviews_summary_llm
+        WHERE product_id IN
+        <foreach collection="productIds" item="productId" open="(" separator="," close=")">
+            #{productId}
+        </foreach>
+        </script>
+        """)
+    int deleteProductSummaries(@Param("productIds") List<String> productIds);
+}
@@ -0,0 +1,117 @@
+package com.team5.catdogeats.batch.mapper;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDate;
+
+/**
+ * seller_daily_stats 일간 집계 적재
+ * 하루치를 지우고 판매 → 배송 → 리뷰 순으로 다시 채웁니다. (같은 트랜잭션 안에서 호출)
+ */
+@Mapper
+public interface SellerDailyStatsRollupMapper {
+
+    @Delete("DELETE FROM seller_daily_stats WHERE stat_date = #{day}")
+    int deleteDay(@Param("day") LocalDate day);
+
+    @Insert("""
+        INSERT INTO seller_daily_stats (seller_id, stat_date, sales_quantity, revenue,
+                                        delivery_seconds_sum, delivery_count, review_count, updated_at)
+        SELECT
+            p.seller_id,
+            #{day},
+            SUM(oi.quantity),
+            SUM(oi.price * oi.quantity),
+            0, 0, 0, NOW()
+        FROM orders o
+        INNER JOIN order_items oi ON oi.order_id = o.id
+        INNER JOIN products p ON p.id = oi.product_id
+        WHERE o.created_at >= CAST(#{day} AS DATE)
+        AND o.created_at < CAST(#{day} AS DATE) + INTERVAL '1 day'
+        AND o.order_status IN ('PAYMENT_COMPLETED', 'PREPARING', 'READY_FOR_SHIPMENT', 'IN_DELIVERY', 'DELIVERED')
+        GROUP BY p.seller_id
+        ON CONFLICT (seller_id, stat_date) DO UPDATE SET
+            sales_quantity = EXCLUDED.sales_quantity,
+            revenue = EXCLUDED.revenue,
+            updated_at = NOW()
+        """)
+    int insertSales(@Param("day") LocalDate day);
+
+    @Insert("""
+        INSERT INTO seller_daily_stats (seller_id, stat_date, sales_quantity, revenue,
+                                        delivery_seconds_sum, delivery_count, review_count, updated_at)
+        SELECT
+            s.seller_id,
+            #{day},
+            0, 0,
+            SUM(EXTRACT(EPOCH FROM (s.delivered_at - o.created_at))),
+            COUNT(*),
+            0, NOW()
+        FROM shipments s
+        INNER JOIN orders o ON s.order_id = o.id
+        WHERE s.delivered_at >= CAST(#{day} AS DATE)
+        AND s.delivered_at < CAST(#{day} AS DATE) + INTERVAL '1 day'
+        AND o.created_at IS NOT NULL
+        AND s.delivered_at > o.created_at
+        GROUP BY s.seller_id
+        ON CONFLICT (seller_id, stat_date) DO UPDATE SET
+            delivery_seconds_sum = EXCLUDED.delivery_seconds_sum,
+            delivery_count = EXCLUDED.delivery_count,
+            updated_at = NOW()
+        """)
+    int insertDeliveries(@Param("day") LocalDate day);
+
+    @Insert("""
+        INSERT INTO seller_daily_stats (seller_id, stat_date, sales_quantity, revenue,
+                                        delivery_seconds_sum, delivery_count, review_count, updated_at)
+        SELECT
+            p.seller_id,
+            #{day},
+            0, 0, 0, 0,
+            COUNT(r.id),
+            NOW()
+        FROM reviews r
+        INNER JOIN products p ON p.id = r.product_id
+        WHERE r.created_at >= CAST(#{day} AS DATE)
+        AND r.created_at < CAST(#{day} AS DATE) + INTERVAL '1 day'
+        GROUP BY p.seller_id
+        ON CONFLICT (seller_id, stat_date) DO UPDATE SET
+            review_count = EXCLUDED.review_count,
+            updated_at = NOW()
+        """)
+    int insertReviews(@Param("day") LocalDate day);
+
+    @Select("SELECT live_from FROM stats_rollup_watermarks WHERE rollup_name = 'seller_daily_stats'")
+    LocalDate findLiveFrom();
+
+    @Insert("""
+        INSERT INTO stats_rollup_watermarks (rollup_name, live_from, updated_at)
+        VALUES ('seller_daily_stats', #{liveFrom}, NOW())
+        ON CONFLICT (rollup_name) DO UPDATE SET
+            live_from = EXCLUDED.live_from,
+            updated_at = NOW()
+        """)
+    int upsertLiveFrom(@Param("liveFrom") LocalDate liveFrom);
+
+    // 일자 경계를 조회 쿼리와 같은 DB 기준으로 맞추기 위해 DB 의 오늘 날짜 사용
+    @Select("SELECT CURRENT_DATE")
+    LocalDate findToday();
+
+    /**
+     * 집계 대상이 되는 가장 오래된 날짜 (최초 적재 시작일)
+     */
+    @Select("""
+        SELECT CAST(MIN(first_at) AS DATE) FROM (
+            SELECT MIN(o.created_at) AS first_at FROM orders o
+            UNION ALL
+            SELECT MIN(s.delivered_at) FROM shipments s
+            UNION ALL
+            SELECT MIN(r.created_at) FROM reviews r
+        ) t
+        """)
+    LocalDate findEarliestActivityDate();
+}
@@ -0,0 +1,31 @@
+package com.team5.catdogeats.batch.sheduler;
+
+import com.team5.catdogeats.orders.service.ProductBestScoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * product_best_scores 전체 재계산
+ * 이벤트 누락분과 최근 30일 주문 수를 원본 데이터 기준으로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductBestScoreRebuildScheduler {
+
+    private final ProductBestScoreService productBestScoreService;
+
+    @Scheduled(cron = "${batch.best-score.cron:0 0 4 * * ?}")
+    public void rebuildBestScores() {
+        try {
+            log.debug("베스트 점수 재계산 스케줄러 시작");
+
+            productBestScoreService.rebuildAll();
+
+        } catch (Exception e) {
+            log.error("예기치 못한 스케줄러 예외", e);
+        }
+    }
+}
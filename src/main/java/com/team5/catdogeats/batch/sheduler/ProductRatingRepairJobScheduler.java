@@ -0,0 +1,36 @@
+package com.team5.catdogeats.batch.sheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRatingRepairJobScheduler {
+
+    private final Job productRatingRepairJob;
+    private final JobLauncher jobLauncher;
+
+    // 베스트 점수 전체 재계산(batch.best-score.cron) 전에 실행
+    @Scheduled(cron = "${batch.rating-repair.cron:0 30 3 * * ?}")
+    public void runProductRatingRepairJob() {
+        try {
+            log.debug("상품 별점 집계 복구 스케줄러 시작");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(productRatingRepairJob, jobParameters);
+
+        } catch (Exception e) {
+            log.error("예기치 못한 스케줄러 예외", e);
+        }
+    }
+}
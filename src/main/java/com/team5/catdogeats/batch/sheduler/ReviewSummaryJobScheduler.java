@@ -0,0 +1,187 @@
+package com.team5.catdogeats.batch.sheduler;
+
+import com.team5.catdogeats.batch.config.ReviewSummaryItemReader;
+import com.team5.catdogeats.batch.config.ReviewSummaryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 요약 Job 실행 구간 결정
+ * - 직전 실행이 실패 / 중단: 같은 파라미터로 다시 실행해 멈춘 상품부터 이어서 처리
+ *   같은 구간이 maxRestartAttempts 번 재시작해도 실패하면 ABANDONED 로 포기하고 새 구간으로 실행
+ *   (포기한 구간은 완료가 아니므로 새 구간이 그 구간의 처음부터 다시 포함함)
+ * - 직전 실행이 진행 중: 건너뜀. 단, staleMinutes 동안 갱신이 없으면 서버가 죽어 남은 실행으로 보고 FAILED 로 바꿔 재시작
+ * - 그 외: 직전 완료 실행의 until(겹침 시간만큼 앞당김) ~ 현재, 완료 이력이 없으면 전체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaryJobScheduler {
+    private static final String SINCE_PARAM = "since";
+    private static final String UNTIL_PARAM = "until";
+    private static final OffsetDateTime FIRST_RUN_SINCE = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final Job reviewSummaryJob;
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final ReviewSummaryProperties props;
+
+    @Scheduled(cron = "${batch.review-summary.cron:0 15 * * * ?}")
+    public void runReviewSummaryJob() {
+        try {
+            log.debug("리뷰 요약 스케줄러 시작");
+
+            Optional<JobExecution> lastExecution = findLastExecution();
+            if (lastExecution.isPresent() && lastExecution.get().isRunning()) {
+                if (!isStale(lastExecution.get())) {
+                    log.warn("리뷰 요약 Job 이 아직 실행 중이라 건너뜀 - jobExecutionId: {}", lastExecution.get().getId());
+                    return;
+                }
+                markStaleExecutionFailed(lastExecution.get());
+            }
+
+            JobParameters jobParameters = null;
+            if (lastExecution.isPresent() && isRestartable(lastExecution.get().getStatus())) {
+                JobExecution failed = lastExecution.get();
+                if (canRestart(failed)) {
+                    jobParameters = failed.getJobParameters();
+                    log.info("리뷰 요약 Job 재시작 - since: {}, until: {}",
+                            jobParameters.getString(SINCE_PARAM), jobParameters.getString(UNTIL_PARAM));
+                } else {
+                    abandon(failed);
+                }
+            }
+            if (jobParameters == null) {
+                OffsetDateTime until = OffsetDateTime.now(ZoneOffset.UTC);
+                jobParameters = new JobParametersBuilder()
+                        .addString(SINCE_PARAM, resolveSince().toString())
+                        .addString(UNTIL_PARAM, until.toString())
+                        .toJobParameters();
+            }
+
+            jobLauncher.run(reviewSummaryJob, jobParameters);
+
+        } catch (Exception e) {
+            log.error("예기치 못한 스케줄러 예외", e);
+        }
+    }
+
+    private OffsetDateTime resolveSince() {
+        // JobInstance 는 최신순으로 조회됨
+        int start = 0;
+        int pageSize = 20;
+        while (true) {
+            List<JobInstance> instances = jobExplorer.getJobInstances(reviewSummaryJob.getName(), start, pageSize);
+            for (JobInstance instance : instances) {
+                for (JobExecution execution : jobExplorer.getJobExecutions(instance)) {
+                    String until = execution.getJobParameters().getString(UNTIL_PARAM);
+                    // 포기한 구간은 완료로 보지 않으므로 그 구간의 남은 상품도 다음 구간에서 다시 처리됨
+                    if (execution.getStatus() == BatchStatus.COMPLETED && until != null) {
+                        return OffsetDateTime.parse(until).minusMinutes(props.getOverlapMinutes());
+                    }
+                }
+            }
+            if (instances.size() < pageSize) {
+                return FIRST_RUN_SINCE;
+            }
+            start += pageSize;
+        }
+    }
+
+    private Optional<JobExecution> findLastExecution() {
+        List<JobInstance> instances = jobExplorer.getJobInstances(reviewSummaryJob.getName(), 0, 1);
+        if (instances.isEmpty()) {
+            return Optional.empty();
+        }
+        return jobExplorer.getJobExecutions(instances.get(0)).stream()
+                .max(Comparator.comparing(JobExecution::getId));
+    }
+
+    // 첫 실행을 제외한 재시작 횟수가 한도 미만일 때만 같은 구간을 다시 실행
+    private boolean canRestart(JobExecution execution) {
+        int attempts = jobExplorer.getJobExecutions(execution.getJobInstance()).size();
+        return attempts - 1 < props.getMaxRestartAttempts();
+    }
+
+    /**
+     * 계속 실패하는 구간을 포기 (JobOperator.abandon 과 같은 방식)
+     * 같은 파라미터로는 더 재시작하지 않고, 다음 실행은 직전 완료 구간부터 새 구간으로 다시 읽습니다.
+     * 한 상품의 오류는 Step 에서 건너뛰므로(ReviewSummarySkipLogger) 여기까지 오는 것은 DB 장애 등 구간 전체 문제입니다.
+     */
+    private void abandon(JobExecution execution) {
+        JobParameters parameters = execution.getJobParameters();
+        String lastProductId = execution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .filter(context -> context.containsKey(ReviewSummaryItemReader.LAST_PRODUCT_ID_KEY))
+                .map(context -> context.getString(ReviewSummaryItemReader.LAST_PRODUCT_ID_KEY))
+                .findFirst()
+                .orElse("");
+        log.error("리뷰 요약 Job 재시작 {}회 초과로 실행을 포기하고 다음 구간에서 다시 처리 - jobExecutionId: {}, since: {}, until: {}, lastProductId: '{}'",
+                props.getMaxRestartAttempts(), execution.getId(),
+                parameters.getString(SINCE_PARAM), parameters.getString(UNTIL_PARAM), lastProductId);
+
+        execution.upgradeStatus(BatchStatus.ABANDONED);
+        execution.setEndTime(LocalDateTime.now());
+        jobRepository.update(execution);
+    }
+
+    // Job / Step 실행 중 가장 최근 갱신 시각 (chunk 커밋마다 Step 실행이 갱신됨)
+    private boolean isStale(JobExecution execution) {
+        LocalDateTime heartbeat = Stream.concat(
+                        Stream.of(execution.getLastUpdated(), execution.getStartTime(), execution.getCreateTime()),
+                        execution.getStepExecutions().stream().map(StepExecution::getLastUpdated))
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return heartbeat == null || heartbeat.isBefore(LocalDateTime.now().minusMinutes(props.getStaleMinutes()));
+    }
+
+    /**
+     * 서버가 죽어 STARTED 로 남은 실행 정리
+     * Spring Batch 는 실행 중 상태의 실행을 재시작하지 않으므로 Job / Step 실행을 FAILED 로 바꿔 재시작 대상으로 만듭니다.
+     */
+    private void markStaleExecutionFailed(JobExecution execution) {
+        log.warn("리뷰 요약 Job 이 {}분 동안 갱신되지 않아 FAILED 로 변경 - jobExecutionId: {}",
+                props.getStaleMinutes(), execution.getId());
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+
+    private static boolean isRestartable(BatchStatus status) {
+        return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.team5.catdogeats.batch.sheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerDailyStatsJobScheduler {
+
+    private final Job sellerDailyStatsJob;
+    private final JobLauncher jobLauncher;
+
+    // 자정 직후 전날까지 집계하고 live_from 을 오늘로 이동
+    @Scheduled(cron = "${batch.seller-stats.cron:0 10 0 * * ?}")
+    public void runSellerDailyStatsJob() {
+        try {
+            log.debug("판매자 일간 집계 스케줄러 시작");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(sellerDailyStatsJob, jobParameters);
+
+        } catch (Exception e) {
+            log.error("예기치 못한 스케줄러 예외", e);
+        }
+    }
+}
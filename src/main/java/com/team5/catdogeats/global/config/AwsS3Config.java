@@ -7,7 +7,9 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Getter
 @Configuration
@@ -28,6 +30,14 @@ public class AwsS3Config {
     @Value("${cloud.aws.cloudfront.domain}")
     private String domain;
 
+    // 동시에 진행하는 비동기 업로드 수 (서버 전체 기준)
+    @Value("${cloud.aws.s3.upload-concurrency:8}")
+    private int uploadConcurrency;
+
+    // 클라이언트 직접 업로드용 presigned URL 유효 시간
+    @Value("${cloud.aws.s3.presign-expiration-minutes:10}")
+    private long presignExpirationMinutes;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
@@ -36,4 +46,22 @@ public class AwsS3Config {
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
                 .build();
     }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .build();
+    }
 }
@@ -18,6 +18,31 @@ public class JwtConfig {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    // 비대칭 서명 설정 (ES256 / EdDSA)
+    @Value("${jwt.signing.algorithm:ES256}")
+    private String signingAlgorithm;
+
+    @Value("${jwt.signing.kid:}")
+    private String signingKid;
+
+    // Base64 인코딩된 PKCS#8 개인키 / X.509 공개키, 비어 있으면 dev / test 프로필에서만 기동 시 키를 생성
+    @Value("${jwt.signing.private-key:}")
+    private String signingPrivateKey;
+
+    @Value("${jwt.signing.public-key:}")
+    private String signingPublicKey;
+
+    // 키 교체 직후 이전 키로 서명된 토큰을 검증하기 위한 공개키
+    @Value("${jwt.signing.previous-kid:}")
+    private String previousKid;
+
+    @Value("${jwt.signing.previous-public-key:}")
+    private String previousPublicKey;
+
+    // kid 가 없는 기존 HS256 토큰 허용 여부 (전환 배포 직후 액세스 토큰 만료 전까지만 켬, application-prod.yml 참고)
+    @Value("${jwt.signing.accept-legacy-hmac:false}")
+    private boolean acceptLegacyHmac;
+
     @Bean
     public SecretKey secretKey() {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,119 @@
+package com.team5.catdogeats.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기동 시 검색용 인덱스 생성 (CREATE INDEX CONCURRENTLY)
+ * CONCURRENTLY 생성이 중간에 실패하거나 서버가 내려가면 invalid 인덱스가 남고, 이후 IF NOT EXISTS 는 이를 그대로 두어
+ * 검색이 계속 인덱스 없이 동작합니다. 그래서 생성 전에 pg_index.indisvalid 를 확인해 invalid 인덱스는 지우고 다시 만듭니다.
+ * 다른 서버가 만드는 중인 인덱스도 invalid 로 보이므로, advisory lock 을 얻은 서버 한 대만 실행하고 나머지는 건너뜁니다.
+ * 큰 테이블에서는 생성이 오래 걸리므로, 기동 후에는 buildInBackground 로 전용 스레드 한 개에서 순서대로 생성합니다.
+ */
+@Slf4j
+@Component
+public class SearchIndexBuilder implements DisposableBean {
+
+    private static final String INDEX_VALID_SQL = """
+            SELECT i.indisvalid
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ?
+            AND pg_table_is_visible(c.oid)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    public SearchIndexBuilder(JdbcTemplate jdbcTemplate) {
+        // 인덱스 묶음끼리 커넥션 / 디스크 I/O 를 두고 경쟁하지 않도록 한 개씩 생성
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        taskExecutor.setThreadNamePrefix("Search-Index-");
+        taskExecutor.initialize();
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = taskExecutor;
+    }
+
+    /**
+     * @param name      인덱스 이름 (CREATE 문의 이름과 같아야 함)
+     * @param createSql CREATE INDEX CONCURRENTLY IF NOT EXISTS ...
+     */
+    public record IndexDefinition(String name, String createSql) {
+    }
+
+    /**
+     * @param lockName    advisory lock 키 (인덱스 묶음별로 다르게)
+     * @param preparation 인덱스 생성 전에 실행할 문장 (확장 설치 등)
+     * @return 이 서버에서 모든 인덱스를 확인했으면 true, 실패했거나 다른 서버가 처리 중이면 false
+     */
+    public boolean build(String lockName, List<String> preparation, List<IndexDefinition> indexes) {
+        // 세션 단위 advisory lock 이므로 같은 커넥션에서 잠금 / 생성 / 해제
+        Boolean built = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(hashtext(?))", Boolean.class, lockName);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("다른 서버가 검색 인덱스를 생성 중이라 건너뜁니다 - lock: {}", lockName);
+                return false;
+            }
+            try {
+                return buildLocked(session, preparation, indexes);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext(?))", Boolean.class, lockName);
+            }
+        });
+        return Boolean.TRUE.equals(built);
+    }
+
+    /**
+     * build 를 백그라운드 스레드에서 실행 (요청 처리 / 기동을 막지 않음)
+     * 커넥션을 얻지 못하는 등 예상하지 못한 실패도 false 로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> buildInBackground(String lockName, List<String> preparation, List<IndexDefinition> indexes) {
+        return CompletableFuture.supplyAsync(() -> build(lockName, preparation, indexes), executor)
+                .exceptionally(e -> {
+                    log.warn("검색 인덱스 생성 실패, 인덱스 없이 검색합니다 - lock: {}, cause: {}", lockName, e.getMessage());
+                    return false;
+                });
+    }
+
+    private boolean buildLocked(JdbcTemplate session, List<String> preparation, List<IndexDefinition> indexes) {
+        String current = null;
+        try {
+            for (String statement : preparation) {
+                current = statement;
+                session.execute(statement);
+            }
+            for (IndexDefinition index : indexes) {
+                List<Boolean> valid = session.queryForList(INDEX_VALID_SQL, Boolean.class, index.name());
+                if (!valid.isEmpty() && !Boolean.TRUE.equals(valid.get(0))) {
+                    log.warn("이전 생성이 중단된 invalid 인덱스를 다시 만듭니다 - index: {}", index.name());
+                    current = "DROP INDEX CONCURRENTLY IF EXISTS " + index.name();
+                    session.execute(current);
+                }
+                current = index.createSql();
+                session.execute(current);
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스 생성 실패, 인덱스 없이 검색합니다 - sql: {}, cause: {}", current, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -5,6 +5,8 @@ import com.team5.catdogeats.auth.filter.PreventDuplicateLoginFilter;
 import com.team5.catdogeats.auth.handler.CustomLogoutSuccessHandler;
 import com.team5.catdogeats.auth.handler.OAuth2AuthenticationFailureHandler;
 import com.team5.catdogeats.auth.handler.OAuth2AuthenticationSuccessHandler;
+import com.team5.catdogeats.auth.util.PublicRoutes;
+import com.team5.catdogeats.global.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -24,7 +26,7 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -37,6 +39,7 @@ public class SecurityConfig {
     private final OAuth2UserService<OAuth2UserRequest, OAuth2User> customOAuth2UserService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final PreventDuplicateLoginFilter preventDuplicateLoginFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 
@@ -68,34 +71,18 @@ public class SecurityConfig {
                     .csrf(AbstractHttpConfigurer::disable)
                     .sessionManagement(session
                             -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                    .authorizeHttpRequests(authorize
-                            -> authorize
-                            .requestMatchers("/").permitAll()
-                            .requestMatchers("/index.html").permitAll() // 개발할때만 사용 로그인 페이지
-                            .requestMatchers("/withdraw").permitAll()
-                            .requestMatchers("/error").permitAll()
-                            .requestMatchers("/.well-known/**").permitAll()
-                            .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                            .requestMatchers("/oauth2/authorization/google/**").permitAll()
-                            .requestMatchers("/oauth2/authorization/kakao/**").permitAll()
-                            .requestMatchers("/oauth2/authorization/naver/**").permitAll()
-                            .requestMatchers("/login/oauth2/code/google/**").permitAll()
-                            .requestMatchers("/login/oauth2/code/naver/**").permitAll()
-                            .requestMatchers("/login/oauth2/code/kakao/**").permitAll()
-                            .requestMatchers("/v1/auth/refresh").permitAll()
-                            .requestMatchers("/v1/notices/**").permitAll()
-                            .requestMatchers("/v1/faqs").permitAll()
-                            .requestMatchers("/v1/buyers/products/list").permitAll()
-                            .requestMatchers("/v1/buyers/products/{product-number}").permitAll()
-                            .requestMatchers("/v1/buyers/reviews/{product-id}/list").permitAll()
-                            .requestMatchers("/v1/buyers/reviews/{product-number}").permitAll()
-                            .requestMatchers("/v1/users/{vendor-name}").permitAll()
-                            .requestMatchers("/withdraw").permitAll()
-                            .requestMatchers("/v1/users/**").hasAnyRole("BUYER", "SELLER")
-                            .requestMatchers("/v1/sellers/**").hasRole("SELLER")
-                            .requestMatchers("/v1/buyers/**").hasRole("BUYER")
-                            .requestMatchers("/v1/auth/role").hasRole("TEMP")
-                            .anyRequest().authenticated())
+                    .authorizeHttpRequests(authorize -> {
+                        // 공개 경로 목록은 RouteClassifier 와 공유 (PublicRoutes)
+                        for (PublicRoutes.PublicRoute route : PublicRoutes.ROUTES) {
+                            authorize.requestMatchers(route.method(), route.pattern()).permitAll();
+                        }
+                        authorize
+                                .requestMatchers("/v1/users/**").hasAnyRole("BUYER", "SELLER")
+                                .requestMatchers("/v1/sellers/**").hasRole("SELLER")
+                                .requestMatchers("/v1/buyers/**").hasRole("BUYER")
+                                .requestMatchers("/v1/auth/role").hasRole("TEMP")
+                                .anyRequest().authenticated();
+                    })
 
                     .oauth2Login(oauth2 -> oauth2
                             .successHandler(oAuth2AuthenticationSuccessHandler)
@@ -116,7 +103,10 @@ public class SecurityConfig {
                             .deleteCookies("token")
                             .permitAll()
                     )
-                    .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                    // JWT 인증 → 요청 제한 → 중복 로그인 확인 → OAuth2 리다이렉트 순서
+                    // 요청 제한이 OAuth2 리다이렉트보다 앞서면서 사용자 기준 규칙도 적용하도록 JWT 필터를 LogoutFilter 앞에 둠
+                    .addFilterBefore(jwtAuthenticationFilter, LogoutFilter.class)
+                    .addFilterAfter(rateLimitFilter, LogoutFilter.class)
                     .addFilterBefore(preventDuplicateLoginFilter, OAuth2AuthorizationRequestRedirectFilter.class);
             return http.build();
         } catch (Exception e) {
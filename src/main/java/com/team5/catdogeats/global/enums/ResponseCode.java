@@ -22,6 +22,7 @@ public enum ResponseCode {
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
     TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "요청을 기다리다 서버에서 타임아웃하였습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     USER_SOFT_DELETE_SUCCESS(HttpStatus.OK, "유저 정보가 성공적으로 비활성화 처리 되었습니다."),
 
     // === 사용자 관련 오류 ===
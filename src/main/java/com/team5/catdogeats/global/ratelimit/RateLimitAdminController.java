@@ -0,0 +1,28 @@
+package com.team5.catdogeats.global.ratelimit;
+
+import com.team5.catdogeats.global.dto.ApiResponse;
+import com.team5.catdogeats.global.enums.ResponseCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/admin/rate-limits")
+@RequiredArgsConstructor
+@Tag(name = "RateLimit (Admin)", description = "요청 제한 현황 관리자 API")
+public class RateLimitAdminController {
+
+    private final RateLimiter rateLimiter;
+
+    @GetMapping("/rejections")
+    @Operation(summary = "규칙별 요청 거부 건수", description = "서버 기동 이후 이 인스턴스에서 429 로 거부한 요청 수를 규칙별로 조회합니다.")
+    public ResponseEntity<ApiResponse<Map<RateLimitRule, Long>>> getRejections() {
+        return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, rateLimiter.rejectionCounts()));
+    }
+}
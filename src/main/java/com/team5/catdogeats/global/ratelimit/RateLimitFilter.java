@@ -0,0 +1,104 @@
+package com.team5.catdogeats.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team5.catdogeats.global.dto.ApiResponse;
+import com.team5.catdogeats.global.enums.ResponseCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증 / 주문 엔드포인트 요청 제한 필터
+ * JwtAuthenticationFilter 다음에 위치해야 사용자 기준 규칙을 적용할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final RateLimitRule[] RULES = RateLimitRule.values();
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = pathWithinApplication(request);
+        for (RateLimitRule rule : RULES) {
+            if (rule.matches(method, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        String path = pathWithinApplication(request);
+
+        for (RateLimitRule rule : RULES) {
+            if (!rule.matches(method, path)) {
+                continue;
+            }
+            String key = resolveKey(rule, request);
+            if (key == null) {
+                continue;
+            }
+            long retryAfterSeconds = rateLimiter.tryAcquire(rule, key);
+            if (retryAfterSeconds > 0) {
+                log.debug("요청 제한 - rule: {}, key: {}, retryAfter: {}s", rule, key, retryAfterSeconds);
+                reject(response, retryAfterSeconds);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveKey(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitRule.KeyType.IP) {
+            // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 원격 주소가 보정됨
+            return request.getRemoteAddr();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            // 인증되지 않은 요청은 이후 인가 단계에서 거부되므로 IP 규칙만 적용
+            return null;
+        }
+        if (authentication instanceof OAuth2AuthenticationToken oAuth2Token) {
+            return oAuth2Token.getAuthorizedClientRegistrationId() + ":" + oAuth2Token.getName();
+        }
+        return authentication.getName();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ResponseCode code = ResponseCode.TOO_MANY_REQUESTS;
+        response.setStatus(code.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(code));
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+}
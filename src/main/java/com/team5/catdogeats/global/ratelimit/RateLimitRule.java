@@ -0,0 +1,40 @@
+package com.team5.catdogeats.global.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 규칙
+ * capacity 는 서버 한 대의 순간 허용량(버킷 크기), clusterLimit 은 period 동안 전체 서버 합산 허용량입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitRule {
+    // 리프레시 요청에는 유효한 액세스 토큰이 없으므로 IP 기준
+    AUTH_REFRESH("POST", "/v1/auth/refresh", false, KeyType.IP, 10, Duration.ofMinutes(1), 30),
+    OAUTH2_AUTHORIZATION(null, "/oauth2/authorization/", true, KeyType.IP, 20, Duration.ofMinutes(1), 60),
+    ORDER_CREATE_USER("POST", "/v1/buyers/orders", false, KeyType.USER, 5, Duration.ofMinutes(1), 10),
+    ORDER_CREATE_IP("POST", "/v1/buyers/orders", false, KeyType.IP, 30, Duration.ofMinutes(1), 100);
+
+    public enum KeyType {
+        IP,
+        USER
+    }
+
+    private final String method;
+    private final String path;
+    private final boolean prefixMatch;
+    private final KeyType keyType;
+    private final int capacity;
+    private final Duration period;
+    private final int clusterLimit;
+
+    public boolean matches(String requestMethod, String requestPath) {
+        if (method != null && !method.equals(requestMethod)) {
+            return false;
+        }
+        return prefixMatch ? requestPath.startsWith(path) : requestPath.equals(path);
+    }
+}
@@ -0,0 +1,144 @@
+package com.team5.catdogeats.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 버킷 기반 요청 제한
+ * 허용 여부는 항상 로컬 버킷과 로컬 차단 목록만 보고 결정하며, Redis 는 요청 경로에서 호출하지 않습니다.
+ * 허용된 요청 수는 주기적으로 Redis 윈도우 카운터에 합산되고, 클러스터 한도를 넘긴 키는 윈도우가 끝날 때까지 모든 서버에서 차단됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+    private static final String REDIS_KEY_PREFIX = "rateLimit:";
+    private static final long IDLE_BUCKET_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    // 아직 Redis 에 반영하지 않은 허용 건수
+    private final Map<String, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+    // 클러스터 한도 초과로 차단된 키와 차단 해제 시각(epoch ms)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+    private final Map<RateLimitRule, LongAdder> rejections = new EnumMap<>(RateLimitRule.class);
+
+    {
+        for (RateLimitRule rule : RateLimitRule.values()) {
+            rejections.put(rule, new LongAdder());
+        }
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 Retry-After 로 내려줄 대기 시간(초)
+     */
+    public long tryAcquire(RateLimitRule rule, String key) {
+        String bucketKey = rule.name() + ":" + key;
+
+        Long blocked = blockedUntil.get(bucketKey);
+        if (blocked != null) {
+            long remainingMillis = blocked - System.currentTimeMillis();
+            if (remainingMillis > 0) {
+                rejections.get(rule).increment();
+                return toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+            }
+            blockedUntil.remove(bucketKey, blocked);
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(bucketKey,
+                k -> new TokenBucket(rule.getCapacity(), rule.getPeriod().toNanos(), now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            rejections.get(rule).increment();
+            return toRetryAfterSeconds(waitNanos);
+        }
+
+        pendingCounts.computeIfAbsent(bucketKey, k -> new PendingCount(rule, key)).count.increment();
+        return 0;
+    }
+
+    /**
+     * 규칙별 누적 거부 건수
+     */
+    public Map<RateLimitRule, Long> rejectionCounts() {
+        Map<RateLimitRule, Long> counts = new EnumMap<>(RateLimitRule.class);
+        rejections.forEach((rule, adder) -> counts.put(rule, adder.sum()));
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:1000}")
+    public void syncWithCluster() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+        long nowMillis = System.currentTimeMillis();
+        try {
+            for (Map.Entry<String, PendingCount> entry : pendingCounts.entrySet()) {
+                PendingCount pending = entry.getValue();
+                long delta = pending.count.sumThenReset();
+                if (delta == 0) {
+                    pendingCounts.remove(entry.getKey(), pending);
+                    continue;
+                }
+
+                RateLimitRule rule = pending.rule;
+                long periodMillis = rule.getPeriod().toMillis();
+                long windowStart = nowMillis - (nowMillis % periodMillis);
+                String redisKey = REDIS_KEY_PREFIX + rule.name() + ":" + pending.key + ":" + windowStart;
+
+                Long total = redisTemplate.opsForValue().increment(redisKey, delta);
+                if (total != null && total == delta) {
+                    redisTemplate.expire(redisKey, Duration.ofMillis(periodMillis * 2));
+                }
+                if (total != null && total >= rule.getClusterLimit()) {
+                    blockedUntil.put(entry.getKey(), windowStart + periodMillis);
+                }
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에도 로컬 버킷 제한은 계속 적용됨
+            log.warn("요청 제한 카운터 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> now - entry.getValue().lastAccessNanos() > IDLE_BUCKET_NANOS);
+
+        long nowMillis = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Long>> it = blockedUntil.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue() <= nowMillis) {
+                it.remove();
+            }
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static final class PendingCount {
+        private final RateLimitRule rule;
+        private final String key;
+        private final LongAdder count = new LongAdder();
+
+        private PendingCount(RateLimitRule rule, String key) {
+            this.rule = rule;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.team5.catdogeats.global.ratelimit;
+
+/**
+ * 서버 로컬 토큰 버킷
+ * 요청 시점에 경과 시간만큼 토큰을 채우므로 별도의 충전 스레드가 필요 없습니다.
+ */
+class TokenBucket {
+    private final int capacity;
+    private final long nanosPerToken;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private volatile long lastAccessNanos;
+
+    TokenBucket(int capacity, long periodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, periodNanos / capacity);
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 소비합니다.
+     * @return 성공하면 0, 실패하면 다음 토큰까지 남은 시간(ns)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed / nanosPerToken);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+}
@@ -0,0 +1,50 @@
+package com.team5.catdogeats.orders.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품별 베스트 점수 집계 테이블
+ * 결제 완료 / 리뷰 등록 이벤트로 증분 갱신되고, 스케줄러가 주기적으로 전체 재계산합니다.
+ * 쓰기는 ProductBestScoreMapper 에서만 하며 엔티티는 테이블 / 인덱스 정의용입니다.
+ */
+@Entity
+@Table(name = "product_best_scores",
+        indexes = @Index(name = "idx_product_best_scores_seller_score", columnList = "seller_id, best_score DESC"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductBestScores {
+
+    @Id
+    @Column(name = "product_id", length = 36)
+    private String productId;
+
+    @Column(name = "seller_id", length = 36, nullable = false)
+    private String sellerId;
+
+    @Column(name = "sales_quantity", nullable = false)
+    private Long salesQuantity;
+
+    @Column(name = "total_revenue", nullable = false)
+    private Long totalRevenue;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    // 최근 30일 주문 수 - 증분 갱신 중에는 증가만 하고 전체 재계산 때 30일 기준으로 보정
+    @Column(name = "recent_order_count", nullable = false)
+    private Long recentOrderCount;
+
+    @Column(name = "best_score", nullable = false)
+    private Double bestScore;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,60 @@
+package com.team5.catdogeats.orders.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 판매자별 일간 집계 (판매량, 매출, 배송 소요 시간 합계/건수, 리뷰 수)
+ * sellerDailyStatsJob 이 하루 단위로 채우며, 스토어 집계는 이 테이블 합계 + 오늘치 실시간 집계로 계산합니다.
+ * 쓰기는 SellerDailyStatsRollupMapper 에서만 하며 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Table(name = "seller_daily_stats")
+@IdClass(SellerDailyStats.SellerDailyStatsId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SellerDailyStats {
+
+    @Id
+    @Column(name = "seller_id", length = 36)
+    private String sellerId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    // 주문일 기준 결제 완료 이후 상태 주문의 판매 수량 / 매출
+    @Column(name = "sales_quantity", nullable = false)
+    private Long salesQuantity;
+
+    @Column(nullable = false)
+    private Long revenue;
+
+    // 배송 완료일 기준 (배송 완료 - 주문) 소요 시간 합계(초)와 건수
+    @Column(name = "delivery_seconds_sum", nullable = false)
+    private Double deliverySecondsSum;
+
+    @Column(name = "delivery_count", nullable = false)
+    private Long deliveryCount;
+
+    // 리뷰 작성일 기준
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class SellerDailyStatsId implements Serializable {
+        private String sellerId;
+        private LocalDate statDate;
+    }
+}
@@ -0,0 +1,30 @@
+package com.team5.catdogeats.orders.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 집계 테이블별 반영 기준일
+ * live_from 이전 날짜는 집계 테이블에서, live_from 이후는 원본 테이블에서 실시간으로 읽습니다.
+ */
+@Entity
+@Table(name = "stats_rollup_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatsRollupWatermarks {
+
+    @Id
+    @Column(name = "rollup_name", length = 50)
+    private String rollupName;
+
+    @Column(name = "live_from", nullable = false)
+    private LocalDate liveFrom;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.team5.catdogeats.orders.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 완료 이벤트
+ * 결제 승인 트랜잭션이 커밋된 뒤 판매 통계 / 베스트 점수 갱신에 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderPaidEvent {
+
+    // 결제가 완료된 주문의 고유 식별자
+    private final String orderId;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static OrderPaidEvent of(String orderId) {
+        return new OrderPaidEvent(orderId, LocalDateTime.now());
+    }
+}
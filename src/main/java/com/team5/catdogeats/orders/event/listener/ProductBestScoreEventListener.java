@@ -0,0 +1,68 @@
+package com.team5.catdogeats.orders.event.listener;
+
+import com.team5.catdogeats.orders.event.OrderPaidEvent;
+import com.team5.catdogeats.orders.service.ProductBestScoreService;
+import com.team5.catdogeats.products.event.ProductChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 상품 등록 / 결제 완료 / 리뷰 등록·수정·삭제 시 product_best_scores 증분 갱신
+ * 갱신 실패는 로그만 남기고, 누락분은 주기적인 전체 재계산에서 보정됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductBestScoreEventListener {
+
+    private final ProductBestScoreService productBestScoreService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderPaid(OrderPaidEvent event) {
+        try {
+            productBestScoreService.applyOrderPaid(event.getOrderId());
+        } catch (Exception e) {
+            log.error("베스트 점수 갱신 실패 (결제 완료): orderId={}, error={}", event.getOrderId(), e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        try {
+            productBestScoreService.applyReviewDelta(event.getProductId(), event.getStar(), 1);
+        } catch (Exception e) {
+            log.error("베스트 점수 갱신 실패 (리뷰 등록): productId={}, error={}", event.getProductId(), e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        try {
+            productBestScoreService.applyReviewDelta(event.getProductId(), event.getRatingDelta(), event.getCountDelta());
+        } catch (Exception e) {
+            log.error("베스트 점수 갱신 실패 (리뷰 수정/삭제): productId={}, error={}", event.getProductId(), e.getMessage(), e);
+        }
+    }
+
+    // 수정 / 삭제 이벤트도 들어오지만 이미 행이 있거나 상품이 없으면 아무것도 하지 않음
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductChanged(ProductChangedEvent event) {
+        try {
+            productBestScoreService.seedProducts(List.of(event.getProductId()));
+        } catch (Exception e) {
+            log.error("베스트 점수 행 생성 실패 (상품 등록): productId={}, error={}", event.getProductId(), e.getMessage(), e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.team5.catdogeats.orders.mapper;
 
 import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
 import java.util.List;
 
@@ -12,6 +16,7 @@ public interface ProductBestScoreMapper {
 
     /**
      * 판매자의 모든 상품에 대한 베스트 점수 계산 데이터 조회
+     * 평점 / 리뷰 수는 product_rating_stats 를 읽습니다. (재계산 스케줄 전에 평점 복구 작업이 실행됨)
      */
     @Select("""
         WITH sales_data AS (
@@ -29,12 +34,11 @@ public interface ProductBestScoreMapper {
         review_data AS (
             SELECT 
                 p.id as product_id,
-                COALESCE(AVG(r.star), 0.0) as avg_rating,
-                COALESCE(COUNT(r.id), 0) as review_count
+                COALESCE(prs.rating_sum / NULLIF(prs.review_count, 0), 0.0) as avg_rating,
+                COALESCE(prs.review_count, 0) as review_count
             FROM products p
-            LEFT JOIN reviews r ON p.id = r.product_id
+            LEFT JOIN product_rating_stats prs ON p.id = prs.product_id
             WHERE p.seller_id = #{sellerId}
-            GROUP BY p.id
         ),
         recent_orders AS (
             SELECT 
@@ -63,4 +67,222 @@ public interface ProductBestScoreMapper {
         ORDER BY p.id
         """)
     List<ProductBestScoreDataDTO> getProductBestScoreDataBySeller(@Param("sellerId") String sellerId);
-}
\ No newline at end of file
+
+    // ===== product_best_scores 조회 / 갱신 =====
+
+    /**
+     * 판매자의 베스트 점수 상위 N개 상품 조회
+     * (seller_id, best_score DESC) 인덱스 순서로 읽다가 카테고리가 맞는 상품 limit 개에서 멈춥니다.
+     */
+    @Select("""
+        <script>
+        SELECT
+            s.product_id as productId,
+            s.best_score as bestScore
+        FROM product_best_scores s
+        JOIN products p ON p.id = s.product_id
+        WHERE s.seller_id = #{sellerId}
+        <if test="petCategory != null and petCategory != '' and petCategory != 'ALL'">
+            AND p.petcategory = #{petCategory}
+        </if>
+        <if test="productCategory != null and productCategory != '' and productCategory != 'ALL'">
+            AND p.productcategory = #{productCategory}
+        </if>
+        ORDER BY s.best_score DESC, s.product_id
+        LIMIT #{limit}
+        </script>
+        """)
+    List<ProductBestScoreRankDTO> findTopBestScoresBySeller(@Param("sellerId") String sellerId,
+                                                             @Param("petCategory") String petCategory,
+                                                             @Param("productCategory") String productCategory,
+                                                             @Param("limit") int limit);
+
+    /**
+     * 점수 행이 아직 없는 판매자 상품을 0점으로 조회 (상위 N개가 모자랄 때 채우기용)
+     * 등록 / 대량 등록 시 0점 행을 만들지만, 이벤트 처리 전이거나 실패한 상품은 전체 재계산 전까지 행이 없습니다.
+     */
+    @Select("""
+        <script>
+        SELECT
+            p.id as productId,
+            0.0 as bestScore
+        FROM products p
+        WHERE p.seller_id = #{sellerId}
+        <if test="petCategory != null and petCategory != '' and petCategory != 'ALL'">
+            AND p.petcategory = #{petCategory}
+        </if>
+        <if test="productCategory != null and productCategory != '' and productCategory != 'ALL'">
+            AND p.productcategory = #{productCategory}
+        </if>
+        AND NOT EXISTS (SELECT 1 FROM product_best_scores s WHERE s.product_id = p.id)
+        ORDER BY p.id
+        LIMIT #{limit}
+        </script>
+        """)
+    List<ProductBestScoreRankDTO> findUnscoredProductsBySeller(@Param("sellerId") String sellerId,
+                                                                @Param("petCategory") String petCategory,
+                                                                @Param("productCategory") String productCategory,
+                                                                @Param("limit") int limit);
+
+    /**
+     * 신규 상품의 0점 행 생성 (이미 있으면 유지)
+     */
+    @Insert("""
+        <script>
+        INSERT INTO product_best_scores (product_id, seller_id, sales_quantity, total_revenue,
+                                         rating_sum, review_count, recent_order_count, best_score, updated_at)
+        SELECT p.id, p.seller_id, 0, 0, 0, 0, 0, 0, NOW()
+        FROM products p
+        WHERE p.id IN
+        <foreach collection="productIds" item="productId" open="(" separator="," close=")">
+            #{productId}
+        </foreach>
+        ON CONFLICT (product_id) DO NOTHING
+        </script>
+        """)
+    int insertZeroScores(@Param("productIds") List<String> productIds);
+
+    /**
+     * 결제 완료된 주문의 상품별 판매량 / 매출액 / 최근 주문 수 누적
+     */
+    @Insert("""
+        INSERT INTO product_best_scores (product_id, seller_id, sales_quantity, total_revenue,
+                                         rating_sum, review_count, recent_order_count, best_score, updated_at)
+        SELECT
+            oi.product_id,
+            p.seller_id,
+            SUM(oi.quantity),
+            SUM(oi.price * oi.quantity),
+            0, 0, 1, 0, NOW()
+        FROM order_items oi
+        JOIN products p ON p.id = oi.product_id
+        WHERE oi.order_id = #{orderId}
+        GROUP BY oi.product_id, p.seller_id
+        ON CONFLICT (product_id) DO UPDATE SET
+            sales_quantity = product_best_scores.sales_quantity + EXCLUDED.sales_quantity,
+            total_revenue = product_best_scores.total_revenue + EXCLUDED.total_revenue,
+            recent_order_count = product_best_scores.recent_order_count + 1,
+            updated_at = NOW()
+        """)
+    int accumulateOrderSales(@Param("orderId") String orderId);
+
+    /**
+     * 리뷰 등록 / 수정 / 삭제에 따른 평점 합계와 리뷰 수 증감 반영
+     */
+    @Insert("""
+        INSERT INTO product_best_scores (product_id, seller_id, sales_quantity, total_revenue,
+                                         rating_sum, review_count, recent_order_count, best_score, updated_at)
+        SELECT p.id, p.seller_id, 0, 0, GREATEST(#{ratingDelta}, 0), GREATEST(#{countDelta}, 0), 0, 0, NOW()
+        FROM products p
+        WHERE p.id = #{productId}
+        ON CONFLICT (product_id) DO UPDATE SET
+            rating_sum = GREATEST(product_best_scores.rating_sum + #{ratingDelta}, 0),
+            review_count = GREATEST(product_best_scores.review_count + #{countDelta}, 0),
+            updated_at = NOW()
+        """)
+    int accumulateReview(@Param("productId") String productId,
+                         @Param("ratingDelta") double ratingDelta,
+                         @Param("countDelta") int countDelta);
+
+    /**
+     * 주문에 포함된 상품들의 누적 통계 조회 (점수 재계산용)
+     */
+    @Select("""
+        SELECT
+            s.product_id as productId,
+            s.sales_quantity as salesQuantity,
+            s.total_revenue as totalRevenue,
+            COALESCE(s.rating_sum / NULLIF(s.review_count, 0), 0.0) as avgRating,
+            s.review_count as reviewCount,
+            s.recent_order_count as recentOrderCount
+        FROM product_best_scores s
+        WHERE s.product_id IN (SELECT oi.product_id FROM order_items oi WHERE oi.order_id = #{orderId})
+        """)
+    List<ProductBestScoreDataDTO> findAccumulatedDataByOrderId(@Param("orderId") String orderId);
+
+    /**
+     * 단일 상품의 누적 통계 조회 (점수 재계산용)
+     */
+    @Select("""
+        SELECT
+            s.product_id as productId,
+            s.sales_quantity as salesQuantity,
+            s.total_revenue as totalRevenue,
+            COALESCE(s.rating_sum / NULLIF(s.review_count, 0), 0.0) as avgRating,
+            s.review_count as reviewCount,
+            s.recent_order_count as recentOrderCount
+        FROM product_best_scores s
+        WHERE s.product_id = #{productId}
+        """)
+    List<ProductBestScoreDataDTO> findAccumulatedDataByProductId(@Param("productId") String productId);
+
+    /**
+     * 계산된 베스트 점수 일괄 반영
+     */
+    @Update("""
+        <script>
+        UPDATE product_best_scores AS s
+        SET best_score = v.best_score,
+            updated_at = NOW()
+        FROM (VALUES
+            <foreach collection="scores" item="item" separator=",">
+                (#{item.productId}, CAST(#{item.bestScore} AS DOUBLE PRECISION))
+            </foreach>
+        ) AS v(product_id, best_score)
+        WHERE s.product_id = v.product_id
+        </script>
+        """)
+    int updateBestScores(@Param("scores") List<ProductBestScoreRankDTO> scores);
+
+    /**
+     * 판매자 상품 전체의 누적 통계와 점수를 재계산 값으로 덮어쓰기 (전체 재계산용)
+     */
+    @Insert("""
+        <script>
+        INSERT INTO product_best_scores (product_id, seller_id, sales_quantity, total_revenue,
+                                         rating_sum, review_count, recent_order_count, best_score, updated_at)
+        VALUES
+        <foreach collection="rows" item="row" separator=",">
+            (#{row.data.productId}, #{sellerId}, #{row.data.salesQuantity}, #{row.data.totalRevenue},
+             #{row.ratingSum}, #{row.data.reviewCount}, #{row.data.recentOrderCount}, #{row.bestScore}, NOW())
+        </foreach>
+        ON CONFLICT (product_id) DO UPDATE SET
+            seller_id = EXCLUDED.seller_id,
+            sales_quantity = EXCLUDED.sales_quantity,
+            total_revenue = EXCLUDED.total_revenue,
+            rating_sum = EXCLUDED.rating_sum,
+            review_count = EXCLUDED.review_count,
+            recent_order_count = EXCLUDED.recent_order_count,
+            best_score = EXCLUDED.best_score,
+            updated_at = NOW()
+        </script>
+        """)
+    int upsertSellerScores(@Param("sellerId") String sellerId, @Param("rows") List<BestScoreRow> rows);
+
+    /**
+     * 삭제되었거나 다른 판매자로 옮겨진 상품의 점수 행 정리
+     */
+    @Delete("""
+        DELETE FROM product_best_scores s
+        WHERE s.seller_id = #{sellerId}
+        AND NOT EXISTS (SELECT 1 FROM products p WHERE p.id = s.product_id AND p.seller_id = #{sellerId})
+        """)
+    int deleteStaleScores(@Param("sellerId") String sellerId);
+
+    /**
+     * 상품을 가진 판매자 ID 목록 (전체 재계산 대상)
+     */
+    @Select("SELECT DISTINCT p.seller_id FROM products p")
+    List<String> findSellerIdsWithProducts();
+
+    /**
+     * 전체 재계산 시 한 행에 저장할 값
+     */
+    record BestScoreRow(ProductBestScoreDataDTO data, Double ratingSum, Double bestScore) {
+        public static BestScoreRow from(ProductBestScoreDataDTO data) {
+            long reviewCount = data.reviewCount() != null ? data.reviewCount() : 0L;
+            double avgRating = data.avgRating() != null ? data.avgRating() : 0.0;
+            return new BestScoreRow(data, avgRating * reviewCount, data.calculateBestScore());
+        }
+    }
+}
@@ -10,42 +10,71 @@ public interface SellerStoreStatsMapper {
 
     /**
      * 판매자 상점 집계 정보 조회
+     * live_from 이전 날짜는 seller_daily_stats(일간 집계)에서 합산하고,
+     * live_from 이후(아직 집계되지 않은 오늘치)만 원본 테이블에서 계산합니다.
+     * 집계 이력이 없으면 live_from 이 1970-01-01 이 되어 전체를 원본에서 계산합니다.
      */
     @Select("""
-        WITH sales_data AS (
+        WITH watermark AS (
+            SELECT COALESCE(
+                (SELECT live_from FROM stats_rollup_watermarks WHERE rollup_name = 'seller_daily_stats'),
+                DATE '1970-01-01'
+            ) AS live_from
+        ),
+        rollup_data AS (
+            SELECT
+                COALESCE(SUM(sds.sales_quantity), 0) as sales_count,
+                COALESCE(SUM(sds.delivery_seconds_sum)
+                    FILTER (WHERE sds.stat_date >= CAST(NOW() - INTERVAL '6 months' AS DATE)), 0) as delivery_seconds,
+                COALESCE(SUM(sds.delivery_count)
+                    FILTER (WHERE sds.stat_date >= CAST(NOW() - INTERVAL '6 months' AS DATE)), 0) as delivery_count,
+                COALESCE(SUM(sds.review_count), 0) as review_count
+            FROM seller_daily_stats sds, watermark w
+            WHERE sds.seller_id = #{sellerId}
+            AND sds.stat_date < w.live_from
+        ),
+        live_sales AS (
             SELECT 
-                COALESCE(SUM(oi.quantity), 0) as total_sales_count
+                COALESCE(SUM(oi.quantity), 0) as sales_count
             FROM products p
             INNER JOIN order_items oi ON p.id = oi.product_id
             INNER JOIN orders o ON oi.order_id = o.id
+            CROSS JOIN watermark w
             WHERE p.seller_id = #{sellerId}
+            AND o.created_at >= w.live_from
             AND o.order_status IN ('PAYMENT_COMPLETED', 'PREPARING', 'READY_FOR_SHIPMENT', 'IN_DELIVERY', 'DELIVERED')
         ),
-        delivery_data AS (
+        live_delivery AS (
             SELECT 
-                COALESCE(AVG(EXTRACT(EPOCH FROM (s.delivered_at - o.created_at)) / 86400), 0) as avg_delivery_days
+                COALESCE(SUM(EXTRACT(EPOCH FROM (s.delivered_at - o.created_at))), 0) as delivery_seconds,
+                COUNT(*) as delivery_count
             FROM shipments s
             INNER JOIN orders o ON s.order_id = o.id
+            CROSS JOIN watermark w
             WHERE s.seller_id = #{sellerId}
             AND s.delivered_at IS NOT NULL
             AND o.created_at IS NOT NULL
             AND s.delivered_at > o.created_at
-            AND s.delivered_at >= NOW() - INTERVAL '6 months'
+            AND s.delivered_at >= GREATEST(w.live_from, NOW() - INTERVAL '6 months')
         ),
-        review_data AS (
+        live_reviews AS (
             SELECT 
-                COALESCE(COUNT(r.id), 0) as total_reviews
+                COUNT(r.id) as review_count
             FROM products p
-            LEFT JOIN reviews r ON p.id = r.product_id
+            INNER JOIN reviews r ON p.id = r.product_id
+            CROSS JOIN watermark w
             WHERE p.seller_id = #{sellerId}
+            AND r.created_at >= w.live_from
         )
         SELECT 
-            COALESCE(sd.total_sales_count, 0) as totalSalesCount,
-            COALESCE(dd.avg_delivery_days, 0) as avgDeliveryDays,
-            COALESCE(rd.total_reviews, 0) as totalReviews
-        FROM review_data rd
-        LEFT JOIN sales_data sd ON 1=1
-        LEFT JOIN delivery_data dd ON 1=1
+            rd.sales_count + ls.sales_count as totalSalesCount,
+            COALESCE((rd.delivery_seconds + ld.delivery_seconds)
+                / NULLIF(rd.delivery_count + ld.delivery_count, 0) / 86400, 0) as avgDeliveryDays,
+            rd.review_count + lr.review_count as totalReviews
+        FROM rollup_data rd
+        CROSS JOIN live_sales ls
+        CROSS JOIN live_delivery ld
+        CROSS JOIN live_reviews lr
         """)
     SellerStoreStatsDTO getSellerStoreStats(@Param("sellerId") String sellerId);
 }
\ No newline at end of file
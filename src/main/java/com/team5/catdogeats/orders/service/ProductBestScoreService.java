@@ -1,6 +1,7 @@
 package com.team5.catdogeats.orders.service;
 
 import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
 
 import java.util.List;
 
@@ -18,4 +19,49 @@ public interface ProductBestScoreService {
      */
     List<ProductBestScoreDataDTO> getProductBestScoreData(String sellerId);
 
-}
\ No newline at end of file
+    /**
+     * product_best_scores 기준 베스트 점수 상위 상품 조회
+     *
+     * @param sellerId 판매자 ID
+     * @param petCategory 반려동물 카테고리 필터 (null 이면 전체)
+     * @param productCategory 상품 카테고리 필터 (null 이면 전체)
+     * @param limit 조회 개수
+     * @return 점수 내림차순 상품 ID / 점수 목록
+     */
+    List<ProductBestScoreRankDTO> getTopBestScores(String sellerId, String petCategory, String productCategory, int limit);
+
+    /**
+     * 결제 완료된 주문을 베스트 점수에 반영
+     *
+     * @param orderId 주문 ID
+     */
+    void applyOrderPaid(String orderId);
+
+    /**
+     * 리뷰 등록 / 수정 / 삭제를 베스트 점수에 반영
+     *
+     * @param productId 상품 ID
+     * @param ratingDelta 평점 합계 증감
+     * @param countDelta 리뷰 수 증감
+     */
+    void applyReviewDelta(String productId, double ratingDelta, int countDelta);
+
+    /**
+     * 신규 상품의 0점 행 생성
+     *
+     * @param productIds 상품 ID 목록
+     */
+    void seedProducts(List<String> productIds);
+
+    /**
+     * 판매자 상품 전체의 베스트 점수를 원본 데이터로 재계산
+     *
+     * @param sellerId 판매자 ID
+     */
+    void rebuildSeller(String sellerId);
+
+    /**
+     * 모든 판매자의 베스트 점수 재계산
+     */
+    void rebuildAll();
+}
@@ -1,13 +1,17 @@
 package com.team5.catdogeats.orders.service.impl;
 
+import com.team5.catdogeats.global.config.MybatisTransactional;
 import com.team5.catdogeats.orders.mapper.ProductBestScoreMapper;
+import com.team5.catdogeats.orders.mapper.ProductBestScoreMapper.BestScoreRow;
 import com.team5.catdogeats.orders.service.ProductBestScoreService;
 import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
 import com.team5.catdogeats.users.controller.SellerStoreExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -44,6 +48,110 @@ public class ProductBestScoreServiceImpl implements ProductBestScoreService {
         }
     }
 
+    @Override
+    public List<ProductBestScoreRankDTO> getTopBestScores(String sellerId, String petCategory, String productCategory, int limit) {
+        log.debug("베스트 점수 상위 상품 조회 - sellerId: {}, limit: {}", sellerId, limit);
+        try {
+            validateSellerId(sellerId);
+
+            List<ProductBestScoreRankDTO> topScores =
+                    productBestScoreMapper.findTopBestScoresBySeller(sellerId, petCategory, productCategory, limit);
+            if (topScores.size() >= limit) {
+                return topScores;
+            }
+
+            // 점수 행이 없는 상품은 0점으로 뒤에 채움
+            List<ProductBestScoreRankDTO> result = new ArrayList<>(topScores);
+            result.addAll(productBestScoreMapper.findUnscoredProductsBySeller(
+                    sellerId, petCategory, productCategory, limit - topScores.size()));
+            return result;
+
+        } catch (IllegalArgumentException e) {
+            log.warn("베스트 점수 상위 상품 조회 파라미터 오류 - sellerId: {}, error: {}", sellerId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("베스트 점수 상위 상품 조회 중 오류 발생 - sellerId: {}", sellerId, e);
+            throw new SellerStoreExceptionHandler.OrderStatsRetrievalException("베스트 점수 조회 실패 - sellerId: " + sellerId, e);
+        }
+    }
+
+    @Override
+    @MybatisTransactional
+    public void applyOrderPaid(String orderId) {
+        int affected = productBestScoreMapper.accumulateOrderSales(orderId);
+        if (affected == 0) {
+            return;
+        }
+        refreshScores(productBestScoreMapper.findAccumulatedDataByOrderId(orderId));
+        log.debug("결제 완료 베스트 점수 반영 - orderId: {}, 상품 수: {}", orderId, affected);
+    }
+
+    @Override
+    @MybatisTransactional
+    public void applyReviewDelta(String productId, double ratingDelta, int countDelta) {
+        int affected = productBestScoreMapper.accumulateReview(productId, ratingDelta, countDelta);
+        if (affected == 0) {
+            return;
+        }
+        refreshScores(productBestScoreMapper.findAccumulatedDataByProductId(productId));
+        log.debug("리뷰 변경 베스트 점수 반영 - productId: {}, ratingDelta: {}, countDelta: {}",
+                productId, ratingDelta, countDelta);
+    }
+
+    @Override
+    @MybatisTransactional
+    public void seedProducts(List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productBestScoreMapper.insertZeroScores(productIds);
+    }
+
+    @Override
+    @MybatisTransactional
+    public void rebuildSeller(String sellerId) {
+        validateSellerId(sellerId);
+
+        List<ProductBestScoreDataDTO> scoreData = productBestScoreMapper.getProductBestScoreDataBySeller(sellerId);
+        if (!scoreData.isEmpty()) {
+            List<BestScoreRow> rows = scoreData.stream()
+                    .map(BestScoreRow::from)
+                    .toList();
+            productBestScoreMapper.upsertSellerScores(sellerId, rows);
+        }
+        productBestScoreMapper.deleteStaleScores(sellerId);
+    }
+
+    /**
+     * 판매자 단위로 나누어 재계산
+     * 한 판매자의 실패가 전체 재계산을 멈추지 않도록 개별 처리합니다.
+     */
+    @Override
+    public void rebuildAll() {
+        List<String> sellerIds = productBestScoreMapper.findSellerIdsWithProducts();
+        int failed = 0;
+        for (String sellerId : sellerIds) {
+            try {
+                rebuildSeller(sellerId);
+            } catch (Exception e) {
+                failed++;
+                log.error("베스트 점수 재계산 실패 - sellerId: {}", sellerId, e);
+            }
+        }
+        log.info("베스트 점수 전체 재계산 완료 - 판매자 수: {}, 실패: {}", sellerIds.size(), failed);
+    }
+
+    // 점수 공식은 ProductBestScoreDataDTO.calculateBestScore 한 곳에서만 관리
+    private void refreshScores(List<ProductBestScoreDataDTO> accumulated) {
+        if (accumulated.isEmpty()) {
+            return;
+        }
+        List<ProductBestScoreRankDTO> scores = accumulated.stream()
+                .map(data -> new ProductBestScoreRankDTO(data.productId(), data.calculateBestScore()))
+                .toList();
+        productBestScoreMapper.updateBestScores(scores);
+    }
+
     /**
      *  판매자 ID 검증
      */
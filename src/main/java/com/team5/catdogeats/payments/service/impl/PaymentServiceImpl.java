@@ -3,6 +3,7 @@ package com.team5.catdogeats.payments.service.impl;
 import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.orders.domain.Orders;
 import com.team5.catdogeats.orders.domain.enums.OrderStatus;
+import com.team5.catdogeats.orders.event.OrderPaidEvent;
 import com.team5.catdogeats.orders.repository.OrderRepository;
 import com.team5.catdogeats.payments.client.TossPaymentsClient;
 import com.team5.catdogeats.payments.domain.Payments;
@@ -16,6 +17,7 @@ import com.team5.catdogeats.products.service.ProductStockManager;
 import com.team5.catdogeats.products.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.ZonedDateTime;
@@ -35,6 +37,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final StockReservationService stockReservationService;
     private final ProductStockManager productStockManager;
     private final TossPaymentsClient tossPaymentsClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @JpaTransactional
@@ -59,6 +62,9 @@ public class PaymentServiceImpl implements PaymentService {
         stockReservationService.confirmReservations(orderId);
         productStockManager.decrementStockForConfirmedReservations(orderId); // 수정
 
+        // 커밋 이후 판매 통계 갱신 (베스트 점수 등)
+        eventPublisher.publishEvent(OrderPaidEvent.of(orderId));
+
         log.info("결제 승인 완료: orderId={}, paymentId={}, tossPaymentKey={}",
                 orderId, payment.getId(), tossResponse.getPaymentKey());
 
@@ -5,7 +5,10 @@ import com.team5.catdogeats.users.domain.mapping.Buyers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,12 @@ public interface PetRepository extends JpaRepository<Pets, String> {
 
     // 리뷰에서 작성자의 pet정보 추출 위해
     List<Pets> findByBuyer(Buyers buyer);
+
+    // 리뷰 목록 페이지 작성자들의 pet 정보를 한 번에 조회
+    @Query("""
+        select p
+        from Pets p
+        where p.buyer.userId in :buyerIds
+    """)
+    List<Pets> findByBuyerIds(@Param("buyerIds") Collection<String> buyerIds);
 }
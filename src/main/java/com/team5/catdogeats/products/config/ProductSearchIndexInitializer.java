@@ -0,0 +1,51 @@
+package com.team5.catdogeats.products.config;
+
+import com.team5.catdogeats.global.config.SearchIndexBuilder;
+import com.team5.catdogeats.global.config.SearchIndexBuilder.IndexDefinition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 검색용 pg_trgm GIN 인덱스 생성
+ * JPA @Index 로는 GIN / 연산자 클래스를 지정할 수 없어 기동 후 IF NOT EXISTS 로 생성합니다.
+ * 상품이 많으면 생성이 오래 걸리므로 기동을 막지 않고 백그라운드에서 만들며, 그동안 검색은 인덱스 없이 동작합니다.
+ * 중단되어 invalid 로 남은 인덱스는 SearchIndexBuilder 가 다시 만듭니다.
+ * 확장 설치 권한이 없는 환경에서도 기동은 계속되며, 이때 검색은 인덱스 없이 ILIKE 로 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer {
+    // CONCURRENTLY: 이미 상품이 있는 운영 DB 에서도 쓰기를 막지 않도록
+    private static final List<IndexDefinition> INDEXES = List.of(
+            new IndexDefinition("idx_products_title_trgm",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_title_trgm ON products USING gin (title gin_trgm_ops)"),
+            new IndexDefinition("idx_products_contents_trgm",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_contents_trgm ON products USING gin (contents gin_trgm_ops)")
+    );
+
+    private final SearchIndexBuilder searchIndexBuilder;
+
+    @Value("${product.catalog.search-index.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!enabled) {
+            return;
+        }
+
+        searchIndexBuilder.buildInBackground("product-search-index", List.of("CREATE EXTENSION IF NOT EXISTS pg_trgm"), INDEXES)
+                .thenAccept(built -> {
+                    if (built) {
+                        log.info("상품 검색 인덱스 확인 완료");
+                    }
+                });
+    }
+}
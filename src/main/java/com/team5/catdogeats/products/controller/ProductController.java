@@ -3,20 +3,33 @@ package com.team5.catdogeats.products.controller;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.enums.ResponseCode;
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.dto.ProductCatalogSearchCondition;
 import com.team5.catdogeats.products.domain.dto.ProductCreateRequestDto;
 import com.team5.catdogeats.products.domain.dto.ProductDeleteRequestDto;
+import com.team5.catdogeats.products.domain.dto.ProductDetailResponseDto;
+import com.team5.catdogeats.products.domain.dto.ProductImportStatusDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
 import com.team5.catdogeats.products.domain.dto.ProductUpdateRequestDto;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.service.ProductBulkImportService;
+import com.team5.catdogeats.products.service.ProductCatalogService;
+import com.team5.catdogeats.products.service.ProductDetailService;
 import com.team5.catdogeats.products.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @RestController
@@ -25,6 +38,9 @@ import java.util.NoSuchElementException;
 @Tag(name = "Product", description = "상품 정보 관련 API")
 public class ProductController {
     private final ProductService productService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductDetailService productDetailService;
+    private final ProductBulkImportService productBulkImportService;
 
     @Operation(
             summary = "상품 등록",
@@ -88,5 +104,121 @@ public class ProductController {
         }
     }
 
-    // TODO: 상품 조회 서비스 로직 / 상품 상세 조회 컨트롤러 구현하기
+    @Operation(
+            summary = "상품 대량 등록 / 수정",
+            description = """
+                    CSV 또는 NDJSON 파일로 상품을 한 번에 등록(CREATE)하거나 가격 / 재고를 수정(UPDATE)합니다.
+                    - 작업은 비동기로 실행되며, 응답의 jobExecutionId 로 진행 상황을 조회합니다.
+                    - CSV 는 첫 줄에 컬럼명(title, contents, petCategory, productCategory, stockStatus, isDiscounted, discountRate, price, leadTime, stock)을 둡니다.
+                    - UPDATE 는 productNumber 와 price / stock / stockStatus 중 변경할 값만 전달합니다.
+                    - 잘못된 행은 건너뛰고 줄 번호와 함께 오류로 기록됩니다.
+                    """
+    )
+    @PostMapping(value = "/sellers/products/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<Long>> startProductImport(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "상품 파일 (.csv, .ndjson)", required = true) @RequestPart("file") MultipartFile file,
+            @Parameter(description = "작업 종류 (CREATE, UPDATE)", example = "CREATE") @RequestParam(defaultValue = "CREATE") String mode) {
+        try {
+            Long jobExecutionId = productBulkImportService.startImport(userPrincipal, file, mode);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/v1/sellers/products/bulk/" + jobExecutionId))
+                    .body(ApiResponse.success(ResponseCode.SUCCESS, jobExecutionId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(ResponseCode.INVALID_INPUT_VALUE.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "상품 대량 작업 진행 상황 조회",
+            description = "대량 작업의 상태와 처리 건수, 오류 행을 조회합니다. 오류는 afterLine 이후 줄 번호 순으로 최대 100건씩 반환합니다."
+    )
+    @GetMapping("/sellers/products/bulk/{job-execution-id}")
+    public ResponseEntity<ApiResponse<ProductImportStatusDTO>> getProductImportStatus(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "대량 작업 ID", required = true) @PathVariable("job-execution-id") Long jobExecutionId,
+            @Parameter(description = "이 줄 번호 이후의 오류부터 조회") @RequestParam(defaultValue = "0") long afterLine) {
+        try {
+            ProductImportStatusDTO status = productBulkImportService.getImportStatus(userPrincipal, jobExecutionId, afterLine);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, status));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "상품 목록 조회 / 검색",
+            description = """
+                    조건에 맞는 상품을 커서 기반으로 조회합니다.
+                    - 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 그대로 전달 (null 이면 마지막 페이지)
+                    - 정렬 기준을 바꾸면 커서를 처음부터 다시 받아야 합니다.
+                    - 정렬: createdAt,desc (기본값) / createdAt,asc / price,asc / price,desc
+                    - keyword: 상품명 / 상품 설명 부분 일치 검색 (2글자 이하 검색어는 상품명에서만 검색)
+                    """
+    )
+    @GetMapping("/buyers/products/list")
+    public ResponseEntity<ApiResponse<ProductStoreCursorPageDTO>> getProducts(
+            @Parameter(description = "반려동물 카테고리 (DOG, CAT)") @RequestParam(required = false) PetCategory petCategory,
+            @Parameter(description = "상품 카테고리 (HANDMADE, FINISHED)") @RequestParam(required = false) ProductCategory productCategory,
+            @Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
+            @Parameter(description = "할인 상품만 조회") @RequestParam(required = false) Boolean discounted,
+            @Parameter(description = "재고 상태 (IN_STOCK, LOW_STOCK, OUT_OF_STOCK), 여러 개 지정 가능") @RequestParam(required = false) List<StockStatus> stockStatus,
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "정렬 기준", example = "createdAt,desc") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            ProductCatalogSearchCondition condition = new ProductCatalogSearchCondition(
+                    petCategory, productCategory, minPrice, maxPrice, discounted, stockStatus, keyword);
+            ProductStoreCursorPageDTO products = productCatalogService.getCatalogProducts(condition, sort, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, products));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(ResponseCode.INVALID_INPUT_VALUE.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
+    @Operation(
+            summary = "상품 상세 조회",
+            description = "상품 번호로 상품 상세 정보(이미지, 판매자, 평점 요약)와 현재 가용 재고를 조회합니다."
+    )
+    @GetMapping("/buyers/products/{product-number}")
+    public ResponseEntity<ApiResponse<ProductDetailResponseDto>> getProductDetail(
+            @Parameter(description = "상품 번호", required = true) @PathVariable("product-number") Long productNumber) {
+        try {
+            ProductDetailResponseDto detail = productDetailService.getProductDetail(productNumber);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, detail));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.team5.catdogeats.products.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 대량 등록 / 수정 작업의 행 단위 오류
+ * 배치 Job 에서 JDBC 로만 기록하고, 판매자는 작업 상태 조회 시 줄 번호 순으로 확인합니다.
+ */
+@Entity
+@Table(name = "product_import_errors", indexes = {
+        @Index(name = "idx_product_import_errors_job_line", columnList = "job_execution_id, line_number")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImportErrors {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "job_execution_id", nullable = false)
+    private Long jobExecutionId;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    @Column(name = "message", length = 500, nullable = false)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.team5.catdogeats.products.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품별 별점 합계 / 리뷰 수 (비정규화)
+ * 리뷰 등록 / 수정 / 삭제 시 증분으로 갱신되고, 조회 쿼리는 AVG / COUNT 대신 이 값을 읽습니다.
+ * products 행의 재고 갱신(@Version)과 잠금이 겹치지 않도록 별도 테이블로 둡니다.
+ * 쓰기는 ProductRatingStatsRepository / ProductRatingStatsRepairMapper 에서만 합니다.
+ */
+@Entity
+@Table(name = "product_rating_stats", indexes = {
+        // 리뷰 요약 배치 변경분 조회 (리뷰 삭제 감지)
+        @Index(name = "idx_product_rating_stats_updated", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRatingStats {
+
+    @Id
+    @Column(name = "product_id", length = 36)
+    private String productId;
+
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "DECIMAL(14,1)")
+    private Double ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
@@ -11,6 +11,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(name = "products", indexes = {
+        // 스토어 상품 커서 페이징 (created_at, id) / (price, id) 키셋
+        @Index(name = "idx_products_seller_created", columnList = "seller_id, created_at, id"),
+        @Index(name = "idx_products_seller_price", columnList = "seller_id, price, id"),
+        // 구매자 상품 목록 키셋 (최신순 / 가격순)
+        @Index(name = "idx_products_created", columnList = "created_at, id"),
+        @Index(name = "idx_products_price", columnList = "price, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,10 @@
+package com.team5.catdogeats.products.domain.dto;
+
+/**
+ * product_best_scores 에서 읽은 상품별 베스트 점수
+ */
+public record ProductBestScoreRankDTO(
+        String productId,
+        Double bestScore
+) {
+}
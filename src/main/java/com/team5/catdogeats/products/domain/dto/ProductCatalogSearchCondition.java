@@ -0,0 +1,29 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+
+import java.util.List;
+
+/**
+ * 구매자 상품 목록 검색 조건
+ * 값이 null 이거나 비어 있으면 해당 조건은 적용하지 않습니다.
+ *
+ * @param keyword 상품명 / 상품 설명 부분 일치 검색어
+ * @param discountedOnly true 면 할인 상품만 조회
+ * @param stockStatuses 조회할 재고 상태 목록
+ */
+public record ProductCatalogSearchCondition(
+        PetCategory petCategory,
+        ProductCategory productCategory,
+        Long minPrice,
+        Long maxPrice,
+        Boolean discountedOnly,
+        List<StockStatus> stockStatuses,
+        String keyword
+) {
+    public static ProductCatalogSearchCondition empty() {
+        return new ProductCatalogSearchCondition(null, null, null, null, null, null, null);
+    }
+}
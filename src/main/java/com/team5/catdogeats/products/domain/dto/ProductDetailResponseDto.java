@@ -0,0 +1,17 @@
+package com.team5.catdogeats.products.domain.dto;
+
+/**
+ * 상품 상세 응답 (캐시된 상세 정보 + 가용 재고)
+ *
+ * @param availableStock 실제 재고 - 예약 재고
+ * @param purchasable 가용 재고가 있어 주문 가능한지 여부
+ */
+public record ProductDetailResponseDto(
+        ProductDetailView product,
+        int availableStock,
+        boolean purchasable
+) {
+    public static ProductDetailResponseDto of(ProductDetailView product, int availableStock) {
+        return new ProductDetailResponseDto(product, Math.max(availableStock, 0), availableStock > 0);
+    }
+}
@@ -0,0 +1,28 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+
+/**
+ * 상품 상세 조회 결과 (상품 + 판매자 요약 + 평점 요약)
+ * MyBatis 가 컬럼 순서대로 생성자에 매핑하므로 필드 순서를 조회 컬럼 순서와 맞춥니다.
+ */
+public record ProductDetailRowDTO(
+        String productId,
+        Long productNumber,
+        String title,
+        String contents,
+        PetCategory petCategory,
+        ProductCategory productCategory,
+        StockStatus stockStatus,
+        boolean isDiscounted,
+        Double discountRate,
+        Long price,
+        Short leadTime,
+        String sellerId,
+        String vendorName,
+        String vendorProfileImage,
+        Double avgRating,
+        Long reviewCount
+) {}
@@ -0,0 +1,55 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+
+import java.util.List;
+
+/**
+ * 상품 상세 읽기 모델 (캐시 대상)
+ * 자주 바뀌는 가용 재고는 포함하지 않고 응답 시점에 따로 붙입니다.
+ */
+public record ProductDetailView(
+        String productId,
+        Long productNumber,
+        String title,
+        String contents,
+        PetCategory petCategory,
+        ProductCategory productCategory,
+        StockStatus stockStatus,
+        boolean isDiscounted,
+        Double discountRate,
+        Long price,
+        Short leadTime,
+        List<String> imageUrls,
+        SellerSummary seller,
+        Double avgRating,
+        Long reviewCount
+) {
+    public record SellerSummary(
+            String sellerId,
+            String vendorName,
+            String vendorProfileImage
+    ) {}
+
+    public static ProductDetailView of(ProductDetailRowDTO row, List<String> imageUrls) {
+        return new ProductDetailView(
+                row.productId(),
+                row.productNumber(),
+                row.title(),
+                row.contents(),
+                row.petCategory(),
+                row.productCategory(),
+                row.stockStatus(),
+                row.isDiscounted(),
+                row.discountRate(),
+                row.price(),
+                row.leadTime(),
+                List.copyOf(imageUrls),
+                new SellerSummary(row.sellerId(), row.vendorName(), row.vendorProfileImage()),
+                row.avgRating(),
+                row.reviewCount()
+        );
+    }
+}
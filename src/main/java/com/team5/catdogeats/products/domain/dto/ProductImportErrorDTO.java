@@ -0,0 +1,9 @@
+package com.team5.catdogeats.products.domain.dto;
+
+/**
+ * 상품 대량 작업 행 오류 (파일 기준 줄 번호)
+ */
+public record ProductImportErrorDTO(
+        Long lineNumber,
+        String message
+) {}
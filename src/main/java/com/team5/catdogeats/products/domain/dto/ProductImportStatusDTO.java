@@ -0,0 +1,18 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import java.util.List;
+
+/**
+ * 상품 대량 작업 진행 상황
+ * status 는 Spring Batch 실행 상태(STARTING, STARTED, COMPLETED, FAILED ...)를 그대로 전달합니다.
+ * errors 는 afterLine 이후의 오류를 줄 번호 순으로 최대 100건까지 담습니다.
+ */
+public record ProductImportStatusDTO(
+        Long jobExecutionId,
+        String mode,
+        String status,
+        long readCount,
+        long writeCount,
+        long errorCount,
+        List<ProductImportErrorDTO> errors
+) {}
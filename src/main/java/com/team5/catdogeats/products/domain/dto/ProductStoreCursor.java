@@ -0,0 +1,68 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import com.team5.catdogeats.products.domain.enums.ProductStoreSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 스토어 상품 커서 (마지막으로 내려준 상품의 정렬 키 값 + id)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 토큰으로만 노출합니다.
+ * 정렬 기준이 바뀐 채로 재사용하면 순서가 맞지 않으므로 정렬 키도 함께 담아 검증합니다.
+ */
+public record ProductStoreCursor(
+        ProductStoreSortKey sortKey,
+        OffsetDateTime createdAt,
+        Long price,
+        String productId
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public static ProductStoreCursor after(ProductStoreSortKey sortKey, ProductStoreCursorRowDTO row) {
+        return new ProductStoreCursor(sortKey, row.createdAt(), row.price(), row.productId());
+    }
+
+    public String encode() {
+        String value = sortKey.isPriceKey() ? String.valueOf(price) : createdAt.toString();
+        String raw = String.join(DELIMITER, VERSION, sortKey.name(), value, productId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 요청한 정렬 기준과 다른 커서
+     */
+    public static ProductStoreCursor decode(String token, ProductStoreSortKey expectedSortKey) {
+        String[] parts = split(token);
+        if (!expectedSortKey.name().equals(parts[1])) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+
+        try {
+            return expectedSortKey.isPriceKey()
+                    ? new ProductStoreCursor(expectedSortKey, null, Long.parseLong(parts[2]), parts[3])
+                    : new ProductStoreCursor(expectedSortKey, OffsetDateTime.parse(parts[2]), null, parts[3]);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    private static String[] split(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4 || !VERSION.equals(parts[0]) || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import java.util.List;
+
+/**
+ * 스토어 상품 커서 페이지
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalElements 전체 상품 수 (집계를 요청하지 않았으면 null)
+ */
+public record ProductStoreCursorPageDTO(
+        List<ProductStoreInfoDTO> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {}
@@ -0,0 +1,33 @@
+package com.team5.catdogeats.products.domain.dto;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 커서 페이징 조회 결과 (ProductStoreInfoDTO + 커서 생성용 created_at)
+ * MyBatis 가 컬럼 순서대로 생성자에 매핑하므로 필드 순서를 조회 컬럼 순서와 맞춥니다.
+ */
+public record ProductStoreCursorRowDTO(
+        String productId,
+        Long productNumber,
+        String title,
+        Long price,
+        boolean isDiscounted,
+        Double discountRate,
+        String mainImageUrl,
+        PetCategory petCategory,
+        ProductCategory productCategory,
+        StockStatus stockStatus,
+        Double avgRating,
+        Long reviewCount,
+        Double bestScore,
+        OffsetDateTime createdAt
+) {
+    public ProductStoreInfoDTO toInfo() {
+        return new ProductStoreInfoDTO(productId, productNumber, title, price, isDiscounted, discountRate,
+                mainImageUrl, petCategory, productCategory, stockStatus, avgRating, reviewCount, bestScore);
+    }
+}
@@ -0,0 +1,9 @@
+package com.team5.catdogeats.products.domain.enums;
+
+/**
+ * 상품 대량 작업 종류
+ */
+public enum ProductImportMode {
+    CREATE,     // 신규 상품 등록
+    UPDATE      // 상품 번호 기준 가격 / 재고 / 재고 상태 수정
+}
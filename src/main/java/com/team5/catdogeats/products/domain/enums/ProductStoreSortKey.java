@@ -0,0 +1,27 @@
+package com.team5.catdogeats.products.domain.enums;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 스토어 상품 커서 페이징 정렬 키
+ * 모든 정렬은 동률을 끊기 위해 id 를 두 번째 키로 사용합니다.
+ */
+public enum ProductStoreSortKey {
+    CREATED_AT_DESC, CREATED_AT_ASC, PRICE_ASC, PRICE_DESC;
+
+    public static ProductStoreSortKey from(Sort sort) {
+        Sort.Order price = sort.getOrderFor("price");
+        if (price != null) {
+            return price.isAscending() ? PRICE_ASC : PRICE_DESC;
+        }
+        Sort.Order createdAt = sort.getOrderFor("createdAt");
+        if (createdAt != null && createdAt.isAscending()) {
+            return CREATED_AT_ASC;
+        }
+        return CREATED_AT_DESC;
+    }
+
+    public boolean isPriceKey() {
+        return this == PRICE_ASC || this == PRICE_DESC;
+    }
+}
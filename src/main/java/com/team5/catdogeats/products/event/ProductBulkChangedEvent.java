@@ -0,0 +1,28 @@
+package com.team5.catdogeats.products.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 / 수정 이벤트 (배치 chunk 단위)
+ * 상품마다 ProductChangedEvent 를 발행하면 판매자 캐시 무효화가 상품 수만큼 반복되므로 묶어서 발행합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductBulkChangedEvent {
+
+    private final String sellerId;
+
+    // 수정된 상품 ID (신규 등록은 캐시된 상세 정보가 없으므로 비어 있음)
+    private final List<String> productIds;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static ProductBulkChangedEvent of(String sellerId, List<String> productIds) {
+        return new ProductBulkChangedEvent(sellerId, List.copyOf(productIds), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,26 @@
+package com.team5.catdogeats.products.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 등록 / 수정 / 삭제 이벤트
+ * 커밋 이후 상품 관련 캐시 무효화에 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final String sellerId;
+
+    private final String productId;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static ProductChangedEvent of(String sellerId, String productId) {
+        return new ProductChangedEvent(sellerId, productId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,58 @@
+package com.team5.catdogeats.products.event.listener;
+
+import com.team5.catdogeats.products.event.ProductBulkChangedEvent;
+import com.team5.catdogeats.products.event.ProductChangedEvent;
+import com.team5.catdogeats.products.mapper.ProductDetailMapper;
+import com.team5.catdogeats.products.service.ProductDetailCacheService;
+import com.team5.catdogeats.reviews.event.ReviewChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewCreatedEvent;
+import com.team5.catdogeats.users.event.SellerProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 상세 캐시 무효화
+ * 상품 정보 / 이미지 변경은 ProductChangedEvent, 평점 변경은 리뷰 이벤트로 받습니다.
+ * 캐시된 상세에는 판매자 요약(상점명, 브랜드 이미지)도 들어 있어 판매자 정보 변경 시 해당 판매자 상품을 모두 무효화합니다.
+ * 트랜잭션 없이 발행된 이벤트도 처리하도록 fallbackExecution 을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCacheEventListener {
+
+    private final ProductDetailCacheService productDetailCacheService;
+    private final ProductDetailMapper productDetailMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        productDetailCacheService.evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductBulkChanged(ProductBulkChangedEvent event) {
+        productDetailCacheService.evictAll(event.getProductIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        productDetailCacheService.evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        productDetailCacheService.evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSellerProfileChanged(SellerProfileChangedEvent event) {
+        try {
+            productDetailCacheService.evictAll(productDetailMapper.findProductIdsBySellerId(event.getSellerId()));
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 무효화 실패 (판매자 정보 변경): sellerId={}, error={}", event.getSellerId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.team5.catdogeats.products.exception;
+
+/**
+ * 상품 대량 작업에서 한 행의 값이 올바르지 않은 경우
+ * 배치 Step 에서 해당 행만 건너뛰고 오류로 기록합니다.
+ */
+public class ProductImportValidationException extends RuntimeException {
+    private final long lineNumber;
+
+    public ProductImportValidationException(long lineNumber, String message) {
+        super(message);
+        this.lineNumber = lineNumber;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,165 @@
+package com.team5.catdogeats.products.mapper;
+
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Mapper
+public interface ProductCatalogMapper {
+
+    /**
+     * 구매자 상품 목록 키셋 조회
+     * 조건과 커서로 페이지 상품만 먼저 고른 뒤 대표 이미지 / 평점을 붙입니다.
+     * 검색어는 ILIKE 부분 일치로 처리하며, title / contents 의 pg_trgm GIN 인덱스를 사용합니다.
+     * (인덱스는 ProductSearchIndexInitializer 에서 생성)
+     * 3글자 미만 검색어는 trigram 을 뽑을 수 없어 인덱스를 쓰지 못하므로 titleOnly 로 긴 상품 설명은 훑지 않습니다.
+     */
+    @Select("""
+        <script>
+        WITH page_products AS (
+            SELECT
+                p.id,
+                p.product_number,
+                p.title,
+                p.price,
+                p.is_discounted,
+                p.discount_rate,
+                p.petcategory,
+                p.productcategory,
+                p.stock_status,
+                p.created_at
+            FROM products p
+            <where>
+                <if test="petCategory != null">
+                    AND p.petcategory = #{petCategory}
+                </if>
+                <if test="productCategory != null">
+                    AND p.productcategory = #{productCategory}
+                </if>
+                <if test="minPrice != null">
+                    AND p.price &gt;= #{minPrice}
+                </if>
+                <if test="maxPrice != null">
+                    AND p.price &lt;= #{maxPrice}
+                </if>
+                <if test="discountedOnly">
+                    AND p.is_discounted = true
+                </if>
+                <if test="stockStatuses != null and !stockStatuses.isEmpty()">
+                    AND p.stock_status IN
+                    <foreach collection="stockStatuses" item="status" open="(" separator="," close=")">
+                        #{status}
+                    </foreach>
+                </if>
+                <if test="keywordPattern != null">
+                    <choose>
+                        <when test="titleOnly">
+                            AND p.title ILIKE #{keywordPattern}
+                        </when>
+                        <otherwise>
+                            AND (p.title ILIKE #{keywordPattern} OR p.contents ILIKE #{keywordPattern})
+                        </otherwise>
+                    </choose>
+                </if>
+                <if test="cursorId != null">
+                    <choose>
+                        <when test="sortKey == 'PRICE_ASC'">
+                            AND (p.price, p.id) &gt; (#{cursorPrice}, #{cursorId})
+                        </when>
+                        <when test="sortKey == 'PRICE_DESC'">
+                            AND (p.price, p.id) &lt; (#{cursorPrice}, #{cursorId})
+                        </when>
+                        <when test="sortKey == 'CREATED_AT_ASC'">
+                            AND (p.created_at, p.id) &gt; (#{cursorCreatedAt}, #{cursorId})
+                        </when>
+                        <otherwise>
+                            AND (p.created_at, p.id) &lt; (#{cursorCreatedAt}, #{cursorId})
+                        </otherwise>
+                    </choose>
+                </if>
+            </where>
+            <choose>
+                <when test="sortKey == 'PRICE_ASC'">
+                    ORDER BY p.price ASC, p.id ASC
+                </when>
+                <when test="sortKey == 'PRICE_DESC'">
+                    ORDER BY p.price DESC, p.id DESC
+                </when>
+                <when test="sortKey == 'CREATED_AT_ASC'">
+                    ORDER BY p.created_at ASC, p.id ASC
+                </when>
+                <otherwise>
+                    ORDER BY p.created_at DESC, p.id DESC
+                </otherwise>
+            </choose>
+            LIMIT #{limit}
+        )
+        SELECT
+            p.id as productId,
+            p.product_number as productNumber,
+            p.title,
+            p.price,
+            p.is_discounted as isDiscounted,
+            p.discount_rate as discountRate,
+            COALESCE(fi.image_url, '') as mainImageUrl,
+            p.petcategory as petCategory,
+            p.productcategory as productCategory,
+            p.stock_status as stockStatus,
+            COALESCE(ROUND(prs.rating_sum / NULLIF(prs.review_count, 0), 1), rs.avg_rating, 0.0) as avgRating,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount,
+            0.0 as bestScore,
+            p.created_at as createdAt
+        FROM page_products p
+        LEFT JOIN LATERAL (
+            SELECT COALESCE(i.medium_image_url, i.image_url) as image_url
+            FROM products_images pi
+            JOIN images i ON pi.product_image_id = i.id
+            WHERE pi.product_id = p.id
+            ORDER BY pi.created_at ASC
+            LIMIT 1
+        ) fi ON true
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
+        <choose>
+            <when test="sortKey == 'PRICE_ASC'">
+                ORDER BY p.price ASC, p.id ASC
+            </when>
+            <when test="sortKey == 'PRICE_DESC'">
+                ORDER BY p.price DESC, p.id DESC
+            </when>
+            <when test="sortKey == 'CREATED_AT_ASC'">
+                ORDER BY p.created_at ASC, p.id ASC
+            </when>
+            <otherwise>
+                ORDER BY p.created_at DESC, p.id DESC
+            </otherwise>
+        </choose>
+        </script>
+        """)
+    List<ProductStoreCursorRowDTO> findCatalogProducts(
+            @Param("petCategory") String petCategory,
+            @Param("productCategory") String productCategory,
+            @Param("minPrice") Long minPrice,
+            @Param("maxPrice") Long maxPrice,
+            @Param("discountedOnly") boolean discountedOnly,
+            @Param("stockStatuses") List<String> stockStatuses,
+            @Param("keywordPattern") String keywordPattern,
+            @Param("titleOnly") boolean titleOnly,
+            @Param("sortKey") String sortKey,
+            @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+            @Param("cursorPrice") Long cursorPrice,
+            @Param("cursorId") String cursorId,
+            @Param("limit") int limit
+    );
+}
@@ -0,0 +1,67 @@
+package com.team5.catdogeats.products.mapper;
+
+import com.team5.catdogeats.products.domain.dto.ProductDetailRowDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+@Mapper
+public interface ProductDetailMapper {
+
+    /**
+     * 상품 상세 + 판매자 요약 + 평점 요약 조회
+     * 평점은 product_rating_stats 에서 읽고, 집계 행이 아직 없는 상품만 리뷰 테이블에서 직접 계산합니다.
+     */
+    @Select("""
+        SELECT
+            p.id as productId,
+            p.product_number as productNumber,
+            p.title,
+            p.contents,
+            p.petcategory as petCategory,
+            p.productcategory as productCategory,
+            p.stock_status as stockStatus,
+            p.is_discounted as isDiscounted,
+            p.discount_rate as discountRate,
+            p.price,
+            p.lead_time as leadTime,
+            s.user_id as sellerId,
+            s.vendor_name as vendorName,
+            COALESCE(s.vendor_profile_thumbnail, s.vendor_profile_image) as vendorProfileImage,
+            COALESCE(ROUND(prs.rating_sum / NULLIF(prs.review_count, 0), 1), rs.avg_rating, 0.0) as avgRating,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount
+        FROM products p
+        JOIN sellers s ON s.user_id = p.seller_id
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
+        WHERE p.product_number = #{productNumber}
+        """)
+    ProductDetailRowDTO findDetailByProductNumber(@Param("productNumber") Long productNumber);
+
+    /**
+     * 상품 이미지 URL 목록 (등록 순, 상세용 리사이즈 버전이 있으면 사용)
+     */
+    @Select("""
+        SELECT COALESCE(i.large_image_url, i.image_url)
+        FROM products_images pi
+        JOIN images i ON pi.product_image_id = i.id
+        WHERE pi.product_id = #{productId}
+        ORDER BY pi.created_at ASC, pi.id ASC
+        """)
+    List<String> findImageUrls(@Param("productId") String productId);
+
+    /**
+     * 판매자 상품 ID 목록 (판매자 정보 변경 시 상세 캐시 무효화용)
+     */
+    @Select("SELECT p.id FROM products p WHERE p.seller_id = #{sellerId}")
+    List<String> findProductIdsBySellerId(@Param("sellerId") String sellerId);
+}
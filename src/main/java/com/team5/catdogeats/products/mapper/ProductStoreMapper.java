@@ -1,7 +1,10 @@
 package com.team5.catdogeats.products.mapper;
 
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
 import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import org.apache.ibatis.annotations.*;
+
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Mapper
@@ -9,29 +12,11 @@ public interface ProductStoreMapper {
 
     /**
      * 특정 상품 ID들로 상품 기본 정보 조회 (베스트 상품용)
+     * 대표 이미지는 LATERAL 로 해당 상품만 조회하고, 평점 / 리뷰 수는 product_rating_stats 에서 읽습니다.
+     * 집계 행이 아직 없는 상품(복구 작업 전)만 리뷰 테이블에서 직접 계산합니다.
      */
     @Select("""
         <script>
-        WITH first_images AS (
-            SELECT DISTINCT ON (pi.product_id) 
-                   pi.product_id, 
-                   i.image_url
-            FROM products_images pi
-            JOIN images i ON pi.product_image_id = i.id
-            ORDER BY pi.product_id, pi.created_at ASC
-        ),
-        review_stats AS (
-            SELECT 
-                r.product_id,
-                ROUND(AVG(r.star), 1) as avg_rating,
-                COUNT(r.id) as review_count
-            FROM reviews r
-            WHERE r.product_id IN 
-            <foreach collection="productIds" item="productId" open="(" separator="," close=")">
-                #{productId}
-            </foreach>
-            GROUP BY r.product_id
-        )
         SELECT 
             p.id as productId,
             p.product_number as productNumber,
@@ -43,12 +28,27 @@ public interface ProductStoreMapper {
             p.petcategory as petCategory,
             p.productcategory as productCategory,
             p.stock_status as stockStatus,
-            COALESCE(rs.avg_rating, 0.0) as avgRating,
-            COALESCE(rs.review_count, 0) as reviewCount,
+            COALESCE(ROUND(prs.rating_sum / NULLIF(prs.review_count, 0), 1), rs.avg_rating, 0.0) as avgRating,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount,
             0.0 as bestScore
         FROM products p
-        LEFT JOIN first_images fi ON fi.product_id = p.id
-        LEFT JOIN review_stats rs ON rs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT COALESCE(i.medium_image_url, i.image_url) as image_url
+            FROM products_images pi
+            JOIN images i ON pi.product_image_id = i.id
+            WHERE pi.product_id = p.id
+            ORDER BY pi.created_at ASC
+            LIMIT 1
+        ) fi ON true
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT 
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
         WHERE p.id IN 
         <foreach collection="productIds" item="productId" open="(" separator="," close=")">
             #{productId}
@@ -70,24 +70,43 @@ public interface ProductStoreMapper {
 
     /**
      * 판매자 상품 정보 조회 (일반 상품용, String ID 사용)
+     * 페이지에 해당하는 상품을 먼저 고른 뒤(page_products), 그 상품들에 대해서만
+     * 대표 이미지(products_images 인덱스)를 LATERAL 로, 평점 / 리뷰 수를 product_rating_stats 에서 조회합니다.
+     * 전체 리뷰 / 이미지 테이블 크기와 관계없이 페이지 크기만큼만 읽습니다.
      */
     @Select("""
         <script>
-        WITH first_images AS (
-            SELECT DISTINCT ON (pi.product_id) 
-                   pi.product_id, 
-                   i.image_url
-            FROM products_images pi
-            JOIN images i ON pi.product_image_id = i.id
-            ORDER BY pi.product_id, pi.created_at ASC
-        ),
-        review_stats AS (
+        WITH page_products AS (
             SELECT 
-                r.product_id,
-                ROUND(AVG(r.star), 1) as avg_rating,
-                COUNT(r.id) as review_count
-            FROM reviews r
-            GROUP BY r.product_id
+                p.id,
+                p.product_number,
+                p.title,
+                p.price,
+                p.is_discounted,
+                p.discount_rate,
+                p.petcategory,
+                p.productcategory,
+                p.stock_status,
+                p.created_at
+            FROM products p
+            WHERE p.seller_id = #{sellerId}
+            <if test="filter == 'exclude_sold_out'">
+                AND p.stock_status != 'OUT_OF_STOCK'
+            </if>
+            <if test="petCategory\s != null and petCategory\s != '' and petCategory != 'ALL'">
+                AND p.petcategory = #{petCategory}
+            </if>
+            <if test="productCategory != null and productCategory != '' and productCategory != 'ALL'">
+                AND p.productcategory = #{productCategory}
+            </if>
+            <if test="filter == 'discount'">
+                AND p.is_discounted = true
+            </if>
+            <if test="filter == 'new'">
+                AND p.created_at >= NOW() - INTERVAL '30 days'
+            </if>
+            ORDER BY p.created_at DESC
+            LIMIT #{limit} OFFSET #{offset}
         )
         SELECT 
             p.id as productId,
@@ -100,30 +119,28 @@ public interface ProductStoreMapper {
             p.petcategory as petCategory,
             p.productcategory as productCategory,
             p.stock_status as stockStatus,
-            COALESCE(rs.avg_rating, 0.0) as avgRating,
-            COALESCE(rs.review_count, 0) as reviewCount,
+            COALESCE(ROUND(prs.rating_sum / NULLIF(prs.review_count, 0), 1), rs.avg_rating, 0.0) as avgRating,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount,
             0.0 as bestScore
-        FROM products p
-        LEFT JOIN first_images fi ON fi.product_id = p.id
-        LEFT JOIN review_stats rs ON rs.product_id = p.id
-        WHERE p.seller_id = #{sellerId}
-        <if test="filter == 'exclude_sold_out'">
-            AND p.stock_status != 'OUT_OF_STOCK'
-        </if>
-        <if test="petCategory\s != null and petCategory\s != '' and petCategory != 'ALL'">
-            AND p.petcategory = #{petCategory}
-        </if>
-        <if test="productCategory != null and productCategory != '' and productCategory != 'ALL'">
-            AND p.productcategory = #{productCategory}
-        </if>
-        <if test="filter == 'discount'">
-            AND p.is_discounted = true
-        </if>
-        <if test="filter == 'new'">
-            AND p.created_at >= NOW() - INTERVAL '30 days'
-        </if>
+        FROM page_products p
+        LEFT JOIN LATERAL (
+            SELECT COALESCE(i.medium_image_url, i.image_url) as image_url
+            FROM products_images pi
+            JOIN images i ON pi.product_image_id = i.id
+            WHERE pi.product_id = p.id
+            ORDER BY pi.created_at ASC
+            LIMIT 1
+        ) fi ON true
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT 
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
         ORDER BY p.created_at DESC
-        LIMIT #{limit} OFFSET #{offset}
         </script>
         """)
     List<ProductStoreInfoDTO> findSellerProductsBaseInfo(
@@ -136,6 +153,138 @@ public interface ProductStoreMapper {
     );
 
 
+    /**
+     * 판매자 상품 정보 커서 조회 (무한 스크롤용)
+     * (created_at, id) 또는 (price, id) 키셋 조건으로 이어서 읽기 때문에 페이지 깊이와 관계없이
+     * idx_products_seller_created / idx_products_seller_price 인덱스 범위만 스캔합니다.
+     * 다음 페이지 존재 여부 확인을 위해 limit 에 1을 더해 호출합니다.
+     * 대표 이미지 / 평점은 일반 조회와 같이 페이지 상품에 대해서만 조회합니다.
+     */
+    @Select("""
+        <script>
+        WITH page_products AS (
+            SELECT 
+                p.id,
+                p.product_number,
+                p.title,
+                p.price,
+                p.is_discounted,
+                p.discount_rate,
+                p.petcategory,
+                p.productcategory,
+                p.stock_status,
+                p.created_at
+            FROM products p
+            WHERE p.seller_id = #{sellerId}
+            <if test="filter == 'exclude_sold_out'">
+                AND p.stock_status != 'OUT_OF_STOCK'
+            </if>
+            <if test="petCategory != null and petCategory != '' and petCategory != 'ALL'">
+                AND p.petcategory = #{petCategory}
+            </if>
+            <if test="productCategory != null and productCategory != '' and productCategory != 'ALL'">
+                AND p.productcategory = #{productCategory}
+            </if>
+            <if test="filter == 'discount'">
+                AND p.is_discounted = true
+            </if>
+            <if test="filter == 'new'">
+                AND p.created_at >= NOW() - INTERVAL '30 days'
+            </if>
+            <if test="cursorId != null">
+                <choose>
+                    <when test="sortKey == 'PRICE_ASC'">
+                        AND (p.price, p.id) &gt; (#{cursorPrice}, #{cursorId})
+                    </when>
+                    <when test="sortKey == 'PRICE_DESC'">
+                        AND (p.price, p.id) &lt; (#{cursorPrice}, #{cursorId})
+                    </when>
+                    <when test="sortKey == 'CREATED_AT_ASC'">
+                        AND (p.created_at, p.id) &gt; (#{cursorCreatedAt}, #{cursorId})
+                    </when>
+                    <otherwise>
+                        AND (p.created_at, p.id) &lt; (#{cursorCreatedAt}, #{cursorId})
+                    </otherwise>
+                </choose>
+            </if>
+            <choose>
+                <when test="sortKey == 'PRICE_ASC'">
+                    ORDER BY p.price ASC, p.id ASC
+                </when>
+                <when test="sortKey == 'PRICE_DESC'">
+                    ORDER BY p.price DESC, p.id DESC
+                </when>
+                <when test="sortKey == 'CREATED_AT_ASC'">
+                    ORDER BY p.created_at ASC, p.id ASC
+                </when>
+                <otherwise>
+                    ORDER BY p.created_at DESC, p.id DESC
+                </otherwise>
+            </choose>
+            LIMIT #{limit}
+        )
+        SELECT 
+            p.id as productId,
+            p.product_number as productNumber,
+            p.title,
+            p.price,
+            p.is_discounted as isDiscounted,
+            p.discount_rate as discountRate,
+            COALESCE(fi.image_url, '') as mainImageUrl,
+            p.petcategory as petCategory,
+            p.productcategory as productCategory,
+            p.stock_status as stockStatus,
+            COALESCE(ROUND(prs.rating_sum / NULLIF(prs.review_count, 0), 1), rs.avg_rating, 0.0) as avgRating,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount,
+            0.0 as bestScore,
+            p.created_at as createdAt
+        FROM page_products p
+        LEFT JOIN LATERAL (
+            SELECT COALESCE(i.medium_image_url, i.image_url) as image_url
+            FROM products_images pi
+            JOIN images i ON pi.product_image_id = i.id
+            WHERE pi.product_id = p.id
+            ORDER BY pi.created_at ASC
+            LIMIT 1
+        ) fi ON true
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT 
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
+        <choose>
+            <when test="sortKey == 'PRICE_ASC'">
+                ORDER BY p.price ASC, p.id ASC
+            </when>
+            <when test="sortKey == 'PRICE_DESC'">
+                ORDER BY p.price DESC, p.id DESC
+            </when>
+            <when test="sortKey == 'CREATED_AT_ASC'">
+                ORDER BY p.created_at ASC, p.id ASC
+            </when>
+            <otherwise>
+                ORDER BY p.created_at DESC, p.id DESC
+            </otherwise>
+        </choose>
+        </script>
+        """)
+    List<ProductStoreCursorRowDTO> findSellerProductsByCursor(
+            @Param("sellerId") String sellerId,
+            @Param("petCategory") String petCategory,
+            @Param("productCategory") String productCategory,
+            @Param("filter") String filter,
+            @Param("sortKey") String sortKey,
+            @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+            @Param("cursorPrice") Long cursorPrice,
+            @Param("cursorId") String cursorId,
+            @Param("limit") int limit
+    );
+
+
     /**
      * 판매자 상품 개수 조회 (필터별,카레고리별,페이징을 위한 스토어의 상품 개수 조회)
      */
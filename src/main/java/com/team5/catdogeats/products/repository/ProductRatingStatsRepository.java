@@ -0,0 +1,43 @@
+package com.team5.catdogeats.products.repository;
+
+import com.team5.catdogeats.products.domain.ProductRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductRatingStatsRepository extends JpaRepository<ProductRatingStats, String> {
+
+    // 행 잠금 상태에서 증분하므로 동시에 들어온 리뷰도 누락 없이 반영
+    @Modifying
+    @Query(value = """
+        UPDATE product_rating_stats
+           SET rating_sum = rating_sum + :starDelta,
+               review_count = review_count + :countDelta,
+               updated_at = NOW()
+         WHERE product_id = :productId
+        """, nativeQuery = true)
+    int applyDelta(@Param("productId") String productId,
+                   @Param("starDelta") double starDelta,
+                   @Param("countDelta") long countDelta);
+
+    /**
+     * 집계 행이 없는 상품의 첫 갱신
+     * 현재 리뷰 테이블로 초기값을 만들고, 그 사이 다른 트랜잭션이 먼저 행을 만들었다면 증분만 반영합니다.
+     * 방금 저장 / 삭제한 리뷰가 집계에 포함되도록 먼저 flush 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO product_rating_stats (product_id, rating_sum, review_count, updated_at)
+        SELECT :productId, COALESCE(SUM(r.star), 0), COUNT(r.id), NOW()
+        FROM reviews r
+        WHERE r.product_id = :productId
+        ON CONFLICT (product_id) DO UPDATE SET
+            rating_sum = product_rating_stats.rating_sum + :starDelta,
+            review_count = product_rating_stats.review_count + :countDelta,
+            updated_at = NOW()
+        """, nativeQuery = true)
+    int insertFromReviews(@Param("productId") String productId,
+                          @Param("starDelta") double starDelta,
+                          @Param("countDelta") long countDelta);
+}
@@ -0,0 +1,12 @@
+package com.team5.catdogeats.products.service;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.products.domain.dto.ProductImportStatusDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ProductBulkImportService {
+    // 파일을 받아 비동기로 Job 을 시작하고 jobExecutionId 를 반환
+    Long startImport(UserPrincipal userPrincipal, MultipartFile file, String mode);
+
+    ProductImportStatusDTO getImportStatus(UserPrincipal userPrincipal, Long jobExecutionId, long afterLine);
+}
@@ -0,0 +1,19 @@
+package com.team5.catdogeats.products.service;
+
+import com.team5.catdogeats.products.domain.dto.ProductCatalogSearchCondition;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
+
+/**
+ * 구매자 상품 목록 / 검색 서비스
+ */
+public interface ProductCatalogService {
+
+    /**
+     * 조건에 맞는 상품을 커서 기반으로 조회
+     *
+     * @param sort 정렬 기준 (createdAt,desc / createdAt,asc / price,asc / price,desc)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 조건 / 커서 / 페이지 크기가 올바르지 않은 경우
+     */
+    ProductStoreCursorPageDTO getCatalogProducts(ProductCatalogSearchCondition condition, String sort, String cursor, int size);
+}
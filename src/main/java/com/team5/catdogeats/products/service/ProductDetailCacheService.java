@@ -0,0 +1,41 @@
+package com.team5.catdogeats.products.service;
+
+import com.team5.catdogeats.products.domain.dto.ProductDetailView;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 상세 캐시 (서버 내 near-cache + Redis)
+ */
+public interface ProductDetailCacheService {
+
+    Optional<ProductDetailView> get(Long productNumber);
+
+    /**
+     * 현재 무효화 순번
+     * 원본 조회 직전에 읽어 put 에 넘기면, 조회 도중 무효화된 상품은 캐시에 저장하지 않습니다.
+     *
+     * @return 무효화 순번 (캐시 장애로 알 수 없으면 음수)
+     */
+    long currentInvalidationSeq();
+
+    /**
+     * 조회를 시작한 뒤(loadedSeq 이후) 같은 상품이 무효화되었으면 저장하지 않습니다.
+     */
+    void put(ProductDetailView view, long loadedSeq);
+
+    /**
+     * 상세 정보와 가용 재고 캐시를 모두 무효화하고 다른 서버의 near-cache 에도 알립니다.
+     */
+    void evict(String productId);
+
+    /**
+     * 여러 상품의 캐시를 묶어서 무효화 (판매자 정보 변경 / 대량 수정)
+     */
+    void evictAll(List<String> productIds);
+
+    Optional<Integer> getAvailableStock(String productId);
+
+    void putAvailableStock(String productId, int availableStock);
+}
@@ -0,0 +1,14 @@
+package com.team5.catdogeats.products.service;
+
+import com.team5.catdogeats.products.domain.dto.ProductDetailResponseDto;
+
+/**
+ * 구매자 상품 상세 조회 서비스
+ */
+public interface ProductDetailService {
+
+    /**
+     * @throws java.util.NoSuchElementException 상품을 찾을 수 없는 경우
+     */
+    ProductDetailResponseDto getProductDetail(Long productNumber);
+}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.products.service;
+
+/**
+ * 상품 별점 합계 / 리뷰 수 비정규화 갱신
+ */
+public interface ProductRatingStatsService {
+
+    /**
+     * 리뷰 변경분 반영 (호출한 트랜잭션 안에서 실행)
+     *
+     * @param productId 상품 ID
+     * @param starDelta 별점 합계 변화량 (등록: +별점, 삭제: -별점, 수정: 새 별점 - 이전 별점)
+     * @param countDelta 리뷰 수 변화량 (등록: 1, 삭제: -1, 수정: 0)
+     */
+    void applyReviewDelta(String productId, double starDelta, long countDelta);
+}
@@ -1,10 +1,12 @@
 package com.team5.catdogeats.products.service;
 
 import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
 import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import com.team5.catdogeats.products.domain.enums.ProductCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * 판매자 스토어용 상품 서비스 (수정됨)
@@ -31,6 +33,31 @@ public interface SellerStoreProductService {
             Pageable pageable
     );
 
+    /**
+     * 판매자의 상품 기본 정보 커서 조회 (무한 스크롤용)
+     * OFFSET 없이 마지막 상품의 정렬 키 이후부터 읽으며, 전체 개수는 요청한 경우에만 집계합니다.
+     *
+     * @param sellerId 판매자 ID (String)
+     * @param category 반려동물 카테고리 필터
+     * @param productCategory 상품 카테고리 필터
+     * @param filter 추가 필터 조건 (best, discount, new, exclude_sold_out)
+     * @param sort 정렬 조건 (createdAt / price)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param includeCount 전체 상품 수 집계 여부
+     * @return 상품 기본 정보 커서 페이지
+     */
+    ProductStoreCursorPageDTO getSellerProductsByCursor(
+            String sellerId,
+            PetCategory category,
+            ProductCategory productCategory,
+            String filter,
+            Sort sort,
+            String cursor,
+            int size,
+            boolean includeCount
+    );
+
     /**
      * 판매자의 활성 상품 총 개수 조회 (재고 있는것)
      *
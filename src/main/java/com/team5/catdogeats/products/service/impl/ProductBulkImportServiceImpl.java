@@ -0,0 +1,191 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.batch.config.ProductImportJobConfig;
+import com.team5.catdogeats.batch.config.ProductImportProperties;
+import com.team5.catdogeats.batch.mapper.ProductImportErrorMapper;
+import com.team5.catdogeats.products.domain.dto.ProductImportErrorDTO;
+import com.team5.catdogeats.products.domain.dto.ProductImportStatusDTO;
+import com.team5.catdogeats.products.domain.enums.ProductImportMode;
+import com.team5.catdogeats.products.service.ProductBulkImportService;
+import com.team5.catdogeats.users.domain.dto.SellerDTO;
+import com.team5.catdogeats.users.repository.SellersRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * 상품 대량 등록 / 수정
+ * 업로드 파일은 작업 디렉터리에 저장한 뒤 Job 이 스트리밍으로 읽으므로 요청 스레드는 바로 반환됩니다.
+ * 스케줄러 Job 과 실행 스레드를 나누기 위해 전용 풀을 가진 JobLauncher 를 따로 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkImportServiceImpl implements ProductBulkImportService {
+    private static final int ERROR_PAGE_SIZE = 100;
+
+    private final Job productImportJob;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final ProductImportProperties props;
+    private final ProductImportErrorMapper productImportErrorMapper;
+    private final SellersRepository sellerRepository;
+
+    private ThreadPoolTaskExecutor importExecutor;
+    private TaskExecutorJobLauncher importJobLauncher;
+
+    @PostConstruct
+    void initLauncher() throws Exception {
+        importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setCorePoolSize(props.getConcurrency());
+        importExecutor.setMaxPoolSize(props.getConcurrency());
+        importExecutor.setQueueCapacity(props.getQueueCapacity());
+        importExecutor.setThreadNamePrefix("product-import-");
+        importExecutor.initialize();
+
+        importJobLauncher = new TaskExecutorJobLauncher();
+        importJobLauncher.setJobRepository(jobRepository);
+        importJobLauncher.setTaskExecutor(importExecutor);
+        importJobLauncher.afterPropertiesSet();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        importExecutor.shutdown();
+    }
+
+    @Override
+    public Long startImport(UserPrincipal userPrincipal, MultipartFile file, String mode) {
+        String sellerId = findSellerId(userPrincipal);
+        ProductImportMode importMode = parseMode(mode);
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        String format = resolveFormat(file.getOriginalFilename());
+
+        Path filePath = saveToWorkDir(file);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("filePath", filePath.toString())
+                .addString("format", format)
+                .addString("sellerId", sellerId)
+                .addString("mode", importMode.name())
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution execution;
+        try {
+            execution = importJobLauncher.run(productImportJob, jobParameters);
+        } catch (Exception e) {
+            deleteQuietly(filePath);
+            throw new IllegalStateException("상품 대량 작업을 시작하지 못했습니다.", e);
+        }
+
+        // 실행 풀과 대기열이 모두 찬 경우 Job 은 바로 FAILED 로 기록됩니다.
+        if (execution.getStatus() == BatchStatus.FAILED) {
+            deleteQuietly(filePath);
+            throw new IllegalStateException("진행 중인 대량 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("상품 대량 작업 시작 - sellerId: {}, mode: {}, jobExecutionId: {}", sellerId, importMode, execution.getId());
+        return execution.getId();
+    }
+
+    @Override
+    public ProductImportStatusDTO getImportStatus(UserPrincipal userPrincipal, Long jobExecutionId, long afterLine) {
+        String sellerId = findSellerId(userPrincipal);
+
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        // 다른 판매자의 작업은 존재 여부도 드러내지 않습니다.
+        if (execution == null
+                || !productImportJob.getName().equals(execution.getJobInstance().getJobName())
+                || !sellerId.equals(execution.getJobParameters().getString("sellerId"))) {
+            throw new NoSuchElementException("해당 대량 작업을 찾을 수 없습니다.");
+        }
+
+        long readCount = 0;
+        long writeCount = 0;
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            readCount += stepExecution.getReadCount();
+            writeCount += stepExecution.getWriteCount();
+        }
+
+        List<ProductImportErrorDTO> errors = productImportErrorMapper.findErrors(jobExecutionId, afterLine, ERROR_PAGE_SIZE);
+        long errorCount = productImportErrorMapper.countErrors(jobExecutionId);
+
+        return new ProductImportStatusDTO(
+                jobExecutionId,
+                execution.getJobParameters().getString("mode"),
+                execution.getStatus().name(),
+                readCount,
+                writeCount,
+                errorCount,
+                errors
+        );
+    }
+
+    private String findSellerId(UserPrincipal userPrincipal) {
+        return sellerRepository.findSellerDtoByProviderAndProviderId(userPrincipal.provider(), userPrincipal.providerId())
+                .map(SellerDTO::userId)
+                .orElseThrow(() -> new NoSuchElementException("해당 유저 정보를 찾을 수 없습니다."));
+    }
+
+    private ProductImportMode parseMode(String mode) {
+        try {
+            return ProductImportMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("mode 는 CREATE 또는 UPDATE 만 가능합니다.");
+        }
+    }
+
+    private String resolveFormat(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ProductImportJobConfig.FORMAT_CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ProductImportJobConfig.FORMAT_NDJSON;
+        }
+        throw new IllegalArgumentException("CSV(.csv) 또는 NDJSON(.ndjson, .jsonl) 파일만 업로드할 수 있습니다.");
+    }
+
+    private Path saveToWorkDir(MultipartFile file) {
+        try {
+            Path workDir = Files.createDirectories(Path.of(props.getWorkDir()));
+            Path target = workDir.resolve(UUID.randomUUID() + ".upload");
+            file.transferTo(target);
+            return target;
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 파일 저장에 실패했습니다.", e);
+        }
+    }
+
+    private void deleteQuietly(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            log.warn("상품 대량 작업 파일 삭제 실패 - path: {}, error: {}", filePath, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.products.domain.dto.ProductCatalogSearchCondition;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursor;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
+import com.team5.catdogeats.products.domain.enums.ProductStoreSortKey;
+import com.team5.catdogeats.products.mapper.ProductCatalogMapper;
+import com.team5.catdogeats.products.service.ProductCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 구매자 상품 목록 / 검색 서비스 구현체
+ * 전체 상품 수가 많아 OFFSET / COUNT 없이 키셋 커서로만 페이징합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    // pg_trgm 은 3글자 이상이어야 검색어에서 인덱스용 trigram 을 뽑을 수 있음
+    private static final int MIN_TRIGRAM_KEYWORD_LENGTH = 3;
+
+    private final ProductCatalogMapper productCatalogMapper;
+
+    @Override
+    public ProductStoreCursorPageDTO getCatalogProducts(ProductCatalogSearchCondition condition, String sort, String cursor, int size) {
+        log.debug("상품 목록 조회 - condition: {}, sort: {}, size: {}", condition, sort, size);
+
+        // 1. 파라미터 검증
+        validateCondition(condition, size);
+
+        // 2. 커서 해석 (첫 페이지는 커서 없음)
+        ProductStoreSortKey sortKey = ProductStoreSortKey.from(parseSort(sort));
+        ProductStoreCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : ProductStoreCursor.decode(cursor, sortKey);
+
+        // 3. size + 1 개를 읽어 다음 페이지 존재 여부 판단
+        List<ProductStoreCursorRowDTO> rows = productCatalogMapper.findCatalogProducts(
+                condition.petCategory() != null ? condition.petCategory().name() : null,
+                condition.productCategory() != null ? condition.productCategory().name() : null,
+                condition.minPrice(),
+                condition.maxPrice(),
+                Boolean.TRUE.equals(condition.discountedOnly()),
+                condition.stockStatuses() != null
+                        ? condition.stockStatuses().stream().map(Enum::name).distinct().toList()
+                        : null,
+                toKeywordPattern(condition.keyword()),
+                isShortKeyword(condition.keyword()),
+                sortKey.name(),
+                after != null ? after.createdAt() : null,
+                after != null ? after.price() : null,
+                after != null ? after.productId() : null,
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<ProductStoreCursorRowDTO> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? ProductStoreCursor.after(sortKey, pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        log.debug("상품 목록 조회 결과 - products: {}, hasNext: {}", pageRows.size(), hasNext);
+
+        return new ProductStoreCursorPageDTO(
+                pageRows.stream().map(ProductStoreCursorRowDTO::toInfo).collect(Collectors.toList()),
+                nextCursor,
+                hasNext,
+                null
+        );
+    }
+
+    private void validateCondition(ProductCatalogSearchCondition condition, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (condition.minPrice() != null && condition.minPrice() < 0) {
+            throw new IllegalArgumentException("최소 가격은 0 이상이어야 합니다.");
+        }
+        if (condition.minPrice() != null && condition.maxPrice() != null && condition.minPrice() > condition.maxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        if (condition.keyword() != null && condition.keyword().strip().length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 정렬 문자열 (필드,방향) 을 Sort 로 변환
+     * 지원하지 않는 값은 최신순으로 처리합니다.
+     */
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Direction.DESC, "createdAt");
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        Sort.Direction direction = parts.length > 1 && "asc".equalsIgnoreCase(parts[1].trim())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return "price".equalsIgnoreCase(property)
+                ? Sort.by(direction, "price")
+                : Sort.by(direction, "createdAt");
+    }
+
+    /**
+     * 2글자 이하 검색어 (예: "간식") 는 trigram 인덱스를 쓸 수 없어 상품명에서만 찾음
+     * 상품 설명까지 찾으면 긴 본문을 모두 훑어야 하므로, 짧은 검색어는 상품 설명 일치 결과가 빠지는 대신 상품명 조회로 제한합니다.
+     */
+    private boolean isShortKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank() && keyword.strip().length() < MIN_TRIGRAM_KEYWORD_LENGTH;
+    }
+
+    /**
+     * 검색어를 ILIKE 부분 일치 패턴으로 변환 (LIKE 특수문자는 이스케이프)
+     */
+    private String toKeywordPattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String escaped = keyword.strip()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
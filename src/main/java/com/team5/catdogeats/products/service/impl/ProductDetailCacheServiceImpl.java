@@ -0,0 +1,279 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team5.catdogeats.products.domain.dto.ProductDetailView;
+import com.team5.catdogeats.products.service.ProductDetailCacheService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세 2단계 캐시
+ * 서버 내 near-cache 를 먼저 보고, 없으면 Redis 에서 읽어 near-cache 에 채웁니다.
+ * 무효화는 Redis 키 삭제 후 pub/sub 으로 다른 서버의 near-cache 까지 지웁니다.
+ * 캐시 미스 조회 도중 무효화가 끼어들면 이전 값이 다시 저장될 수 있어,
+ * 무효화마다 전역 순번을 올려 상품별로 기록하고 조회 시작 이후 순번이 기록된 상품은 저장하지 않습니다.
+ * 캐시 장애는 조회 실패로만 처리하고 원본 조회로 넘어갑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductDetailCacheServiceImpl implements ProductDetailCacheService, MessageListener {
+    private static final String KEY_PREFIX = "product:detail:";
+    // 무효화 이벤트는 상품 ID 만 알고 있으므로 상품 번호를 역으로 찾기 위한 키
+    private static final String PRODUCT_NUMBER_KEY_PREFIX = "product:detail:id:";
+    private static final String INVALIDATION_SEQ_KEY = "product:detail:invalidation-seq";
+    private static final String INVALIDATED_KEY_PREFIX = "product:detail:invalidated:";
+    private static final String AVAILABILITY_KEY_PREFIX = "product:availability:";
+    private static final String CHANNEL = "productDetailInvalidations";
+    private static final int EVICT_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<Long, NearEntry> nearCache = new ConcurrentHashMap<>();
+    private final Map<String, Long> productNumbers = new ConcurrentHashMap<>();
+
+    @Value("${product.detail-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${product.detail-cache.near-ttl-seconds:30}")
+    private long nearTtlSeconds;
+
+    @Value("${product.detail-cache.near-max-entries:1000}")
+    private int nearMaxEntries;
+
+    @Value("${product.detail-cache.availability-ttl-seconds:5}")
+    private long availabilityTtlSeconds;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public Optional<ProductDetailView> get(Long productNumber) {
+        NearEntry entry = nearCache.get(productNumber);
+        if (entry != null) {
+            if (entry.expiresAt() - System.nanoTime() > 0) {
+                return Optional.of(entry.view());
+            }
+            removeNear(productNumber);
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + productNumber);
+            if (json == null) {
+                return Optional.empty();
+            }
+            ProductDetailView view = objectMapper.readValue(json, ProductDetailView.class);
+            putNear(view);
+            return Optional.of(view);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패 - productNumber: {}, error: {}", productNumber, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long currentInvalidationSeq() {
+        try {
+            String seq = redisTemplate.opsForValue().get(INVALIDATION_SEQ_KEY);
+            return seq != null ? Long.parseLong(seq) : 0L;
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 무효화 순번 조회 실패 - error: {}", e.getMessage());
+            return -1L;
+        }
+    }
+
+    @Override
+    public void put(ProductDetailView view, long loadedSeq) {
+        if (loadedSeq < 0) {
+            return;
+        }
+        try {
+            if (invalidatedSince(view.productId(), loadedSeq)) {
+                log.debug("조회 중 무효화된 상품 상세는 캐시하지 않음 - productNumber: {}", view.productNumber());
+                return;
+            }
+            putNear(view);
+            String json = objectMapper.writeValueAsString(view);
+            redisTemplate.opsForValue().set(KEY_PREFIX + view.productNumber(), json, Duration.ofSeconds(ttlSeconds));
+            // 역방향 키는 상세 키보다 오래 남겨야 무효화 시 상품 번호를 찾을 수 있음
+            redisTemplate.opsForValue().set(PRODUCT_NUMBER_KEY_PREFIX + view.productId(),
+                    String.valueOf(view.productNumber()), Duration.ofSeconds(ttlSeconds * 2));
+            // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 값을 되돌림
+            if (invalidatedSince(view.productId(), loadedSeq)) {
+                redisTemplate.delete(KEY_PREFIX + view.productNumber());
+                removeNear(view.productNumber());
+            }
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 저장 실패 - productNumber: {}, error: {}", view.productNumber(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String productId) {
+        if (productId == null) {
+            return;
+        }
+        Long productNumber = productNumbers.get(productId);
+        try {
+            markInvalidated(List.of(productId));
+            if (productNumber == null) {
+                String stored = redisTemplate.opsForValue().get(PRODUCT_NUMBER_KEY_PREFIX + productId);
+                productNumber = stored != null ? Long.valueOf(stored) : null;
+            }
+            redisTemplate.delete(AVAILABILITY_KEY_PREFIX + productId);
+            if (productNumber != null) {
+                redisTemplate.delete(KEY_PREFIX + productNumber);
+                removeNear(productNumber);
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(productNumber));
+            }
+        } catch (Exception e) {
+            // 삭제에 실패해도 TTL 이 지나면 갱신됨
+            log.warn("상품 상세 캐시 무효화 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 판매자 상품 전체처럼 많은 상품을 지울 때 상품마다 왕복하지 않도록
+     * 역방향 키를 한 번에 읽고, 키 삭제와 near-cache 무효화 메시지를 묶음 단위로 보냅니다.
+     */
+    @Override
+    public void evictAll(List<String> productIds) {
+        for (int from = 0; from < productIds.size(); from += EVICT_BATCH_SIZE) {
+            List<String> batch = productIds.subList(from, Math.min(from + EVICT_BATCH_SIZE, productIds.size()));
+            try {
+                markInvalidated(batch);
+                List<String> stored = redisTemplate.opsForValue().multiGet(
+                        batch.stream().map(productId -> PRODUCT_NUMBER_KEY_PREFIX + productId).toList());
+                List<String> keys = new ArrayList<>();
+                List<Long> numbers = new ArrayList<>();
+                for (int i = 0; i < batch.size(); i++) {
+                    String productId = batch.get(i);
+                    keys.add(AVAILABILITY_KEY_PREFIX + productId);
+                    Long productNumber = productNumbers.get(productId);
+                    if (productNumber == null && stored != null && stored.get(i) != null) {
+                        productNumber = Long.valueOf(stored.get(i));
+                    }
+                    if (productNumber != null) {
+                        keys.add(KEY_PREFIX + productNumber);
+                        numbers.add(productNumber);
+                    }
+                }
+                redisTemplate.delete(keys);
+                numbers.forEach(this::removeNear);
+                if (!numbers.isEmpty()) {
+                    redisTemplate.convertAndSend(CHANNEL, numbers.stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(",")));
+                }
+            } catch (Exception e) {
+                // 삭제에 실패해도 TTL 이 지나면 갱신됨
+                log.warn("상품 상세 캐시 일괄 무효화 실패 - 상품 수: {}, error: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Integer> getAvailableStock(String productId) {
+        try {
+            String value = redisTemplate.opsForValue().get(AVAILABILITY_KEY_PREFIX + productId);
+            return value != null ? Optional.of(Integer.valueOf(value)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("가용 재고 캐시 조회 실패 - productId: {}, error: {}", productId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void putAvailableStock(String productId, int availableStock) {
+        try {
+            redisTemplate.opsForValue().set(AVAILABILITY_KEY_PREFIX + productId,
+                    String.valueOf(availableStock), Duration.ofSeconds(availabilityTtlSeconds));
+        } catch (Exception e) {
+            log.warn("가용 재고 캐시 저장 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // 일괄 무효화는 상품 번호를 쉼표로 묶어서 보냄
+            for (String productNumber : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+                removeNear(Long.valueOf(productNumber));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("상품 상세 캐시 무효화 메시지 형식 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 순번을 올리고 상품별로 기록
+     * 진행 중인 캐시 미스 조회가 끝날 때까지만 필요하므로 상세 캐시 TTL 만큼만 남깁니다.
+     */
+    private void markInvalidated(List<String> productIds) {
+        Long seq = redisTemplate.opsForValue().increment(INVALIDATION_SEQ_KEY);
+        if (seq == null) {
+            return;
+        }
+        byte[] value = String.valueOf(seq).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String productId : productIds) {
+                connection.stringCommands().set((INVALIDATED_KEY_PREFIX + productId).getBytes(StandardCharsets.UTF_8),
+                        value, Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    private boolean invalidatedSince(String productId, long loadedSeq) {
+        String seq = redisTemplate.opsForValue().get(INVALIDATED_KEY_PREFIX + productId);
+        return seq != null && Long.parseLong(seq) > loadedSeq;
+    }
+
+    private void putNear(ProductDetailView view) {
+        if (nearCache.size() >= nearMaxEntries && !nearCache.containsKey(view.productNumber())) {
+            // 가득 차면 임의의 항목 하나를 비움 (인기 상품은 곧 다시 채워짐)
+            Iterator<Long> keys = nearCache.keySet().iterator();
+            if (keys.hasNext()) {
+                removeNear(keys.next());
+            }
+        }
+        nearCache.put(view.productNumber(),
+                new NearEntry(view, System.nanoTime() + Duration.ofSeconds(nearTtlSeconds).toNanos()));
+        productNumbers.put(view.productId(), view.productNumber());
+    }
+
+    private void removeNear(Long productNumber) {
+        NearEntry removed = nearCache.remove(productNumber);
+        if (removed != null) {
+            productNumbers.remove(removed.view().productId());
+        }
+    }
+
+    private record NearEntry(ProductDetailView view, long expiresAt) {
+    }
+}
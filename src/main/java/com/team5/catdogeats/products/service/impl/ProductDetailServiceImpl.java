@@ -0,0 +1,61 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.products.component.StockValidator;
+import com.team5.catdogeats.products.domain.dto.ProductDetailResponseDto;
+import com.team5.catdogeats.products.domain.dto.ProductDetailRowDTO;
+import com.team5.catdogeats.products.domain.dto.ProductDetailView;
+import com.team5.catdogeats.products.mapper.ProductDetailMapper;
+import com.team5.catdogeats.products.service.ProductDetailCacheService;
+import com.team5.catdogeats.products.service.ProductDetailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 상품 상세 조회 서비스 구현체
+ * 상세 정보는 캐시에서 읽고, 가용 재고는 짧은 TTL 캐시에서 따로 읽어 응답 시점에 붙입니다.
+ * 둘 다 캐시에 있으면 DB 를 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductDetailServiceImpl implements ProductDetailService {
+
+    private final ProductDetailMapper productDetailMapper;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final StockValidator stockValidator;
+
+    @Override
+    public ProductDetailResponseDto getProductDetail(Long productNumber) {
+        ProductDetailView view = productDetailCacheService.get(productNumber)
+                .orElseGet(() -> loadView(productNumber));
+
+        int availableStock = productDetailCacheService.getAvailableStock(view.productId())
+                .orElseGet(() -> loadAvailableStock(view.productId()));
+
+        return ProductDetailResponseDto.of(view, availableStock);
+    }
+
+    private ProductDetailView loadView(Long productNumber) {
+        log.debug("상품 상세 캐시 미스 - productNumber: {}", productNumber);
+        // 조회 도중 무효화된 상품을 이전 값으로 다시 채우지 않도록 조회 전에 순번을 읽음
+        long loadedSeq = productDetailCacheService.currentInvalidationSeq();
+
+        ProductDetailRowDTO row = productDetailMapper.findDetailByProductNumber(productNumber);
+        if (row == null) {
+            throw new NoSuchElementException("해당 상품 정보를 찾을 수 없습니다.");
+        }
+
+        ProductDetailView view = ProductDetailView.of(row, productDetailMapper.findImageUrls(row.productId()));
+        productDetailCacheService.put(view, loadedSeq);
+        return view;
+    }
+
+    private int loadAvailableStock(String productId) {
+        int availableStock = stockValidator.getStockAvailability(productId).getAvailableStock();
+        productDetailCacheService.putAvailableStock(productId, availableStock);
+        return availableStock;
+    }
+}
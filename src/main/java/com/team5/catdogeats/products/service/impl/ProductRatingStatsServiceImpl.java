@@ -0,0 +1,31 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.global.config.JpaTransactional;
+import com.team5.catdogeats.products.repository.ProductRatingStatsRepository;
+import com.team5.catdogeats.products.service.ProductRatingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRatingStatsServiceImpl implements ProductRatingStatsService {
+
+    private final ProductRatingStatsRepository productRatingStatsRepository;
+
+    @Override
+    @JpaTransactional
+    public void applyReviewDelta(String productId, double starDelta, long countDelta) {
+        if (starDelta == 0 && countDelta == 0) {
+            return;
+        }
+
+        // 대부분은 이미 집계 행이 있으므로 증분 UPDATE 한 번으로 끝남
+        int updated = productRatingStatsRepository.applyDelta(productId, starDelta, countDelta);
+        if (updated == 0) {
+            productRatingStatsRepository.insertFromReviews(productId, starDelta, countDelta);
+            log.debug("상품 별점 집계 행 생성 - productId: {}", productId);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.team5.catdogeats.products.domain.Products;
 import com.team5.catdogeats.products.domain.dto.ProductCreateRequestDto;
 import com.team5.catdogeats.products.domain.dto.ProductDeleteRequestDto;
 import com.team5.catdogeats.products.domain.dto.ProductUpdateRequestDto;
+import com.team5.catdogeats.products.event.ProductChangedEvent;
 import com.team5.catdogeats.products.exception.DuplicateProductNumberException;
 import com.team5.catdogeats.products.repository.ProductRepository;
 import com.team5.catdogeats.products.service.ProductService;
@@ -14,6 +15,7 @@ import com.team5.catdogeats.users.domain.mapping.Sellers;
 import com.team5.catdogeats.users.repository.SellersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -28,6 +30,7 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final SellersRepository sellerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public String registerProduct(UserPrincipal userPrincipal, ProductCreateRequestDto dto) {
@@ -60,7 +63,10 @@ public class ProductServiceImpl implements ProductService {
         }
 
         Products product = Products.fromDto(dto, seller, productNumber);
-        return productRepository.save(product).getId();
+        String productId = productRepository.save(product).getId();
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(sellerDTO.userId(), productId));
+        return productId;
     }
 
     @JpaTransactional
@@ -70,6 +76,8 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new NoSuchElementException("해당 아이템 정보를 찾을 수 없습니다."));
 
         product.updateFromDto(dto);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(product.getSeller().getUserId(), product.getId()));
     }
 
     @Override
@@ -78,10 +86,9 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new NoSuchElementException("해당 아이템 정보를 찾을 수 없습니다."));
 
         productRepository.deleteById(dto.productId());
-    }
-
-    // TODO: 상품 조회 서비스 로직 / 상품 상세 조회 서비스 로직 구현하기
 
+        eventPublisher.publishEvent(ProductChangedEvent.of(product.getSeller().getUserId(), product.getId()));
+    }
 
     /**
      * 고유한 상품 번호를 생성하는 메서드
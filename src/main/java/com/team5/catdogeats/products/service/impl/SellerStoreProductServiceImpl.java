@@ -2,9 +2,13 @@ package com.team5.catdogeats.products.service.impl;
 
 import com.team5.catdogeats.orders.service.ProductBestScoreService;
 import com.team5.catdogeats.pets.domain.enums.PetCategory;
-import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursor;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
 import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.ProductStoreSortKey;
 import com.team5.catdogeats.products.mapper.ProductStoreMapper;
 import com.team5.catdogeats.products.repository.ProductRepository;
 import com.team5.catdogeats.products.service.SellerStoreProductService;
@@ -15,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -28,6 +33,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class SellerStoreProductServiceImpl implements SellerStoreProductService {
+    private static final int BEST_PRODUCT_LIMIT = 10;
 
     private final ProductRepository productsRepository;
     private final ProductStoreMapper productStoreMapper;
@@ -82,6 +88,79 @@ public class SellerStoreProductServiceImpl implements SellerStoreProductService
         }
     }
 
+    @Override
+    public ProductStoreCursorPageDTO getSellerProductsByCursor(
+            String sellerId,
+            PetCategory category,
+            ProductCategory productCategory,
+            String filter,
+            Sort sort,
+            String cursor,
+            int size,
+            boolean includeCount) {
+
+        log.debug("판매자 상품 커서 조회 - sellerId: {}, petCategory: {}, productCategory: {}, filter: {}, sort: {}, size: {}",
+                sellerId, category, productCategory, filter, sort, size);
+        try {
+            // 1. 파라미터 검증
+            validateParameters(sellerId, PageRequest.of(0, size));
+
+            String categoryStr = category != null ? category.name() : null;
+            String productCategoryStr = productCategory != null ? productCategory.name() : null;
+            String normalizedFilter = validateAndNormalizeFilter(filter);
+
+            // 2. 베스트 상품은 최대 10개 고정 목록이므로 다음 페이지 없음
+            if ("best".equals(normalizedFilter)) {
+                Page<ProductStoreInfoDTO> bestProducts = getBestProducts(sellerId, categoryStr, productCategoryStr);
+                return new ProductStoreCursorPageDTO(bestProducts.getContent(), null, false,
+                        includeCount ? bestProducts.getTotalElements() : null);
+            }
+
+            // 3. 커서 해석 (첫 페이지는 커서 없음)
+            ProductStoreSortKey sortKey = ProductStoreSortKey.from(sort);
+            ProductStoreCursor after = cursor == null || cursor.isBlank()
+                    ? null
+                    : ProductStoreCursor.decode(cursor, sortKey);
+
+            // 4. size + 1 개를 읽어 다음 페이지 존재 여부 판단
+            List<ProductStoreCursorRowDTO> rows = productStoreMapper.findSellerProductsByCursor(
+                    sellerId, categoryStr, productCategoryStr, normalizedFilter, sortKey.name(),
+                    after != null ? after.createdAt() : null,
+                    after != null ? after.price() : null,
+                    after != null ? after.productId() : null,
+                    size + 1
+            );
+
+            boolean hasNext = rows.size() > size;
+            List<ProductStoreCursorRowDTO> pageRows = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = hasNext
+                    ? ProductStoreCursor.after(sortKey, pageRows.get(pageRows.size() - 1)).encode()
+                    : null;
+
+            // 5. 전체 개수는 요청한 경우에만 집계
+            Long total = includeCount
+                    ? productStoreMapper.countSellerProductsForStore(sellerId, categoryStr, productCategoryStr, normalizedFilter)
+                    : null;
+
+            log.debug("상품 커서 조회 결과 - products: {}, hasNext: {}, total: {}", pageRows.size(), hasNext, total);
+
+            return new ProductStoreCursorPageDTO(
+                    pageRows.stream().map(ProductStoreCursorRowDTO::toInfo).collect(Collectors.toList()),
+                    nextCursor,
+                    hasNext,
+                    total
+            );
+
+        } catch (IllegalArgumentException e) {
+            // 파라미터 / 커서 검증 실패
+            log.warn("상품 커서 조회 파라미터 오류 - sellerId: {}, error: {}", sellerId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("상품 데이터 커서 조회 실패 - sellerId: {}", sellerId, e);
+            throw new ProductDataRetrievalException("상품 정보 조회 실패 - sellerId: " + sellerId, e);
+        }
+    }
+
     /**
      * 품절 제외 필터용
      */
@@ -148,46 +227,38 @@ public class SellerStoreProductServiceImpl implements SellerStoreProductService
 
     /**
      * 베스트 상품 조회 (예외 처리 적용)
+     * product_best_scores 에 미리 계산된 점수로 상위 상품만 읽습니다.
      */
     private Page<ProductStoreInfoDTO> getBestProducts(String sellerId, String petCategoryStr, String productCategoryStr) {
         log.debug("베스트 상품 조회 시작 - sellerId: {}, petCategory: {}, productCategory: {}",
                 sellerId, petCategoryStr, productCategoryStr);
 
         try {
-            // 1. Orders 도메인에서 베스트 점수 계산 데이터 조회
-            List<ProductBestScoreDataDTO> bestScoreDataList = productBestScoreService.getProductBestScoreData(sellerId);
+            // 1. Orders 도메인에서 점수 상위 상품 ID 조회 (카테고리 필터 적용)
+            List<ProductBestScoreRankDTO> topScores = productBestScoreService.getTopBestScores(
+                    sellerId, petCategoryStr, productCategoryStr, BEST_PRODUCT_LIMIT);
 
-            if (bestScoreDataList.isEmpty()) {
-                log.debug("베스트 점수 데이터가 없음 - sellerId: {}", sellerId);
-                return new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+            if (topScores.isEmpty()) {
+                log.debug("베스트 상품이 없음 - sellerId: {}", sellerId);
+                return new PageImpl<>(List.of(), PageRequest.of(0, BEST_PRODUCT_LIMIT), 0);
             }
 
-            // 2. 베스트 점수 계산 및 상위 10개 상품 ID 추출
-            List<String> topProductIds = bestScoreDataList.stream()
-                    .peek(data -> log.debug("베스트 점수 계산 - productId: {}, score: {}",
-                            data.productId(), data.calculateBestScore()))
-                    .sorted((a, b) -> Double.compare(b.calculateBestScore(), a.calculateBestScore()))
-                    .limit(10)
-                    .map(ProductBestScoreDataDTO::productId)
+            List<String> topProductIds = topScores.stream()
+                    .map(ProductBestScoreRankDTO::productId)
                     .collect(Collectors.toList());
 
-            if (topProductIds.isEmpty()) {
-                log.debug("베스트 상품이 없음 - sellerId: {}", sellerId);
-                return new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            }
-
-            // 3. 상위 상품들의 기본 정보 조회 (productCategory 추가)
+            // 2. 상위 상품들의 기본 정보 조회 (productCategory 추가)
             List<ProductStoreInfoDTO> bestProducts = productStoreMapper.findProductsByIds(
                     topProductIds, petCategoryStr, productCategoryStr);
 
-            // 4. 베스트 점수를 ProductStoreInfo에 매핑
-            Map<String, Double> bestScoreMap = bestScoreDataList.stream()
+            // 3. 베스트 점수를 ProductStoreInfo에 매핑
+            Map<String, Double> bestScoreMap = topScores.stream()
                     .collect(Collectors.toMap(
-                            ProductBestScoreDataDTO::productId,
-                            ProductBestScoreDataDTO::calculateBestScore
+                            ProductBestScoreRankDTO::productId,
+                            ProductBestScoreRankDTO::bestScore
                     ));
 
-            // 5. 베스트 점수 순으로 정렬된 최종 결과
+            // 4. 베스트 점수 순으로 정렬된 최종 결과
             List<ProductStoreInfoDTO> sortedBestProducts = bestProducts.stream()
                     .map(product -> new ProductStoreInfoDTO(
                             product.productId(),
@@ -207,11 +278,11 @@ public class SellerStoreProductServiceImpl implements SellerStoreProductService
                     .sorted((a, b) -> Double.compare(b.bestScore(), a.bestScore()))
                     .collect(Collectors.toList());
 
-            long total = Math.min(sortedBestProducts.size(), 10);
+            long total = sortedBestProducts.size();
 
             log.debug("베스트 상품 조회 완료 - total: {}, products: {}", total, sortedBestProducts.size());
 
-            return new PageImpl<>(sortedBestProducts, PageRequest.of(0, 10), total);
+            return new PageImpl<>(sortedBestProducts, PageRequest.of(0, BEST_PRODUCT_LIMIT), total);
 
         } catch (Exception e) {
             //  베스트 상품 조회 실패 시 Products 도메인 예외로 변환
@@ -219,4 +290,4 @@ public class SellerStoreProductServiceImpl implements SellerStoreProductService
             throw new ProductDataRetrievalException("베스트 상품 조회 실패 - sellerId: " + sellerId, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.dto.PageResponseDto;
 import com.team5.catdogeats.global.enums.ResponseCode;
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
 import com.team5.catdogeats.reviews.domain.dto.*;
 import com.team5.catdogeats.reviews.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -107,6 +108,43 @@ public class ReviewController {
         }
     }
 
+    @Operation(
+            summary = "상품에 대한 리뷰 목록 조회 (커서)",
+            description = """
+                    특정 상품의 리뷰를 커서 기반으로 조회합니다.
+                    - 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 그대로 전달 (null 이면 마지막 페이지)
+                    - 정렬: latest (기본값) / star,desc / star,asc / photo (사진 리뷰 우선)
+                    - star: 별점 구간 필터 (4 → 4.0 ~ 4.5), petCategory: 작성자 반려동물 종류 필터
+                    - totalElements 는 필터가 없을 때만 내려갑니다.
+                    """
+    )
+    @GetMapping("/{productNumber}/feed")
+    public ResponseEntity<ApiResponse<ReviewCursorPageDTO>> getReviewFeed(
+            @Parameter(description = "조회할 상품 Number", required = true) @PathVariable Long productNumber,
+            @Parameter(description = "별점 구간 (1 ~ 5)") @RequestParam(required = false) Integer star,
+            @Parameter(description = "작성자 반려동물 종류 (DOG, CAT)") @RequestParam(required = false) PetCategory petCategory,
+            @Parameter(description = "정렬 기준", example = "latest") @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size) {
+        try {
+            ReviewCursorPageDTO reviews = reviewService.getReviewFeed(
+                    productNumber, new ReviewFeedCondition(star, petCategory), sort, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, reviews));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(ResponseCode.INVALID_INPUT_VALUE.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
     @Operation(summary = "리뷰 수정", description = "구매자가 자신의 리뷰를 수정합니다.")
     @PatchMapping
     public ResponseEntity<ApiResponse<Void>> updateReview(@RequestBody @Valid @Parameter(description = "수정할 리뷰 내용", required = true) ReviewUpdateRequestDto dto) {
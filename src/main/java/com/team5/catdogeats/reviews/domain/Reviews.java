@@ -9,7 +9,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 상품 카드 리뷰 통계 (상품별 평균 별점 / 리뷰 수)
+        @Index(name = "idx_reviews_product_star", columnList = "product_id, star"),
+        // 상품 리뷰 목록 키셋 (최신순)
+        @Index(name = "idx_reviews_product_created", columnList = "product_id, created_at, id"),
+        // 리뷰 요약 배치 변경분 조회
+        @Index(name = "idx_reviews_updated", columnList = "updated_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,18 +18,32 @@ public record ProductReviewResponseDto(
         List<ReviewImageResponseDto> images
 ) {
     public static ProductReviewResponseDto fromEntity(Reviews review, List<ReviewImageResponseDto> images, List<Pets> petInfos) {
-        List<PetInfoResponseDto> petInfoDtoList = petInfos.stream()
-                .map(pet -> new PetInfoResponseDto(pet.getBreed(), pet.getAge(), pet.getGender()))
-                .toList();
-
         return new ProductReviewResponseDto(
                 review.getId(),
                 review.getBuyer().getUser().getName(),
-                petInfoDtoList,
+                toPetInfoDtoList(petInfos),
                 review.getStar(),
                 review.getContents(),
                 review.getUpdatedAt().toString(),
                 images
         );
     }
+
+    public static ProductReviewResponseDto of(ReviewFeedRowDTO row, List<ReviewImageResponseDto> images, List<Pets> petInfos) {
+        return new ProductReviewResponseDto(
+                row.reviewId(),
+                row.writerName(),
+                toPetInfoDtoList(petInfos),
+                row.star(),
+                row.contents(),
+                row.updatedAt().toString(),
+                images
+        );
+    }
+
+    private static List<PetInfoResponseDto> toPetInfoDtoList(List<Pets> petInfos) {
+        return petInfos.stream()
+                .map(pet -> new PetInfoResponseDto(pet.getBreed(), pet.getAge(), pet.getGender()))
+                .toList();
+    }
 }
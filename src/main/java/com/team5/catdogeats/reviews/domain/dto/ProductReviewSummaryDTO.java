@@ -0,0 +1,15 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+/**
+ * 상품 리뷰 요약 결과 (reviews_summary_llm 한 행)
+ * 긍정 / 부정 리뷰가 없으면 해당 요약은 빈 문자열입니다.
+ */
+public record ProductReviewSummaryDTO(
+        String productId,
+        String positiveReview,
+        String negativeReview
+) {
+    public boolean isEmpty() {
+        return positiveReview.isEmpty() && negativeReview.isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+import com.team5.catdogeats.reviews.domain.enums.ReviewSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 리뷰 커서 (마지막으로 내려준 리뷰의 정렬 키 값 + id)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 토큰으로만 노출합니다.
+ * 별점순은 별점을, 사진 우선 정렬은 현재 구간(사진 리뷰 / 나머지)을 함께 담습니다.
+ */
+public record ReviewCursor(
+        ReviewSortKey sortKey,
+        Double star,
+        OffsetDateTime createdAt,
+        String reviewId,
+        boolean photoPhase
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+    private static final String PHOTO = "P";
+    private static final String NO_PHOTO = "N";
+
+    public static ReviewCursor after(ReviewSortKey sortKey, ReviewFeedRowDTO row, boolean photoPhase) {
+        return new ReviewCursor(sortKey, row.star(), row.createdAt(), row.reviewId(), photoPhase);
+    }
+
+    public String encode() {
+        String extra = switch (sortKey) {
+            case STAR_DESC, STAR_ASC -> String.valueOf(star);
+            case PHOTO_FIRST -> photoPhase ? PHOTO : NO_PHOTO;
+            case LATEST -> "";
+        };
+        String raw = String.join(DELIMITER, VERSION, sortKey.name(), extra, createdAt.toString(), reviewId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 요청한 정렬 기준과 다른 커서
+     */
+    public static ReviewCursor decode(String token, ReviewSortKey expectedSortKey) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || !VERSION.equals(parts[0]) || parts[4].isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (!expectedSortKey.name().equals(parts[1])) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+
+        try {
+            Double star = expectedSortKey.isStarKey() ? Double.valueOf(parts[2]) : null;
+            boolean photoPhase = expectedSortKey == ReviewSortKey.PHOTO_FIRST && PHOTO.equals(parts[2]);
+            return new ReviewCursor(expectedSortKey, star, OffsetDateTime.parse(parts[3]), parts[4], photoPhase);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+import java.util.List;
+
+/**
+ * 상품 리뷰 커서 페이지
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalElements 상품의 전체 리뷰 수 (별점 / pet 필터를 적용한 경우 null)
+ */
+public record ReviewCursorPageDTO(
+        List<ProductReviewResponseDto> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {}
@@ -0,0 +1,22 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+
+/**
+ * 상품 리뷰 목록 필터
+ *
+ * @param star 별점 구간 (예: 4 → 4.0 이상 5.0 미만, 5 → 5.0)
+ * @param petCategory 작성자가 해당 종류의 반려동물을 등록한 리뷰만
+ */
+public record ReviewFeedCondition(
+        Integer star,
+        PetCategory petCategory
+) {
+    public static ReviewFeedCondition empty() {
+        return new ReviewFeedCondition(null, null);
+    }
+
+    public boolean isFiltered() {
+        return star != null || petCategory != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 상품 리뷰 목록 조회 행 (이미지 / pet 정보는 페이지 단위로 따로 조회)
+ */
+public record ReviewFeedRowDTO(
+        String reviewId,
+        String buyerId,
+        String writerName,
+        Double star,
+        String contents,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {}
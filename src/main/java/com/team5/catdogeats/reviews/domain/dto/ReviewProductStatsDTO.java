@@ -0,0 +1,9 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+/**
+ * 리뷰 목록 대상 상품 (product_rating_stats 의 비정규화 리뷰 수)
+ */
+public record ReviewProductStatsDTO(
+        String productId,
+        Long reviewCount
+) {}
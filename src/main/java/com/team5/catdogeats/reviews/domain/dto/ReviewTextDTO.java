@@ -0,0 +1,16 @@
+package com.team5.catdogeats.reviews.domain.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 리뷰 요약 입력 (요약 배치에서 상품 리뷰를 작성 순으로 나눠 읽음)
+ *
+ * @param summary 이미 저장된 리뷰 한 줄 요약 (없으면 null)
+ */
+public record ReviewTextDTO(
+        String reviewId,
+        Double star,
+        String contents,
+        String summary,
+        OffsetDateTime createdAt
+) {}
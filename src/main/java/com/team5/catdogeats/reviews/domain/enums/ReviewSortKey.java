@@ -0,0 +1,34 @@
+package com.team5.catdogeats.reviews.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * 상품 리뷰 목록 커서 페이징 정렬 키
+ * 모든 정렬은 (created_at, id) 최신순을 마지막 키로 사용해 동률을 끊습니다.
+ * PHOTO_FIRST 는 사진 리뷰를 최신순으로 모두 보여준 뒤 나머지 리뷰를 최신순으로 이어 붙입니다.
+ */
+public enum ReviewSortKey {
+    LATEST, STAR_DESC, STAR_ASC, PHOTO_FIRST;
+
+    /**
+     * 요청 파라미터 해석 (latest / star,desc / star,asc / photo)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준
+     */
+    public static ReviewSortKey from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return LATEST;
+        }
+        return switch (sort.strip().toLowerCase(Locale.ROOT)) {
+            case "latest", "createdat,desc" -> LATEST;
+            case "star,desc", "star" -> STAR_DESC;
+            case "star,asc" -> STAR_ASC;
+            case "photo" -> PHOTO_FIRST;
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        };
+    }
+
+    public boolean isStarKey() {
+        return this == STAR_DESC || this == STAR_ASC;
+    }
+}
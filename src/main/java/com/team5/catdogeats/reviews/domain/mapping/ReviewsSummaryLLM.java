@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "reviews_summary_llm")
+@Table(name = "reviews_summary_llm", uniqueConstraints = {
+        // 상품당 요약 한 행 (배치에서 product_id 로 upsert)
+        @UniqueConstraint(name = "uk_reviews_summary_llm_product_id", columnNames = "product_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
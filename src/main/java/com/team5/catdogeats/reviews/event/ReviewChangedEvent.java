@@ -0,0 +1,32 @@
+package com.team5.catdogeats.reviews.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 수정 / 삭제 이벤트
+ * 커밋 이후 상품 상세 캐시 무효화와 베스트 점수 평점 보정에 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+    private final String reviewId;
+
+    private final String productId;
+
+    // 평점 합계 증감 (수정: 새 평점 - 이전 평점, 삭제: -평점)
+    private final double ratingDelta;
+
+    // 리뷰 수 증감 (수정: 0, 삭제: -1)
+    private final int countDelta;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static ReviewChangedEvent of(String reviewId, String productId, double ratingDelta, int countDelta) {
+        return new ReviewChangedEvent(reviewId, productId, ratingDelta, countDelta, LocalDateTime.now());
+    }
+}
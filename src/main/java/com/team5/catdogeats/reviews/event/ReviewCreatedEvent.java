@@ -0,0 +1,28 @@
+package com.team5.catdogeats.reviews.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 등록 이벤트
+ * 리뷰 저장 트랜잭션이 커밋된 뒤 상품 평점 집계 갱신에 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewCreatedEvent {
+
+    private final String reviewId;
+
+    private final String productId;
+
+    private final Double star;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static ReviewCreatedEvent of(String reviewId, String productId, Double star) {
+        return new ReviewCreatedEvent(reviewId, productId, star, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,108 @@
+package com.team5.catdogeats.reviews.mapper;
+
+import com.team5.catdogeats.reviews.domain.dto.ReviewFeedRowDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewProductStatsDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface ReviewFeedMapper {
+
+    // 리뷰 수는 COUNT 대신 product_rating_stats 값을 사용 (집계 행이 아직 없는 상품만 리뷰 테이블에서 직접 계산)
+    @Select("""
+        SELECT
+            p.id as productId,
+            COALESCE(prs.review_count, rs.review_count, 0) as reviewCount
+        FROM products p
+        LEFT JOIN product_rating_stats prs ON prs.product_id = p.id
+        LEFT JOIN LATERAL (
+            SELECT COUNT(r.id) as review_count
+            FROM reviews r
+            WHERE r.product_id = p.id
+            AND prs.product_id IS NULL
+        ) rs ON true
+        WHERE p.product_number = #{productNumber}
+        """)
+    Optional<ReviewProductStatsDTO> findProductStats(@Param("productNumber") Long productNumber);
+
+    /**
+     * 상품 리뷰 키셋 조회
+     * 최신순 / 사진 우선은 (product_id, created_at, id) 인덱스를, 별점순은 (product_id, star) 인덱스를 사용합니다.
+     * hasPhoto 가 null 이면 사진 여부와 관계없이 조회합니다.
+     */
+    @Select("""
+        <script>
+        SELECT
+            r.id as reviewId,
+            r.buyer_id as buyerId,
+            u.name as writerName,
+            r.star,
+            r.contents,
+            r.created_at as createdAt,
+            r.updated_at as updatedAt
+        FROM reviews r
+        JOIN users u ON u.id = r.buyer_id
+        WHERE r.product_id = #{productId}
+        <if test="starFrom != null">
+            AND r.star &gt;= #{starFrom}
+            AND r.star &lt; #{starTo}
+        </if>
+        <if test="petCategory != null">
+            AND EXISTS (
+                SELECT 1
+                FROM pets pt
+                WHERE pt.buyer_id = r.buyer_id
+                AND pt.petcategory = #{petCategory}
+            )
+        </if>
+        <if test="hasPhoto != null">
+            AND <if test="!hasPhoto">NOT</if> EXISTS (
+                SELECT 1
+                FROM reviews_images ri
+                WHERE ri.review_id = r.id
+            )
+        </if>
+        <if test="cursorId != null">
+            <choose>
+                <when test="sortKey == 'STAR_DESC'">
+                    AND (r.star, r.created_at, r.id) &lt; (#{cursorStar}, #{cursorCreatedAt}, #{cursorId})
+                </when>
+                <when test="sortKey == 'STAR_ASC'">
+                    AND (r.star &gt; #{cursorStar}
+                         OR (r.star = #{cursorStar} AND (r.created_at, r.id) &lt; (#{cursorCreatedAt}, #{cursorId})))
+                </when>
+                <otherwise>
+                    AND (r.created_at, r.id) &lt; (#{cursorCreatedAt}, #{cursorId})
+                </otherwise>
+            </choose>
+        </if>
+        <choose>
+            <when test="sortKey == 'STAR_DESC'">
+                ORDER BY r.star DESC, r.created_at DESC, r.id DESC
+            </when>
+            <when test="sortKey == 'STAR_ASC'">
+                ORDER BY r.star ASC, r.created_at DESC, r.id DESC
+            </when>
+            <otherwise>
+                ORDER BY r.created_at DESC, r.id DESC
+            </otherwise>
+        </choose>
+        LIMIT #{limit}
+        </script>
+        """)
+    List<ReviewFeedRowDTO> findReviews(@Param("productId") String productId,
+                                       @Param("sortKey") String sortKey,
+                                       @Param("starFrom") Double starFrom,
+                                       @Param("starTo") Double starTo,
+                                       @Param("petCategory") String petCategory,
+                                       @Param("hasPhoto") Boolean hasPhoto,
+                                       @Param("cursorStar") Double cursorStar,
+                                       @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+                                       @Param("cursorId") String cursorId,
+                                       @Param("limit") int limit);
+}
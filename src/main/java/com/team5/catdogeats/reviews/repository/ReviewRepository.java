@@ -9,15 +9,35 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Reviews, String> {
-    Page<Reviews> findByBuyer(Buyers buyer, Pageable pageable);
+    // 목록에서 상품명을 쓰므로 상품을 함께 조회
+    @Query(value = """
+        select r
+        from Reviews r
+        join fetch r.product
+        where r.buyer = :buyer
+    """, countQuery = """
+        select count(r)
+        from Reviews r
+        where r.buyer = :buyer
+    """)
+    Page<Reviews> findByBuyer(@Param("buyer") Buyers buyer, Pageable pageable);
 
-    @Query("""
+    // 목록에서 작성자 이름을 쓰므로 구매자 / 회원을 함께 조회
+    @Query(value = """
         select r
         from Reviews r
-        join r.product p
-        where p.productNumber = :productNumber
+        join fetch r.buyer b
+        join fetch b.user
+        where r.product.productNumber = :productNumber
+    """, countQuery = """
+        select count(r)
+        from Reviews r
+        where r.product.productNumber = :productNumber
     """)
     Page<Reviews> findByProductNumber(@Param("productNumber") Long productNumber, Pageable pageable);
 
+    // 리뷰 작성자 확인
+    boolean existsByIdAndBuyerUserId(String reviewId, String buyerUserId);
+
     void deleteById(String reviewId);
 }
@@ -11,6 +11,8 @@ public interface ReviewService {
 
     Page<ProductReviewResponseDto> getReviewsByProductNumber(Long productNumber, int page, int size);
 
+    ReviewCursorPageDTO getReviewFeed(Long productNumber, ReviewFeedCondition condition, String sort, String cursor, int size);
+
     void updateReview(ReviewUpdateRequestDto dto);
 
     void deleteReview(ReviewDeleteRequestDto dto);
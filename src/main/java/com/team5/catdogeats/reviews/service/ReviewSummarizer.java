@@ -0,0 +1,24 @@
+package com.team5.catdogeats.reviews.service;
+
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 리뷰 요약기
+ * 기본 구현은 외부 호출 없이 동작하는 추출 요약(ExtractiveReviewSummarizer)이고,
+ * review.summary.summarizer 설정으로 다른 구현(LLM 등)으로 교체할 수 있습니다.
+ */
+public interface ReviewSummarizer {
+
+    // 리뷰 한 건 요약 (reviews.summary, 100자 이하)
+    String summarizeReview(ReviewTextDTO review);
+
+    /**
+     * 상품 리뷰 긍정 / 부정 요약
+     * 리뷰는 작성 순으로 page 단위로 전달되며, 전체를 메모리에 모으지 않고 순차 처리해야 합니다.
+     */
+    ProductReviewSummaryDTO summarizeProduct(String productId, Iterator<List<ReviewTextDTO>> pages);
+}
@@ -0,0 +1,175 @@
+package com.team5.catdogeats.reviews.service.impl;
+
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import com.team5.catdogeats.reviews.service.ReviewSummarizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 추출 요약 (기본 요약기)
+ * 긍정(별점 4 이상) / 부정(별점 2 이하) 리뷰 문장 중 자주 언급된 단어를 많이 담은 문장을 골라 이어 붙입니다.
+ * 외부 호출이 없고 같은 입력에는 항상 같은 결과를 내므로 오프라인 환경과 테스트에서도 그대로 사용할 수 있습니다.
+ * 상품당 메모리는 단어 빈도(최대 MAX_VOCABULARY)와 후보 문장(최대 MAX_CANDIDATES)으로 제한됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "review.summary.summarizer", havingValue = "extractive", matchIfMissing = true)
+public class ExtractiveReviewSummarizer implements ReviewSummarizer {
+    static final int MAX_REVIEW_SUMMARY_LENGTH = 100;
+    private static final int MAX_SENTENCES = 3;
+    private static final int MAX_CANDIDATES = 200;
+    private static final int MAX_VOCABULARY = 10_000;
+    private static final int MIN_SENTENCE_LENGTH = 5;
+    private static final int MAX_SENTENCE_LENGTH = 200;
+    // 이미 고른 문장과 단어가 이만큼 겹치면 같은 내용으로 보고 건너뜀
+    private static final double DUPLICATE_THRESHOLD = 0.6;
+
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。])\\s+|\\n+");
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Override
+    public String summarizeReview(ReviewTextDTO review) {
+        String contents = review.contents() == null ? "" : review.contents().strip();
+        String first = SENTENCE_BOUNDARY.split(contents, 2)[0].strip();
+        if (first.length() <= MAX_REVIEW_SUMMARY_LENGTH) {
+            return first;
+        }
+        return first.substring(0, MAX_REVIEW_SUMMARY_LENGTH - 1) + "…";
+    }
+
+    @Override
+    public ProductReviewSummaryDTO summarizeProduct(String productId, Iterator<List<ReviewTextDTO>> pages) {
+        SentencePool positive = new SentencePool();
+        SentencePool negative = new SentencePool();
+
+        while (pages.hasNext()) {
+            for (ReviewTextDTO review : pages.next()) {
+                if (review.star() == null || review.contents() == null) {
+                    continue;
+                }
+                if (review.star() >= 4.0) {
+                    positive.addReview(review.contents());
+                } else if (review.star() <= 2.0) {
+                    negative.addReview(review.contents());
+                }
+            }
+        }
+
+        return new ProductReviewSummaryDTO(productId, positive.summarize(), negative.summarize());
+    }
+
+    private record Candidate(String text, Set<String> tokens, long order, double initialScore) {}
+
+    /**
+     * 한 극성(긍정 / 부정)의 단어 빈도와 후보 문장
+     * 후보는 읽는 시점의 점수로 상위 MAX_CANDIDATES 개만 유지하고, 마지막에 전체 빈도로 다시 점수를 매깁니다.
+     */
+    private static final class SentencePool {
+        private final Map<String, Integer> documentFrequency = new HashMap<>();
+        // 점수가 낮은(같으면 나중에 들어온) 후보가 먼저 밀려나도록 정렬
+        private final PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                Comparator.comparingDouble(Candidate::initialScore)
+                        .thenComparing(Comparator.comparingLong(Candidate::order).reversed()));
+        private long order;
+
+        void addReview(String contents) {
+            List<String> sentences = Arrays.stream(SENTENCE_BOUNDARY.split(contents.strip()))
+                    .map(String::strip)
+                    .filter(sentence -> sentence.length() >= MIN_SENTENCE_LENGTH && sentence.length() <= MAX_SENTENCE_LENGTH)
+                    .toList();
+
+            // 한 리뷰에서 같은 단어는 한 번만 센다
+            Set<String> reviewTokens = new LinkedHashSet<>();
+            List<Set<String>> sentenceTokens = new ArrayList<>(sentences.size());
+            for (String sentence : sentences) {
+                Set<String> tokens = tokenize(sentence);
+                sentenceTokens.add(tokens);
+                reviewTokens.addAll(tokens);
+            }
+            for (String token : reviewTokens) {
+                if (documentFrequency.containsKey(token) || documentFrequency.size() < MAX_VOCABULARY) {
+                    documentFrequency.merge(token, 1, Integer::sum);
+                }
+            }
+
+            for (int i = 0; i < sentences.size(); i++) {
+                Set<String> tokens = sentenceTokens.get(i);
+                if (tokens.isEmpty()) {
+                    continue;
+                }
+                candidates.add(new Candidate(sentences.get(i), tokens, order++, score(tokens)));
+                if (candidates.size() > MAX_CANDIDATES) {
+                    candidates.poll();
+                }
+            }
+        }
+
+        String summarize() {
+            List<Candidate> ranked = candidates.stream()
+                    .sorted(Comparator.comparingDouble(this::score).reversed()
+                            .thenComparingLong(Candidate::order))
+                    .toList();
+
+            List<Candidate> selected = new ArrayList<>(MAX_SENTENCES);
+            for (Candidate candidate : ranked) {
+                if (selected.size() == MAX_SENTENCES) {
+                    break;
+                }
+                boolean duplicate = selected.stream()
+                        .anyMatch(chosen -> similarity(chosen.tokens(), candidate.tokens()) >= DUPLICATE_THRESHOLD);
+                if (!duplicate) {
+                    selected.add(candidate);
+                }
+            }
+
+            // 원래 작성 순서대로 이어 붙여 자연스럽게 읽히도록 함
+            return selected.stream()
+                    .sorted(Comparator.comparingLong(Candidate::order))
+                    .map(Candidate::text)
+                    .reduce((a, b) -> a + " " + b)
+                    .orElse("");
+        }
+
+        private double score(Candidate candidate) {
+            return score(candidate.tokens());
+        }
+
+        // 단어가 언급된 리뷰 수의 평균 (긴 문장이 유리하지 않도록 단어 수로 나눔)
+        private double score(Set<String> tokens) {
+            double sum = 0;
+            for (String token : tokens) {
+                sum += documentFrequency.getOrDefault(token, 0);
+            }
+            return sum / tokens.size();
+        }
+    }
+
+    private static Set<String> tokenize(String sentence) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_DELIMITER.split(sentence.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= 2) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static double similarity(Set<String> a, Set<String> b) {
+        long common = a.stream().filter(b::contains).count();
+        int union = a.size() + b.size() - (int) common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+}
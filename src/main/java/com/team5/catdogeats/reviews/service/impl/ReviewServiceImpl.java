@@ -6,11 +6,17 @@ import com.team5.catdogeats.pets.domain.Pets;
 import com.team5.catdogeats.pets.repository.PetRepository;
 import com.team5.catdogeats.products.domain.Products;
 import com.team5.catdogeats.products.repository.ProductRepository;
+import com.team5.catdogeats.products.service.ProductRatingStatsService;
 import com.team5.catdogeats.reviews.domain.Reviews;
 import com.team5.catdogeats.reviews.domain.dto.*;
+import com.team5.catdogeats.reviews.domain.enums.ReviewSortKey;
+import com.team5.catdogeats.reviews.event.ReviewChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewCreatedEvent;
+import com.team5.catdogeats.reviews.mapper.ReviewFeedMapper;
 import com.team5.catdogeats.reviews.repository.ReviewRepository;
 import com.team5.catdogeats.reviews.service.ReviewService;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageResponseDto;
+import com.team5.catdogeats.storage.domain.enums.ImageVariant;
 import com.team5.catdogeats.storage.domain.mapping.ReviewsImages;
 import com.team5.catdogeats.storage.repository.ReviewImageRepository;
 import com.team5.catdogeats.storage.service.ReviewImageService;
@@ -18,17 +24,23 @@ import com.team5.catdogeats.users.domain.dto.BuyerDTO;
 import com.team5.catdogeats.users.domain.mapping.Buyers;
 import com.team5.catdogeats.users.repository.BuyerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
+    private static final int MAX_FEED_SIZE = 50;
 
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
@@ -36,7 +48,11 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewImageRepository reviewImageRepository;
     private final ReviewImageService reviewImageService;
     private final PetRepository petRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductRatingStatsService productRatingStatsService;
+    private final ReviewFeedMapper reviewFeedMapper;
 
+    @JpaTransactional
     @Override
     public String registerReview(UserPrincipal userPrincipal, ReviewCreateRequestDto dto) {
         BuyerDTO buyerDTO = buyerRepository.findOnlyBuyerByProviderAndProviderId(userPrincipal.provider(), userPrincipal.providerId())
@@ -51,8 +67,13 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         Reviews review = Reviews.fromDto(dto, buyer, product);
+        String reviewId = reviewRepository.save(review).getId();
+        productRatingStatsService.applyReviewDelta(product.getId(), review.getStar(), 1);
+
+        // 커밋 이후 상품 평점 집계 갱신
+        eventPublisher.publishEvent(ReviewCreatedEvent.of(reviewId, product.getId(), review.getStar()));
 
-        return reviewRepository.save(review).getId();
+        return reviewId;
     }
 
     @JpaTransactional(readOnly = true)
@@ -69,32 +90,94 @@ public class ReviewServiceImpl implements ReviewService {
         Pageable pageable = PageRequest.of(page, size);
 
         Page<Reviews> reviewsPage = reviewRepository.findByBuyer(buyer, pageable);
+        Map<String, List<ReviewImageResponseDto>> imagesByReview = findImagesByReview(
+                reviewsPage.getContent().stream().map(Reviews::getId).toList());
 
-        return reviewsPage.map(review -> {
-            List<ReviewImageResponseDto> images = reviewImageService.getReviewImagesByReviewId(review.getId());
-            return MyReviewResponseDto.fromEntity(review, images);
-        });
+        return reviewsPage.map(review ->
+                MyReviewResponseDto.fromEntity(review, imagesByReview.getOrDefault(review.getId(), List.of())));
     }
 
     @JpaTransactional(readOnly = true)
     @Override
     public Page<ProductReviewResponseDto> getReviewsByProductNumber(Long productNumber, int page, int size) {
-        Products product = productRepository.findByProductNumber(productNumber)
-                .orElseThrow(() -> new NoSuchElementException("해당 상품 정보를 찾을 수 없습니다."));
-
         Pageable pageable = PageRequest.of(page, size);
 
         Page<Reviews> reviewsPage = reviewRepository.findByProductNumber(productNumber, pageable);
+        // 리뷰가 없을 때만 상품 존재 여부 확인 (없는 상품이면 404)
+        if (reviewsPage.isEmpty() && !productRepository.existsByProductNumber(productNumber)) {
+            throw new NoSuchElementException("해당 상품 정보를 찾을 수 없습니다.");
+        }
+
+        // 페이지 단위로 이미지 / 작성자 pet 정보를 한 번씩만 조회해 리뷰 수만큼 쿼리가 늘지 않도록 함
+        List<Reviews> reviews = reviewsPage.getContent();
+        Map<String, List<ReviewImageResponseDto>> imagesByReview = findImagesByReview(
+                reviews.stream().map(Reviews::getId).toList());
+        Map<String, List<Pets>> petsByBuyer = findPetsByBuyer(
+                reviews.stream().map(review -> review.getBuyer().getUserId()).collect(Collectors.toSet()));
+
+        return reviewsPage.map(review -> ProductReviewResponseDto.fromEntity(
+                review,
+                imagesByReview.getOrDefault(review.getId(), List.of()),
+                petsByBuyer.getOrDefault(review.getBuyer().getUserId(), List.of())
+        ));
+    }
+
+    @JpaTransactional(readOnly = true)
+    @Override
+    public ReviewCursorPageDTO getReviewFeed(Long productNumber, ReviewFeedCondition condition, String sort, String cursor, int size) {
+        // 1. 파라미터 검증
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다.");
+        }
+        if (condition.star() != null && (condition.star() < 1 || condition.star() > 5)) {
+            throw new IllegalArgumentException("별점 필터는 1 이상 5 이하여야 합니다.");
+        }
+
+        // 2. 상품 확인 + 리뷰 수 (COUNT 대신 비정규화 집계)
+        ReviewProductStatsDTO product = reviewFeedMapper.findProductStats(productNumber)
+                .orElseThrow(() -> new NoSuchElementException("해당 상품 정보를 찾을 수 없습니다."));
 
+        // 3. 커서 해석 (첫 페이지는 커서 없음, 사진 우선은 사진 리뷰 구간부터)
+        ReviewSortKey sortKey = ReviewSortKey.from(sort);
+        ReviewCursor after = cursor == null || cursor.isBlank() ? null : ReviewCursor.decode(cursor, sortKey);
+        boolean photoPhase = sortKey == ReviewSortKey.PHOTO_FIRST && (after == null || after.photoPhase());
 
-        return reviewsPage.map(review -> {
-            //해당 리뷰 작성자(구매자) pet 조회
-            List<Pets> petInfos = petRepository.findByBuyer(review.getBuyer());
+        // 4. size + 1 개를 읽어 다음 페이지 존재 여부 판단
+        Boolean hasPhoto = sortKey == ReviewSortKey.PHOTO_FIRST ? photoPhase : null;
+        List<ReviewFeedRowDTO> rows = new ArrayList<>(findFeedRows(product.productId(), sortKey, condition,
+                hasPhoto, after, size + 1));
+        int photoRows = photoPhase ? rows.size() : 0;
+        // 사진 리뷰가 페이지를 다 채우지 못하면 나머지 리뷰를 처음부터 이어서 조회
+        if (photoPhase && rows.size() <= size) {
+            rows.addAll(findFeedRows(product.productId(), sortKey, condition, Boolean.FALSE, null, size + 1 - rows.size()));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ReviewFeedRowDTO> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? ReviewCursor.after(sortKey, pageRows.get(pageRows.size() - 1), pageRows.size() <= photoRows).encode()
+                : null;
 
-            List<ReviewImageResponseDto> images = reviewImageService.getReviewImagesByReviewId(review.getId());
+        // 5. 이미지 / 작성자 pet 정보는 페이지 단위로 한 번씩 조회
+        Map<String, List<ReviewImageResponseDto>> imagesByReview = findImagesByReview(
+                pageRows.stream().map(ReviewFeedRowDTO::reviewId).toList());
+        Map<String, List<Pets>> petsByBuyer = findPetsByBuyer(
+                pageRows.stream().map(ReviewFeedRowDTO::buyerId).collect(Collectors.toSet()));
 
-            return ProductReviewResponseDto.fromEntity(review, images, petInfos);
-        });
+        List<ProductReviewResponseDto> content = pageRows.stream()
+                .map(row -> ProductReviewResponseDto.of(
+                        row,
+                        imagesByReview.getOrDefault(row.reviewId(), List.of()),
+                        petsByBuyer.getOrDefault(row.buyerId(), List.of())
+                ))
+                .toList();
+
+        return new ReviewCursorPageDTO(
+                content,
+                nextCursor,
+                hasNext,
+                condition.isFiltered() ? null : product.reviewCount()
+        );
     }
 
     @JpaTransactional
@@ -103,7 +186,12 @@ public class ReviewServiceImpl implements ReviewService {
         Reviews review = reviewRepository.findById(dto.reviewId())
                 .orElseThrow(() -> new NoSuchElementException("해당 리뷰를 찾을 수 없습니다."));
 
+        double previousStar = review.getStar();
         review.updateFromDto(dto);
+        double ratingDelta = review.getStar() - previousStar;
+        productRatingStatsService.applyReviewDelta(review.getProduct().getId(), ratingDelta, 0);
+
+        eventPublisher.publishEvent(ReviewChangedEvent.of(review.getId(), review.getProduct().getId(), ratingDelta, 0));
     }
 
     @JpaTransactional
@@ -119,5 +207,50 @@ public class ReviewServiceImpl implements ReviewService {
             reviewImageService.deleteReviewImage(dto.reviewId(), mapping.getImages().getId());
         }
         reviewRepository.deleteById(dto.reviewId());
+        productRatingStatsService.applyReviewDelta(review.getProduct().getId(), -review.getStar(), -1);
+
+        eventPublisher.publishEvent(ReviewChangedEvent.of(dto.reviewId(), review.getProduct().getId(), -review.getStar(), -1));
+    }
+
+    private List<ReviewFeedRowDTO> findFeedRows(String productId, ReviewSortKey sortKey, ReviewFeedCondition condition,
+                                                Boolean hasPhoto, ReviewCursor after, int limit) {
+        Integer star = condition.star();
+        return reviewFeedMapper.findReviews(
+                productId,
+                sortKey.name(),
+                star != null ? star.doubleValue() : null,
+                // 5점 구간은 5.0 만 포함
+                star != null ? star + 1.0 : null,
+                condition.petCategory() != null ? condition.petCategory().name() : null,
+                hasPhoto,
+                after != null ? after.star() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.reviewId() : null,
+                limit
+        );
+    }
+
+    private Map<String, List<ReviewImageResponseDto>> findImagesByReview(List<String> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reviewImageRepository.findAllByReviewsIdInWithImages(reviewIds).stream()
+                .collect(Collectors.groupingBy(
+                        mapping -> mapping.getReviews().getId(),
+                        Collectors.mapping(mapping -> new ReviewImageResponseDto(
+                                mapping.getImages().getId(),
+                                mapping.getImages().getVariantUrl(ImageVariant.MEDIUM)
+                        ), Collectors.toList())
+                ));
+    }
+
+    private Map<String, List<Pets>> findPetsByBuyer(Set<String> buyerIds) {
+        if (buyerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return petRepository.findByBuyerIds(buyerIds).stream()
+                .collect(Collectors.groupingBy(pet -> pet.getBuyer().getUserId()));
     }
 }
@@ -1,7 +1,10 @@
 package com.team5.catdogeats.storage.controller;
 
+import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.enums.ResponseCode;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageUploadResponseDto;
 import com.team5.catdogeats.storage.service.ReviewImageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +13,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -84,6 +89,74 @@ public class ReviewImageController {
         }
     }
 
+    // 리뷰 이미지 직접 업로드 1단계 (presigned URL 발급)
+    @Operation(
+            summary = "리뷰 이미지 업로드 URL 발급",
+            description = "S3 에 직접 업로드할 presigned URL 을 발급합니다. " +
+                    "발급된 uploadUrl 로 Content-Type 헤더와 함께 PUT 한 뒤 업로드 완료 API 를 호출해야 리뷰에 연결됩니다."
+    )
+    @PostMapping(value = "/presigned-urls", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<PresignedUploadResponseDto>>> presignReviewImageUploads(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "이미지를 업로드할 리뷰 id", required = true)
+            @RequestParam String reviewId,
+            @RequestBody List<PresignedUploadRequestDto> images) {
+        try {
+            List<PresignedUploadResponseDto> response = reviewImageService.presignReviewImageUploads(userPrincipal, reviewId, images);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ACCESS_DENIED.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ACCESS_DENIED, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error(ResponseCode.INVALID_TYPE_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
+    // 리뷰 이미지 직접 업로드 2단계 (업로드된 파일 검증 + Images DB 저장 + reviews_images 매핑)
+    @Operation(
+            summary = "리뷰 이미지 업로드 완료",
+            description = "presigned URL 로 업로드한 파일을 검증하고 리뷰에 연결합니다. 본인이 작성한 리뷰에만 연결할 수 있으며, 검증에 실패한 파일은 삭제됩니다."
+    )
+    @PostMapping(value = "/confirm", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<ReviewImageUploadResponseDto>>> confirmReviewImageUploads(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "이미지를 연결할 리뷰 id", required = true)
+            @RequestParam String reviewId,
+            @Parameter(description = "발급받은 fileKey 리스트", required = true)
+            @RequestBody List<String> fileKeys) {
+        try {
+            List<ReviewImageUploadResponseDto> response = reviewImageService.confirmReviewImageUploads(userPrincipal, reviewId, fileKeys);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ENTITY_NOT_FOUND.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity
+                    .status(ResponseCode.ACCESS_DENIED.getStatus())
+                    .body(ApiResponse.error(ResponseCode.ACCESS_DENIED, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error(ResponseCode.INVALID_TYPE_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+    }
+
     // 리뷰 이미지 삭제 (매핑, 이미지 DB, S3 모두 정리)
     // 리뷰 삭제에서 리뷰 내용 + 이미지 일괄로 삭제하므로 사용x
 //    @Operation(
@@ -1,9 +1,13 @@
 package com.team5.catdogeats.storage.domain;
 
 import com.team5.catdogeats.baseEntity.BaseEntity;
+import com.team5.catdogeats.storage.domain.enums.ImageVariant;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Table(name = "images")
 @Getter
@@ -18,4 +22,38 @@ public class Images extends BaseEntity {
 
     @Column(name = "image_url", length = 255, nullable = false)
     private String imageUrl;
+
+    // 리사이즈 버전 (업로드 후 ImageDerivativeService 가 채움, 원본이 더 작으면 null)
+    @Column(name = "small_image_url", length = 255)
+    private String smallImageUrl;
+
+    @Column(name = "medium_image_url", length = 255)
+    private String mediumImageUrl;
+
+    @Column(name = "large_image_url", length = 255)
+    private String largeImageUrl;
+
+    /**
+     * 화면 크기에 맞는 이미지 URL (리사이즈 버전이 아직 없으면 원본)
+     */
+    public String getVariantUrl(ImageVariant variant) {
+        String variantUrl = switch (variant) {
+            case SMALL -> smallImageUrl;
+            case MEDIUM -> mediumImageUrl;
+            case LARGE -> largeImageUrl;
+        };
+        return variantUrl != null ? variantUrl : imageUrl;
+    }
+
+    // 원본 + 리사이즈 버전 URL (S3 삭제용)
+    public List<String> getAllUrls() {
+        List<String> urls = new ArrayList<>(4);
+        urls.add(imageUrl);
+        for (String variantUrl : new String[]{smallImageUrl, mediumImageUrl, largeImageUrl}) {
+            if (variantUrl != null) {
+                urls.add(variantUrl);
+            }
+        }
+        return urls;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.team5.catdogeats.storage.domain.dto;
+
+/**
+ * presigned URL 발급 요청 (클라이언트가 올릴 파일 정보)
+ * contentType / contentLength 는 서명에 포함되므로 실제 업로드 요청과 같아야 합니다.
+ */
+public record PresignedUploadRequestDto(
+        String fileName,
+        String contentType,
+        long contentLength
+) {
+}
@@ -0,0 +1,15 @@
+package com.team5.catdogeats.storage.domain.dto;
+
+import java.time.Instant;
+
+/**
+ * presigned URL 발급 결과
+ * 클라이언트는 uploadUrl 로 PUT (Content-Type 헤더 포함) 한 뒤 fileKey 로 업로드 완료를 알립니다.
+ */
+public record PresignedUploadResponseDto(
+        String fileKey,
+        String uploadUrl,
+        String contentType,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.team5.catdogeats.storage.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 리사이즈 버전 (가로 px 기준)
+ * - SMALL: 썸네일, 브랜드 이미지
+ * - MEDIUM: 상품 카드, 리뷰 목록
+ * - LARGE: 상품 상세
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(200),
+    MEDIUM(600),
+    LARGE(1200);
+
+    private final int width;
+}
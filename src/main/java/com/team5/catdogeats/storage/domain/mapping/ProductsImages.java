@@ -7,7 +7,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "products_images")
+@Table(name = "products_images", indexes = {
+        // 상품 카드 대표 이미지 (상품별 가장 먼저 등록된 이미지) 조회
+        @Index(name = "idx_products_images_product_created", columnList = "product_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,40 @@
+package com.team5.catdogeats.storage.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 업로드 완료 이벤트 - 리사이즈 버전 생성 요청
+ * 커밋 이후 ImageDerivativeService 작업 큐에 넘깁니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadedEvent {
+
+    public enum Target {
+        // images 테이블 (리뷰 / 상품 이미지)
+        IMAGE,
+        // sellers.vendor_profile_image
+        BRAND
+    }
+
+    private final Target target;
+
+    // IMAGE: images.id, BRAND: sellers.user_id
+    private final String targetId;
+
+    private final String imageUrl;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static ImageUploadedEvent ofImage(String imageId, String imageUrl) {
+        return new ImageUploadedEvent(Target.IMAGE, imageId, imageUrl, LocalDateTime.now());
+    }
+
+    public static ImageUploadedEvent ofBrand(String sellerId, String imageUrl) {
+        return new ImageUploadedEvent(Target.BRAND, sellerId, imageUrl, LocalDateTime.now());
+    }
+}
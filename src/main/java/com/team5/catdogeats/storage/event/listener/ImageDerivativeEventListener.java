@@ -0,0 +1,24 @@
+package com.team5.catdogeats.storage.event.listener;
+
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
+import com.team5.catdogeats.storage.service.ImageDerivativeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이미지 업로드 커밋 후 리사이즈 버전 생성 요청
+ * 트랜잭션 없이 발행된 이벤트(리뷰 이미지 업로드)도 처리하도록 fallbackExecution 을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeEventListener {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleImageUploaded(ImageUploadedEvent event) {
+        imageDerivativeService.submit(event);
+    }
+}
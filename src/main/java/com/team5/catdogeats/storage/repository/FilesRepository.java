@@ -7,4 +7,7 @@ public interface FilesRepository extends JpaRepository<Files, String> {
 
     // 기본 CRUD 메서드들이 자동으로 제공됩니다
     // save(), findById(), deleteById() 등
+
+    // 직접 업로드 확인 시 이미 등록된 파일인지 확인
+    boolean existsByFileUrl(String fileUrl);
 }
\ No newline at end of file
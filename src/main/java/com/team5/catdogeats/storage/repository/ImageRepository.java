@@ -1,7 +1,33 @@
 package com.team5.catdogeats.storage.repository;
 
+import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.storage.domain.Images;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface ImageRepository extends JpaRepository<Images, String> {
+
+    // 직접 업로드 확인 시 이미 등록된 파일인지 확인
+    boolean existsByImageUrlIn(Collection<String> imageUrls);
+
+    /**
+     * 리사이즈 버전 URL 기록 (이미지 처리 워커에서 호출)
+     */
+    @JpaTransactional
+    @Modifying
+    @Query("""
+        UPDATE Images i
+        SET i.smallImageUrl = :smallImageUrl,
+            i.mediumImageUrl = :mediumImageUrl,
+            i.largeImageUrl = :largeImageUrl
+        WHERE i.id = :imageId
+    """)
+    int updateVariantUrls(@Param("imageId") String imageId,
+                          @Param("smallImageUrl") String smallImageUrl,
+                          @Param("mediumImageUrl") String mediumImageUrl,
+                          @Param("largeImageUrl") String largeImageUrl);
 }
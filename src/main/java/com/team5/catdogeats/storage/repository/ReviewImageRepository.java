@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,13 @@ public interface ReviewImageRepository extends JpaRepository<ReviewsImages, Stri
     """)
     List<ReviewsImages> findAllByReviewsIdWithImages(@Param("reviewId") String reviewId);
 
+    // 리뷰 목록 페이지의 이미지를 한 번에 조회
+    @Query("""
+        select ri
+        from ReviewsImages ri
+        join fetch ri.images
+        where ri.reviews.id in :reviewIds
+    """)
+    List<ReviewsImages> findAllByReviewsIdInWithImages(@Param("reviewIds") Collection<String> reviewIds);
+
 }
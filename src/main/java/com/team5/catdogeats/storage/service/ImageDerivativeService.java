@@ -0,0 +1,17 @@
+package com.team5.catdogeats.storage.service;
+
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
+
+/**
+ * 이미지 리사이즈 버전 생성
+ * 원본은 업로드 즉시 제공하고, 작은 버전은 별도 작업 스레드에서 만들어 기록합니다.
+ * 생성 전이거나 실패하면 조회 쪽은 원본 URL 을 그대로 사용합니다.
+ */
+public interface ImageDerivativeService {
+
+    // 작업 큐에 등록 (큐가 가득 차면 건너뜀)
+    void submit(ImageUploadedEvent event);
+
+    // 원본을 내려받아 리사이즈 버전을 업로드하고 URL 을 기록 (작업 스레드에서 호출)
+    void generate(ImageUploadedEvent event);
+}
@@ -1,6 +1,7 @@
 package com.team5.catdogeats.storage.service;
 
 import com.team5.catdogeats.storage.domain.Files;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeFileDownloadResponseDTO;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -9,6 +10,12 @@ public interface NoticeFileManagementService {
     // 공지사항 파일 업로드 및 DB 저장
     Files uploadNoticeFile(MultipartFile file);
 
+    // 공지사항 파일 직접 업로드 URL 발급 (Content-Type 은 확장자로 결정, 키에 공지사항 ID 포함)
+    PresignedUploadResponseDto presignNoticeFileUpload(String noticeId, String originalFileName, long contentLength);
+
+    // 직접 업로드된 공지사항 파일 검증 및 DB 저장 (해당 공지사항으로 발급된 키만 허용)
+    Files confirmNoticeFileUpload(String noticeId, String fileKey);
+
     // 공지사항 파일 다운로드
     NoticeFileDownloadResponseDTO downloadNoticeFile(String fileId);
 
@@ -1,10 +1,56 @@
 package com.team5.catdogeats.storage.service;
 
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
+
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 public interface ObjectStorageService {
     String uploadImage(String key, InputStream inputStream, long contentLength, String contentType);
+
+    /**
+     * 이미지 비동기 업로드
+     * 스트림을 그대로 전송하므로 파일 전체를 메모리에 올리지 않으며, inputStream 은 업로드가 끝나면 닫힙니다.
+     * 동시 업로드 수가 한도에 도달하면 자리가 날 때까지 호출 스레드가 대기합니다.
+     *
+     * @return 업로드된 이미지 URL
+     */
+    CompletableFuture<String> uploadImageAsync(String key, InputStream inputStream, long contentLength, String contentType);
+
+    // 이미지 원본 스트림 (호출 측에서 닫아야 함)
+    InputStream downloadImage(String key);
+
     String uploadFile(String key, InputStream inputStream, long contentLength, String contentType);
     void deleteFile(String key);
     void deleteImage(String key);
+
+    // 이미지 키의 URL (업로드 / 조회 없이 계산, 업로드 결과 URL 과 같음)
+    String imageUrl(String key);
+
+    /**
+     * 클라이언트 직접 업로드용 presigned PUT URL 발급
+     * Content-Type / Content-Length 가 서명에 포함되어 다른 형식이나 크기로는 업로드할 수 없습니다.
+     */
+    PresignedUploadResponseDto presignImageUpload(String key, String contentType, long contentLength);
+    PresignedUploadResponseDto presignFileUpload(String key, String contentType, long contentLength);
+
+    /**
+     * 파일 다운로드용 presigned GET URL 발급
+     * 다운로드 파일명 / Content-Type 은 S3 응답 헤더로 지정되며, Range / ETag / 조건부 요청은 S3 가 처리합니다.
+     */
+    String presignFileDownload(String key, String downloadFileName, String contentType);
+
+    /**
+     * 업로드된 객체의 앞부분만 읽기 (Range GET)
+     * 객체가 없으면 NoSuchElementException
+     */
+    StoredObjectHeader readImageHeader(String key, int length);
+    StoredObjectHeader readFileHeader(String key, int length);
+
+    /**
+     * @param url           객체 URL (CDN 도메인)
+     * @param header        앞부분 바이트 (객체가 작으면 length 보다 짧음)
+     * @param contentLength 객체 전체 크기
+     */
+    record StoredObjectHeader(String url, byte[] header, long contentLength, String contentType) {}
 }
@@ -1,5 +1,8 @@
 package com.team5.catdogeats.storage.service;
 
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageResponseDto;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageUploadResponseDto;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,4 +15,10 @@ public interface ReviewImageService {
     void deleteReviewImage(String reviewId, String imageId);
     List<ReviewImageUploadResponseDto> updateReviewImage(String reviewId, List<String> oldImageIds, List<MultipartFile> images) throws IOException;
     List<ReviewImageResponseDto> getReviewImagesByReviewId(String reviewId);
+
+    // 클라이언트가 S3 에 직접 올릴 presigned URL 발급 (리뷰 작성자만)
+    List<PresignedUploadResponseDto> presignReviewImageUploads(UserPrincipal userPrincipal, String reviewId, List<PresignedUploadRequestDto> images);
+
+    // 직접 업로드한 이미지 검증 후 리뷰에 연결
+    List<ReviewImageUploadResponseDto> confirmReviewImageUploads(UserPrincipal userPrincipal, String reviewId, List<String> fileKeys);
 }
@@ -1,21 +1,67 @@
 package com.team5.catdogeats.storage.service.impl;
 
 import com.team5.catdogeats.global.config.AwsS3Config;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.service.ObjectStorageService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class AwsS3ServiceImpl implements ObjectStorageService {
+public class AwsS3ServiceImpl implements ObjectStorageService, DisposableBean {
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
     private final AwsS3Config awsS3Config;
 
+    // 비동기 업로드 한 건이 끝날 때까지 스트림을 읽는 스레드를 하나씩 점유하므로 스레드 수 = 동시 업로드 한도
+    private final Semaphore uploadPermits;
+    private final ExecutorService uploadStreamExecutor;
+
+    public AwsS3ServiceImpl(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner, AwsS3Config awsS3Config) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.awsS3Config = awsS3Config;
+
+        int concurrency = Math.max(1, awsS3Config.getUploadConcurrency());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadPermits = new Semaphore(concurrency);
+        this.uploadStreamExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "S3-Upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Override
     public String uploadImage(String key, InputStream inputStream, long contentLength, String contentType) {
         // 예: 이미지 전용 폴더
@@ -31,6 +77,52 @@ public class AwsS3ServiceImpl implements ObjectStorageService {
         return awsS3Config.getDomain() + "/" + imageKey;
     }
 
+    @Override
+    public CompletableFuture<String> uploadImageAsync(String key, InputStream inputStream, long contentLength, String contentType) {
+        String imageKey = "images/" + key;
+        try {
+            uploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeQuietly(inputStream);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<?> upload;
+        try {
+            upload = s3AsyncClient.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(awsS3Config.getBucket())
+                            .key(imageKey)
+                            .contentType(contentType)
+                            .contentLength(contentLength)
+                            .build(),
+                    AsyncRequestBody.fromInputStream(inputStream, contentLength, uploadStreamExecutor)
+            );
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            closeQuietly(inputStream);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return upload
+                .whenComplete((response, error) -> {
+                    uploadPermits.release();
+                    closeQuietly(inputStream);
+                })
+                .thenApply(response -> awsS3Config.getDomain() + "/" + imageKey);
+    }
+
+    @Override
+    public InputStream downloadImage(String key) {
+        String imageKey = "images/" + key;
+        return s3Client.getObject(builder -> builder
+                .bucket(awsS3Config.getBucket())
+                .key(imageKey)
+                .build()
+        );
+    }
+
     @Override
     public String uploadFile(String key, InputStream inputStream, long contentLength, String contentType) {
         // 예: 파일 전용 폴더
@@ -65,4 +157,112 @@ public class AwsS3ServiceImpl implements ObjectStorageService {
         );
     }
 
+    @Override
+    public PresignedUploadResponseDto presignImageUpload(String key, String contentType, long contentLength) {
+        return presignUpload(key, "images/" + key, contentType, contentLength);
+    }
+
+    @Override
+    public PresignedUploadResponseDto presignFileUpload(String key, String contentType, long contentLength) {
+        return presignUpload(key, "files/" + key, contentType, contentLength);
+    }
+
+    @Override
+    public String presignFileDownload(String key, String downloadFileName, String contentType) {
+        String fileKey = "files/" + key;
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(
+                GetObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofMinutes(awsS3Config.getPresignExpirationMinutes()))
+                        .getObjectRequest(GetObjectRequest.builder()
+                                .bucket(awsS3Config.getBucket())
+                                .key(fileKey)
+                                .responseContentType(contentType)
+                                // 한글 파일명은 filename*=UTF-8''... 로 인코딩
+                                .responseContentDisposition(ContentDisposition.attachment()
+                                        .filename(downloadFileName, StandardCharsets.UTF_8)
+                                        .build()
+                                        .toString())
+                                .build())
+                        .build()
+        );
+        return presigned.url().toString();
+    }
+
+    @Override
+    public String imageUrl(String key) {
+        return awsS3Config.getDomain() + "/images/" + key;
+    }
+
+    @Override
+    public StoredObjectHeader readImageHeader(String key, int length) {
+        return readHeader("images/" + key, length);
+    }
+
+    @Override
+    public StoredObjectHeader readFileHeader(String key, int length) {
+        return readHeader("files/" + key, length);
+    }
+
+    private PresignedUploadResponseDto presignUpload(String key, String objectKey, String contentType, long contentLength) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(
+                PutObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofMinutes(awsS3Config.getPresignExpirationMinutes()))
+                        .putObjectRequest(PutObjectRequest.builder()
+                                .bucket(awsS3Config.getBucket())
+                                .key(objectKey)
+                                .contentType(contentType)
+                                .contentLength(contentLength)
+                                .build())
+                        .build()
+        );
+        return new PresignedUploadResponseDto(key, presigned.url().toString(), contentType, presigned.expiration());
+    }
+
+    private StoredObjectHeader readHeader(String objectKey, int length) {
+        String url = awsS3Config.getDomain() + "/" + objectKey;
+        try {
+            ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(
+                    GetObjectRequest.builder()
+                            .bucket(awsS3Config.getBucket())
+                            .key(objectKey)
+                            .range("bytes=0-" + (length - 1))
+                            .build()
+            );
+            GetObjectResponse object = response.response();
+            return new StoredObjectHeader(url, response.asByteArray(), totalLength(object), object.contentType());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchElementException("업로드된 파일을 찾을 수 없습니다: " + objectKey);
+        } catch (S3Exception e) {
+            // 빈 객체는 Range 를 만족할 수 없어 416
+            if (e.statusCode() == 416) {
+                return new StoredObjectHeader(url, new byte[0], 0, null);
+            }
+            throw e;
+        }
+    }
+
+    // Content-Range: bytes 0-2047/123456 의 전체 크기
+    private static long totalLength(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            String total = contentRange.substring(contentRange.lastIndexOf('/') + 1);
+            if (!total.equals("*")) {
+                return Long.parseLong(total);
+            }
+        }
+        return response.contentLength() == null ? 0 : response.contentLength();
+    }
+
+    @Override
+    public void destroy() {
+        uploadStreamExecutor.shutdown();
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("업로드 스트림 닫기 실패: {}", e.getMessage());
+        }
+    }
 }
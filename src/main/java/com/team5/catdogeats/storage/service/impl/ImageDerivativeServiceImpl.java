@@ -0,0 +1,181 @@
+package com.team5.catdogeats.storage.service.impl;
+
+import com.team5.catdogeats.storage.domain.enums.ImageVariant;
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
+import com.team5.catdogeats.storage.repository.ImageRepository;
+import com.team5.catdogeats.storage.service.ImageDerivativeService;
+import com.team5.catdogeats.storage.service.ObjectStorageService;
+import com.team5.catdogeats.storage.util.ImageResizer;
+import com.team5.catdogeats.storage.util.ImageResizer.ResizedImage;
+import com.team5.catdogeats.users.repository.SellersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 이미지 리사이즈 버전 생성 워커
+ * 스레드 / 큐 크기가 고정된 전용 풀에서 실행하며, 큐가 가득 차면 요청을 버립니다. (원본이 그대로 제공되므로 기능에는 영향 없음)
+ * 리사이즈 버전은 원본과 같은 images/ 경로에 {원본 파일명}_w{가로}.{확장자} 로 저장합니다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService, DisposableBean {
+    private static final List<Integer> IMAGE_WIDTHS = Arrays.stream(ImageVariant.values())
+            .map(ImageVariant::getWidth)
+            .toList();
+    private static final List<Integer> BRAND_WIDTHS = List.of(ImageVariant.SMALL.getWidth());
+
+    private final ObjectStorageService objectStorageService;
+    private final ImageRepository imageRepository;
+    private final SellersRepository sellersRepository;
+    private final ImageResizer imageResizer;
+    private final Executor executor;
+
+    @Autowired
+    public ImageDerivativeServiceImpl(ObjectStorageService objectStorageService,
+                                      ImageRepository imageRepository,
+                                      SellersRepository sellersRepository,
+                                      ImageResizer imageResizer,
+                                      @Value("${image.derivative.threads:2}") int threads,
+                                      @Value("${image.derivative.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threads);
+        taskExecutor.setMaxPoolSize(threads);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("Image-Derivative-");
+        taskExecutor.initialize();
+
+        this.objectStorageService = objectStorageService;
+        this.imageRepository = imageRepository;
+        this.sellersRepository = sellersRepository;
+        this.imageResizer = imageResizer;
+        this.executor = taskExecutor;
+        log.info("이미지 처리 워커 설정 완료: threads={}, queue={}", threads, queueCapacity);
+    }
+
+    public ImageDerivativeServiceImpl(ObjectStorageService objectStorageService,
+                                      ImageRepository imageRepository,
+                                      SellersRepository sellersRepository,
+                                      ImageResizer imageResizer,
+                                      Executor executor) {
+        this.objectStorageService = objectStorageService;
+        this.imageRepository = imageRepository;
+        this.sellersRepository = sellersRepository;
+        this.imageResizer = imageResizer;
+        this.executor = executor;
+    }
+
+    @Override
+    public void submit(ImageUploadedEvent event) {
+        try {
+            executor.execute(() -> generate(event));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 처리 큐가 가득 차 건너뜀 - target: {}, id: {}", event.getTarget(), event.getTargetId());
+        }
+    }
+
+    @Override
+    public void generate(ImageUploadedEvent event) {
+        List<Integer> widths = event.getTarget() == ImageUploadedEvent.Target.BRAND ? BRAND_WIDTHS : IMAGE_WIDTHS;
+        String fileKey = toFileKey(event.getImageUrl());
+
+        List<ResizedImage> resized;
+        try (InputStream source = objectStorageService.downloadImage(fileKey)) {
+            resized = imageResizer.resize(source, widths);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 리사이즈 실패 - key: {}, error: {}", fileKey, e.getMessage());
+            return;
+        }
+        if (resized.isEmpty()) {
+            log.debug("리사이즈할 버전 없음 (작은 원본 또는 지원하지 않는 형식) - key: {}", fileKey);
+            return;
+        }
+
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        List<String> uploadedKeys = new ArrayList<>(resized.size());
+        try {
+            for (ResizedImage image : resized) {
+                String variantKey = variantKey(fileKey, image);
+                String url = objectStorageService.uploadImage(
+                        variantKey,
+                        new ByteArrayInputStream(image.bytes()),
+                        image.bytes().length,
+                        image.contentType()
+                );
+                uploadedKeys.add(variantKey);
+                variantUrls.put(toVariant(image.width()), url);
+            }
+
+            int updated = record(event, variantUrls);
+            if (updated == 0) {
+                // 처리 중 이미지가 삭제 / 교체됨
+                uploadedKeys.forEach(this::deleteQuietly);
+            }
+        } catch (RuntimeException e) {
+            log.warn("이미지 리사이즈 버전 저장 실패 - key: {}, error: {}", fileKey, e.getMessage());
+            uploadedKeys.forEach(this::deleteQuietly);
+        }
+    }
+
+    private int record(ImageUploadedEvent event, Map<ImageVariant, String> variantUrls) {
+        if (event.getTarget() == ImageUploadedEvent.Target.BRAND) {
+            return sellersRepository.updateVendorProfileThumbnail(
+                    event.getTargetId(), event.getImageUrl(), variantUrls.get(ImageVariant.SMALL));
+        }
+        return imageRepository.updateVariantUrls(
+                event.getTargetId(),
+                variantUrls.get(ImageVariant.SMALL),
+                variantUrls.get(ImageVariant.MEDIUM),
+                variantUrls.get(ImageVariant.LARGE));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            objectStorageService.deleteImage(key);
+        } catch (RuntimeException e) {
+            log.warn("S3 이미지 삭제 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private static ImageVariant toVariant(int width) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (variant.getWidth() == width) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이미지 크기: " + width);
+    }
+
+    // review_abc_123.png -> review_abc_123_w600.jpg
+    private static String variantKey(String fileKey, ResizedImage image) {
+        int dot = fileKey.lastIndexOf('.');
+        String baseName = dot > 0 ? fileKey.substring(0, dot) : fileKey;
+        return baseName + "_w" + image.width() + "." + image.extension();
+    }
+
+    // S3 키 (images/{파일명}) 의 파일명
+    private static String toFileKey(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            taskExecutor.shutdown();
+        }
+    }
+}
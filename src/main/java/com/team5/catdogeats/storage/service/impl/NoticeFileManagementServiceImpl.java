@@ -1,14 +1,13 @@
 package com.team5.catdogeats.storage.service.impl;
 
 import com.team5.catdogeats.storage.domain.Files;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.repository.FilesRepository;
 import com.team5.catdogeats.storage.service.NoticeFileManagementService;
 import com.team5.catdogeats.storage.service.ObjectStorageService;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeFileDownloadResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -23,6 +22,9 @@ import java.util.UUID;
 @Slf4j
 public class NoticeFileManagementServiceImpl implements NoticeFileManagementService {
 
+    private static final long MAX_FILE_SIZE = 10L * 1024 * 1024;
+    private static final int SIGNATURE_SIZE = 8;
+
     private final FilesRepository filesRepository;
     private final ObjectStorageService objectStorageService;
 
@@ -54,31 +56,61 @@ public class NoticeFileManagementServiceImpl implements NoticeFileManagementServ
     }
 
     @Override
-    public NoticeFileDownloadResponseDTO downloadNoticeFile(String fileId) {
-        Files fileEntity = filesRepository.findById(fileId)
-                .orElseThrow(() -> new NoSuchElementException("파일을 찾을 수 없습니다: " + fileId));
+    public PresignedUploadResponseDto presignNoticeFileUpload(String noticeId, String originalFileName, long contentLength) {
+        // 키에 공지사항 ID 를 넣어 confirm 시 다른 공지사항으로 발급된 파일을 연결하지 못하도록 함
+        String fileName = generateNoticeFileName(noticeKeyPrefix(noticeId), originalFileName);
+        return objectStorageService.presignFileUpload(fileName, determineContentType(fileName), contentLength);
+    }
+
+    /**
+     * 직접 업로드 완료 확인
+     * 업로드된 파일의 앞부분만 Range GET 으로 읽어 확장자와 실제 형식이 같은지 확인한 뒤 저장합니다.
+     * 검증에 실패한 파일은 Storage 에서 삭제합니다.
+     * 해당 공지사항으로 발급된 키가 아니면 Storage 를 읽거나 지우지 않고 거절합니다.
+     */
+    @Override
+    public Files confirmNoticeFileUpload(String noticeId, String fileKey) {
+        if (fileKey == null || !fileKey.startsWith(noticeKeyPrefix(noticeId)) || fileKey.contains("/")) {
+            throw new IllegalArgumentException("해당 공지사항에 발급된 업로드 파일이 아닙니다: " + fileKey);
+        }
 
+        ObjectStorageService.StoredObjectHeader object = objectStorageService.readFileHeader(fileKey, SIGNATURE_SIZE);
         try {
-            String fileUrl = fileEntity.getFileUrl();
+            validateUploadedFile(fileKey, object);
+        } catch (IllegalArgumentException e) {
+            deleteNoticeFileFromStorageOnly(object.url());
+            throw e;
+        }
 
-            if (!fileUrl.startsWith("http")) {
-                fileUrl = "https://" + fileUrl;
-            }
+        if (filesRepository.existsByFileUrl(object.url())) {
+            throw new IllegalArgumentException("이미 등록된 파일입니다: " + fileKey);
+        }
 
-            int lastSlash = fileUrl.lastIndexOf('/');
-            String basePath = fileUrl.substring(0, lastSlash + 1);
-            String fileName = fileUrl.substring(lastSlash + 1);
+        log.info("공지사항 파일 직접 업로드 확인 완료: {}", object.url());
+        return filesRepository.save(Files.builder()
+                .fileUrl(object.url())
+                .build());
+    }
 
-            String encodedFileName = java.net.URLEncoder.encode(fileName, "UTF-8");
-            String finalUrl = basePath + encodedFileName;
+    /**
+     * 공지사항 파일 다운로드
+     * 파일 내용을 서버에서 중계하지 않고 presigned URL 만 발급합니다. (호출 측에서 리다이렉트)
+     * 서명은 로컬 계산이라 S3 호출 없이 발급됩니다.
+     */
+    @Override
+    public NoticeFileDownloadResponseDTO downloadNoticeFile(String fileId) {
+        Files fileEntity = filesRepository.findById(fileId)
+                .orElseThrow(() -> new NoSuchElementException("파일을 찾을 수 없습니다: " + fileId));
 
-            log.info("공지사항 파일 다운로드 최종 URL: {}", finalUrl);
+        try {
+            String key = extractKeyFromUrl(fileEntity.getFileUrl());
+            String smartFilename = generateSmartFilename(key);
+            String contentType = determineContentType(key);
 
-            Resource resource = new UrlResource(finalUrl);
-            String smartFilename = generateSmartFilename(fileName);
-            String contentType = determineContentType(fileName);
+            String downloadUrl = objectStorageService.presignFileDownload(key, smartFilename, contentType);
+            log.debug("공지사항 파일 다운로드 URL 발급 - 파일 ID: {}, key: {}", fileId, key);
 
-            return new NoticeFileDownloadResponseDTO(resource, smartFilename, contentType);
+            return new NoticeFileDownloadResponseDTO(downloadUrl, smartFilename, contentType);
 
         } catch (Exception e) {
             log.error("공지사항 파일 다운로드 실패 - 파일 ID: {}", fileId, e);
@@ -147,13 +179,52 @@ public class NoticeFileManagementServiceImpl implements NoticeFileManagementServ
     // 공지사항 전용 파일명 생성
     // 형식: notice_UUID_타임스탬프_원본파일명
     private String generateNoticeFileName(String originalFileName) {
+        return generateNoticeFileName("notice_", originalFileName);
+    }
+
+    private String generateNoticeFileName(String keyPrefix, String originalFileName) {
         if (originalFileName == null || originalFileName.trim().isEmpty()) {
             throw new IllegalArgumentException("파일명이 올바르지 않습니다.");
         }
 
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return "notice_" + uuid + "_" + timestamp + "_" + originalFileName;
+        return keyPrefix + uuid + "_" + timestamp + "_" + originalFileName;
+    }
+
+    // 직접 업로드 파일명 형식: notice_{noticeId}_UUID_타임스탬프_원본파일명
+    private static String noticeKeyPrefix(String noticeId) {
+        return "notice_" + noticeId + "_";
+    }
+
+    // 크기 + 파일 시그니처 검증 (pdf: %PDF, doc/xls: OLE, docx/xlsx: ZIP)
+    private void validateUploadedFile(String fileKey, ObjectStorageService.StoredObjectHeader object) {
+        if (object.contentLength() <= 0 || object.contentLength() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
+        }
+
+        byte[] header = object.header();
+        boolean matches = switch (extractFileExtension(fileKey)) {
+            case "pdf" -> startsWith(header, 0x25, 0x50, 0x44, 0x46);
+            case "doc", "xls" -> startsWith(header, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1);
+            case "docx", "xlsx" -> startsWith(header, 0x50, 0x4B, 0x03, 0x04);
+            default -> false;
+        };
+        if (!matches) {
+            throw new IllegalArgumentException("파일 내용이 확장자와 일치하지 않습니다: " + fileKey);
+        }
+    }
+
+    private static boolean startsWith(byte[] header, int... signature) {
+        if (header.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != (byte) signature[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     //S3에서 파일 삭제
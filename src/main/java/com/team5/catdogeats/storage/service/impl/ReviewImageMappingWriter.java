@@ -0,0 +1,75 @@
+package com.team5.catdogeats.storage.service.impl;
+
+import com.team5.catdogeats.global.config.JpaTransactional;
+import com.team5.catdogeats.reviews.domain.Reviews;
+import com.team5.catdogeats.reviews.repository.ReviewRepository;
+import com.team5.catdogeats.storage.domain.Images;
+import com.team5.catdogeats.storage.domain.dto.ReviewImageUploadResponseDto;
+import com.team5.catdogeats.storage.domain.mapping.ReviewsImages;
+import com.team5.catdogeats.storage.repository.ImageRepository;
+import com.team5.catdogeats.storage.repository.ReviewImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 리뷰 이미지 DB 반영
+ * S3 업로드가 모두 끝난 뒤 images / reviews_images 를 짧은 트랜잭션 하나로 한꺼번에 저장합니다.
+ * 업로드 중에는 DB 커넥션을 잡지 않도록 업로드와 분리했습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewImageMappingWriter {
+
+    private final ImageRepository imageRepository;
+    private final ReviewImageRepository reviewImageRepository;
+    private final ReviewRepository reviewRepository;
+
+    public record Replaced(List<ReviewImageUploadResponseDto> uploaded, List<String> removedImageUrls) {}
+
+    @JpaTransactional
+    public List<ReviewImageUploadResponseDto> saveAll(String reviewId, List<String> imageUrls) {
+        Reviews review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new NoSuchElementException("해당 리뷰 없음"));
+
+        List<Images> images = imageUrls.stream()
+                .map(url -> Images.builder()
+                        .imageUrl(url)
+                        .build())
+                .toList();
+        List<Images> savedImages = imageRepository.saveAll(images);
+
+        List<ReviewsImages> mappings = savedImages.stream()
+                .map(image -> ReviewsImages.builder()
+                        .reviews(review)
+                        .images(image)
+                        .build())
+                .toList();
+        reviewImageRepository.saveAll(mappings);
+
+        return savedImages.stream()
+                .map(image -> new ReviewImageUploadResponseDto(image.getId(), image.getImageUrl()))
+                .toList();
+    }
+
+    /**
+     * 기존 이미지 매핑 삭제 + 새 이미지 저장
+     * 삭제한 이미지의 S3 파일(리사이즈 버전 포함)은 커밋 이후 호출 측에서 지웁니다.
+     */
+    @JpaTransactional
+    public Replaced replace(String reviewId, List<String> oldImageIds, List<String> imageUrls) {
+        List<String> removedImageUrls = new ArrayList<>(oldImageIds.size());
+        for (String oldImageId : oldImageIds) {
+            ReviewsImages mapping = reviewImageRepository.findByReviewsIdAndImagesId(reviewId, oldImageId)
+                    .orElseThrow(() -> new NoSuchElementException("해당 매핑 데이터 없음"));
+            removedImageUrls.addAll(mapping.getImages().getAllUrls());
+            reviewImageRepository.delete(mapping);
+            imageRepository.deleteById(oldImageId);
+        }
+
+        return new Replaced(saveAll(reviewId, imageUrls), removedImageUrls);
+    }
+}
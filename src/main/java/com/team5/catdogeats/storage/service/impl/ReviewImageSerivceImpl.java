@@ -1,24 +1,34 @@
 package com.team5.catdogeats.storage.service.impl;
 
+import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.config.JpaTransactional;
-import com.team5.catdogeats.reviews.domain.Reviews;
 import com.team5.catdogeats.reviews.repository.ReviewRepository;
-import com.team5.catdogeats.storage.domain.Images;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageResponseDto;
 import com.team5.catdogeats.storage.domain.dto.ReviewImageUploadResponseDto;
 import com.team5.catdogeats.storage.domain.mapping.ReviewsImages;
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
 import com.team5.catdogeats.storage.repository.ImageRepository;
 import com.team5.catdogeats.storage.repository.ReviewImageRepository;
 import com.team5.catdogeats.storage.service.ObjectStorageService;
 import com.team5.catdogeats.storage.service.ReviewImageService;
 import com.team5.catdogeats.storage.util.ImageValidationUtil;
+import com.team5.catdogeats.users.domain.dto.BuyerDTO;
+import com.team5.catdogeats.users.repository.BuyerRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewImageSerivceImpl implements ReviewImageService {
@@ -27,75 +37,150 @@ public class ReviewImageSerivceImpl implements ReviewImageService {
     private final ImageRepository imageRepository;
     private final ReviewImageRepository reviewImageRepository;
     private final ReviewRepository reviewRepository;
+    private final BuyerRepository buyerRepository;
     private final ImageValidationUtil imageValidationUtil;
+    private final ReviewImageMappingWriter reviewImageMappingWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @JpaTransactional
+    private static final int MAX_IMAGES_PER_REQUEST = 10;
+
+    /**
+     * 리뷰 이미지 업로드
+     * 검증을 모두 통과한 뒤 S3 비동기 업로드를 동시에 시작하고, 전부 끝나면 DB 에 한 번에 저장합니다.
+     * 업로드 또는 저장이 실패하면 이미 올라간 S3 파일을 지워 고아 객체가 남지 않도록 합니다.
+     */
     @Override
     public List<ReviewImageUploadResponseDto> uploadReviewImage(String reviewId, List<MultipartFile> images) throws IOException {
+        validateUploadRequest(reviewId, images);
 
-        if (images.size() > 10) {
-            throw new IllegalArgumentException("이미지는 한 번에 최대 10개까지만 업로드할 수 있습니다.");
+        List<PendingUpload> uploads = startUploads(reviewId, images);
+        List<String> imageUrls = awaitUploads(uploads);
+        List<ReviewImageUploadResponseDto> saved;
+        try {
+            saved = reviewImageMappingWriter.saveAll(reviewId, imageUrls);
+        } catch (RuntimeException e) {
+            deleteUploaded(uploads);
+            throw e;
         }
 
-        Reviews review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new NoSuchElementException("해당 리뷰 없음"));
-
-        List<ReviewImageUploadResponseDto> result = new ArrayList<>();
-
-        for (MultipartFile file : images) {
-            imageValidationUtil.validateImageFile(file);
+        requestVariants(saved);
+        return saved;
+    }
 
-            // 동일한 이름을 가진 이미지 파일 덮어쓰기 방지
-            String uniqueKey = generateUniqueFileName(file.getOriginalFilename(), reviewId);
+    /**
+     * 리뷰 이미지 수정
+     * 새 이미지를 먼저 업로드한 뒤 기존 매핑 삭제 + 새 매핑 저장을 한 트랜잭션으로 처리하고,
+     * 커밋이 끝난 다음 기존 이미지의 S3 파일을 지웁니다.
+     */
+    @Override
+    public List<ReviewImageUploadResponseDto> updateReviewImage(String reviewId, List<String> oldImageIds, List<MultipartFile> images) throws IOException {
+        validateUploadRequest(reviewId, images);
 
-            // S3 업로드
-            String s3Url = objectStorageService.uploadImage(
-                    uniqueKey,
-                    file.getInputStream(),
-                    file.getSize(),
-                    file.getContentType()
-            );
+        List<PendingUpload> uploads = startUploads(reviewId, images);
+        List<String> imageUrls = awaitUploads(uploads);
+        ReviewImageMappingWriter.Replaced replaced;
+        try {
+            replaced = reviewImageMappingWriter.replace(reviewId, oldImageIds, imageUrls);
+        } catch (RuntimeException e) {
+            deleteUploaded(uploads);
+            throw e;
+        }
 
-            // Images 테이블 저장
-            Images image = Images.builder()
-                    .imageUrl(s3Url)
-                    .build();
-            Images savedImage = imageRepository.save(image);
+        for (String removedImageUrl : replaced.removedImageUrls()) {
+            deleteQuietly(toFileKey(removedImageUrl));
+        }
+        requestVariants(replaced.uploaded());
+        return replaced.uploaded();
+    }
 
-            // reviews_images 매핑 저장
-            ReviewsImages reviewsImages = ReviewsImages.builder()
-                    .reviews(review)
-                    .images(savedImage)
-                    .build();
-            reviewImageRepository.save(reviewsImages);
+    /**
+     * 리뷰 이미지 직접 업로드 URL 발급
+     * 파일 내용은 서버를 거치지 않으므로 이름 / 형식 / 크기만 먼저 검증하고, 내용은 confirm 에서 확인합니다.
+     */
+    @Override
+    public List<PresignedUploadResponseDto> presignReviewImageUploads(UserPrincipal userPrincipal, String reviewId, List<PresignedUploadRequestDto> images) {
+        validateImageCount(images.size());
+        validateReviewOwner(userPrincipal, reviewId);
 
-            result.add(new ReviewImageUploadResponseDto(image.getId(), s3Url));
+        for (PresignedUploadRequestDto image : images) {
+            imageValidationUtil.validateUploadRequest(image.fileName(), image.contentType(), image.contentLength());
         }
 
-        return result;
+        return images.stream()
+                .map(image -> objectStorageService.presignImageUpload(
+                        generateUniqueFileName(image.fileName(), reviewId),
+                        image.contentType(),
+                        image.contentLength()
+                ))
+                .toList();
     }
 
-    @JpaTransactional
+    /**
+     * 직접 업로드 완료 확인
+     * 업로드된 객체의 앞부분만 Range GET 으로 읽어 시그니처 / 스크립트 / 크기를 검증한 뒤 DB 에 한 번에 저장합니다.
+     * 이미 리뷰에 연결된 파일이 있으면 아무것도 읽거나 지우지 않고 거절하고,
+     * 검증에 실패하면 실패한 파일만 지운 뒤 저장하지 않습니다. (통과한 파일은 다시 confirm 할 수 있음)
+     */
     @Override
-    public List<ReviewImageUploadResponseDto> updateReviewImage(String reviewId, List<String> oldImageIds, List<MultipartFile> images) throws IOException {
-        // 1. 기존 이미지/매핑/S3에 있는 이미지들 중 골라서 삭제
-        for (String oldImageId : oldImageIds) {
-            this.deleteReviewImage(reviewId, oldImageId);
+    public List<ReviewImageUploadResponseDto> confirmReviewImageUploads(UserPrincipal userPrincipal, String reviewId, List<String> fileKeys) {
+        if (fileKeys.isEmpty()) {
+            throw new IllegalArgumentException("등록할 이미지가 없습니다.");
         }
+        validateImageCount(fileKeys.size());
+        validateReviewOwner(userPrincipal, reviewId);
 
-        // 2. 새 이미지 업로드/매핑
-        return this.uploadReviewImage(reviewId, images);
+        // 다른 리뷰(다른 사용자)에게 발급된 파일은 연결하지 않음
+        String keyPrefix = reviewKeyPrefix(reviewId);
+        for (String fileKey : fileKeys) {
+            if (!fileKey.startsWith(keyPrefix) || fileKey.contains("/")) {
+                throw new IllegalArgumentException("해당 리뷰에 발급된 업로드 파일이 아닙니다: " + fileKey);
+            }
+        }
+        if (new HashSet<>(fileKeys).size() != fileKeys.size()) {
+            throw new IllegalArgumentException("같은 파일을 중복으로 등록할 수 없습니다.");
+        }
 
+        // 이미 연결된 파일을 다시 confirm 해도 기존 리뷰 이미지가 지워지지 않도록 S3 를 건드리기 전에 확인
+        List<String> imageUrls = fileKeys.stream()
+                .map(objectStorageService::imageUrl)
+                .toList();
+        if (imageRepository.existsByImageUrlIn(imageUrls)) {
+            throw new IllegalArgumentException("이미 등록된 이미지입니다.");
+        }
+
+        List<String> invalidKeys = new ArrayList<>();
+        IllegalArgumentException firstError = null;
+        for (String fileKey : fileKeys) {
+            ObjectStorageService.StoredObjectHeader object =
+                    objectStorageService.readImageHeader(fileKey, ImageValidationUtil.HEADER_SCAN_SIZE);
+            try {
+                imageValidationUtil.validateUploadedImage(object.header(), object.contentLength(), object.contentType());
+            } catch (IllegalArgumentException e) {
+                invalidKeys.add(fileKey);
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+        if (firstError != null) {
+            invalidKeys.forEach(this::deleteQuietly);
+            throw firstError;
+        }
+
+        List<ReviewImageUploadResponseDto> saved = reviewImageMappingWriter.saveAll(reviewId, imageUrls);
+        requestVariants(saved);
+        return saved;
     }
 
     @JpaTransactional
     @Override
     public List<ReviewImageResponseDto> getReviewImagesByReviewId(String reviewId) {
-        Reviews review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new NoSuchElementException("해당 리뷰 없음"));
-
         List<ReviewsImages> mappings = reviewImageRepository.findAllByReviewsIdWithImages(reviewId);
-        
+        // 이미지가 있으면 리뷰도 있으므로, 비어 있을 때만 리뷰 존재 여부 확인
+        if (mappings.isEmpty() && !reviewRepository.existsById(reviewId)) {
+            throw new NoSuchElementException("해당 리뷰 없음");
+        }
+
         return mappings.stream()
                 .map(mapping -> new ReviewImageResponseDto(
                         mapping.getImages().getId(),
@@ -110,16 +195,120 @@ public class ReviewImageSerivceImpl implements ReviewImageService {
         ReviewsImages mapping = reviewImageRepository.findByReviewsIdAndImagesId(reviewId, imageId)
                 .orElseThrow(() -> new NoSuchElementException("해당 매핑 데이터 없음"));
 
-        // S3에서 이미지 파일 삭제 (images/{파일명})
-        String imageUrl = mapping.getImages().getImageUrl();
-        String fileKey = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
-        objectStorageService.deleteImage(fileKey);
+        // S3에서 이미지 파일 삭제 (images/{파일명}, 리사이즈 버전 포함)
+        for (String imageUrl : mapping.getImages().getAllUrls()) {
+            objectStorageService.deleteImage(toFileKey(imageUrl));
+        }
 
         // 매핑, 이미지 DB 삭제
         reviewImageRepository.delete(mapping);
         imageRepository.deleteById(imageId);
     }
 
+    private void validateUploadRequest(String reviewId, List<MultipartFile> images) {
+        validateImageCount(images.size());
+
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new NoSuchElementException("해당 리뷰 없음");
+        }
+
+        // 하나라도 잘못된 파일이 있으면 업로드를 시작하지 않음
+        for (MultipartFile file : images) {
+            imageValidationUtil.validateImageFile(file);
+        }
+    }
+
+    // 본인이 작성한 리뷰에만 이미지를 올릴 수 있음
+    private void validateReviewOwner(UserPrincipal userPrincipal, String reviewId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new NoSuchElementException("해당 리뷰 없음");
+        }
+
+        BuyerDTO buyer = buyerRepository.findOnlyBuyerByProviderAndProviderId(
+                        userPrincipal.provider(), userPrincipal.providerId())
+                .orElseThrow(() -> new NoSuchElementException("해당 유저 정보를 찾을 수 없습니다."));
+        if (!reviewRepository.existsByIdAndBuyerUserId(reviewId, buyer.userId())) {
+            throw new AccessDeniedException("본인이 작성한 리뷰에만 이미지를 등록할 수 있습니다.");
+        }
+    }
+
+    private void validateImageCount(int count) {
+        if (count > MAX_IMAGES_PER_REQUEST) {
+            throw new IllegalArgumentException("이미지는 한 번에 최대 10개까지만 업로드할 수 있습니다.");
+        }
+    }
+
+    // 리사이즈 버전은 커밋 이후 별도 작업 스레드에서 생성
+    private void requestVariants(List<ReviewImageUploadResponseDto> images) {
+        for (ReviewImageUploadResponseDto image : images) {
+            eventPublisher.publishEvent(ImageUploadedEvent.ofImage(image.imageId(), image.imageUrl()));
+        }
+    }
+
+    // 동시 업로드 수는 ObjectStorageService 에서 제한
+    private List<PendingUpload> startUploads(String reviewId, List<MultipartFile> images) throws IOException {
+        List<PendingUpload> uploads = new ArrayList<>(images.size());
+        try {
+            for (MultipartFile file : images) {
+                // 동일한 이름을 가진 이미지 파일 덮어쓰기 방지
+                String uniqueKey = generateUniqueFileName(file.getOriginalFilename(), reviewId);
+                CompletableFuture<String> upload = objectStorageService.uploadImageAsync(
+                        uniqueKey,
+                        file.getInputStream(),
+                        file.getSize(),
+                        file.getContentType()
+                );
+                uploads.add(new PendingUpload(uniqueKey, upload));
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteUploaded(uploads);
+            throw e;
+        }
+        return uploads;
+    }
+
+    private List<String> awaitUploads(List<PendingUpload> uploads) {
+        try {
+            CompletableFuture.allOf(uploads.stream()
+                    .map(PendingUpload::upload)
+                    .toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteUploaded(uploads);
+            log.warn("리뷰 이미지 업로드 실패 - {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            throw new IllegalStateException("이미지 업로드에 실패했습니다.", e.getCause());
+        }
+        return uploads.stream()
+                .map(upload -> upload.upload().join())
+                .toList();
+    }
+
+    // 진행 중인 업로드가 끝나기를 기다린 뒤 성공한 파일만 삭제
+    private void deleteUploaded(List<PendingUpload> uploads) {
+        for (PendingUpload upload : uploads) {
+            boolean uploaded = upload.upload()
+                    .handle((url, error) -> error == null)
+                    .join();
+            if (uploaded) {
+                deleteQuietly(upload.key());
+            }
+        }
+    }
+
+    private void deleteQuietly(String fileKey) {
+        try {
+            objectStorageService.deleteImage(fileKey);
+        } catch (RuntimeException e) {
+            log.warn("S3 이미지 삭제 실패 - key: {}, error: {}", fileKey, e.getMessage());
+        }
+    }
+
+    // S3 키 (images/{파일명}) 의 파일명
+    private static String toFileKey(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+    }
+
+    private record PendingUpload(String key, CompletableFuture<String> upload) {}
+
     /**
      * 고유한 파일명 생성
      * 형식: review_{reviewId}_{UUID}.{확장자}
@@ -128,9 +317,11 @@ public class ReviewImageSerivceImpl implements ReviewImageService {
         String extension = imageValidationUtil.getFileExtension(originalFileName);
         String uuid = UUID.randomUUID().toString().replace("-", "");
 
-        String shortReviewId = reviewId.length() > 8 ? reviewId.substring(0, 8) : reviewId;
+        return String.format("%s%s.%s", reviewKeyPrefix(reviewId), uuid, extension);
+    }
 
-        // 처음 8자리만 사용 (너무 길어지는 것 방지)
-        return String.format("review_%s_%s.%s", shortReviewId, uuid, extension);
+    // review_{reviewId}_ (앞자리만 쓰면 다른 리뷰와 겹칠 수 있어 전체 ID 사용)
+    private static String reviewKeyPrefix(String reviewId) {
+        return "review_" + reviewId + "_";
     }
 }
@@ -0,0 +1,89 @@
+package com.team5.catdogeats.storage.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * 바이트 배열에서 ASCII 키워드 포함 여부 검사 (Aho-Corasick, 대소문자 무시)
+ * 생성 시 모든 상태의 전이를 미리 채워 두므로 검사는 입력 1바이트당 배열 조회 한 번입니다.
+ * 문자열로 디코딩하거나 소문자 사본을 만들지 않고, 키워드 수와 관계없이 입력을 한 번만 훑습니다.
+ * 생성 후에는 읽기만 하므로 여러 스레드에서 공유해도 안전합니다.
+ */
+final class AsciiKeywordMatcher {
+    private static final int ALPHABET = 256;
+
+    private final int[][] transitions;
+    private final boolean[] accepting;
+
+    AsciiKeywordMatcher(String... keywords) {
+        int maxStates = 1;
+        for (String keyword : keywords) {
+            maxStates += keyword.length();
+        }
+
+        int[][] next = new int[maxStates][ALPHABET];
+        for (int[] row : next) {
+            Arrays.fill(row, -1);
+        }
+        boolean[] output = new boolean[maxStates];
+
+        // 1. 키워드 trie
+        int stateCount = 1;
+        for (String keyword : keywords) {
+            int state = 0;
+            for (byte b : keyword.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII)) {
+                int c = b & 0xFF;
+                if (next[state][c] == -1) {
+                    next[state][c] = stateCount++;
+                }
+                state = next[state][c];
+            }
+            output[state] = true;
+        }
+
+        // 2. 실패 링크를 따라 비어 있는 전이를 채움 (BFS, 깊이가 얕은 상태부터)
+        int[] fail = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            if (next[0][c] == -1) {
+                next[0][c] = 0;
+            } else {
+                queue.add(next[0][c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[fail[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int target = next[state][c];
+                if (target == -1) {
+                    next[state][c] = next[fail[state]][c];
+                } else {
+                    fail[target] = next[fail[state]][c];
+                    queue.add(target);
+                }
+            }
+        }
+
+        this.transitions = Arrays.copyOf(next, stateCount);
+        this.accepting = Arrays.copyOf(output, stateCount);
+    }
+
+    boolean containsAny(byte[] data, int length) {
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            int c = data[i] & 0xFF;
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            state = transitions[state][c];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package com.team5.catdogeats.storage.util;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 이미지 리사이즈 (JDK ImageIO / Java2D 만 사용, 네이티브 라이브러리 없음)
+ * - 원본보다 작은 가로 크기만 만들고, 비율은 유지합니다.
+ * - 큰 원본은 디코딩 단계에서 서브샘플링해 메모리 사용량을 줄이고, 절반씩 줄여 가며 축소해 품질을 유지합니다.
+ * - 투명도가 있으면 PNG, 없으면 JPEG 로 저장합니다.
+ * - JDK 에 WebP 코덱이 없으므로 WebP 원본은 처리하지 않습니다. (빈 목록 반환)
+ */
+@Component
+public class ImageResizer {
+    // 디코딩 전 거부할 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    public record ResizedImage(int width, byte[] bytes, String extension, String contentType) {}
+
+    /**
+     * @param widths 만들 가로 크기 목록 (오름차순)
+     * @return 원본보다 작은 크기의 리사이즈 결과 (입력 순서)
+     */
+    public List<ResizedImage> resize(InputStream source, List<Integer> widths) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return List.of();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return List.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > MAX_SOURCE_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+                }
+
+                List<Integer> targets = widths.stream()
+                        .filter(width -> width < sourceWidth)
+                        .toList();
+                if (targets.isEmpty()) {
+                    return List.of();
+                }
+
+                // 가장 큰 결과의 2배 이상은 남기고 서브샘플링
+                int largest = targets.get(targets.size() - 1);
+                int subsampling = Math.max(1, sourceWidth / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                boolean hasAlpha = decoded.getColorModel().hasAlpha();
+                List<ResizedImage> results = new ArrayList<>(targets.size());
+                // 큰 크기부터 만들어 다음 축소의 입력으로 재사용
+                BufferedImage current = decoded;
+                for (int i = targets.size() - 1; i >= 0; i--) {
+                    int width = targets.get(i);
+                    int height = Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+                    current = scaleDown(current, width, height, hasAlpha);
+                    results.add(0, encode(current, width, hasAlpha));
+                }
+                return results;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scaleDown(BufferedImage image, int targetWidth, int targetHeight, boolean hasAlpha) {
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, type);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static ResizedImage encode(BufferedImage image, int width, boolean hasAlpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (hasAlpha) {
+            ImageIO.write(image, "png", out);
+            return new ResizedImage(width, out.toByteArray(), "png", "image/png");
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new ResizedImage(width, out.toByteArray(), "jpg", "image/jpeg");
+    }
+}
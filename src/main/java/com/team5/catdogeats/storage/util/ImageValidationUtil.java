@@ -6,22 +6,37 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
 
 /**
  * 이미지 파일 검증을 위한 공용 유틸리티 클래스
  * Storage 도메인에서 사용하는 이미지 검증 로직을 통합 관리
+ * 파일 내용은 앞부분(HEADER_SCAN_SIZE)만 한 번 읽어 스크립트 검사와 시그니처 검사를 함께 처리합니다.
  */
 @Slf4j
 @Component
 public class ImageValidationUtil {
 
     private static final int MAX_FILENAME_LENGTH = 255;
+    private static final long MAX_FILE_SIZE = 10L * 1024 * 1024;
+    // 내용 검사에 사용하는 앞부분 크기 (직접 업로드 검증 시 Range GET 크기)
+    public static final int HEADER_SCAN_SIZE = 2048;
+
+    private static final Pattern ALLOWED_MIME_TYPE = Pattern.compile("^image/(jpeg|jpg|png|webp)$");
+    private static final Pattern DANGEROUS_EXTENSION = Pattern.compile(
+            "\\.(js|html|htm|php|jsp|asp|exe|bat|cmd)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UNSAFE_FILENAME_CHARS = Pattern.compile("[^a-zA-Z0-9._-]");
+    private static final Pattern SUPPORTED_EXTENSION = Pattern.compile("^(jpg|jpeg|png|webp)$");
+
+    private static final AsciiKeywordMatcher DANGEROUS_SCRIPT = new AsciiKeywordMatcher(
+            "<script", "javascript:", "onload=", "onerror=",
+            "onclick=", "eval(", "document.", "alert("
+    );
 
     /**
      * 통합 이미지 파일 검증
-     * - 기본 속성 검사 (NULL)
-     * - 실제 파일 내용 검증 (Magic Number)
+     * - 기본 속성 검사 (NULL, 크기)
+     * - 실제 파일 내용 검증 (스크립트, Magic Number)
      * - 보안 강화된 단일 검증 메서드
      *
      * @param imageFile 검증할 이미지 파일
@@ -32,41 +47,74 @@ public class ImageValidationUtil {
         validateBasicProperties(imageFile);
 
         // MIME Type 검증
-        validateMimeType(imageFile);
+        validateMimeType(imageFile.getContentType());
 
         // 파일명 보안 검증
         validateFileName(imageFile.getOriginalFilename());
 
-        // 스크립트 공격 방지
-        validateNoScriptContent(imageFile);
-
-        // 실제 파일 내용 검증
-        validateFileSignature(imageFile);
+        // 스크립트 공격 방지 + 실제 파일 내용 검증
+        validateContent(imageFile);
 
         log.debug("이미지 파일 검증 완료 - fileName: {}, size: {}",
                 imageFile.getOriginalFilename(), imageFile.getSize());
     }
 
+    /**
+     * presigned URL 발급 전 검증 (클라이언트가 알려준 파일명 / 형식 / 크기)
+     * 실제 내용은 업로드 후 validateUploadedImage 로 다시 확인합니다.
+     */
+    public void validateUploadRequest(String fileName, String contentType, long contentLength) {
+        validateSize(contentLength);
+        validateMimeType(contentType);
+        validateFileName(fileName);
+    }
+
+    /**
+     * 직접 업로드된 이미지 검증 (S3 에서 앞부분만 읽은 내용)
+     *
+     * @param header        앞부분 바이트 (최대 HEADER_SCAN_SIZE)
+     * @param contentLength 저장된 객체 전체 크기
+     * @param contentType   저장된 객체 Content-Type
+     */
+    public void validateUploadedImage(byte[] header, long contentLength, String contentType) {
+        validateSize(contentLength);
+        validateMimeType(contentType);
+
+        int length = Math.min(header.length, HEADER_SCAN_SIZE);
+        validateNoScriptContent(header, length);
+        validateFileSignature(header, length);
+    }
+
     /**
      * 기본 속성 검증
      */
     private void validateBasicProperties(MultipartFile imageFile) {
-        if (imageFile == null || imageFile.isEmpty()) {
+        if (imageFile == null) {
             throw new IllegalArgumentException("이미지 파일이 비어있습니다.");
         }
+
+        validateSize(imageFile.getSize());
+    }
+
+    private void validateSize(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("이미지 파일이 비어있습니다.");
+        }
+
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("이미지 파일 크기는 10MB를 초과할 수 없습니다.");
+        }
     }
 
     /**
      * MIME Type 검증
      */
-    private void validateMimeType(MultipartFile file) {
-        String contentType = file.getContentType();
-
+    private void validateMimeType(String contentType) {
         if (contentType == null) {
             throw new IllegalArgumentException("파일의 Content-Type을 확인할 수 없습니다.");
         }
 
-        if (!contentType.matches("^image/(jpeg|jpg|png|webp)$")) {
+        if (!ALLOWED_MIME_TYPE.matcher(contentType).matches()) {
             throw new IllegalArgumentException(
                     String.format("허용되지 않은 MIME 타입입니다: %s", contentType));
         }
@@ -90,37 +138,35 @@ public class ImageValidationUtil {
         }
 
         // 위험한 확장자 차단
-        if (fileName.toLowerCase().matches(".*\\.(js|html|htm|php|jsp|asp|exe|bat|cmd).*")) {
+        if (DANGEROUS_EXTENSION.matcher(fileName).find()) {
             throw new IllegalArgumentException("실행 가능한 파일 확장자는 업로드할 수 없습니다.");
         }
     }
 
     /**
-     * 스크립트 공격 방지
+     * 파일 내용 검증 (스트림은 한 번만 열어 앞부분만 읽음)
      */
-    private void validateNoScriptContent(MultipartFile file) {
+    private void validateContent(MultipartFile file) {
+        byte[] header = new byte[HEADER_SCAN_SIZE];
+        int bytesRead;
         try (InputStream is = file.getInputStream()) {
-            byte[] buffer = new byte[2048];
-            int bytesRead = is.read(buffer);
-
-            if (bytesRead > 0) {
-                String content = new String(buffer, 0, bytesRead, StandardCharsets.UTF_8).toLowerCase();
-
-                String[] dangerousPatterns = {
-                        "<script", "javascript:", "onload=", "onerror=",
-                        "onclick=", "eval(", "document.", "alert("
-                };
-
-                for (String pattern : dangerousPatterns) {
-                    if (content.contains(pattern)) {
-                        throw new IllegalArgumentException(
-                                "보안상 위험한 스크립트가 포함된 파일은 업로드할 수 없습니다.");
-                    }
-                }
-            }
+            bytesRead = is.readNBytes(header, 0, HEADER_SCAN_SIZE);
         } catch (IOException e) {
             throw new IllegalArgumentException("파일 내용 검증 중 오류가 발생했습니다.", e);
         }
+
+        validateNoScriptContent(header, bytesRead);
+        validateFileSignature(header, bytesRead);
+    }
+
+    /**
+     * 스크립트 공격 방지
+     */
+    private void validateNoScriptContent(byte[] header, int length) {
+        if (DANGEROUS_SCRIPT.containsAny(header, length)) {
+            throw new IllegalArgumentException(
+                    "보안상 위험한 스크립트가 포함된 파일은 업로드할 수 없습니다.");
+        }
     }
 
     /**
@@ -128,36 +174,28 @@ public class ImageValidationUtil {
      * - JPEG, PNG, WebP 실제 파일 형식 확인
      * - Content-Type 조작 공격 방어
      */
-    private void validateFileSignature(MultipartFile file) {
-        try (InputStream is = file.getInputStream()) {
-            byte[] header = new byte[12]; // WebP 확인을 위해 12바이트
-            int bytesRead = is.read(header);
-
-            if (bytesRead < 4) {
-                throw new IllegalArgumentException("파일 형식을 확인할 수 없습니다.");
-            }
-
-            // JPEG: FF D8 FF
-            if (header[0] == (byte) 0xFF && header[1] == (byte) 0xD8 && header[2] == (byte) 0xFF) {
-                return;
-            }
-
-            // PNG: 89 50 4E 47
-            if (header[0] == (byte) 0x89 && header[1] == 0x50 && header[2] == 0x4E && header[3] == 0x47) {
-                return;
-            }
+    private void validateFileSignature(byte[] header, int length) {
+        if (length < 4) {
+            throw new IllegalArgumentException("파일 형식을 확인할 수 없습니다.");
+        }
 
-            // WebP: RIFF....WEBP
-            if (header[0] == 0x52 && header[1] == 0x49 && header[2] == 0x46 && header[3] == 0x46 &&
-                    header[8] == 0x57 && header[9] == 0x45 && header[10] == 0x42 && header[11] == 0x50) {
-                return;
-            }
+        // JPEG: FF D8 FF
+        if (header[0] == (byte) 0xFF && header[1] == (byte) 0xD8 && header[2] == (byte) 0xFF) {
+            return;
+        }
 
-            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, WebP만 지원)");
+        // PNG: 89 50 4E 47
+        if (header[0] == (byte) 0x89 && header[1] == 0x50 && header[2] == 0x4E && header[3] == 0x47) {
+            return;
+        }
 
-        } catch (IOException e) {
-            throw new IllegalArgumentException("파일 형식 검증 중 오류가 발생했습니다.", e);
+        // WebP: RIFF....WEBP
+        if (length >= 12 && header[0] == 0x52 && header[1] == 0x49 && header[2] == 0x46 && header[3] == 0x46 &&
+                header[8] == 0x57 && header[9] == 0x45 && header[10] == 0x42 && header[11] == 0x50) {
+            return;
         }
+
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, WebP만 지원)");
     }
 
     /**
@@ -168,12 +206,12 @@ public class ImageValidationUtil {
             return "jpg";
         }
 
-        String safeName = fileName.replaceAll("[^a-zA-Z0-9._-]", "");
+        String safeName = UNSAFE_FILENAME_CHARS.matcher(fileName).replaceAll("");
         int lastDotIndex = safeName.lastIndexOf('.');
 
         if (lastDotIndex != -1 && lastDotIndex < safeName.length() - 1) {
             String ext = safeName.substring(lastDotIndex + 1).toLowerCase();
-            if (ext.matches("^(jpg|jpeg|png|webp)$")) {
+            if (SUPPORTED_EXTENSION.matcher(ext).matches()) {
                 return ext;
             }
         }
@@ -0,0 +1,33 @@
+package com.team5.catdogeats.support.domain.enums;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 공지사항 검색 방식 (notice.search.mode)
+ * TRIGRAM: pg_trgm 부분 일치. 형태소 사전 없이 한국어 조사 / 복합어 중간도 찾을 수 있음 (기본값)
+ *          단, 3글자 미만 검색어는 인덱스를 쓰지 못하므로 제목에서만 찾음 (본문에만 있는 공지사항은 검색되지 않음)
+ * FULL_TEXT: tsvector 전문 검색. 토큰화는 notice.search.ts-config 의 텍스트 검색 설정을 따름
+ *            (simple 은 공백 단위, 한국어 형태소 분석 설정을 설치했다면 그 이름을 지정)
+ */
+public enum NoticeSearchMode {
+    TRIGRAM,
+    FULL_TEXT;
+
+    // 텍스트 검색 설정 이름은 SQL 에 그대로 들어가므로 식별자 형식만 허용
+    private static final Pattern TS_CONFIG_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    public static NoticeSearchMode from(String value) {
+        return valueOf(value.strip().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @throws IllegalArgumentException 식별자 형식이 아닌 텍스트 검색 설정 이름
+     */
+    public static String validateTsConfig(String tsConfig) {
+        if (tsConfig == null || !TS_CONFIG_NAME.matcher(tsConfig).matches()) {
+            throw new IllegalArgumentException("notice.search.ts-config 는 소문자 / 숫자 / _ 로 된 텍스트 검색 설정 이름이어야 합니다: " + tsConfig);
+        }
+        return tsConfig;
+    }
+}
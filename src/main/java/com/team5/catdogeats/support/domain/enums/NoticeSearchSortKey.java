@@ -0,0 +1,15 @@
+package com.team5.catdogeats.support.domain.enums;
+
+/**
+ * 공지사항 검색 정렬 키
+ * 동률을 끊기 위해 id 를 두 번째 키로 사용합니다.
+ */
+public enum NoticeSearchSortKey {
+    RELEVANCE,
+    LATEST;
+
+    // 지원하지 않는 값은 관련도순으로 처리
+    public static NoticeSearchSortKey from(String sortBy) {
+        return "latest".equalsIgnoreCase(sortBy) ? LATEST : RELEVANCE;
+    }
+}
@@ -0,0 +1,75 @@
+package com.team5.catdogeats.support.domain.notice.config;
+
+import com.team5.catdogeats.global.config.SearchIndexBuilder;
+import com.team5.catdogeats.global.config.SearchIndexBuilder.IndexDefinition;
+import com.team5.catdogeats.support.domain.enums.NoticeSearchMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 공지사항 검색 인덱스 생성
+ * 현재 검색 방식(notice.search.mode)에 필요한 GIN 인덱스만 기동 후 백그라운드에서 IF NOT EXISTS 로 생성합니다.
+ * FULL_TEXT 인덱스는 텍스트 검색 설정별로 이름을 달리하므로, 설정을 바꾸면 새 인덱스가 만들어집니다. (이전 인덱스는 직접 삭제)
+ * 중단되어 invalid 로 남은 인덱스는 SearchIndexBuilder 가 다시 만듭니다.
+ * 생성에 실패해도 기동은 계속되며, 이때 검색은 인덱스 없이 동작합니다.
+ */
+@Slf4j
+@Component
+public class NoticeSearchIndexInitializer {
+
+    private final SearchIndexBuilder searchIndexBuilder;
+    private final NoticeSearchMode mode;
+    private final String tsConfig;
+    private final boolean enabled;
+
+    public NoticeSearchIndexInitializer(SearchIndexBuilder searchIndexBuilder,
+                                        @Value("${notice.search.mode:trigram}") String mode,
+                                        @Value("${notice.search.ts-config:simple}") String tsConfig,
+                                        @Value("${notice.search.index.enabled:true}") boolean enabled) {
+        this.searchIndexBuilder = searchIndexBuilder;
+        this.mode = NoticeSearchMode.from(mode);
+        this.tsConfig = NoticeSearchMode.validateTsConfig(tsConfig);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!enabled) {
+            return;
+        }
+
+        searchIndexBuilder.buildInBackground("notice-search-index", preparation(), indexes())
+                .thenAccept(built -> {
+                    if (built) {
+                        log.info("공지사항 검색 인덱스 확인 완료 - mode: {}", mode);
+                    }
+                });
+    }
+
+    public List<String> preparation() {
+        return mode == NoticeSearchMode.TRIGRAM ? List.of("CREATE EXTENSION IF NOT EXISTS pg_trgm") : List.of();
+    }
+
+    // CONCURRENTLY: 이미 공지사항이 있는 운영 DB 에서도 쓰기를 막지 않도록
+    public List<IndexDefinition> indexes() {
+        if (mode == NoticeSearchMode.FULL_TEXT) {
+            // NoticeSearchMapper 의 tsvector 식과 같아야 함
+            String name = "idx_notices_search_tsv_" + tsConfig;
+            return List.of(new IndexDefinition(name,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name
+                            + " ON notices USING gin ((setweight(to_tsvector('" + tsConfig + "'::regconfig, title), 'A')"
+                            + " || setweight(to_tsvector('" + tsConfig + "'::regconfig, content), 'B')))"));
+        }
+        return List.of(
+                new IndexDefinition("idx_notices_title_trgm",
+                        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notices_title_trgm ON notices USING gin (title gin_trgm_ops)"),
+                new IndexDefinition("idx_notices_content_trgm",
+                        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notices_content_trgm ON notices USING gin (content gin_trgm_ops)")
+        );
+    }
+}
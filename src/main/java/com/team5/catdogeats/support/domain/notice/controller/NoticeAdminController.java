@@ -2,6 +2,8 @@ package com.team5.catdogeats.support.domain.notice.controller;
 
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.enums.ResponseCode;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.support.domain.notice.dto.*;
 import com.team5.catdogeats.support.domain.notice.service.NoticeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +11,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 
+import java.net.URI;
 import java.util.*;
 
 @RestController
@@ -153,27 +155,76 @@ public class NoticeAdminController {
         }
     }
 
+    // ========== 파일 직접 업로드 ==========
+    @PostMapping(value = "/{noticeId}/files/presigned-url", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "공지사항 첨부파일 업로드 URL 발급",
+            description = "S3 에 직접 업로드할 presigned URL 을 발급합니다. 업로드 후 업로드 완료 API 를 호출해야 공지사항에 연결됩니다."
+    )
+    public ResponseEntity<ApiResponse<PresignedUploadResponseDto>> presignFileUpload(
+            @PathVariable String noticeId,
+            @RequestBody PresignedUploadRequestDto request) {
+
+        try {
+            PresignedUploadResponseDto response = noticeService.presignFileUpload(noticeId, request);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.error("[관리자] 파일 업로드 URL 발급 검증 실패 - ID: {}, 오류: {}", noticeId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            log.error("[관리자] 파일 업로드 URL 발급 실패 - ID: {}, 오류: {}", noticeId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    @PostMapping("/{noticeId}/files/confirm")
+    @Operation(
+            summary = "공지사항 첨부파일 업로드 완료",
+            description = "presigned URL 로 업로드한 파일을 검증하고 공지사항에 연결합니다. 검증에 실패한 파일은 삭제됩니다."
+    )
+    public ResponseEntity<ApiResponse<NoticeResponseDTO>> confirmFileUpload(
+            @PathVariable String noticeId,
+            @RequestParam String fileKey) {
+
+        try {
+            NoticeResponseDTO response = noticeService.confirmFileUpload(noticeId, fileKey);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.error("[관리자] 파일 업로드 확인 실패 - ID: {}, 오류: {}", noticeId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            log.error("[관리자] 파일 업로드 확인 실패 - ID: {}, 오류: {}", noticeId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR));
+        }
+    }
+
     // ========== 파일 다운로드 ==========
     @GetMapping("/{noticeId}/files/{fileId}")
     @Operation(
             summary = "공지사항 첨부파일 다운로드",
-            description = "관리자 페이지에서 공지사항의 첨부파일을 다운로드합니다."
+            description = "관리자 페이지에서 공지사항의 첨부파일을 다운로드합니다. (presigned URL 로 302 리다이렉트)"
     )
-    public ResponseEntity<Resource> downloadFile(@PathVariable String noticeId, @PathVariable String fileId) {
+    public ResponseEntity<Void> downloadFile(@PathVariable String noticeId, @PathVariable String fileId) {
 
         try {
-            // 서비스에서 DTO로 받아오기
+            // 파일은 presigned URL 로 리다이렉트 (Range / ETag / 조건부 요청은 S3 가 처리)
             NoticeFileDownloadResponseDTO downloadResponse = noticeService.downloadFile(fileId);
 
-            // DTO에서 필요한 정보 추출해서 ResponseEntity 구성
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(downloadResponse.getContentType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + downloadResponse.getFilename() + "\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.PRAGMA, "no-cache")
-                    .header(HttpHeaders.EXPIRES, "0")
-                    .body(downloadResponse.getResource()); // ✅ Resource만 body에 넣기
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(downloadResponse.getDownloadUrl()))
+                    // 서명 URL 은 유효 시간이 있으므로 리다이렉트 응답은 캐시하지 않음
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
 
         } catch (Exception e) {
             log.error("파일 다운로드 실패 - 파일 ID: {}, 오류: {}", fileId, e.getMessage());
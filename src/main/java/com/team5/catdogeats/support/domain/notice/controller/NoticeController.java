@@ -3,18 +3,18 @@ package com.team5.catdogeats.support.domain.notice.controller;
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.enums.ResponseCode;
 import com.team5.catdogeats.support.domain.notice.dto.*;
+import com.team5.catdogeats.support.domain.notice.service.NoticeSearchService;
 import com.team5.catdogeats.support.domain.notice.service.NoticeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.NoSuchElementException;
 
 @RestController
@@ -25,6 +25,7 @@ import java.util.NoSuchElementException;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final NoticeSearchService noticeSearchService;
 
     // ========== 공지사항 목록 조회 (공통 기능) ==========
     @GetMapping
@@ -43,6 +44,37 @@ public class NoticeController {
         return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
     }
 
+    // ========== 공지사항 검색 (공통 기능) ==========
+    @GetMapping("/search")
+    @Operation(
+            summary = "공지사항 검색",
+            description = """
+                    제목 / 본문에서 검색어가 포함된 공지사항을 커서 기반으로 조회합니다.
+                    - 기본 검색 방식(trigram)에서 2글자 이하 검색어는 제목에서만 찾습니다.
+                    - 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 그대로 전달 (null 이면 마지막 페이지)
+                    - sortBy: relevance(관련도순, 기본값), latest(최신순). 정렬 기준을 바꾸면 커서를 처음부터 다시 받아야 합니다.
+                    - highlightedTitle / snippet 은 HTML 이스케이프 후 검색어를 <mark> 로 감싼 값입니다.
+                    """
+    )
+    public ResponseEntity<ApiResponse<NoticeSearchPageDTO>> searchNotices(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        try {
+            NoticeSearchPageDTO response = noticeSearchService.searchNotices(keyword, sortBy, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(ResponseCode.SUCCESS, response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(ResponseCode.INVALID_INPUT_VALUE.getStatus())
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR));
+        }
+    }
+
     // ========== 공지사항 상세 조회 (공통 기능) ==========
     @GetMapping("/{noticeId}")
     @Operation(
@@ -69,22 +101,19 @@ public class NoticeController {
     @GetMapping("/{noticeId}/files/{fileId}")
     @Operation(
             summary = "공지사항 첨부파일 다운로드",
-            description = "모든 사용자가 공지사항의 첨부파일을 다운로드할 수 있습니다."
+            description = "모든 사용자가 공지사항의 첨부파일을 다운로드할 수 있습니다. (presigned URL 로 302 리다이렉트)"
     )
-    public ResponseEntity<Resource> downloadFile(@PathVariable String noticeId, @PathVariable String fileId) {
+    public ResponseEntity<Void> downloadFile(@PathVariable String noticeId, @PathVariable String fileId) {
 
         try {
-            // 🆕 서비스에서 DTO로 받아오기
+            // 파일은 presigned URL 로 리다이렉트 (Range / ETag / 조건부 요청은 S3 가 처리)
             NoticeFileDownloadResponseDTO downloadResponse = noticeService.downloadFile(fileId);
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(downloadResponse.getContentType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename=\"" + downloadResponse.getFilename() + "\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.PRAGMA, "no-cache")
-                    .header(HttpHeaders.EXPIRES, "0")
-                    .body(downloadResponse.getResource());
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(downloadResponse.getDownloadUrl()))
+                    // 서명 URL 은 유효 시간이 있으므로 리다이렉트 응답은 캐시하지 않음
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
 
         } catch (Exception e) {
             log.error("파일 다운로드 실패 - 파일 ID: {}, 오류: {}", fileId, e.getMessage());
@@ -2,12 +2,15 @@ package com.team5.catdogeats.support.domain.notice.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.core.io.Resource;
 
+/**
+ * 공지사항 파일 다운로드 정보
+ * 파일은 서버를 거치지 않고 downloadUrl (presigned URL, 유효 시간 제한) 로 리다이렉트해 내려받습니다.
+ */
 @Getter
 @AllArgsConstructor
 public class NoticeFileDownloadResponseDTO {
-    private final Resource resource;
+    private final String downloadUrl;
     private final String filename;
     private final String contentType;
-}
\ No newline at end of file
+}
@@ -41,6 +41,11 @@ public class NoticeResponseDTO {
 
     // 첨부파일 포함
     public static NoticeResponseDTO fromWithAttachments(Notices notices, List<NoticeFiles> noticeFiles) {
+        return fromWithAttachments(notices, noticeFiles, notices.getViewCount());
+    }
+
+    // 첨부파일 포함 + 조회수 지정 (DB 에 아직 반영되지 않은 조회수 포함)
+    public static NoticeResponseDTO fromWithAttachments(Notices notices, List<NoticeFiles> noticeFiles, Long viewCount) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
         ZoneId koreaZone = ZoneId.of("Asia/Seoul");
 
@@ -55,7 +60,7 @@ public class NoticeResponseDTO {
                 .content(notices.getContent())
                 .createdAt(notices.getCreatedAt().withZoneSameInstant(koreaZone).format(formatter))
                 .updatedAt(notices.getUpdatedAt().withZoneSameInstant(koreaZone).format(formatter))
-                .viewCount(notices.getViewCount())
+                .viewCount(viewCount)
                 .attachments(attachments)  // 실제 첨부파일 목록
                 .build();
     }
@@ -0,0 +1,62 @@
+package com.team5.catdogeats.support.domain.notice.dto;
+
+import com.team5.catdogeats.support.domain.enums.NoticeSearchSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공지사항 검색 커서 (마지막으로 내려준 공지사항의 정렬 키 값 + id)
+ * 관련도 점수는 DB 의 real 값을 그대로 담아야 같은 점수의 경계에서 누락 / 중복이 없으므로 float 으로 보관합니다.
+ */
+public record NoticeSearchCursor(
+        NoticeSearchSortKey sortKey,
+        Float rank,
+        OffsetDateTime createdAt,
+        String noticeId
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public static NoticeSearchCursor after(NoticeSearchSortKey sortKey, NoticeSearchRowDTO row) {
+        return new NoticeSearchCursor(sortKey, row.rank(), row.createdAt(), row.id());
+    }
+
+    public String encode() {
+        String value = sortKey == NoticeSearchSortKey.RELEVANCE ? String.valueOf(rank) : createdAt.toString();
+        String raw = String.join(DELIMITER, VERSION, sortKey.name(), value, noticeId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 요청한 정렬 기준과 다른 커서
+     */
+    public static NoticeSearchCursor decode(String token, NoticeSearchSortKey expectedSortKey) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4 || !VERSION.equals(parts[0]) || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (!expectedSortKey.name().equals(parts[1])) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+
+        try {
+            return expectedSortKey == NoticeSearchSortKey.RELEVANCE
+                    ? new NoticeSearchCursor(expectedSortKey, Float.parseFloat(parts[2]), null, parts[3])
+                    : new NoticeSearchCursor(expectedSortKey, null, OffsetDateTime.parse(parts[2]), parts[3]);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.team5.catdogeats.support.domain.notice.dto;
+
+import java.util.List;
+
+/**
+ * 공지사항 검색 커서 페이지 (전체 건수는 집계하지 않음)
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record NoticeSearchPageDTO(
+        List<NoticeSearchResultDTO> content,
+        String nextCursor,
+        boolean hasNext
+) {}
@@ -0,0 +1,16 @@
+package com.team5.catdogeats.support.domain.notice.dto;
+
+/**
+ * 공지사항 검색 결과 항목
+ * 제목과 본문 발췌는 HTML 이스케이프 후 검색어 부분만 &lt;mark&gt; 로 감싸서 내려줍니다.
+ *
+ * @param highlightedTitle 검색어를 강조한 제목
+ * @param snippet 검색어 주변 본문 발췌 (검색어가 제목에만 있으면 본문 앞부분)
+ */
+public record NoticeSearchResultDTO(
+        String id,
+        String highlightedTitle,
+        String snippet,
+        String createdAt,
+        Long viewCount
+) {}
@@ -0,0 +1,18 @@
+package com.team5.catdogeats.support.domain.notice.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 공지사항 검색 조회 결과
+ * MyBatis 가 컬럼 순서대로 생성자에 매핑하므로 필드 순서를 조회 컬럼 순서와 맞춥니다.
+ *
+ * @param rank 관련도 점수 (최신순 검색에서는 계산하지 않으므로 0)
+ */
+public record NoticeSearchRowDTO(
+        String id,
+        String title,
+        String content,
+        OffsetDateTime createdAt,
+        Long viewCount,
+        Float rank
+) {}
@@ -0,0 +1,4 @@
+package com.team5.catdogeats.support.domain.notice.dto;
+
+public record NoticeViewCountDeltaDTO(String noticeId, long delta) {
+}
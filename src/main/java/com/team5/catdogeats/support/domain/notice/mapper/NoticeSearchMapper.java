@@ -0,0 +1,105 @@
+package com.team5.catdogeats.support.domain.notice.mapper;
+
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchRowDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Mapper
+public interface NoticeSearchMapper {
+
+    /**
+     * 공지사항 검색 키셋 조회 (COUNT 없음)
+     * TRIGRAM: 제목 / 본문 ILIKE 부분 일치 (pg_trgm GIN 인덱스), 관련도는 제목 가중 word_similarity
+     *          3글자 미만 검색어는 trigram 을 뽑을 수 없어 인덱스를 쓰지 못하므로 titleOnly 로 본문은 훑지 않습니다.
+     * FULL_TEXT: 제목(A) + 본문(B) tsvector 표현식 GIN 인덱스, 관련도는 ts_rank_cd
+     * 인덱스 표현식과 같아야 인덱스를 타므로 tsvector 식은 NoticeSearchIndexInitializer 와 맞춰 수정해야 합니다.
+     * tsConfig 는 SQL 에 그대로 들어가므로 서비스에서 이름 형식을 검증한 값만 전달합니다.
+     * 최신순은 관련도를 정렬에 쓰지 않으므로 계산하지 않습니다.
+     */
+    @Select("""
+        <script>
+        SELECT
+            m.id,
+            m.title,
+            m.content,
+            m.created_at as createdAt,
+            m.view_count as viewCount,
+            m.rank
+        FROM (
+            SELECT
+                n.id,
+                n.title,
+                n.content,
+                n.created_at,
+                n.view_count,
+                <choose>
+                    <when test="sortKey == 'LATEST'">
+                        0::real as rank
+                    </when>
+                    <when test="mode == 'FULL_TEXT'">
+                        ts_rank_cd(
+                            setweight(to_tsvector('${tsConfig}'::regconfig, n.title), 'A')
+                                || setweight(to_tsvector('${tsConfig}'::regconfig, n.content), 'B'),
+                            websearch_to_tsquery('${tsConfig}'::regconfig, #{keyword})
+                        )::real as rank
+                    </when>
+                    <otherwise>
+                        (2 * word_similarity(#{keyword}, n.title) + word_similarity(#{keyword}, n.content))::real as rank
+                    </otherwise>
+                </choose>
+            FROM notices n
+            WHERE
+            <choose>
+                <when test="mode == 'FULL_TEXT'">
+                    (setweight(to_tsvector('${tsConfig}'::regconfig, n.title), 'A')
+                        || setweight(to_tsvector('${tsConfig}'::regconfig, n.content), 'B'))
+                        @@ websearch_to_tsquery('${tsConfig}'::regconfig, #{keyword})
+                </when>
+                <when test="titleOnly">
+                    n.title ILIKE #{keywordPattern}
+                </when>
+                <otherwise>
+                    (n.title ILIKE #{keywordPattern} OR n.content ILIKE #{keywordPattern})
+                </otherwise>
+            </choose>
+        ) m
+        <where>
+            <if test="cursorId != null">
+                <choose>
+                    <when test="sortKey == 'LATEST'">
+                        AND (m.created_at, m.id) &lt; (#{cursorCreatedAt}, #{cursorId})
+                    </when>
+                    <otherwise>
+                        AND (m.rank, m.id) &lt; (#{cursorRank}::real, #{cursorId})
+                    </otherwise>
+                </choose>
+            </if>
+        </where>
+        <choose>
+            <when test="sortKey == 'LATEST'">
+                ORDER BY m.created_at DESC, m.id DESC
+            </when>
+            <otherwise>
+                ORDER BY m.rank DESC, m.id DESC
+            </otherwise>
+        </choose>
+        LIMIT #{limit}
+        </script>
+        """)
+    List<NoticeSearchRowDTO> searchNotices(
+            @Param("mode") String mode,
+            @Param("tsConfig") String tsConfig,
+            @Param("keyword") String keyword,
+            @Param("keywordPattern") String keywordPattern,
+            @Param("titleOnly") boolean titleOnly,
+            @Param("sortKey") String sortKey,
+            @Param("cursorRank") Float cursorRank,
+            @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            @Param("limit") int limit
+    );
+}
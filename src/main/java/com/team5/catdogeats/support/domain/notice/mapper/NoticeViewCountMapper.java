@@ -0,0 +1,30 @@
+package com.team5.catdogeats.support.domain.notice.mapper;
+
+import com.team5.catdogeats.support.domain.notice.dto.NoticeViewCountDeltaDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
+
+/**
+ * 공지사항 조회수 (notices.view_count)
+ */
+@Mapper
+public interface NoticeViewCountMapper {
+
+    // 누적된 조회수를 한 번의 UPDATE 로 더함 (덮어쓰지 않으므로 여러 서버가 동시에 반영해도 안전)
+    @Update("""
+        <script>
+        UPDATE notices n
+        SET view_count = n.view_count + v.delta
+        FROM (VALUES
+            <foreach collection="deltas" item="item" separator=",">
+                (#{item.noticeId}, #{item.delta}::bigint)
+            </foreach>
+        ) AS v(notice_id, delta)
+        WHERE n.id = v.notice_id
+        </script>
+        """)
+    int addViewCounts(@Param("deltas") List<NoticeViewCountDeltaDTO> deltas);
+}
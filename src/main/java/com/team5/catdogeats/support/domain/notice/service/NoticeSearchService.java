@@ -0,0 +1,9 @@
+package com.team5.catdogeats.support.domain.notice.service;
+
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchPageDTO;
+
+public interface NoticeSearchService {
+
+    // 공지사항 검색 (관련도순 / 최신순 키셋 페이징, 검색어 강조)
+    NoticeSearchPageDTO searchNotices(String keyword, String sortBy, String cursor, int size);
+}
@@ -1,5 +1,7 @@
 package com.team5.catdogeats.support.domain.notice.service;
 
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeCreateRequestDTO;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeListResponseDTO;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeResponseDTO;
@@ -27,6 +29,12 @@ public interface NoticeService {
     // 파일 업로드 (파일 검증 포함)
     NoticeResponseDTO uploadFile(String noticeId, MultipartFile file);
 
+    // 파일 직접 업로드 URL 발급 (파일 검증 포함)
+    PresignedUploadResponseDto presignFileUpload(String noticeId, PresignedUploadRequestDto request);
+
+    // 직접 업로드한 파일 확인 후 공지사항에 연결
+    NoticeResponseDTO confirmFileUpload(String noticeId, String fileKey);
+
     // 파일 다운로드 (메타데이터 포함)
     NoticeFileDownloadResponseDTO downloadFile(String fileId);
 
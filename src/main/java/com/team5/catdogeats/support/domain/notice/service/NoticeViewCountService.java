@@ -0,0 +1,16 @@
+package com.team5.catdogeats.support.domain.notice.service;
+
+public interface NoticeViewCountService {
+
+    // 조회 1건 기록 (DB 반영은 flush 에서 일괄 처리)
+    void increment(String noticeId);
+
+    // 아직 DB 에 반영되지 않은 조회수
+    long pendingCount(String noticeId);
+
+    // 누적된 조회수를 DB 에 반영
+    void flush();
+
+    // 삭제된 공지사항의 누적 조회수 폐기
+    void discard(String noticeId);
+}
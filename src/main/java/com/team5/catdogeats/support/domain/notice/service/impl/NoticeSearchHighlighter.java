@@ -0,0 +1,97 @@
+package com.team5.catdogeats.support.domain.notice.service.impl;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 강조 / 본문 발췌
+ * DB 의 ts_headline 은 행마다 본문 전체를 다시 파싱하므로, 페이지에 담긴 행만 애플리케이션에서 처리합니다.
+ * 검색어는 대소문자 구분 없이 부분 일치로 찾으므로 "배송" 으로 검색하면 "배송을" 의 "배송" 도 강조됩니다.
+ */
+final class NoticeSearchHighlighter {
+    static final String MARK_OPEN = "<mark>";
+    static final String MARK_CLOSE = "</mark>";
+    static final int SNIPPET_LENGTH = 120;
+    // 첫 일치 위치 앞에 보여줄 글자 수
+    private static final int SNIPPET_LEADING = 40;
+    private static final String ELLIPSIS = "…";
+
+    private final Pattern pattern;
+
+    private NoticeSearchHighlighter(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * @param terms 강조할 검색어 (긴 것부터 일치시켜 짧은 검색어가 긴 검색어를 쪼개지 않도록 함)
+     */
+    static NoticeSearchHighlighter of(List<String> terms) {
+        String alternation = terms.stream()
+                .filter(term -> !term.isBlank())
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return new NoticeSearchHighlighter(alternation.isEmpty()
+                ? null
+                : Pattern.compile(alternation, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+    }
+
+    /**
+     * 전문 검색어를 강조할 단어로 분리 (websearch 문법의 따옴표 / 제외어 / OR 는 제외)
+     */
+    static List<String> fullTextTerms(String keyword) {
+        return Arrays.stream(keyword.replace("\"", " ").split("\\s+"))
+                .filter(term -> !term.isEmpty() && !term.startsWith("-") && !"or".equalsIgnoreCase(term))
+                .toList();
+    }
+
+    String highlight(String text) {
+        return mark(text, 0, text.length());
+    }
+
+    /**
+     * 첫 일치 위치 주변을 잘라 강조 (일치하는 곳이 없으면 앞부분)
+     */
+    String snippet(String text) {
+        int first = 0;
+        if (pattern != null) {
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find()) {
+                first = matcher.start();
+            }
+        }
+
+        int start = Math.max(0, Math.min(first - SNIPPET_LEADING, text.length() - SNIPPET_LENGTH));
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? ELLIPSIS : "")
+                + mark(text, start, end)
+                + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    // 일치 부분 외에는 HTML 이스케이프 (본문에 포함된 태그가 그대로 렌더링되지 않도록)
+    private String mark(String text, int start, int end) {
+        if (pattern == null) {
+            return HtmlUtils.htmlEscape(text.substring(start, end));
+        }
+
+        StringBuilder sb = new StringBuilder(end - start + 16);
+        Matcher matcher = pattern.matcher(text).region(start, end);
+        int last = start;
+        while (matcher.find()) {
+            sb.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append(MARK_OPEN)
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append(MARK_CLOSE);
+            last = matcher.end();
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(last, end)));
+        return sb.toString();
+    }
+}
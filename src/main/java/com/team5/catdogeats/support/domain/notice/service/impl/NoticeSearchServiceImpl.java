@@ -0,0 +1,127 @@
+package com.team5.catdogeats.support.domain.notice.service.impl;
+
+import com.team5.catdogeats.support.domain.enums.NoticeSearchMode;
+import com.team5.catdogeats.support.domain.enums.NoticeSearchSortKey;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchCursor;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchPageDTO;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchResultDTO;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchRowDTO;
+import com.team5.catdogeats.support.domain.notice.mapper.NoticeSearchMapper;
+import com.team5.catdogeats.support.domain.notice.service.NoticeSearchService;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 공지사항 검색 서비스 구현체
+ * 본문 전체를 훑는 LIKE + COUNT 대신 GIN 인덱스로 일치하는 공지사항만 찾고, OFFSET / COUNT 없이 키셋 커서로 페이징합니다.
+ * 검색 방식과 토큰화는 notice.search.mode / notice.search.ts-config 로 선택합니다. (NoticeSearchMode 참고)
+ */
+@Slf4j
+@Service
+public class NoticeSearchServiceImpl implements NoticeSearchService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    // pg_trgm 은 3글자 이상이어야 검색어에서 인덱스용 trigram 을 뽑을 수 있음
+    private static final int MIN_TRIGRAM_KEYWORD_LENGTH = 3;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final NoticeSearchMapper noticeSearchMapper;
+    private final NoticeViewCountService noticeViewCountService;
+    private final NoticeSearchMode mode;
+    private final String tsConfig;
+
+    public NoticeSearchServiceImpl(NoticeSearchMapper noticeSearchMapper,
+                                   NoticeViewCountService noticeViewCountService,
+                                   @Value("${notice.search.mode:trigram}") String mode,
+                                   @Value("${notice.search.ts-config:simple}") String tsConfig) {
+        this.noticeSearchMapper = noticeSearchMapper;
+        this.noticeViewCountService = noticeViewCountService;
+        this.mode = NoticeSearchMode.from(mode);
+        this.tsConfig = NoticeSearchMode.validateTsConfig(tsConfig);
+    }
+
+    @Override
+    public NoticeSearchPageDTO searchNotices(String keyword, String sortBy, String cursor, int size) {
+        // 1. 파라미터 검증
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        String trimmed = keyword.strip();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 2. 커서 해석 (첫 페이지는 커서 없음)
+        NoticeSearchSortKey sortKey = NoticeSearchSortKey.from(sortBy);
+        NoticeSearchCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : NoticeSearchCursor.decode(cursor, sortKey);
+
+        // 3. size + 1 개를 읽어 다음 페이지 존재 여부 판단
+        // TRIGRAM 에서 2글자 이하 검색어 (예: "배송") 는 인덱스를 쓸 수 없어 본문 전체를 훑지 않도록 제목에서만 찾음
+        boolean titleOnly = mode == NoticeSearchMode.TRIGRAM && trimmed.length() < MIN_TRIGRAM_KEYWORD_LENGTH;
+        List<NoticeSearchRowDTO> rows = noticeSearchMapper.searchNotices(
+                mode.name(),
+                tsConfig,
+                trimmed,
+                mode == NoticeSearchMode.TRIGRAM ? toKeywordPattern(trimmed) : null,
+                titleOnly,
+                sortKey.name(),
+                after != null ? after.rank() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.noticeId() : null,
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<NoticeSearchRowDTO> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? NoticeSearchCursor.after(sortKey, pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        log.debug("공지사항 검색 결과 - mode: {}, sort: {}, notices: {}, hasNext: {}", mode, sortKey, pageRows.size(), hasNext);
+
+        // TRIGRAM 은 검색어 전체를 부분 일치로 찾으므로 그대로, FULL_TEXT 는 단어별로 강조
+        NoticeSearchHighlighter highlighter = NoticeSearchHighlighter.of(mode == NoticeSearchMode.TRIGRAM
+                ? List.of(trimmed)
+                : NoticeSearchHighlighter.fullTextTerms(trimmed));
+
+        return new NoticeSearchPageDTO(
+                pageRows.stream().map(row -> toResult(row, highlighter)).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    // 조회수는 상세 조회와 같이 아직 반영되지 않은 조회수를 더해 내려줌
+    private NoticeSearchResultDTO toResult(NoticeSearchRowDTO row, NoticeSearchHighlighter highlighter) {
+        return new NoticeSearchResultDTO(
+                row.id(),
+                highlighter.highlight(row.title()),
+                highlighter.snippet(row.content()),
+                row.createdAt().atZoneSameInstant(KOREA_ZONE).format(FORMATTER),
+                row.viewCount() + noticeViewCountService.pendingCount(row.id())
+        );
+    }
+
+    /**
+     * 검색어를 ILIKE 부분 일치 패턴으로 변환 (LIKE 특수문자는 이스케이프)
+     */
+    private String toKeywordPattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
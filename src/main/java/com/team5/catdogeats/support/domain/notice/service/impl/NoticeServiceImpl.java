@@ -2,6 +2,8 @@ package com.team5.catdogeats.support.domain.notice.service.impl;
 
 import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.storage.domain.Files;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.storage.domain.mapping.NoticeFiles;
 import com.team5.catdogeats.storage.service.NoticeFileManagementService;
 import com.team5.catdogeats.support.domain.Notices;
@@ -9,8 +11,7 @@ import com.team5.catdogeats.support.domain.notice.dto.*;
 import com.team5.catdogeats.support.domain.notice.repository.NoticeFilesRepository;
 import com.team5.catdogeats.support.domain.notice.repository.NoticeRepository;
 import com.team5.catdogeats.support.domain.notice.service.NoticeService;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
@@ -29,6 +30,7 @@ public class NoticeServiceImpl implements NoticeService {
     private final NoticeRepository noticeRepository;
     private final NoticeFilesRepository noticeFilesRepository;
     private final NoticeFileManagementService noticeFileManagementService;
+    private final NoticeViewCountService noticeViewCountService;
 
     private Sort createSort(String sortBy) {
         return switch (sortBy) {
@@ -56,27 +58,20 @@ public class NoticeServiceImpl implements NoticeService {
         return NoticeListResponseDTO.from(responsePage);
     }
 
-    // ✅ 추가
-    @PersistenceContext
-    private EntityManager em;
-
     // ========== 공지사항 상세 조회 ==========
+    // 조회수는 메모리에 누적 후 일괄 반영되므로, 응답에는 DB 값에 아직 반영되지 않은 조회수를 더해 내려줌
     @Override
-    @JpaTransactional
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
     public NoticeResponseDTO getNotice(String noticeId) {
         Notices notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new NoSuchElementException("공지사항을 찾을 수 없습니다. ID: " + noticeId));
 
-        // 원자적 조회수 증가 (동시성 안전)
-        noticeRepository.incrementViewCount(noticeId);
-
-        // ✅ 추가
-        em.flush();      // DB 반영 (JPQL bulk-update 반영)
-        em.refresh(notice);  // 엔티티 새로고침 (DB에서 다시 select 해서 엔티티 동기화)
+        noticeViewCountService.increment(noticeId);
+        long viewCount = notice.getViewCount() + noticeViewCountService.pendingCount(noticeId);
 
         List<NoticeFiles> attachments = noticeFilesRepository.findByNoticesId(noticeId);
 
-        return NoticeResponseDTO.fromWithAttachments(notice, attachments);
+        return NoticeResponseDTO.fromWithAttachments(notice, attachments, viewCount);
     }
 
     // ========== 공지사항 생성 ==========
@@ -138,6 +133,7 @@ public class NoticeServiceImpl implements NoticeService {
 
         noticeFilesRepository.deleteByNoticesId(noticeId);
         noticeRepository.deleteById(noticeId);
+        noticeViewCountService.discard(noticeId);
         log.info("공지사항 삭제 완료 - ID: {}", noticeId);
     }
 
@@ -167,6 +163,42 @@ public class NoticeServiceImpl implements NoticeService {
         return NoticeResponseDTO.fromWithAttachments(notice, updatedNoticeFiles);
     }
 
+    // ========== 파일 직접 업로드 ==========
+    @Override
+    public PresignedUploadResponseDto presignFileUpload(String noticeId, PresignedUploadRequestDto request) {
+        // 파일 검증 (Notice 도메인 책임, 내용은 업로드 완료 시 확인)
+        if (request.contentLength() <= 0) {
+            throw new IllegalArgumentException("업로드할 파일을 선택해주세요.");
+        }
+        validateFile(request.fileName(), request.contentLength());
+
+        if (!noticeRepository.existsById(noticeId)) {
+            throw new NoSuchElementException("공지사항을 찾을 수 없습니다. ID: " + noticeId);
+        }
+
+        return noticeFileManagementService.presignNoticeFileUpload(noticeId, request.fileName(), request.contentLength());
+    }
+
+    @Override
+    @JpaTransactional
+    public NoticeResponseDTO confirmFileUpload(String noticeId, String fileKey) {
+        // 공지사항 존재 확인
+        Notices notice = noticeRepository.findById(noticeId)
+                .orElseThrow(() -> new NoSuchElementException("공지사항을 찾을 수 없습니다. ID: " + noticeId));
+
+        // 업로드된 파일 검증 + Files 저장은 파일 관리 서비스에 위임
+        Files savedFile = noticeFileManagementService.confirmNoticeFileUpload(noticeId, fileKey);
+
+        // 공지사항과 파일 연결 (Notice 도메인 책임)
+        noticeFilesRepository.save(NoticeFiles.builder()
+                .notices(notice)
+                .files(savedFile)
+                .build());
+
+        List<NoticeFiles> updatedNoticeFiles = noticeFilesRepository.findByNoticesId(noticeId);
+        return NoticeResponseDTO.fromWithAttachments(notice, updatedNoticeFiles);
+    }
+
     // ========== 파일 다운로드 ==========
     @Override
     public NoticeFileDownloadResponseDTO downloadFile(String fileId) {
@@ -218,13 +250,16 @@ public class NoticeServiceImpl implements NoticeService {
     // ========== 새로 추가된 검증 및 유틸리티 메서드들 ==========
     //파일 검증 메서드
     private void validateFile(MultipartFile file) {
+        validateFile(file.getOriginalFilename(), file.getSize());
+    }
+
+    private void validateFile(String fileName, long fileSize) {
         // 파일 크기 제한 (10MB)
-        if (file.getSize() > 10 * 1024 * 1024) {
+        if (fileSize > 10 * 1024 * 1024) {
             throw new IllegalArgumentException("파일 크기는 10MB를 초과할 수 없습니다.");
         }
 
         // 허용된 파일 확장자 검사
-        String fileName = file.getOriginalFilename();
         if (!isAllowedFileType(fileName)) {
             throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (pdf, doc, docx, xls, xlsx 만 가능)");
         }
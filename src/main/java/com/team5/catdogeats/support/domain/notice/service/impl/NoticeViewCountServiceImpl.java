@@ -0,0 +1,98 @@
+package com.team5.catdogeats.support.domain.notice.service.impl;
+
+import com.team5.catdogeats.support.domain.notice.dto.NoticeViewCountDeltaDTO;
+import com.team5.catdogeats.support.domain.notice.mapper.NoticeViewCountMapper;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회수 write-behind 카운터
+ * 조회할 때마다 UPDATE 하는 대신 공지사항별 LongAdder 에 누적하고, 주기적으로 한 번의 UPDATE 로 DB 에 더합니다.
+ * 누적값(total)은 초기화하지 않고 반영한 양(flushed)만 따로 기록하므로, 반영 중에 들어온 조회도 다음 주기에 빠짐없이 반영됩니다.
+ * 반영에 실패하면 누적값이 그대로 남아 다음 주기에 다시 시도하며, 서버가 비정상 종료되면 마지막 주기의 조회수만 유실됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeViewCountServiceImpl implements NoticeViewCountService, DisposableBean {
+
+    private final NoticeViewCountMapper noticeViewCountMapper;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String noticeId) {
+        counters.computeIfAbsent(noticeId, id -> new Counter()).total.increment();
+    }
+
+    @Override
+    public long pendingCount(String noticeId) {
+        Counter counter = counters.get(noticeId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    /**
+     * 반영은 한 스레드씩만 수행 (스케줄러와 종료 시 반영이 겹쳐 같은 조회수를 두 번 더하지 않도록)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${notice.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<String> noticeIds = new ArrayList<>();
+        List<NoticeViewCountDeltaDTO> deltas = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            long delta = entry.getValue().pending();
+            if (delta > 0) {
+                noticeIds.add(entry.getKey());
+                deltas.add(new NoticeViewCountDeltaDTO(entry.getKey(), delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            noticeViewCountMapper.addViewCounts(deltas);
+        } catch (Exception e) {
+            log.warn("공지사항 조회수 반영 실패 (다음 주기에 재시도) - 대상 {}건: {}", deltas.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < deltas.size(); i++) {
+            Counter counter = counters.get(noticeIds.get(i));
+            if (counter != null) {
+                counter.flushed += deltas.get(i).delta();
+            }
+        }
+        log.debug("공지사항 조회수 반영 완료 - 대상 {}건", deltas.size());
+    }
+
+    @Override
+    public void discard(String noticeId) {
+        counters.remove(noticeId);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        // flush 에서만 갱신 (synchronized)
+        private volatile long flushed;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.team5.catdogeats.users.controller;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.dto.ApiResponse;
 import com.team5.catdogeats.global.enums.ResponseCode;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.users.domain.dto.SellerBrandImageResponseDTO;
 import com.team5.catdogeats.users.service.SellerBrandImageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,6 +54,53 @@ public class SellerBrandImageController {
     }
 
 
+    @Operation(
+            summary = "판매자 브랜드 이미지 업로드 URL 발급",
+            description = """
+                    S3 에 직접 업로드할 presigned URL 을 발급합니다.
+                    발급된 uploadUrl 로 Content-Type 헤더와 함께 PUT 한 뒤 업로드 완료 API 를 호출해야 반영됩니다.
+                    파일 크기: 최대 10MB, 지원 형식: JPEG, PNG, JPG, WebP
+                    """
+    )
+    @PostMapping(value = "/image/presigned-url", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<PresignedUploadResponseDto>> presignBrandImageUpload(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody PresignedUploadRequestDto request) {
+
+        log.info("판매자 브랜드 이미지 업로드 URL 발급 요청 - provider: {}, providerId: {}, fileName: {}",
+                userPrincipal.provider(), userPrincipal.providerId(), request.fileName());
+
+        PresignedUploadResponseDto response = sellerBrandImageService.presignBrandImageUpload(userPrincipal, request);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(ResponseCode.SUCCESS, response)
+        );
+    }
+
+    @Operation(
+            summary = "판매자 브랜드 이미지 업로드 완료",
+            description = """
+                    presigned URL 로 업로드한 파일을 검증하고 브랜드 이미지로 등록합니다.
+                    검증에 실패하면 업로드된 파일은 삭제됩니다.
+                    """
+    )
+    @PatchMapping("/image/confirm")
+    public ResponseEntity<ApiResponse<SellerBrandImageResponseDTO>> confirmBrandImageUpload(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+
+            @Parameter(description = "발급받은 fileKey")
+            @RequestParam String fileKey) {
+
+        log.info("판매자 브랜드 이미지 업로드 완료 요청 - provider: {}, providerId: {}, fileKey: {}",
+                userPrincipal.provider(), userPrincipal.providerId(), fileKey);
+
+        SellerBrandImageResponseDTO response = sellerBrandImageService.confirmBrandImageUpload(userPrincipal, fileKey);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(ResponseCode.SELLER_INFO_SAVE_SUCCESS, response)
+        );
+    }
+
     @Operation(
             summary = "판매자 브랜드 이미지 삭제",
             description = """
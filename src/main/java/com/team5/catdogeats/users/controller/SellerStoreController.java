@@ -59,6 +59,12 @@ public class SellerStoreController {
                     - 첫 번째 페이지: page=1
                     - 두 번째 페이지: page=2
                     - 빈 페이지 요청 시 빈 배열 반환
+                    
+                    **커서 조회 (무한 스크롤):**
+                    - cursor 파라미터를 보내면 page 대신 커서로 조회합니다. (첫 페이지는 cursor= 빈 값)
+                    - 다음 페이지는 응답의 products.nextCursor 를 그대로 전달 (null 이면 마지막 페이지)
+                    - 정렬 기준을 바꾸면 커서를 처음부터 다시 받아야 합니다.
+                    - withCount=false 면 전체 개수를 집계하지 않고 totalElements/totalPages 를 -1 로 반환
                     """
     )
     @GetMapping("/{vendor-name}")
@@ -82,13 +88,22 @@ public class SellerStoreController {
             @RequestParam(value = "productCategory", required = false) ProductCategory productCategory,
 
             @Parameter(description = "추가 필터 조건 (best: 베스트상품, discount: 할인상품, new: 신규상품, exclude_sold_out: 품절제외)", example = "best")
-            @RequestParam(value = "filter", required = false) String filter) {
+            @RequestParam(value = "filter", required = false) String filter,
+
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값) - 보내면 커서 조회", example = "")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "커서 조회 시 전체 상품 수 집계 여부", example = "false")
+            @RequestParam(value = "withCount", defaultValue = "false") boolean withCount) {
 
-        log.info("판매자 스토어 페이지 조회 요청 - vendorName: {}, page: {}, size: {}, sort: {}, petCategory: {},productCategory: {}, filter: {}",
-                vendorName, page, size, sort, petcategory, productCategory, filter);
+        log.info("판매자 스토어 페이지 조회 요청 - vendorName: {}, page: {}, size: {}, sort: {}, petCategory: {},productCategory: {}, filter: {}, cursorMode: {}",
+                vendorName, page, size, sort, petcategory, productCategory, filter, cursor != null);
 
-        SellerStorePageResponse response = sellerStoreService.getSellerStorePage(
-                vendorName, page, size, sort, petcategory, productCategory, filter);
+        SellerStorePageResponse response = cursor != null
+                ? sellerStoreService.getSellerStoreCursorPage(
+                        vendorName, cursor, size, sort, petcategory, productCategory, filter, withCount)
+                : sellerStoreService.getSellerStorePage(
+                        vendorName, page, size, sort, petcategory, productCategory, filter);
 
         log.info("판매자 스토어 페이지 조회 완료 - vendorName: {}, filter: {}, 상품수: {}",
                 vendorName, filter, response.products().content().size());
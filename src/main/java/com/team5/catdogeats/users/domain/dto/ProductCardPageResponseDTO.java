@@ -13,13 +13,13 @@ public record ProductCardPageResponseDTO(
         @Schema(description = "상품 카드 목록")
         List<SellerStoreProductCardDTO> content,
 
-        @Schema(description = "전체 요소 수", example = "100")
+        @Schema(description = "전체 요소 수 (커서 조회에서 집계하지 않은 경우 -1)", example = "100")
         long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "10")
+        @Schema(description = "전체 페이지 수 (커서 조회에서 집계하지 않은 경우 -1)", example = "10")
         int totalPages,
 
-        @Schema(description = "현재 페이지 번호 (1-based)", example = "1")
+        @Schema(description = "현재 페이지 번호 (1-based, 커서 조회는 0)", example = "1")
         int currentPage,
 
         @Schema(description = "페이지 크기", example = "12")
@@ -29,8 +29,12 @@ public record ProductCardPageResponseDTO(
         boolean hasNext,
 
         @Schema(description = "이전 페이지 존재 여부", example = "false")
-        boolean hasPrevious
+        boolean hasPrevious,
+
+        @Schema(description = "다음 페이지 커서 (커서 조회에서만 사용, 마지막 페이지면 null)", example = "djF8Q1JFQVRFRF9BVF9ERVNDfC4uLg")
+        String nextCursor
 ) {
+    private static final long NOT_COUNTED = -1;
 
     public static ProductCardPageResponseDTO from(Page<SellerStoreProductCardDTO> page) {
         return new ProductCardPageResponseDTO(
@@ -40,7 +44,33 @@ public record ProductCardPageResponseDTO(
                 page.getNumber() + 1, // 0-based를 1-based로 변환
                 page.getSize(),
                 page.hasNext(),
-                page.hasPrevious()
+                page.hasPrevious(),
+                null
+        );
+    }
+
+    /**
+     * 커서 페이지 응답 생성
+     * totalElements 가 null 이면 전체 개수를 집계하지 않은 것으로 -1 을 내려줍니다.
+     */
+    public static ProductCardPageResponseDTO ofCursor(
+            List<SellerStoreProductCardDTO> content,
+            int size,
+            String nextCursor,
+            boolean hasNext,
+            boolean hasPrevious,
+            Long totalElements) {
+        long total = totalElements != null ? totalElements : NOT_COUNTED;
+        int totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : (int) NOT_COUNTED;
+        return new ProductCardPageResponseDTO(
+                content,
+                total,
+                totalPages,
+                0,
+                size,
+                hasNext,
+                hasPrevious,
+                nextCursor
         );
     }
 }
\ No newline at end of file
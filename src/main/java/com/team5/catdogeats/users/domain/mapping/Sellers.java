@@ -30,6 +30,10 @@ public class Sellers extends BaseEntity {
     @Column(name = "vendor_profile_image", length = 255)
     private String vendorProfileImage;
 
+    // 브랜드 이미지 썸네일 (업로드 후 ImageDerivativeService 가 채움)
+    @Column(name = "vendor_profile_thumbnail", length = 255)
+    private String vendorProfileThumbnail;
+
     @Column(name = "business_number", length = 20)
     private String businessNumber;
 
@@ -68,6 +72,7 @@ public class Sellers extends BaseEntity {
     public void updateVendorProfileImage(String vendorProfileImage) {
         if (vendorProfileImage != null && !vendorProfileImage.trim().isEmpty()) {
             this.vendorProfileImage = vendorProfileImage;
+            this.vendorProfileThumbnail = null;
         }
     }
 
@@ -0,0 +1,26 @@
+package com.team5.catdogeats.users.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 정보(상점명, 태그, 프로필 이미지 등) 변경 이벤트
+ * 상점명이 바뀐 경우 이전 상점명 기준 캐시도 함께 무효화해야 하므로 previousVendorName 을 포함합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SellerProfileChangedEvent {
+
+    private final String sellerId;
+
+    private final String previousVendorName;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static SellerProfileChangedEvent of(String sellerId, String previousVendorName) {
+        return new SellerProfileChangedEvent(sellerId, previousVendorName, LocalDateTime.now());
+    }
+}
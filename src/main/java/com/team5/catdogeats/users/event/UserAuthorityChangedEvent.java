@@ -0,0 +1,25 @@
+package com.team5.catdogeats.users.event;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 권한 변경 이벤트 (역할 선택, 회원 탈퇴)
+ * 커밋 이후 리프레시 토큰에 저장된 권한 스냅샷을 무효화하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserAuthorityChangedEvent {
+
+    private final UserPrincipal userPrincipal;
+
+    // 이벤트 발생 시각
+    private final LocalDateTime eventOccurredAt;
+
+    public static UserAuthorityChangedEvent of(UserPrincipal userPrincipal) {
+        return new UserAuthorityChangedEvent(userPrincipal, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,34 @@
+package com.team5.catdogeats.users.event.listener;
+
+import com.team5.catdogeats.auth.service.AuthVersionService;
+import com.team5.catdogeats.users.event.UserAuthorityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 권한 버전 증가
+ * 권한 변경이 커밋된 뒤에 버전을 올립니다.
+ * 커밋 전에 올리면 그 사이 리프레시 요청이 아직 커밋되지 않은 이전 권한을 읽어 새 버전의 스냅샷을 만들 수 있고,
+ * 롤백된 경우에도 버전만 올라가 불필요하게 토큰이 무효화됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthVersionEventListener {
+
+    private final AuthVersionService authVersionService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserAuthorityChanged(UserAuthorityChangedEvent event) {
+        try {
+            authVersionService.bumpVersion(event.getUserPrincipal());
+        } catch (Exception e) {
+            // 커밋은 끝났으므로 되돌릴 수 없음, 기존 스냅샷은 리프레시 토큰 만료와 함께 사라짐
+            log.error("권한 버전 증가 실패: provider={}, providerId={}, error={}",
+                    event.getUserPrincipal().provider(), event.getUserPrincipal().providerId(), e.getMessage());
+        }
+    }
+}
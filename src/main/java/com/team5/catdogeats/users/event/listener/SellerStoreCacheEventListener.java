@@ -0,0 +1,89 @@
+package com.team5.catdogeats.users.event.listener;
+
+import com.team5.catdogeats.orders.event.OrderPaidEvent;
+import com.team5.catdogeats.products.event.ProductBulkChangedEvent;
+import com.team5.catdogeats.products.event.ProductChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewChangedEvent;
+import com.team5.catdogeats.reviews.event.ReviewCreatedEvent;
+import com.team5.catdogeats.users.event.SellerProfileChangedEvent;
+import com.team5.catdogeats.users.repository.SellersRepository;
+import com.team5.catdogeats.users.service.SellerStoreHeaderCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스토어 헤더 캐시 무효화
+ * 트랜잭션 없이 발행된 이벤트도 처리하도록 fallbackExecution 을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerStoreCacheEventListener {
+
+    private final SellersRepository sellersRepository;
+    private final SellerStoreHeaderCacheService sellerStoreHeaderCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        try {
+            sellersRepository.findVendorNameByUserId(event.getSellerId())
+                    .ifPresent(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (상품 변경): sellerId={}, error={}", event.getSellerId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductBulkChanged(ProductBulkChangedEvent event) {
+        try {
+            sellersRepository.findVendorNameByUserId(event.getSellerId())
+                    .ifPresent(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (상품 대량 변경): sellerId={}, error={}", event.getSellerId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderPaid(OrderPaidEvent event) {
+        try {
+            sellersRepository.findVendorNamesByOrderId(event.getOrderId())
+                    .forEach(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (결제 완료): orderId={}, error={}", event.getOrderId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        try {
+            sellersRepository.findVendorNameByProductId(event.getProductId())
+                    .ifPresent(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (리뷰 등록): productId={}, error={}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        try {
+            sellersRepository.findVendorNameByProductId(event.getProductId())
+                    .ifPresent(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (리뷰 수정/삭제): productId={}, error={}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSellerProfileChanged(SellerProfileChangedEvent event) {
+        sellerStoreHeaderCacheService.evict(event.getPreviousVendorName());
+        try {
+            sellersRepository.findVendorNameByUserId(event.getSellerId())
+                    .ifPresent(sellerStoreHeaderCacheService::evict);
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 무효화 실패 (판매자 정보 변경): sellerId={}, error={}", event.getSellerId(), e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.team5.catdogeats.users.repository;
 
+import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.users.domain.dto.SellerDTO;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -27,14 +29,53 @@ public interface SellersRepository extends JpaRepository<Sellers, String> {
      */
     Optional<Sellers> findByVendorName(String vendorName);
 
+    /**
+     * 다른 판매자가 같은 브랜드 이미지를 쓰고 있는지 확인 - 업로드 완료 확인용
+     */
+    boolean existsByVendorProfileImageAndUserIdNot(String vendorProfileImage, String userId);
+
+    /**
+     * 판매자 ID로 상점명만 조회 - 스토어 캐시 무효화용
+     */
+    @Query("SELECT s.vendorName FROM Sellers s WHERE s.userId = :userId")
+    Optional<String> findVendorNameByUserId(@Param("userId") String userId);
+
+    /**
+     * 상품 ID로 판매자 상점명 조회 - 스토어 캐시 무효화용
+     */
+    @Query("SELECT p.seller.vendorName FROM Products p WHERE p.id = :productId")
+    Optional<String> findVendorNameByProductId(@Param("productId") String productId);
+
+    /**
+     * 주문에 포함된 상품들의 판매자 상점명 조회 - 스토어 캐시 무효화용
+     */
+    @Query("SELECT DISTINCT p.seller.vendorName FROM OrderItems oi JOIN oi.products p WHERE oi.orders.id = :orderId")
+    List<String> findVendorNamesByOrderId(@Param("orderId") String orderId);
+
 
     /**
      * 브랜드 이미지 삭제 (null로 설정)
      */
     @Modifying
-    @Query("UPDATE Sellers s SET s.vendorProfileImage = NULL WHERE s.userId = :userId")
+    @Query("UPDATE Sellers s SET s.vendorProfileImage = NULL, s.vendorProfileThumbnail = NULL WHERE s.userId = :userId")
     int deleteVendorProfileImage(@Param("userId") String userId);
 
+    /**
+     * 브랜드 이미지 썸네일 기록 (이미지 처리 워커에서 호출)
+     * 처리 중 브랜드 이미지가 바뀌었으면 반영하지 않습니다.
+     */
+    @JpaTransactional
+    @Modifying
+    @Query("""
+        UPDATE Sellers s
+        SET s.vendorProfileThumbnail = :thumbnailUrl
+        WHERE s.userId = :userId
+        AND s.vendorProfileImage = :imageUrl
+    """)
+    int updateVendorProfileThumbnail(@Param("userId") String userId,
+                                     @Param("imageUrl") String imageUrl,
+                                     @Param("thumbnailUrl") String thumbnailUrl);
+
 
     @Query("""
         SELECT new com.team5.catdogeats.users.domain.dto.SellerDTO(
@@ -1,6 +1,8 @@
 package com.team5.catdogeats.users.service;
 
 import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
 import com.team5.catdogeats.users.domain.dto.SellerBrandImageResponseDTO;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,4 +16,14 @@ public interface SellerBrandImageService {
      * 판매자 브랜드 이미지 삭제
      */
     SellerBrandImageResponseDTO deleteBrandImage(UserPrincipal userPrincipal);
+
+    /**
+     * 브랜드 이미지 직접 업로드 URL 발급
+     */
+    PresignedUploadResponseDto presignBrandImageUpload(UserPrincipal userPrincipal, PresignedUploadRequestDto request);
+
+    /**
+     * 직접 업로드한 브랜드 이미지 검증 후 등록/수정
+     */
+    SellerBrandImageResponseDTO confirmBrandImageUpload(UserPrincipal userPrincipal, String fileKey);
 }
\ No newline at end of file
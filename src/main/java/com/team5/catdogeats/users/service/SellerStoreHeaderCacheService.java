@@ -0,0 +1,53 @@
+package com.team5.catdogeats.users.service;
+
+import com.team5.catdogeats.orders.domain.dto.SellerStoreStatsDTO;
+import com.team5.catdogeats.users.domain.dto.SellerStoreInfoDTO;
+
+import java.util.Optional;
+
+/**
+ * 판매자 스토어 페이지 상단(판매자 정보 + 집계) 캐시
+ * 짧은 TTL 로 보관하고, 상품 / 주문 / 리뷰 / 판매자 정보 변경 이벤트로 무효화합니다.
+ */
+public interface SellerStoreHeaderCacheService {
+
+    /**
+     * 캐시된 스토어 헤더 조회
+     *
+     * @param vendorName 상점명
+     * @return 캐시에 없거나 캐시 조회에 실패하면 empty
+     */
+    Optional<SellerStoreInfoDTO> get(String vendorName);
+
+    /**
+     * 스토어 헤더 저장
+     *
+     * @param vendorName 상점명
+     * @param sellerInfo 스토어 헤더
+     */
+    void put(String vendorName, SellerStoreInfoDTO sellerInfo);
+
+    /**
+     * 상점명 기준 무효화
+     *
+     * @param vendorName 상점명
+     */
+    void evict(String vendorName);
+
+    /**
+     * 마지막으로 조회에 성공한 상점 집계
+     * 헤더 캐시보다 길게 보관하며, 집계 조회가 시간 초과될 때 대신 사용합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @return 저장된 값이 없거나 조회에 실패하면 empty
+     */
+    Optional<SellerStoreStatsDTO> getLastStats(String sellerId);
+
+    /**
+     * 상점 집계 조회 결과 저장
+     *
+     * @param sellerId 판매자 ID
+     * @param stats 상점 집계
+     */
+    void putLastStats(String sellerId, SellerStoreStatsDTO stats);
+}
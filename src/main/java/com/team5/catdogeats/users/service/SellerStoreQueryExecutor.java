@@ -0,0 +1,198 @@
+package com.team5.catdogeats.users.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 스토어 페이지 조회 병렬 실행기
+ * 판매자 확인 이후 서로 독립적인 조회(활성 상품 수, 상점 집계, 상품 목록)를 동시에 실행합니다.
+ * 각 작업이 커넥션을 하나씩 잡으므로 동시에 실행되는 조회 수(커넥션 예산)를 Hikari 풀 크기에서 예비분을 뺀 값으로 제한합니다.
+ * 큐가 가득 차면 요청 스레드에서 직접 실행(CallerRuns)하며, 이때도 같은 예산을 나눠 씁니다.
+ * 조회 시간은 큐 대기를 빼고 실행을 시작한 시점부터 재고, 같은 시간으로 statement_timeout 을 걸어 DB 에서도 늦은 쿼리를 취소합니다.
+ */
+@Slf4j
+@Component
+public class SellerStoreQueryExecutor implements DisposableBean {
+
+    private final Executor executor;
+    private final long timeoutMillis;
+    // 큐 대기 + 실행을 합친 최대 대기 시간 (넘으면 아직 시작하지 않은 작업은 취소)
+    private final long maxWaitMillis;
+    private final Semaphore connectionPermits;
+    // null 이면 statement_timeout 없이 실행 (단위 테스트)
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SellerStoreQueryExecutor(@Value("${seller-store.fan-out.max-threads:4}") int maxThreads,
+                                    @Value("${seller-store.fan-out.queue-capacity:50}") int queueCapacity,
+                                    @Value("${seller-store.fan-out.timeout-ms:1500}") long timeoutMillis,
+                                    @Value("${seller-store.fan-out.max-wait-ms:3000}") long maxWaitMillis,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                    @Value("${seller-store.fan-out.reserved-connections:4}") int reservedConnections,
+                                    @Qualifier("jpaTransactionManager") PlatformTransactionManager transactionManager,
+                                    JdbcTemplate jdbcTemplate) {
+        int connectionBudget = Math.max(1, Math.min(maxThreads, maximumPoolSize - reservedConnections));
+        if (connectionBudget < maxThreads) {
+            log.warn("스토어 조회 스레드 수가 커넥션 예산보다 커서 줄입니다: threads={} -> {}, hikariMax={}, reserved={}",
+                    maxThreads, connectionBudget, maximumPoolSize, reservedConnections);
+        }
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(connectionBudget);
+        taskExecutor.setMaxPoolSize(connectionBudget);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("Store-Query-");
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.initialize();
+
+        this.executor = taskExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaitMillis = Math.max(maxWaitMillis, timeoutMillis);
+        this.connectionPermits = new Semaphore(connectionBudget);
+        this.transactionTemplate = readOnlyTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        log.info("스토어 조회 병렬 실행기 설정 완료: connections={}, queue={}, timeoutMs={}, maxWaitMs={}",
+                connectionBudget, queueCapacity, timeoutMillis, this.maxWaitMillis);
+    }
+
+    public SellerStoreQueryExecutor(Executor executor, long timeoutMillis) {
+        this(executor, timeoutMillis, timeoutMillis * 2, Integer.MAX_VALUE, null, null);
+    }
+
+    public SellerStoreQueryExecutor(Executor executor, long timeoutMillis,
+                                    PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+        this(executor, timeoutMillis, timeoutMillis * 2, Integer.MAX_VALUE, transactionManager, jdbcTemplate);
+    }
+
+    public SellerStoreQueryExecutor(Executor executor, long timeoutMillis, long maxWaitMillis, int connectionBudget,
+                                    PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaitMillis = Math.max(maxWaitMillis, timeoutMillis);
+        this.connectionPermits = new Semaphore(connectionBudget);
+        this.transactionTemplate = transactionManager != null ? readOnlyTemplate(transactionManager) : null;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> run(result, query));
+        return result;
+    }
+
+    /**
+     * 커넥션 예산 안에서 조회 실행
+     * 기다리던 요청이 이미 포기해 취소된 작업은 커넥션을 잡지 않고 끝냅니다.
+     */
+    private <T> void run(CompletableFuture<T> result, Supplier<T> query) {
+        if (result.isDone()) {
+            return;
+        }
+        boolean acquired = false;
+        try {
+            acquired = connectionPermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                result.completeExceptionally(new TimeoutException("스토어 조회 커넥션 예산 대기 시간 초과"));
+                return;
+            }
+            if (result.isDone()) {
+                return;
+            }
+            // 실행 시작 시점부터 statement_timeout 과 같은 시간으로 측정
+            result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+            result.complete(runWithStatementTimeout(query));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        } finally {
+            if (acquired) {
+                connectionPermits.release();
+            }
+        }
+    }
+
+    /**
+     * 실행 시간 제한과 같은 statement_timeout(ms) 으로 조회
+     * 시간 초과 후에도 쿼리가 계속 돌며 스레드와 커넥션을 잡고 있지 않도록 DB 에서 취소합니다.
+     * JDBC setQueryTimeout 은 초 단위라 1500ms 를 맞출 수 없어 PostgreSQL SET LOCAL 을 사용하며,
+     * 트랜잭션이 끝나면 원래 값으로 돌아가므로 풀에 반납된 커넥션에는 남지 않습니다.
+     * JPA / MyBatis 가 같은 DataSource 를 쓰므로 트랜잭션에 묶인 커넥션에서 두 방식의 조회 모두 적용됩니다.
+     */
+    private <T> T runWithStatementTimeout(Supplier<T> query) {
+        if (transactionTemplate == null) {
+            return query.get();
+        }
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL statement_timeout = " + timeoutMillis);
+            return query.get();
+        });
+    }
+
+    private static TransactionTemplate readOnlyTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * 결과 대기
+     * 작업에서 발생한 예외는 감싸지 않고 그대로 던지고, 시간 초과는 QueryTimeoutException 으로 던집니다.
+     * 최대 대기 시간 안에 끝나지 않으면 아직 큐에 있는 작업이 나중에 커넥션을 잡지 않도록 취소합니다.
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(false);
+            throw new QueryTimeoutException(maxWaitMillis, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new QueryTimeoutException(timeoutMillis, cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException(maxWaitMillis, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            taskExecutor.shutdown();
+        }
+    }
+
+    public static class QueryTimeoutException extends RuntimeException {
+        public QueryTimeoutException(long timeoutMillis, Throwable cause) {
+            super("스토어 조회 시간 초과 (" + timeoutMillis + "ms)", cause);
+        }
+    }
+}
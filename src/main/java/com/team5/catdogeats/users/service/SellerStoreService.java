@@ -34,4 +34,30 @@ public interface SellerStoreService {
             ProductCategory productCategory,
             String filter
     );
-}
\ No newline at end of file
+
+    /**
+     * 판매자 이름으로 스토어 페이지 커서 조회 (무한 스크롤용)
+     *
+     * @param vendorName 판매자 상점명
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size 페이지 크기
+     * @param sort 정렬 기준
+     * @param petCategory 상품 카테고리 필터 (optional)
+     * @param filter 추가 필터 조건 (best, discount, new, exclude_sold_out)
+     * @param includeCount 전체 상품 수 집계 여부
+     * @return 스토어 페이지 응답 데이터 (products.nextCursor 포함)
+     *
+     * @throws IllegalArgumentException 잘못된 파라미터 값 또는 커서
+     * @throws EntityNotFoundException 판매자를 찾을 수 없음
+     */
+    SellerStorePageResponse getSellerStoreCursorPage(
+            String vendorName,
+            String cursor,
+            int size,
+            String sort,
+            PetCategory petCategory,
+            ProductCategory productCategory,
+            String filter,
+            boolean includeCount
+    );
+}
@@ -9,11 +9,13 @@ import com.team5.catdogeats.users.domain.dto.ModifyRoleRequestDTO;
 import com.team5.catdogeats.users.domain.enums.Role;
 import com.team5.catdogeats.users.domain.mapping.Buyers;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
+import com.team5.catdogeats.users.event.UserAuthorityChangedEvent;
 import com.team5.catdogeats.users.repository.BuyerRepository;
 import com.team5.catdogeats.users.repository.SellersRepository;
 import com.team5.catdogeats.users.repository.UserRepository;
 import com.team5.catdogeats.users.service.ModifyUserRoleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -35,6 +37,7 @@ public class ModifyUserRoleServiceImpl  implements ModifyUserRoleService {
     private final SellersRepository sellersRepository;
     private final BuyerRepository buyerRepository;
     private final OAuth2ProviderStrategyFactory strategyFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @JpaTransactional
@@ -64,6 +67,9 @@ public class ModifyUserRoleServiceImpl  implements ModifyUserRoleService {
             buyerRepository.save(buyer);
         }
 
+        // 리프레시 토큰에 저장된 권한 스냅샷 무효화 (커밋 이후)
+        eventPublisher.publishEvent(UserAuthorityChangedEvent.of(userPrincipal));
+
         Authentication currentAuth = SecurityContextHolder.getContext().getAuthentication();
         Authentication newAuth = modifyAuthentication(currentAuth, userPrincipal, role, user);
         SecurityContextHolder.getContext().setAuthentication(newAuth);
@@ -2,17 +2,22 @@ package com.team5.catdogeats.users.service.impl;
 
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.config.JpaTransactional;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
 import com.team5.catdogeats.storage.service.ObjectStorageService;
 import com.team5.catdogeats.storage.util.ImageValidationUtil;
 import com.team5.catdogeats.users.domain.Users;
 import com.team5.catdogeats.users.domain.dto.SellerBrandImageResponseDTO;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
+import com.team5.catdogeats.users.event.SellerProfileChangedEvent;
 import com.team5.catdogeats.users.repository.SellersRepository;
 import com.team5.catdogeats.users.repository.UserRepository;
 import com.team5.catdogeats.users.service.SellerBrandImageService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
@@ -27,6 +32,7 @@ public class SellerBrandImageServiceImpl implements SellerBrandImageService {
     private final UserRepository userRepository;
     private final ObjectStorageService objectStorageService;
     private final ImageValidationUtil imageValidationUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @JpaTransactional
@@ -38,16 +44,64 @@ public class SellerBrandImageServiceImpl implements SellerBrandImageService {
         Users user = findUserByPrincipal(userPrincipal);
         Sellers seller = findSellerByUserId(user.getId());
 
-        // 3. 기존 이미지 삭제(있는 경우만)
+        // 3. 기존 이미지 삭제(있는 경우만, 썸네일 포함)
         deleteExistingImage(seller.getVendorProfileImage());
+        deleteExistingImage(seller.getVendorProfileThumbnail());
 
         // 4. 새 이미지 업로드
         String newImageUrl = uploadNewImage(imageFile, seller.getUserId());
 
-        seller.updateVendorProfileImage(newImageUrl); // Entity 메서드 사용
-        Sellers savedSeller = sellersRepository.save(seller);
+        return applyBrandImage(seller, newImageUrl);
+    }
 
-        return SellerBrandImageResponseDTO.from(savedSeller);
+    @Override
+    public PresignedUploadResponseDto presignBrandImageUpload(UserPrincipal userPrincipal, PresignedUploadRequestDto request) {
+        // 1. 파일 정보 검증 (내용은 업로드 완료 시 확인)
+        imageValidationUtil.validateUploadRequest(request.fileName(), request.contentType(), request.contentLength());
+
+        // 2. 사용자 및 판매자 조회
+        Users user = findUserByPrincipal(userPrincipal);
+        Sellers seller = findSellerByUserId(user.getId());
+
+        // 3. 업로드 URL 발급
+        String uniqueFileName = generateUniqueFileName(request.fileName(), seller.getUserId());
+        return objectStorageService.presignImageUpload(uniqueFileName, request.contentType(), request.contentLength());
+    }
+
+    @Override
+    @JpaTransactional
+    public SellerBrandImageResponseDTO confirmBrandImageUpload(UserPrincipal userPrincipal, String fileKey) {
+        // 1. 사용자 및 판매자 조회
+        Users user = findUserByPrincipal(userPrincipal);
+        Sellers seller = findSellerByUserId(user.getId());
+
+        // 2. 본인에게 발급된 파일인지 확인
+        if (fileKey == null || !fileKey.startsWith(brandKeyPrefix(seller.getUserId())) || fileKey.contains("/")) {
+            throw new IllegalArgumentException("판매자에게 발급된 업로드 파일이 아닙니다.");
+        }
+        // 다른 판매자가 이미 쓰고 있는 파일이면 S3 를 건드리기 전에 거절 (검증 실패 시 삭제되지 않도록)
+        if (sellersRepository.existsByVendorProfileImageAndUserIdNot(objectStorageService.imageUrl(fileKey), seller.getUserId())) {
+            throw new IllegalArgumentException("이미 등록된 이미지입니다.");
+        }
+
+        // 3. 업로드된 파일 앞부분만 읽어 검증 (실패 시 업로드된 파일 삭제)
+        ObjectStorageService.StoredObjectHeader object =
+                objectStorageService.readImageHeader(fileKey, ImageValidationUtil.HEADER_SCAN_SIZE);
+        try {
+            imageValidationUtil.validateUploadedImage(object.header(), object.contentLength(), object.contentType());
+        } catch (IllegalArgumentException e) {
+            deleteExistingImage(object.url());
+            throw e;
+        }
+        if (object.url().equals(seller.getVendorProfileImage())) {
+            return SellerBrandImageResponseDTO.from(seller);
+        }
+
+        // 4. 기존 이미지 삭제(있는 경우만, 썸네일 포함)
+        deleteExistingImage(seller.getVendorProfileImage());
+        deleteExistingImage(seller.getVendorProfileThumbnail());
+
+        return applyBrandImage(seller, object.url());
     }
 
     @Override
@@ -66,6 +120,7 @@ public class SellerBrandImageServiceImpl implements SellerBrandImageService {
         String existingImageUrl = seller.getVendorProfileImage();
         if (existingImageUrl != null && !existingImageUrl.trim().isEmpty()) {
             deleteExistingImage(existingImageUrl);
+            deleteExistingImage(seller.getVendorProfileThumbnail());
             log.info("브랜드 이미지 S3 삭제 완료 - userId: {}, imageUrl: {}", user.getId(), existingImageUrl);
         } else {
             log.info("삭제할 브랜드 이미지가 없습니다 - userId: {}", user.getId());
@@ -79,12 +134,26 @@ public class SellerBrandImageServiceImpl implements SellerBrandImageService {
         }
 
         Sellers updatedSeller = findSellerByUserId(user.getId());
+        eventPublisher.publishEvent(SellerProfileChangedEvent.of(updatedSeller.getUserId(), updatedSeller.getVendorName()));
 
         return SellerBrandImageResponseDTO.from(updatedSeller);
     }
 
 
 
+    /**
+     * 새 브랜드 이미지 저장
+     */
+    private SellerBrandImageResponseDTO applyBrandImage(Sellers seller, String newImageUrl) {
+        seller.updateVendorProfileImage(newImageUrl); // Entity 메서드 사용
+        Sellers savedSeller = sellersRepository.save(seller);
+        eventPublisher.publishEvent(SellerProfileChangedEvent.of(savedSeller.getUserId(), savedSeller.getVendorName()));
+        // 썸네일은 커밋 이후 별도 작업 스레드에서 생성
+        eventPublisher.publishEvent(ImageUploadedEvent.ofBrand(savedSeller.getUserId(), newImageUrl));
+
+        return SellerBrandImageResponseDTO.from(savedSeller);
+    }
+
     /**
      * UserPrincipal로 Users 엔티티 조회
      */
@@ -186,10 +255,14 @@ public class SellerBrandImageServiceImpl implements SellerBrandImageService {
         String extension = imageValidationUtil.getFileExtension(originalFileName);
         String uuid = UUID.randomUUID().toString().replace("-", "");
 
-        String shortUserId = userId.length() > 8 ? userId.substring(0, 8) : userId;
+        return String.format("%s%s.%s", brandKeyPrefix(userId), uuid, extension);
+    }
 
-        // 처음 8자리만 사용 (너무 길어지는 것 방지)
-        return String.format("brand_%s_%s.%s", shortUserId, uuid, extension);
+    /**
+     * brand_{userId}_ (앞자리만 쓰면 다른 판매자와 겹칠 수 있어 전체 ID 사용)
+     */
+    private String brandKeyPrefix(String userId) {
+        return "brand_" + userId + "_";
     }
 
 
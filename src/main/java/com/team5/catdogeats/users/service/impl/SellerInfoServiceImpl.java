@@ -5,6 +5,7 @@ import com.team5.catdogeats.global.config.JpaTransactional;
 import com.team5.catdogeats.users.domain.Users;
 import com.team5.catdogeats.users.domain.enums.DayOfWeek;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
+import com.team5.catdogeats.users.event.SellerProfileChangedEvent;
 import com.team5.catdogeats.users.domain.dto.SellerInfoRequestDTO;
 import com.team5.catdogeats.users.domain.dto.SellerInfoResponseDTO;
 import com.team5.catdogeats.users.repository.SellersRepository;
@@ -13,6 +14,7 @@ import com.team5.catdogeats.users.service.SellerInfoService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +29,7 @@ public class SellerInfoServiceImpl implements SellerInfoService {
 
     private final SellersRepository sellersRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public SellerInfoResponseDTO getSellerInfo(UserPrincipal userPrincipal) {
@@ -116,9 +119,11 @@ public class SellerInfoServiceImpl implements SellerInfoService {
 
         } else {
             Sellers seller = existingSellerOpt.get();
+            String previousVendorName = seller.getVendorName();
             updateSellerInfoPatch(seller, request, userId);
             log.info("판매자 정보 수정 완료 - userId: {}", userId);
             Sellers savedSeller = sellersRepository.save(seller);
+            eventPublisher.publishEvent(SellerProfileChangedEvent.of(userId, previousVendorName));
             return SellerInfoResponseDTO.from(savedSeller);
         }
     }
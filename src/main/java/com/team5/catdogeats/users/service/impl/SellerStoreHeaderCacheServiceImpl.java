@@ -0,0 +1,99 @@
+package com.team5.catdogeats.users.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team5.catdogeats.orders.domain.dto.SellerStoreStatsDTO;
+import com.team5.catdogeats.users.domain.dto.SellerStoreInfoDTO;
+import com.team5.catdogeats.users.service.SellerStoreHeaderCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis 기반 스토어 헤더 캐시
+ * 캐시 장애는 조회 실패로만 처리하고 원본 조회로 넘어갑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerStoreHeaderCacheServiceImpl implements SellerStoreHeaderCacheService {
+    private static final String KEY_PREFIX = "sellerStore:header:";
+    private static final String LAST_STATS_KEY_PREFIX = "sellerStore:lastStats:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${seller-store.header-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${seller-store.header-cache.last-stats-ttl-seconds:86400}")
+    private long lastStatsTtlSeconds;
+
+    @Override
+    public Optional<SellerStoreInfoDTO> get(String vendorName) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + vendorName);
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, SellerStoreInfoDTO.class));
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 조회 실패 - vendorName: {}, error: {}", vendorName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String vendorName, SellerStoreInfoDTO sellerInfo) {
+        try {
+            String json = objectMapper.writeValueAsString(sellerInfo);
+            redisTemplate.opsForValue().set(KEY_PREFIX + vendorName, json, Duration.ofSeconds(ttlSeconds));
+        } catch (JsonProcessingException e) {
+            log.warn("스토어 헤더 직렬화 실패 - vendorName: {}, error: {}", vendorName, e.getMessage());
+        } catch (Exception e) {
+            log.warn("스토어 헤더 캐시 저장 실패 - vendorName: {}, error: {}", vendorName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String vendorName) {
+        if (vendorName == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + vendorName);
+        } catch (Exception e) {
+            // 삭제에 실패해도 TTL 이 지나면 갱신됨
+            log.warn("스토어 헤더 캐시 무효화 실패 - vendorName: {}, error: {}", vendorName, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<SellerStoreStatsDTO> getLastStats(String sellerId) {
+        try {
+            String json = redisTemplate.opsForValue().get(LAST_STATS_KEY_PREFIX + sellerId);
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, SellerStoreStatsDTO.class));
+        } catch (Exception e) {
+            log.warn("상점 집계 캐시 조회 실패 - sellerId: {}, error: {}", sellerId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void putLastStats(String sellerId, SellerStoreStatsDTO stats) {
+        try {
+            String json = objectMapper.writeValueAsString(stats);
+            redisTemplate.opsForValue().set(LAST_STATS_KEY_PREFIX + sellerId, json, Duration.ofSeconds(lastStatsTtlSeconds));
+        } catch (Exception e) {
+            log.warn("상점 집계 캐시 저장 실패 - sellerId: {}, error: {}", sellerId, e.getMessage());
+        }
+    }
+}
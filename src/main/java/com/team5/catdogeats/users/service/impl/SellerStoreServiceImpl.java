@@ -3,12 +3,16 @@ package com.team5.catdogeats.users.service.impl;
 import com.team5.catdogeats.orders.domain.dto.SellerStoreStatsDTO;
 import com.team5.catdogeats.orders.service.SellerStoreStatsService;
 import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
 import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import com.team5.catdogeats.products.domain.enums.ProductCategory;
 import com.team5.catdogeats.products.service.SellerStoreProductService;
 import com.team5.catdogeats.users.domain.dto.*;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
 import com.team5.catdogeats.users.repository.SellersRepository;
+import com.team5.catdogeats.users.service.SellerStoreHeaderCacheService;
+import com.team5.catdogeats.users.service.SellerStoreQueryExecutor;
+import com.team5.catdogeats.users.service.SellerStoreQueryExecutor.QueryTimeoutException;
 import com.team5.catdogeats.users.service.SellerStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +24,12 @@ import org.springframework.stereotype.Service;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * 판매자 스토어 페이지 Application Service
  */
@@ -31,6 +41,8 @@ public class SellerStoreServiceImpl implements SellerStoreService {
     private final SellersRepository sellersRepository;
     private final SellerStoreProductService productService;
     private final SellerStoreStatsService sellerStoreStatsService;
+    private final SellerStoreHeaderCacheService sellerStoreHeaderCacheService;
+    private final SellerStoreQueryExecutor sellerStoreQueryExecutor;
 
     @Override
     public SellerStorePageResponse getSellerStorePage(
@@ -51,29 +63,69 @@ public class SellerStoreServiceImpl implements SellerStoreService {
         //2. 페이징 처리 (1-based -> 0-based 변환)
         Pageable pageable = createPageable(page - 1, size, sort, filter);
 
-        // 3. 판매자 정보 조회
-        Sellers seller = findSellerByVendorName(vendorName);
-
-        // 4. 상품 기본 정보 조회 (Products 도메인)
-        Long totalProducts = productService.countSellerActiveProducts(seller.getUserId());
-        Page<ProductStoreInfoDTO> productInfoPage = productService
-                .getSellerProductsBaseInfo(seller.getUserId(), petCategory, productCategory, filter, pageable);
+        // 3~4. 판매자 정보 + 상점 집계(캐시 우선) + 상품 기본 정보 조회 (Products 도메인)
+        StorePageParts<Page<ProductStoreInfoDTO>> parts = loadStorePage(vendorName, sellerId -> productService
+                .getSellerProductsBaseInfo(sellerId, petCategory, productCategory, filter, pageable),
+                () -> Page.empty(pageable));
+        SellerStoreInfoDTO sellerInfo = parts.sellerInfo();
+        Page<ProductStoreInfoDTO> productInfoPage = parts.products();
 
-        // 5. 상점 집계 정보 조회 (Orders 도메인)
-        SellerStoreStatsDTO storeStats = sellerStoreStatsService.getSellerStoreStats(seller.getUserId());
+        // 5. 응답 데이터 생성
+        SellerStorePageResponse response = buildResponse(sellerInfo, productInfoPage);
 
-        // 6. 응답 데이터 생성
-        SellerStorePageResponse response = buildResponse(seller, totalProducts, storeStats, productInfoPage);
-
-        //7. 페이지 번호를 다시 1-based로 조정
+        //6. 페이지 번호를 다시 1-based로 조정
         response = adjustPageNumberInResponse(response, pageable.getPageNumber());
 
         log.info("판매자 스토어 페이지 조회 완료 - vendorName: {}, filter: {}, totalProducts: {}, totalSales: {}, pageContent: {}",
-                vendorName, filter, totalProducts, storeStats.totalSalesCount(), productInfoPage.getNumberOfElements());
+                vendorName, filter, sellerInfo.totalProducts(), sellerInfo.totalSalesQuantity(), productInfoPage.getNumberOfElements());
 
         return response;
     }
 
+    @Override
+    public SellerStorePageResponse getSellerStoreCursorPage(
+            String vendorName,
+            String cursor,
+            int size,
+            String sort,
+            PetCategory petCategory,
+            ProductCategory productCategory,
+            String filter,
+            boolean includeCount) {
+
+        log.info("판매자 스토어 커서 조회 요청 - vendorName: {}, size: {}, sort: {}, petCategory: {}, productCategory: {}, filter: {}, includeCount: {}",
+                vendorName, size, sort, petCategory, productCategory, filter, includeCount);
+
+        //1. 파라미터 검증 (커서 조회는 페이지 번호 없음)
+        validateRequestParameters(vendorName, 1, size, filter);
+
+        //2. 정렬 조건은 페이지 조회와 같은 규칙 사용
+        Pageable pageable = createPageable(0, size, sort, filter);
+
+        // 3~4. 판매자 정보 + 상점 집계(캐시 우선) + 상품 커서 조회 (Products 도메인)
+        StorePageParts<ProductStoreCursorPageDTO> parts = loadStorePage(vendorName, sellerId -> productService
+                .getSellerProductsByCursor(sellerId, petCategory, productCategory, filter,
+                        pageable.getSort(), cursor, pageable.getPageSize(), includeCount),
+                () -> new ProductStoreCursorPageDTO(List.of(), null, false, null));
+        SellerStoreInfoDTO sellerInfo = parts.sellerInfo();
+        ProductStoreCursorPageDTO productCursorPage = parts.products();
+
+        // 5. 응답 데이터 생성
+        ProductCardPageResponseDTO productResponse = ProductCardPageResponseDTO.ofCursor(
+                productCursorPage.content().stream().map(SellerStoreProductCardDTO::from).toList(),
+                pageable.getPageSize(),
+                productCursorPage.nextCursor(),
+                productCursorPage.hasNext(),
+                cursor != null && !cursor.isBlank(),
+                productCursorPage.totalElements()
+        );
+
+        log.info("판매자 스토어 커서 조회 완료 - vendorName: {}, filter: {}, pageContent: {}, hasNext: {}",
+                vendorName, filter, productResponse.content().size(), productResponse.hasNext());
+
+        return SellerStorePageResponse.of(sellerInfo, productResponse);
+    }
+
     /**
      * 요청 파라미터 검증
      */
@@ -172,6 +224,65 @@ public class SellerStoreServiceImpl implements SellerStoreService {
         };
     }
 
+    /**
+     * 스토어 헤더와 상품 목록 조회
+     * 헤더 캐시가 있으면 상품만 조회합니다. 캐시가 없으면 판매자 확인 후
+     * 활성 상품 수, 상점 집계(Orders 도메인), 상품 목록을 동시에 조회해 가장 느린 조회만큼만 기다립니다.
+     * 시간 초과된 조회는 5xx 대신 빈 상품 목록 / 빈 상품 수 / 마지막 집계로 응답하고 헤더는 캐시하지 않습니다.
+     */
+    private <T> StorePageParts<T> loadStorePage(String vendorName, Function<String, T> productQuery,
+                                                Supplier<T> emptyProducts) {
+        Optional<SellerStoreInfoDTO> cached = sellerStoreHeaderCacheService.get(vendorName);
+        if (cached.isPresent()) {
+            return new StorePageParts<>(cached.get(), productQuery.apply(cached.get().sellerId()));
+        }
+
+        Sellers seller = findSellerByVendorName(vendorName);
+        String sellerId = seller.getUserId();
+
+        CompletableFuture<T> products = sellerStoreQueryExecutor.submit(() -> productQuery.apply(sellerId));
+        CompletableFuture<Long> totalProducts = sellerStoreQueryExecutor.submit(
+                () -> productService.countSellerActiveProducts(sellerId));
+        CompletableFuture<SellerStoreStatsDTO> storeStats = sellerStoreQueryExecutor.submit(
+                () -> sellerStoreStatsService.getSellerStoreStats(sellerId));
+
+        T productResult;
+        try {
+            productResult = sellerStoreQueryExecutor.join(products);
+        } catch (QueryTimeoutException e) {
+            productResult = emptyProducts.get();
+            log.warn("상품 목록 조회 시간 초과, 빈 목록으로 응답 - sellerId: {}", sellerId);
+        }
+
+        boolean headerFresh = true;
+        Long totalProductCount;
+        try {
+            totalProductCount = sellerStoreQueryExecutor.join(totalProducts);
+        } catch (QueryTimeoutException e) {
+            headerFresh = false;
+            totalProductCount = null;
+            log.warn("활성 상품 수 조회 시간 초과, 상품 수 없이 응답 - sellerId: {}", sellerId);
+        }
+
+        // 집계가 늦으면 마지막으로 성공한 집계로 응답하고, 헤더는 캐시하지 않아 다음 요청에서 다시 조회
+        SellerStoreStatsDTO stats;
+        try {
+            stats = sellerStoreQueryExecutor.join(storeStats);
+            sellerStoreHeaderCacheService.putLastStats(sellerId, stats);
+        } catch (QueryTimeoutException e) {
+            headerFresh = false;
+            stats = sellerStoreHeaderCacheService.getLastStats(sellerId)
+                    .orElseGet(SellerStoreStatsDTO::empty);
+            log.warn("상점 집계 조회 시간 초과, 마지막 집계로 응답 - sellerId: {}", sellerId);
+        }
+
+        SellerStoreInfoDTO sellerInfo = SellerStoreInfoDTO.from(seller, totalProductCount, stats);
+        if (headerFresh) {
+            sellerStoreHeaderCacheService.put(vendorName, sellerInfo);
+        }
+        return new StorePageParts<>(sellerInfo, productResult);
+    }
+
     /**
      * 판매자 조회
      */
@@ -184,14 +295,9 @@ public class SellerStoreServiceImpl implements SellerStoreService {
      * 응답 데이터 생성
      */
     private SellerStorePageResponse buildResponse(
-            Sellers seller,
-            Long totalProducts,
-            SellerStoreStatsDTO storeStats,
+            SellerStoreInfoDTO sellerInfo,
             Page<ProductStoreInfoDTO> productInfoPage) {
 
-        // 판매자 정보 생성 (집계 정보 포함)
-        SellerStoreInfoDTO sellerInfo = SellerStoreInfoDTO.from(seller, totalProducts, storeStats);
-
         // 상품 카드로 변환
         Page<SellerStoreProductCardDTO> productCardPage = productInfoPage
                 .map(SellerStoreProductCardDTO::from);
@@ -215,7 +321,8 @@ public class SellerStoreServiceImpl implements SellerStoreService {
                 adjustedPage + 1, // 0-based를 1-based로 변환
                 originalProducts.size(),
                 originalProducts.hasNext(),
-                adjustedPage > 0 // 이전 페이지 존재 여부
+                adjustedPage > 0, // 이전 페이지 존재 여부
+                null
         );
 
         return new SellerStorePageResponse(
@@ -223,4 +330,7 @@ public class SellerStoreServiceImpl implements SellerStoreService {
                 adjustedProducts
         );
     }
-}
\ No newline at end of file
+
+    private record StorePageParts<T>(SellerStoreInfoDTO sellerInfo, T products) {
+    }
+}
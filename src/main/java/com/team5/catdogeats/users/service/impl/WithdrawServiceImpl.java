@@ -3,10 +3,12 @@ package com.team5.catdogeats.users.service.impl;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.global.config.MybatisTransactional;
 import com.team5.catdogeats.users.domain.enums.Role;
+import com.team5.catdogeats.users.event.UserAuthorityChangedEvent;
 import com.team5.catdogeats.users.mapper.UserMapper;
 import com.team5.catdogeats.users.service.WithdrawService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -22,6 +24,7 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class WithdrawServiceImpl implements WithdrawService {
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @MybatisTransactional
@@ -35,6 +38,8 @@ public class WithdrawServiceImpl implements WithdrawService {
             userMapper.softDeleteUserByProviderAndProviderId(userPrincipal.provider(),
                     userPrincipal.providerId(),
                     OffsetDateTime.now(ZoneOffset.UTC));
+            // 리프레시 토큰에 저장된 권한 스냅샷 무효화 (커밋 이후)
+            eventPublisher.publishEvent(UserAuthorityChangedEvent.of(userPrincipal));
 
         } catch (BadSqlGrammarException e) {
             log.error("sql 에러", e);
@@ -0,0 +1,102 @@
+package com.team5.catdogeats.auth.filter;
+
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
+import com.team5.catdogeats.auth.service.JwtService;
+import com.team5.catdogeats.auth.util.JwtKeyRing;
+import com.team5.catdogeats.auth.util.JwtUtils;
+import com.team5.catdogeats.auth.util.RouteClassifier;
+import com.team5.catdogeats.global.config.JwtConfig;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.Cookie;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청 분류별 JWT 필터 처리 비용 측정
+ * 일반 테스트 실행에서는 제외하고 RUN_BENCHMARK=true 일 때만 실행합니다.
+ * 결과는 로그로 확인합니다. (ns/op)
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class JwtAuthenticationFilterBenchmarkTest {
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    void filterOverheadPerRequestClass() throws Exception {
+        JwtConfig jwtConfig = mock(JwtConfig.class);
+        when(jwtConfig.getSigningAlgorithm()).thenReturn("ES256");
+        when(jwtConfig.getSigningKid()).thenReturn("");
+        when(jwtConfig.getSigningPrivateKey()).thenReturn("");
+        when(jwtConfig.getSigningPublicKey()).thenReturn("");
+        when(jwtConfig.getPreviousPublicKey()).thenReturn("");
+
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+        JwtKeyRing keyRing = new JwtKeyRing(jwtConfig, environment);
+        AccessTokenDenylistService denylist = new AccessTokenDenylistService() {
+            @Override
+            public void revoke(String jti, Instant expiresAt) {
+            }
+
+            @Override
+            public boolean isRevoked(String jti) {
+                return false;
+            }
+        };
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                new JwtUtils(keyRing), mock(JwtService.class), denylist, new RouteClassifier());
+
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        String token = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id("benchmark-jti")
+                .subject("12345")
+                .claim("authorities", "ROLE_BUYER")
+                .claim("provider", "google")
+                .expiration(Date.from(Instant.now().plusSeconds(1800)))
+                .signWith(signingKey.privateKey(), keyRing.algorithm())
+                .compact();
+
+        measure(filter, "NONE (static)", "GET", "/swagger-ui/index.html", token);
+        measure(filter, "NONE (public GET)", "GET", "/v1/users/멍멍이네수제간식", token);
+        measure(filter, "OPTIONAL", "GET", "/v1/buyers/reviews/list", token);
+        measure(filter, "REQUIRED", "POST", "/v1/buyers/orders", token);
+    }
+
+    private void measure(JwtAuthenticationFilter filter, String label, String method, String path, String token)
+            throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            run(filter, method, path, token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run(filter, method, path, token);
+        }
+        long nanos = (System.nanoTime() - start) / ITERATIONS;
+        log.info("[Filter benchmark] {} {} {} -> {} ns/op", label, method, path, nanos);
+    }
+
+    private void run(JwtAuthenticationFilter filter, String method, String path, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setCookies(new Cookie("token", token));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        boolean skipped = path.startsWith("/swagger-ui") || path.startsWith("/v1/users/");
+        assertThat(SecurityContextHolder.getContext().getAuthentication() == null).isEqualTo(skipped);
+        SecurityContextHolder.clearContext();
+    }
+}
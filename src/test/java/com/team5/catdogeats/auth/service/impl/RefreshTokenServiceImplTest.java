@@ -2,26 +2,34 @@ package com.team5.catdogeats.auth.service.impl;
 
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategy;
 import com.team5.catdogeats.auth.assistant.JwtAssistant.OAuth2ProviderStrategyFactory;
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.auth.redis.RefreshTokens;
 import com.team5.catdogeats.auth.repository.RefreshTokensRedisRepository;
+import com.team5.catdogeats.auth.service.AuthVersionService;
 import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
 import com.team5.catdogeats.users.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -33,11 +41,14 @@ class RefreshTokenServiceImplTest {
     @Mock private OAuth2ProviderStrategy strategy;
     @Mock private UserRepository userRepository;
     @Mock private RefreshTokensRedisRepository refreshTokenRepository;
+    @Mock private AuthVersionService authVersionService;
 
     @InjectMocks private RefreshTokenServiceImpl refreshTokenService;
 
     private OAuth2AuthenticationToken authentication;
     private final String userId = UUID.randomUUID().toString();
+    private final AccessTokenDTO accessToken =
+            new AccessTokenDTO("access-token", UUID.randomUUID().toString(), Instant.now().plusSeconds(1800));
 
     @BeforeEach
     void setUp() {
@@ -51,7 +62,12 @@ class RefreshTokenServiceImplTest {
         String providerId = "12345";
         when(strategy.extractProviderId(oAuth2User)).thenReturn(providerId);
 
-        Users user = Users.builder().id(userId).build();
+        Users user = Users.builder()
+                .id(userId)
+                .name("테스트 유저")
+                .role(Role.ROLE_BUYER)
+                .userNameAttribute("sub")
+                .build();
         when(userRepository.findByProviderAndProviderId(provider, providerId))
                 .thenReturn(Optional.of(user));
     }
@@ -63,11 +79,42 @@ class RefreshTokenServiceImplTest {
         ArgumentCaptor<RefreshTokens> captor = ArgumentCaptor.forClass(RefreshTokens.class);
         when(refreshTokenRepository.save(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        String result = refreshTokenService.createRefreshToken(authentication);
+        String result = refreshTokenService.createRefreshToken(authentication, accessToken);
 
         RefreshTokens saved = captor.getValue();
         assertNotNull(result);
         assertEquals(userId, saved.getUserId());
         assertFalse(saved.isUsed());
     }
+
+    @Test
+    void createRefreshToken_ShouldStoreAuthSnapshot() {
+        when(authVersionService.currentVersion(any(UserPrincipal.class))).thenReturn(2L);
+        when(refreshTokenRepository.findByUserIdAndUsedIsFalse(userId)).thenReturn(List.of());
+
+        ArgumentCaptor<RefreshTokens> captor = ArgumentCaptor.forClass(RefreshTokens.class);
+        when(refreshTokenRepository.save(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        refreshTokenService.createRefreshToken(authentication, accessToken);
+
+        RefreshTokens saved = captor.getValue();
+        assertTrue(saved.hasSnapshot());
+        assertEquals("ROLE_BUYER", saved.getRole());
+        assertEquals("sub", saved.getUserNameAttribute());
+        assertEquals(2L, saved.getAuthVersion());
+        assertEquals(accessToken.jti(), saved.getAccessTokenJti());
+    }
+
+    @Test
+    void createRefreshToken_ShouldReadAuthVersionBeforeLoadingUser() {
+        when(authVersionService.currentVersion(any(UserPrincipal.class))).thenReturn(2L);
+        when(refreshTokenRepository.findByUserIdAndUsedIsFalse(userId)).thenReturn(List.of());
+        when(refreshTokenRepository.save(any(RefreshTokens.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        refreshTokenService.createRefreshToken(authentication, accessToken);
+
+        InOrder order = inOrder(authVersionService, userRepository);
+        order.verify(authVersionService).currentVersion(any(UserPrincipal.class));
+        order.verify(userRepository).findByProviderAndProviderId(any(), any());
+    }
 }
@@ -1,9 +1,13 @@
 package com.team5.catdogeats.auth.service.impl;
 
+import com.team5.catdogeats.auth.dto.AccessTokenDTO;
+import com.team5.catdogeats.auth.dto.AuthSnapshotDTO;
 import com.team5.catdogeats.auth.dto.RotateTokenDTO;
 import com.team5.catdogeats.auth.dto.UserPrincipal;
 import com.team5.catdogeats.auth.redis.RefreshTokens;
 import com.team5.catdogeats.auth.repository.RefreshTokensRedisRepository;
+import com.team5.catdogeats.auth.service.AccessTokenDenylistService;
+import com.team5.catdogeats.auth.service.AuthVersionService;
 import com.team5.catdogeats.auth.service.JwtService;
 import com.team5.catdogeats.auth.service.RefreshTokenService;
 import com.team5.catdogeats.global.exception.ExpiredTokenException;
@@ -17,14 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RotateRefreshTokenServiceImplTest {
@@ -35,12 +40,18 @@ class RotateRefreshTokenServiceImplTest {
     private JwtService jwtService;
     @Mock
     private RefreshTokenService refreshTokenService;
+    @Mock
+    private AuthVersionService authVersionService;
+    @Mock
+    private AccessTokenDenylistService accessTokenDenylistService;
 
     @InjectMocks
     private RotateRefreshTokenServiceImpl rotateService;
 
     private String tokenId;
     private RefreshTokens validToken;
+    private final AccessTokenDTO newAccessToken =
+            new AccessTokenDTO("new-access-token", UUID.randomUUID().toString(), Instant.now().plusSeconds(1800));
 
     @BeforeEach
     void setUp() {
@@ -64,10 +75,10 @@ class RotateRefreshTokenServiceImplTest {
 
         Authentication authentication = mock(Authentication.class);
         when(jwtService.getAuthentication(any(UserPrincipal.class))).thenReturn(authentication);
-        when(jwtService.createAccessToken(authentication)).thenReturn("new-access-token");
+        when(jwtService.issueAccessToken(authentication)).thenReturn(newAccessToken);
 
         String newRefreshTokenId = UUID.randomUUID().toString();
-        when(refreshTokenService.createRefreshToken(authentication)).thenReturn(newRefreshTokenId);
+        when(refreshTokenService.createRefreshToken(authentication, newAccessToken)).thenReturn(newRefreshTokenId);
 
         // when
         RotateTokenDTO result = rotateService.RotateRefreshToken(tokenId);
@@ -79,6 +90,60 @@ class RotateRefreshTokenServiceImplTest {
     }
 
 
+    @Test
+    void rotateRefreshToken_ShouldUseSnapshot_WhenAuthVersionUnchanged() {
+        // given
+        RefreshTokens snapshotToken = validToken.toBuilder()
+                .name("테스트 유저")
+                .role("ROLE_BUYER")
+                .userNameAttribute("sub")
+                .authVersion(1L)
+                .build();
+        when(refreshTokenRepository.findById((tokenId))).thenReturn(Optional.of(snapshotToken));
+        when(refreshTokenRepository.save(any(RefreshTokens.class))).thenReturn(snapshotToken);
+        when(authVersionService.currentVersion(any(UserPrincipal.class))).thenReturn(1L);
+
+        Authentication authentication = mock(Authentication.class);
+        when(jwtService.getAuthentication(any(AuthSnapshotDTO.class))).thenReturn(authentication);
+        when(jwtService.issueAccessToken(authentication)).thenReturn(newAccessToken);
+        when(refreshTokenService.createRefreshToken(any(AuthSnapshotDTO.class), eq(newAccessToken))).thenReturn("new-refresh-token");
+
+        // when
+        RotateTokenDTO result = rotateService.RotateRefreshToken(tokenId);
+
+        // then
+        assertEquals("new-access-token", result.newAccessToken());
+        assertEquals("new-refresh-token", result.newRefreshToken());
+        verify(jwtService, never()).getAuthentication(any(UserPrincipal.class));
+        verify(refreshTokenService, never()).createRefreshToken(any(Authentication.class), any(AccessTokenDTO.class));
+    }
+
+    @Test
+    void rotateRefreshToken_ShouldReloadUser_WhenAuthVersionChanged() {
+        // given
+        RefreshTokens snapshotToken = validToken.toBuilder()
+                .name("테스트 유저")
+                .role("ROLE_TEMP")
+                .userNameAttribute("sub")
+                .authVersion(0L)
+                .build();
+        when(refreshTokenRepository.findById((tokenId))).thenReturn(Optional.of(snapshotToken));
+        when(refreshTokenRepository.save(any(RefreshTokens.class))).thenReturn(snapshotToken);
+        when(authVersionService.currentVersion(any(UserPrincipal.class))).thenReturn(1L);
+
+        Authentication authentication = mock(Authentication.class);
+        when(jwtService.getAuthentication(any(UserPrincipal.class))).thenReturn(authentication);
+        when(jwtService.issueAccessToken(authentication)).thenReturn(newAccessToken);
+        when(refreshTokenService.createRefreshToken(authentication, newAccessToken)).thenReturn("new-refresh-token");
+
+        // when
+        RotateTokenDTO result = rotateService.RotateRefreshToken(tokenId);
+
+        // then
+        assertEquals("new-refresh-token", result.newRefreshToken());
+        verify(jwtService, never()).getAuthentication(any(AuthSnapshotDTO.class));
+    }
+
     @Test
     void rotateRefreshToken_ShouldThrowExpiredTokenException_WhenTokenIsExpired() {
         // given
@@ -99,6 +164,27 @@ class RotateRefreshTokenServiceImplTest {
         assertThrows(InvalidTokenException.class, () -> rotateService.RotateRefreshToken(tokenId));
     }
 
+    @Test
+    void rotateRefreshToken_ShouldRevokeIssuedAccessTokens_WhenTokenIsReused() {
+        // given
+        validToken = validToken.toBuilder().used(true).build();
+        RefreshTokens successor = validToken.toBuilder()
+                .id(UUID.randomUUID().toString())
+                .used(false)
+                .accessTokenJti(newAccessToken.jti())
+                .accessTokenExpiresAt(newAccessToken.expiresAt())
+                .build();
+        when(refreshTokenRepository.findById((tokenId))).thenReturn(Optional.of(validToken));
+        when(refreshTokenRepository.findByUserId(validToken.getUserId())).thenReturn(List.of(validToken, successor));
+
+        // when
+        assertThrows(InvalidTokenException.class, () -> rotateService.RotateRefreshToken(tokenId));
+
+        // then
+        verify(accessTokenDenylistService).revoke(newAccessToken.jti(), newAccessToken.expiresAt());
+        verify(refreshTokenRepository).deleteByUserId(validToken.getUserId());
+    }
+
     @Test
     void rotateRefreshToken_ShouldThrowNoSuchElementException_WhenTokenNotFound() {
         // given
@@ -0,0 +1,43 @@
+package com.team5.catdogeats.auth.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JtiBloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReturnTrue_ForEveryInsertedJti() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.001);
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            revoked.add(jti);
+            filter.put(jti);
+        }
+
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositiveRateLow() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // 목표 0.1%, 여유를 두고 0.5% 이하인지 확인
+        assertThat(falsePositives).isLessThan(500);
+    }
+}
@@ -0,0 +1,113 @@
+package com.team5.catdogeats.auth.util;
+
+import com.team5.catdogeats.global.config.JwtConfig;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JwtKeyRingTest {
+
+    @Mock
+    private JwtConfig jwtConfig;
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    private final SecretKey legacyKey =
+            Keys.hmacShaKeyFor("legacy-secret-key-for-hs256-tokens-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    void setUp() {
+        when(jwtConfig.getSigningAlgorithm()).thenReturn("ES256");
+        when(jwtConfig.getSigningKid()).thenReturn("");
+        when(jwtConfig.getSigningPrivateKey()).thenReturn("");
+        when(jwtConfig.getSigningPublicKey()).thenReturn("");
+        when(jwtConfig.getPreviousPublicKey()).thenReturn("");
+        when(jwtConfig.isAcceptLegacyHmac()).thenReturn(true);
+        when(jwtConfig.secretKey()).thenReturn(legacyKey);
+        environment.setActiveProfiles("test");
+    }
+
+    @Test
+    void missingSigningKey_ShouldFailFast_OutsideDevAndTest() {
+        environment.setActiveProfiles("prod");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new JwtKeyRing(jwtConfig, environment));
+        assertTrue(e.getMessage().contains("JWT_SIGNING_PRIVATE_KEY"));
+    }
+
+    @Test
+    void tokenSignedWithPreviousKey_ShouldStillVerify_AfterRotation() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtConfig, environment);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+        String oldToken = sign(keyRing);
+        String oldKid = keyRing.signingKey().kid();
+
+        keyRing.rotate();
+
+        assertNotEquals(oldKid, keyRing.signingKey().kid());
+        assertEquals("12345", parser.parseSignedClaims(oldToken).getPayload().getSubject());
+        assertEquals("12345", parser.parseSignedClaims(sign(keyRing)).getPayload().getSubject());
+    }
+
+    @Test
+    void jwks_ShouldExposeAllVerificationKeys() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtConfig, environment);
+        keyRing.rotate();
+
+        List<?> keys = (List<?>) keyRing.jwks().get("keys");
+
+        assertEquals(2, keys.size());
+        Map<?, ?> current = (Map<?, ?>) keys.get(1);
+        assertEquals(keyRing.signingKey().kid(), current.get("kid"));
+        assertEquals("EC", current.get("kty"));
+        assertNull(current.get("d"));
+    }
+
+    @Test
+    void legacyHmacToken_ShouldVerify_WhenNoKidHeader() {
+        JwtKeyRing keyRing = new JwtKeyRing(jwtConfig, environment);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+        String legacyToken = Jwts.builder()
+                .subject("12345")
+                .signWith(legacyKey, Jwts.SIG.HS256)
+                .compact();
+
+        assertEquals("12345", parser.parseSignedClaims(legacyToken).getPayload().getSubject());
+    }
+
+    @Test
+    void eddsaKeyRing_ShouldSignAndVerify() {
+        when(jwtConfig.getSigningAlgorithm()).thenReturn("EdDSA");
+        JwtKeyRing keyRing = new JwtKeyRing(jwtConfig, environment);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+        assertEquals("12345", parser.parseSignedClaims(sign(keyRing)).getPayload().getSubject());
+    }
+
+    private String sign(JwtKeyRing keyRing) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .subject("12345")
+                .signWith(signingKey.privateKey(), keyRing.algorithm())
+                .compact();
+    }
+}
@@ -0,0 +1,77 @@
+package com.team5.catdogeats.auth.util;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 알고리즘별 JWT 서명 / 검증 비용 측정
+ * 알고리즘마다 수천 번 서명 / 검증하므로 RUN_BENCHMARK=true 일 때만 실행합니다.
+ * 결과는 로그로 확인합니다. (ns/op)
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class JwtSigningBenchmarkTest {
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void signAndVerifyCostPerAlgorithm() {
+        SecretKey hmac = Keys.hmacShaKeyFor("benchmark-secret-key-for-hs256-0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        measure("HS256", hmac, () -> Jwts.builder().signWith(hmac, Jwts.SIG.HS256));
+
+        KeyPair es256 = Jwts.SIG.ES256.keyPair().build();
+        measure("ES256", es256.getPublic(),
+                () -> Jwts.builder().signWith(es256.getPrivate(), Jwts.SIG.ES256));
+
+        KeyPair ed25519 = Jwks.CRV.Ed25519.keyPair().build();
+        measure("EdDSA", ed25519.getPublic(),
+                () -> Jwts.builder().signWith(ed25519.getPrivate(), Jwts.SIG.EdDSA));
+    }
+
+    private void measure(String name, Key verifyKey, Supplier<JwtBuilder> builder) {
+        JwtParser parser = Jwts.parser().keyLocator(header -> verifyKey).build();
+
+        String token = null;
+        for (int i = 0; i < WARMUP; i++) {
+            token = sign(builder);
+            parser.parseSignedClaims(token);
+        }
+
+        long signStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            token = sign(builder);
+        }
+        long signNanos = (System.nanoTime() - signStart) / ITERATIONS;
+
+        long verifyStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            parser.parseSignedClaims(token);
+        }
+        long verifyNanos = (System.nanoTime() - verifyStart) / ITERATIONS;
+
+        log.info("[JWT benchmark] {} sign={} ns/op, verify={} ns/op, length={}", name, signNanos, verifyNanos, token.length());
+        assertEquals("12345", parser.parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    private String sign(Supplier<JwtBuilder> builder) {
+        return builder.get()
+                .subject("12345")
+                .claim("authorities", "ROLE_BUYER")
+                .claim("provider", "google")
+                .compact();
+    }
+}
@@ -0,0 +1,58 @@
+package com.team5.catdogeats.auth.util;
+
+import com.team5.catdogeats.auth.util.RouteClassifier.AuthRequirement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier routeClassifier = new RouteClassifier();
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /index.html, NONE",
+            "GET, /swagger-ui/index.html, NONE",
+            "GET, /v3/api-docs/swagger-config, NONE",
+            "GET, /v1/admin/notices, NONE",
+            "POST, /v1/auth/refresh, NONE",
+            "GET, /v1/notices, NONE",
+            "GET, /v1/notices/abc/files/def, NONE",
+            "GET, /v1/users/멍멍이네수제간식, NONE",
+            "GET, /v1/buyers/reviews/1001/list, NONE",
+            "GET, /v1/buyers/reviews/1001/feed, NONE",
+            "GET, /v1/buyers/reviews/list, OPTIONAL",
+            "GET, /oauth2/authorization/google, OPTIONAL",
+            "POST, /v1/users/withdraw, REQUIRED",
+            "POST, /v1/notices, REQUIRED",
+            "POST, /v1/buyers/orders, REQUIRED",
+            "GET, /v1/sellers/info, REQUIRED"
+    })
+    void classify(String method, String path, AuthRequirement expected) {
+        assertThat(routeClassifier.classify(new MockHttpServletRequest(method, path))).isEqualTo(expected);
+        // 캐시된 결과도 동일해야 함
+        assertThat(routeClassifier.classify(new MockHttpServletRequest(method, path))).isEqualTo(expected);
+    }
+
+    @Test
+    void classify_PublicRoutesFollowSharedList() {
+        // SecurityConfig 의 permitAll 경로는 모두 같은 목록에서 분류되어야 함
+        for (PublicRoutes.PublicRoute route : PublicRoutes.ROUTES) {
+            String method = route.method() == null ? "GET" : route.method().name();
+            String path = route.pattern().replace("/**", "/sample").replaceAll("\\{[^}]+}", "1001");
+            assertThat(routeClassifier.classify(new MockHttpServletRequest(method, path)))
+                    .as("%s %s", method, path)
+                    .isEqualTo(route.requirement());
+        }
+    }
+
+    @Test
+    void isLoginEntry() {
+        assertThat(routeClassifier.isLoginEntry(new MockHttpServletRequest("GET", "/oauth2/authorization/kakao"))).isTrue();
+        assertThat(routeClassifier.isLoginEntry(new MockHttpServletRequest("GET", "/login/oauth2/code/naver"))).isTrue();
+        assertThat(routeClassifier.isLoginEntry(new MockHttpServletRequest("GET", "/v1/notices"))).isFalse();
+    }
+}
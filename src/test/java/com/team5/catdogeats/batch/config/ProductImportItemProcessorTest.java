@@ -0,0 +1,117 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.dto.ProductImportItem;
+import com.team5.catdogeats.batch.dto.ProductImportRow;
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.exception.ProductImportValidationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportItemProcessorTest {
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    private static Map<String, String> validCreateFields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("title", "닭가슴살 져키");
+        fields.put("contents", "국내산 닭가슴살 100%");
+        fields.put("petCategory", "dog");
+        fields.put("productCategory", "HANDMADE");
+        fields.put("stockStatus", "in_stock");
+        fields.put("isDiscounted", "");
+        fields.put("discountRate", "");
+        fields.put("price", "12000");
+        fields.put("leadTime", "3");
+        fields.put("stock", "50");
+        return fields;
+    }
+
+    @Test
+    @DisplayName("등록 - 정상 행은 enum 대소문자를 구분하지 않고 변환, 할인 여부 미입력 시 false")
+    void createValidRow() {
+        // given
+        ProductImportItemProcessor processor = new ProductImportItemProcessor(validator, "CREATE");
+
+        // when
+        ProductImportItem item = processor.process(new ProductImportRow(2, validCreateFields()));
+
+        // then
+        assertThat(item).isNotNull();
+        assertThat(item.lineNumber()).isEqualTo(2);
+        assertThat(item.product().petCategory()).isEqualTo(PetCategory.DOG);
+        assertThat(item.product().stockStatus()).isEqualTo(StockStatus.IN_STOCK);
+        assertThat(item.product().isDiscounted()).isFalse();
+        assertThat(item.product().price()).isEqualTo(12000L);
+    }
+
+    @Test
+    @DisplayName("등록 - 필수값 누락 / 형식 오류는 줄 번호와 함께 검증 예외")
+    void createInvalidRow() {
+        // given
+        ProductImportItemProcessor processor = new ProductImportItemProcessor(validator, "CREATE");
+        Map<String, String> missingTitle = validCreateFields();
+        missingTitle.put("title", " ");
+        Map<String, String> invalidPrice = validCreateFields();
+        invalidPrice.put("price", "만원");
+
+        // when & then
+        assertThatThrownBy(() -> processor.process(new ProductImportRow(5, missingTitle)))
+                .isInstanceOf(ProductImportValidationException.class)
+                .hasMessageContaining("상품명은 필수입니다.")
+                .extracting("lineNumber").isEqualTo(5L);
+        assertThatThrownBy(() -> processor.process(new ProductImportRow(6, invalidPrice)))
+                .isInstanceOf(ProductImportValidationException.class)
+                .hasMessageContaining("price");
+    }
+
+    @Test
+    @DisplayName("수정 - 상품 번호와 변경할 값만 전달, 변경할 값이 없으면 검증 예외")
+    void updateRow() {
+        // given
+        ProductImportItemProcessor processor = new ProductImportItemProcessor(validator, "UPDATE");
+        Map<String, String> fields = new HashMap<>();
+        fields.put("productNumber", "2507101200001234");
+        fields.put("stock", "0");
+        fields.put("stockStatus", "OUT_OF_STOCK");
+        Map<String, String> nothingToUpdate = Map.of("productNumber", "2507101200001234");
+
+        // when
+        ProductImportItem item = processor.process(new ProductImportRow(3, fields));
+
+        // then
+        assertThat(item.productNumber()).isEqualTo(2507101200001234L);
+        assertThat(item.price()).isNull();
+        assertThat(item.stock()).isZero();
+        assertThat(item.stockStatus()).isEqualTo(StockStatus.OUT_OF_STOCK);
+        assertThatThrownBy(() -> processor.process(new ProductImportRow(4, nothingToUpdate)))
+                .isInstanceOf(ProductImportValidationException.class);
+    }
+
+    @Test
+    @DisplayName("빈 행은 오류 없이 건너뜀")
+    void blankRowIsFiltered() {
+        // given
+        ProductImportItemProcessor processor = new ProductImportItemProcessor(validator, "CREATE");
+        Map<String, String> blank = new HashMap<>();
+        blank.put("title", "");
+        blank.put("price", null);
+
+        // when & then
+        assertThat(processor.process(new ProductImportRow(7, blank))).isNull();
+    }
+}
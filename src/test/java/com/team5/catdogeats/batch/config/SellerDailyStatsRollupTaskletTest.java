@@ -0,0 +1,116 @@
+package com.team5.catdogeats.batch.config;
+
+import com.team5.catdogeats.batch.mapper.SellerDailyStatsRollupMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SellerDailyStatsRollupTaskletTest {
+
+    @Mock
+    private SellerDailyStatsRollupMapper rollupMapper;
+
+    @Mock
+    private SellerDailyStatsProperties props;
+
+    @InjectMocks
+    private SellerDailyStatsRollupTasklet tasklet;
+
+    private final LocalDate today = LocalDate.of(2025, 7, 10);
+
+    @BeforeEach
+    void setUp() {
+        given(rollupMapper.findToday()).willReturn(today);
+    }
+
+    @Test
+    @DisplayName("기존 live_from 에서 재집계 기간만큼 앞선 날짜부터 어제까지 하루씩 집계 후 live_from 을 오늘로 이동")
+    void rollupFromWatermarkMinusRecomputeDays() throws Exception {
+        // given
+        given(rollupMapper.findLiveFrom()).willReturn(today);
+        given(props.getRecomputeDays()).willReturn(2);
+        StepExecution stepExecution = stepExecution(new JobParameters());
+
+        // when
+        RepeatStatus first = run(stepExecution);
+        RepeatStatus second = run(stepExecution);
+        RepeatStatus third = run(stepExecution);
+
+        // then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(second).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(third).isEqualTo(RepeatStatus.FINISHED);
+        verify(rollupMapper).deleteDay(LocalDate.of(2025, 7, 8));
+        verify(rollupMapper).insertSales(LocalDate.of(2025, 7, 9));
+        verify(rollupMapper, never()).deleteDay(today);
+        verify(rollupMapper).upsertLiveFrom(today);
+    }
+
+    @Test
+    @DisplayName("집계 이력이 없으면 가장 오래된 활동 날짜부터 집계")
+    void firstRunStartsFromEarliestActivity() throws Exception {
+        // given
+        given(rollupMapper.findLiveFrom()).willReturn(null);
+        given(rollupMapper.findEarliestActivityDate()).willReturn(today.minusDays(1));
+        StepExecution stepExecution = stepExecution(new JobParameters());
+
+        // when
+        RepeatStatus first = run(stepExecution);
+
+        // then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        verify(rollupMapper).deleteDay(today.minusDays(1));
+        assertThat(stepExecution.getExecutionContext().getString(SellerDailyStatsRollupTasklet.NEXT_DATE_KEY))
+                .isEqualTo(today.toString());
+    }
+
+    @Test
+    @DisplayName("fromDate 파라미터가 있으면 해당 날짜부터 재집계")
+    void fromDateParameterOverridesWatermark() throws Exception {
+        // given
+        JobParameters params = new JobParametersBuilder()
+                .addString(SellerDailyStatsRollupTasklet.FROM_DATE_PARAM, today.toString())
+                .toJobParameters();
+        StepExecution stepExecution = stepExecution(params);
+
+        // when
+        RepeatStatus status = run(stepExecution);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(rollupMapper, never()).findLiveFrom();
+        verify(rollupMapper, never()).deleteDay(any());
+        verify(rollupMapper).upsertLiveFrom(today);
+    }
+
+    private StepExecution stepExecution(JobParameters params) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "sellerDailyStatsJob"), 1L, params);
+        return new StepExecution("sellerDailyStatsRollupStep", jobExecution);
+    }
+
+    private RepeatStatus run(StepExecution stepExecution) throws Exception {
+        return tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+    }
+}
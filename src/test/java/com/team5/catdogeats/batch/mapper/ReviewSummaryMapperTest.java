@@ -0,0 +1,119 @@
+package com.team5.catdogeats.batch.mapper;
+
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
+import com.team5.catdogeats.users.domain.mapping.Buyers;
+import com.team5.catdogeats.users.domain.mapping.Sellers;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ReviewSummaryMapperTest {
+
+    @Autowired
+    private ReviewSummaryMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private final OffsetDateTime since = OffsetDateTime.of(2025, 7, 10, 0, 0, 0, 0, ZoneOffset.UTC);
+    private final OffsetDateTime until = since.plusHours(1);
+
+    @BeforeEach
+    void setup() {
+        Users sellerUser = persistUser("review-summary-seller", Role.ROLE_SELLER);
+        Users buyerUser = persistUser("review-summary-buyer", Role.ROLE_BUYER);
+        em.persist(Sellers.builder().user(sellerUser).vendorName("review-summary-store").build());
+        em.persist(Buyers.builder().user(buyerUser).build());
+        em.flush();
+
+        List<String> productIds = List.of("rs-product-a", "rs-product-b", "rs-product-c", "rs-product-d");
+        for (int i = 0; i < productIds.size(); i++) {
+            jdbcTemplate.update("""
+                INSERT INTO products (id, product_number, seller_id, title, contents, petcategory, productcategory,
+                                      stock_status, is_discounted, discount_rate, price, lead_time, stock, version,
+                                      created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'contents', 'DOG', 'HANDMADE', 'IN_STOCK',
+                        false, 0, 1000, 1, 10, 0, NOW(), NOW())
+                """, productIds.get(i), 910000001L + i, sellerUser.getId(), productIds.get(i));
+        }
+
+        // a: 구간 안에서 수정된 리뷰, b: 구간 밖 리뷰, c: 구간 안에서 리뷰가 삭제됨 (집계만 갱신), d: 두 경우 모두
+        insertReview("rs-review-a", "rs-product-a", buyerUser.getId(), since.plusMinutes(10));
+        insertReview("rs-review-b", "rs-product-b", buyerUser.getId(), until.plusMinutes(1));
+        insertReview("rs-review-d", "rs-product-d", buyerUser.getId(), since);
+        insertRatingStats("rs-product-c", since.plusMinutes(30));
+        insertRatingStats("rs-product-d", since.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("구간 안에서 리뷰 또는 별점 집계가 바뀐 상품만 product_id 순으로 한 번씩 조회")
+    void findChangedProductIds() {
+        List<String> productIds = mapper.findChangedProductIds(since, until, "", 10);
+
+        assertThat(productIds).containsExactly("rs-product-a", "rs-product-c", "rs-product-d");
+    }
+
+    @Test
+    @DisplayName("마지막으로 읽은 상품 ID 다음부터 limit 개씩 이어서 조회")
+    void findChangedProductIds_Keyset() {
+        List<String> first = mapper.findChangedProductIds(since, until, "", 2);
+        List<String> next = mapper.findChangedProductIds(since, until, first.get(first.size() - 1), 2);
+
+        assertThat(first).containsExactly("rs-product-a", "rs-product-c");
+        assertThat(next).containsExactly("rs-product-d");
+    }
+
+    @Test
+    @DisplayName("상품 리뷰를 작성 순 키셋으로 나눠 조회")
+    void findReviewTexts() {
+        List<ReviewTextDTO> reviews = mapper.findReviewTexts("rs-product-a", null, null, 10);
+
+        assertThat(reviews).extracting(ReviewTextDTO::reviewId).containsExactly("rs-review-a");
+        ReviewTextDTO last = reviews.get(0);
+        assertThat(mapper.findReviewTexts("rs-product-a", last.createdAt(), last.reviewId(), 10)).isEmpty();
+    }
+
+    private void insertReview(String reviewId, String productId, String buyerId, OffsetDateTime updatedAt) {
+        jdbcTemplate.update("""
+            INSERT INTO reviews (id, product_id, buyer_id, star, contents, created_at, updated_at)
+            VALUES (?, ?, ?, 5, '잘 먹어요', ?, ?)
+            """, reviewId, productId, buyerId, updatedAt, updatedAt);
+    }
+
+    private void insertRatingStats(String productId, OffsetDateTime updatedAt) {
+        jdbcTemplate.update("""
+            INSERT INTO product_rating_stats (product_id, rating_sum, review_count, updated_at)
+            VALUES (?, 0, 0, ?)
+            """, productId, updatedAt);
+    }
+
+    private Users persistUser(String name, Role role) {
+        Users user = Users.builder()
+                .provider("google")
+                .providerId(name)
+                .userNameAttribute("sub")
+                .name(name)
+                .role(role)
+                .build();
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,175 @@
+package com.team5.catdogeats.batch.sheduler;
+
+import com.team5.catdogeats.batch.config.ReviewSummaryItemReader;
+import com.team5.catdogeats.batch.config.ReviewSummaryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSummaryJobSchedulerTest {
+    private static final String JOB_NAME = "reviewSummaryJob";
+    private static final String SINCE = "2025-07-10T00:00Z";
+    private static final String UNTIL = "2025-07-10T01:00Z";
+
+    @Mock
+    private Job reviewSummaryJob;
+
+    @Mock
+    private JobLauncher jobLauncher;
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ReviewSummaryProperties props;
+
+    @InjectMocks
+    private ReviewSummaryJobScheduler scheduler;
+
+    private final JobInstance instance = new JobInstance(1L, JOB_NAME);
+    private final JobParameters window = new JobParametersBuilder()
+            .addString("since", SINCE)
+            .addString("until", UNTIL)
+            .toJobParameters();
+
+    @BeforeEach
+    void setUp() {
+        given(reviewSummaryJob.getName()).willReturn(JOB_NAME);
+        given(jobExplorer.getJobInstances(JOB_NAME, 0, 1)).willReturn(List.of(instance));
+    }
+
+    @Test
+    @DisplayName("재시작 한도 안에서는 실패한 구간을 같은 파라미터로 다시 실행")
+    void restartFailedWindowWithinLimit() throws Exception {
+        // given
+        given(jobExplorer.getJobExecutions(instance)).willReturn(failedExecutions(2));
+        given(props.getMaxRestartAttempts()).willReturn(3);
+
+        // when
+        scheduler.runReviewSummaryJob();
+
+        // then
+        verify(jobLauncher).run(reviewSummaryJob, window);
+        verify(jobRepository, never()).update(any(JobExecution.class));
+    }
+
+    @Test
+    @DisplayName("재시작 한도를 넘으면 ABANDONED 로 포기하고, 포기한 구간을 포함하도록 직전 완료 구간부터 새로 실행")
+    void abandonWindowAfterMaxRestarts() throws Exception {
+        // given
+        List<JobExecution> executions = failedExecutions(4);
+        JobExecution last = executions.get(executions.size() - 1);
+        last.createStepExecution("reviewSummaryStep").getExecutionContext()
+                .putString(ReviewSummaryItemReader.LAST_PRODUCT_ID_KEY, "product-42");
+        JobInstance completedInstance = new JobInstance(0L, JOB_NAME);
+        JobExecution completed = new JobExecution(completedInstance, 0L, new JobParametersBuilder()
+                .addString("since", "2025-07-09T23:00Z")
+                .addString("until", SINCE)
+                .toJobParameters());
+        completed.setStatus(BatchStatus.COMPLETED);
+        given(jobExplorer.getJobExecutions(instance)).willReturn(executions);
+        given(props.getMaxRestartAttempts()).willReturn(3);
+        given(jobExplorer.getJobExecutions(completedInstance)).willReturn(List.of(completed));
+        given(jobExplorer.getJobInstances(JOB_NAME, 0, 20)).willReturn(List.of(instance, completedInstance));
+        given(props.getOverlapMinutes()).willReturn(10L);
+
+        // when
+        scheduler.runReviewSummaryJob();
+
+        // then
+        assertThat(last.getStatus()).isEqualTo(BatchStatus.ABANDONED);
+        assertThat(last.getEndTime()).isNotNull();
+        verify(jobRepository).update(last);
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(reviewSummaryJob), captor.capture());
+        assertThat(OffsetDateTime.parse(captor.getValue().getString("since")))
+                .isEqualTo(OffsetDateTime.parse(SINCE).minusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("실행 중 상태로 오래 갱신되지 않은 실행은 FAILED 로 바꾸고 같은 구간으로 재시작")
+    void restartStaleStartedExecution() throws Exception {
+        // given
+        JobExecution stale = new JobExecution(instance, 1L, window);
+        stale.setStatus(BatchStatus.STARTED);
+        stale.setStartTime(LocalDateTime.now().minusHours(3));
+        stale.setLastUpdated(LocalDateTime.now().minusHours(3));
+        StepExecution step = stale.createStepExecution("reviewSummaryStep");
+        step.setStatus(BatchStatus.STARTED);
+        step.setLastUpdated(LocalDateTime.now().minusHours(2));
+        given(jobExplorer.getJobExecutions(instance)).willReturn(List.of(stale));
+        given(props.getMaxRestartAttempts()).willReturn(3);
+        given(props.getStaleMinutes()).willReturn(60L);
+
+        // when
+        scheduler.runReviewSummaryJob();
+
+        // then
+        assertThat(stale.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(step.getStatus()).isEqualTo(BatchStatus.FAILED);
+        verify(jobRepository).update(step);
+        verify(jobRepository).update(stale);
+        verify(jobLauncher).run(reviewSummaryJob, window);
+    }
+
+    @Test
+    @DisplayName("최근에 갱신된 실행 중인 Job 은 건너뜀")
+    void skipWhileRunning() throws Exception {
+        // given
+        JobExecution running = new JobExecution(instance, 1L, window);
+        running.setStatus(BatchStatus.STARTED);
+        running.setStartTime(LocalDateTime.now().minusMinutes(5));
+        running.setLastUpdated(LocalDateTime.now().minusMinutes(1));
+        given(jobExplorer.getJobExecutions(instance)).willReturn(List.of(running));
+        given(props.getStaleMinutes()).willReturn(60L);
+
+        // when
+        scheduler.runReviewSummaryJob();
+
+        // then
+        verify(jobLauncher, never()).run(any(), any());
+        verify(jobRepository, never()).update(any(JobExecution.class));
+    }
+
+    private List<JobExecution> failedExecutions(int count) {
+        List<JobExecution> executions = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            JobExecution execution = new JobExecution(instance, id, window);
+            execution.setStatus(BatchStatus.FAILED);
+            executions.add(execution);
+        }
+        return executions;
+    }
+}
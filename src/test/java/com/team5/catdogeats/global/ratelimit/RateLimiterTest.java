@@ -0,0 +1,76 @@
+package com.team5.catdogeats.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(redisTemplate);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectAfterCapacity_WithRetryAfter() {
+        RateLimitRule rule = RateLimitRule.ORDER_CREATE_USER;
+        for (int i = 0; i < rule.getCapacity(); i++) {
+            assertThat(rateLimiter.tryAcquire(rule, "google:1")).isZero();
+        }
+
+        long retryAfter = rateLimiter.tryAcquire(rule, "google:1");
+
+        assertThat(retryAfter).isPositive();
+        assertThat(rateLimiter.rejectionCounts().get(rule)).isEqualTo(1L);
+        // 다른 키는 영향을 받지 않음
+        assertThat(rateLimiter.tryAcquire(rule, "google:2")).isZero();
+        // 요청 경로에서는 Redis 를 호출하지 않음
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void syncWithCluster_ShouldBlockKey_WhenClusterLimitExceeded() {
+        RateLimitRule rule = RateLimitRule.AUTH_REFRESH;
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString(), anyLong())).thenReturn((long) rule.getClusterLimit());
+
+        assertThat(rateLimiter.tryAcquire(rule, "10.0.0.1")).isZero();
+        rateLimiter.syncWithCluster();
+
+        verify(valueOperations).increment(anyString(), eq(1L));
+        // 로컬 버킷에 토큰이 남아 있어도 클러스터 한도 초과로 거부
+        assertThat(rateLimiter.tryAcquire(rule, "10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void syncWithCluster_ShouldKeepLocalLimit_WhenRedisFails() {
+        RateLimitRule rule = RateLimitRule.AUTH_REFRESH;
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(rateLimiter.tryAcquire(rule, "10.0.0.1")).isZero();
+        rateLimiter.syncWithCluster();
+
+        assertThat(rateLimiter.tryAcquire(rule, "10.0.0.1")).isZero();
+    }
+}
@@ -1,13 +1,16 @@
 package com.team5.catdogeats.orders.service.impl;
 
 import com.team5.catdogeats.orders.mapper.ProductBestScoreMapper;
+import com.team5.catdogeats.orders.mapper.ProductBestScoreMapper.BestScoreRow;
 import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
 import com.team5.catdogeats.users.controller.SellerStoreExceptionHandler.OrderStatsRetrievalException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,7 +21,12 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -402,4 +410,120 @@ class ProductBestScoreServiceImplTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("베스트 점수 테이블 갱신 테스트")
+    class BestScoreTableTests {
+
+        @Test
+        @DisplayName("결제 완료 - 누적 후 점수 재계산")
+        void applyOrderPaid_AccumulatesAndRefreshesScores() {
+            // given
+            given(productBestScoreMapper.accumulateOrderSales("order1")).willReturn(1);
+            given(productBestScoreMapper.findAccumulatedDataByOrderId("order1"))
+                    .willReturn(List.of(new ProductBestScoreDataDTO("product1", 100L, 1000000L, 4.5, 50L, 20L)));
+
+            // when
+            productBestScoreService.applyOrderPaid("order1");
+
+            // then
+            verify(productBestScoreMapper).updateBestScores(List.of(new ProductBestScoreRankDTO("product1", 98.5)));
+        }
+
+        @Test
+        @DisplayName("결제 완료 - 반영할 상품이 없으면 점수 갱신 생략")
+        void applyOrderPaid_NoItems_SkipsRefresh() {
+            // given
+            given(productBestScoreMapper.accumulateOrderSales("order1")).willReturn(0);
+
+            // when
+            productBestScoreService.applyOrderPaid("order1");
+
+            // then
+            verify(productBestScoreMapper, never()).updateBestScores(anyList());
+        }
+
+        @Test
+        @DisplayName("리뷰 삭제 - 평점 합계 / 리뷰 수 차감 후 점수 재계산")
+        void applyReviewDelta_Delete_AccumulatesAndRefreshesScore() {
+            // given
+            given(productBestScoreMapper.accumulateReview("product1", -4.0, -1)).willReturn(1);
+            given(productBestScoreMapper.findAccumulatedDataByProductId("product1"))
+                    .willReturn(List.of(new ProductBestScoreDataDTO("product1", 100L, 1000000L, 4.5, 50L, 20L)));
+
+            // when
+            productBestScoreService.applyReviewDelta("product1", -4.0, -1);
+
+            // then
+            verify(productBestScoreMapper).updateBestScores(List.of(new ProductBestScoreRankDTO("product1", 98.5)));
+        }
+
+        @Test
+        @DisplayName("상위 상품 조회 - 점수 행이 limit 개면 채우기 조회 생략")
+        void getTopBestScores_Full_SkipsBackfill() {
+            // given
+            List<ProductBestScoreRankDTO> top = List.of(
+                    new ProductBestScoreRankDTO("product1", 90.0),
+                    new ProductBestScoreRankDTO("product2", 80.0));
+            given(productBestScoreMapper.findTopBestScoresBySeller(testSellerId, null, null, 2)).willReturn(top);
+
+            // when
+            List<ProductBestScoreRankDTO> result = productBestScoreService.getTopBestScores(testSellerId, null, null, 2);
+
+            // then
+            assertThat(result).isEqualTo(top);
+            verify(productBestScoreMapper, never()).findUnscoredProductsBySeller(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("상위 상품 조회 - 모자라면 점수 행이 없는 상품을 0점으로 채움")
+        void getTopBestScores_Short_BackfillsUnscoredProducts() {
+            // given
+            given(productBestScoreMapper.findTopBestScoresBySeller(testSellerId, "DOG", null, 3))
+                    .willReturn(List.of(new ProductBestScoreRankDTO("product1", 90.0)));
+            given(productBestScoreMapper.findUnscoredProductsBySeller(testSellerId, "DOG", null, 2))
+                    .willReturn(List.of(new ProductBestScoreRankDTO("product9", 0.0)));
+
+            // when
+            List<ProductBestScoreRankDTO> result = productBestScoreService.getTopBestScores(testSellerId, "DOG", null, 3);
+
+            // then
+            assertThat(result).extracting(ProductBestScoreRankDTO::productId).containsExactly("product1", "product9");
+        }
+
+        @Test
+        @DisplayName("전체 재계산 - 원본 집계로 덮어쓰고 평점 합계 복원")
+        @SuppressWarnings("unchecked")
+        void rebuildSeller_UpsertsRecalculatedRows() {
+            // given
+            given(productBestScoreMapper.getProductBestScoreDataBySeller(testSellerId)).willReturn(testScoreData);
+
+            // when
+            productBestScoreService.rebuildSeller(testSellerId);
+
+            // then
+            ArgumentCaptor<List<BestScoreRow>> captor = ArgumentCaptor.forClass(List.class);
+            verify(productBestScoreMapper).upsertSellerScores(eq(testSellerId), captor.capture());
+            assertThat(captor.getValue()).hasSize(3);
+            assertThat(captor.getValue().get(0).ratingSum()).isEqualTo(450.0);
+            assertThat(captor.getValue().get(0).bestScore()).isEqualTo(testScoreData.get(0).calculateBestScore());
+            verify(productBestScoreMapper).deleteStaleScores(testSellerId);
+        }
+
+        @Test
+        @DisplayName("전체 재계산 - 한 판매자 실패가 나머지를 막지 않음")
+        void rebuildAll_ContinuesAfterSellerFailure() {
+            // given
+            given(productBestScoreMapper.findSellerIdsWithProducts()).willReturn(List.of("seller1", "seller2"));
+            given(productBestScoreMapper.getProductBestScoreDataBySeller("seller1"))
+                    .willThrow(new RuntimeException("SQL 실행 오류"));
+            given(productBestScoreMapper.getProductBestScoreDataBySeller("seller2")).willReturn(testScoreData);
+
+            // when
+            productBestScoreService.rebuildAll();
+
+            // then
+            verify(productBestScoreMapper).upsertSellerScores(eq("seller2"), anyList());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.team5.catdogeats.products.mapper;
+
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
+import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
+import com.team5.catdogeats.users.domain.mapping.Sellers;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매자 상품 목록 / 검색 지연 시간 측정 (상품 100만 건)
+ * 키셋 페이지 이동, 필터 조합, pg_trgm 인덱스를 타는 검색어 조회를 측정합니다.
+ * 데이터를 대량으로 넣으므로 RUN_DB_BENCHMARK=true 일 때만 실행하고, 트랜잭션 롤백으로 정리합니다.
+ * 결과는 로그로 확인합니다. (평균 / p95 ms)
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "RUN_DB_BENCHMARK", matches = "true")
+class ProductCatalogMapperBenchmarkTest {
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private ProductCatalogMapper productCatalogMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void seed() {
+        Users sellerUser = Users.builder()
+                .provider("google")
+                .providerId("catalog-bench-seller")
+                .userNameAttribute("sub")
+                .name("catalog-bench-seller")
+                .role(Role.ROLE_SELLER)
+                .build();
+        em.persist(sellerUser);
+        em.persist(Sellers.builder().user(sellerUser).vendorName("catalog-bench-store").build());
+        em.flush();
+
+        // 재료 단어는 5개 중 하나 (검색어당 약 20%), 'bench-{번호}' 는 한 건만 일치
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_number, seller_id, title, contents, petcategory, productcategory,
+                                  stock_status, is_discounted, discount_rate, price, lead_time, stock, version,
+                                  created_at, updated_at)
+            SELECT gen_random_uuid()::text, 900000000 + g, ?,
+                   (ARRAY['연어', '닭가슴살', '오리', '소고기', '참치'])[1 + g % 5] || ' 수제 간식 bench-' || g,
+                   '국내산 재료로 만든 ' || (ARRAY['저키', '트릿', '동결건조', '육포'])[1 + g % 4] || ' 입니다.',
+                   CASE WHEN g % 3 = 0 THEN 'CAT' ELSE 'DOG' END,
+                   CASE WHEN g % 2 = 0 THEN 'FINISHED' ELSE 'HANDMADE' END,
+                   CASE WHEN g % 10 = 0 THEN 'OUT_OF_STOCK' WHEN g % 10 = 1 THEN 'LOW_STOCK' ELSE 'IN_STOCK' END,
+                   g % 4 = 0, CASE WHEN g % 4 = 0 THEN 10 ELSE 0 END,
+                   1000 + (g * 37) % 99000, 1, 10, 0,
+                   NOW() - g * INTERVAL '1 second', NOW()
+            FROM generate_series(1, ?) g
+            """, sellerUser.getId(), PRODUCTS);
+
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    @Test
+    void catalogLatencyAtOneMillionProducts() {
+        List<ProductStoreCursorRowDTO> first = measure("latest, first page",
+                () -> find(null, null, null, null, false, null, null, "CREATED_AT_DESC", null));
+        assertThat(first).hasSize(PAGE_SIZE);
+
+        // 100 페이지를 커서로 이동한 뒤의 페이지 (OFFSET 2000 에 해당)
+        List<ProductStoreCursorRowDTO> page = first;
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            page.forEach(row -> assertThat(seen.add(row.productId())).isTrue());
+            page = find(null, null, null, null, false, null, null, "CREATED_AT_DESC", page.get(page.size() - 1));
+        }
+        ProductStoreCursorRowDTO deepCursor = page.get(page.size() - 1);
+        measure("latest, after 100 pages",
+                () -> find(null, null, null, null, false, null, null, "CREATED_AT_DESC", deepCursor));
+
+        measure("CAT + FINISHED + discount + 10000~20000, price asc",
+                () -> find("CAT", "FINISHED", 10000L, 20000L, true, null, null, "PRICE_ASC", null));
+        measure("exclude sold out, price desc",
+                () -> find(null, null, null, null, false, List.of("IN_STOCK", "LOW_STOCK"), null, "PRICE_DESC", null));
+
+        // 2글자 검색어는 서비스와 같이 상품명에서만 찾음
+        List<ProductStoreCursorRowDTO> common = measure("keyword '연어' (20%, title only)",
+                () -> find(null, null, null, null, false, null, "%연어%", "CREATED_AT_DESC", null));
+        assertThat(common).allSatisfy(row -> assertThat(row.title()).contains("연어"));
+
+        List<ProductStoreCursorRowDTO> rare = measure("keyword 'bench-777777' (1 row)",
+                () -> find(null, null, null, null, false, null, "%bench-777777%", "CREATED_AT_DESC", null));
+        assertThat(rare).extracting(ProductStoreCursorRowDTO::productNumber).containsExactly(900777777L);
+
+        measure("keyword '동결건조' in contents + DOG",
+                () -> find("DOG", null, null, null, false, null, "%동결건조%", "CREATED_AT_DESC", null));
+    }
+
+    private List<ProductStoreCursorRowDTO> find(String petCategory, String productCategory, Long minPrice, Long maxPrice,
+                                                boolean discountedOnly, List<String> stockStatuses, String keywordPattern,
+                                                String sortKey, ProductStoreCursorRowDTO after) {
+        return productCatalogMapper.findCatalogProducts(petCategory, productCategory, minPrice, maxPrice, discountedOnly,
+                stockStatuses, keywordPattern,
+                // 앞뒤 % 를 뺀 검색어가 3글자 미만이면 상품명만 검색 (ProductCatalogServiceImpl 과 동일)
+                keywordPattern != null && keywordPattern.length() - 2 < 3,
+                sortKey,
+                after != null ? after.createdAt() : null,
+                after != null ? after.price() : null,
+                after != null ? after.productId() : null,
+                PAGE_SIZE);
+    }
+
+    private <T> T measure(String name, Supplier<T> query) {
+        T result = null;
+        for (int i = 0; i < WARMUP; i++) {
+            result = query.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            result = query.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        double avg = Arrays.stream(elapsed).average().orElse(0) / 1_000_000.0;
+        double p95 = elapsed[(int) Math.ceil(ITERATIONS * 0.95) - 1] / 1_000_000.0;
+
+        log.info("[ProductCatalog benchmark] {} products={}: avg {} ms, p95 {} ms",
+                name, PRODUCTS, String.format("%.2f", avg), String.format("%.2f", p95));
+        return result;
+    }
+}
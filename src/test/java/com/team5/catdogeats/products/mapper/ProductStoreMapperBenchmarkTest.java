@@ -0,0 +1,175 @@
+package com.team5.catdogeats.products.mapper;
+
+import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
+import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
+import com.team5.catdogeats.users.domain.mapping.Buyers;
+import com.team5.catdogeats.users.domain.mapping.Sellers;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스토어 상품 카드 조회 비용 측정 (리뷰 100만 건)
+ * 전체 리뷰 / 이미지를 집계하던 기존 CTE 쿼리와 페이지 상품만 LATERAL 로 조회하는 현재 쿼리를 비교합니다.
+ * 데이터를 대량으로 넣으므로 RUN_DB_BENCHMARK=true 일 때만 실행하고, 트랜잭션 롤백으로 정리합니다.
+ * 결과는 로그로 확인합니다. (ms/op)
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "RUN_DB_BENCHMARK", matches = "true")
+class ProductStoreMapperBenchmarkTest {
+    private static final int TARGET_SELLER_PRODUCTS = 100;
+    private static final int OTHER_SELLER_PRODUCTS = 20_000;
+    private static final int REVIEWS = 1_000_000;
+    private static final int PAGE_SIZE = 12;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    // 변경 전 쿼리 (전체 products_images DISTINCT ON + 전체 reviews GROUP BY)
+    private static final String LEGACY_QUERY = """
+        WITH first_images AS (
+            SELECT DISTINCT ON (pi.product_id)
+                   pi.product_id,
+                   i.image_url
+            FROM products_images pi
+            JOIN images i ON pi.product_image_id = i.id
+            ORDER BY pi.product_id, pi.created_at ASC
+        ),
+        review_stats AS (
+            SELECT
+                r.product_id,
+                ROUND(AVG(r.star), 1) as avg_rating,
+                COUNT(r.id) as review_count
+            FROM reviews r
+            GROUP BY r.product_id
+        )
+        SELECT p.id, COALESCE(rs.review_count, 0) as review_count
+        FROM products p
+        LEFT JOIN first_images fi ON fi.product_id = p.id
+        LEFT JOIN review_stats rs ON rs.product_id = p.id
+        WHERE p.seller_id = ?
+        ORDER BY p.created_at DESC
+        LIMIT ? OFFSET ?
+        """;
+
+    @Autowired
+    private ProductStoreMapper productStoreMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private String targetSellerId;
+
+    @BeforeEach
+    void seed() {
+        Users sellerUser = persistUser("bench-seller", Role.ROLE_SELLER);
+        Users otherSellerUser = persistUser("bench-other-seller", Role.ROLE_SELLER);
+        Users buyerUser = persistUser("bench-buyer", Role.ROLE_BUYER);
+        em.persist(Sellers.builder().user(sellerUser).vendorName("bench-store").build());
+        em.persist(Sellers.builder().user(otherSellerUser).vendorName("bench-other-store").build());
+        em.persist(Buyers.builder().user(buyerUser).build());
+        em.flush();
+        targetSellerId = sellerUser.getId();
+
+        int totalProducts = TARGET_SELLER_PRODUCTS + OTHER_SELLER_PRODUCTS;
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_number, seller_id, title, contents, petcategory, productcategory,
+                                  stock_status, is_discounted, discount_rate, price, lead_time, stock, version,
+                                  created_at, updated_at)
+            SELECT gen_random_uuid()::text, 900000000 + g, CASE WHEN g <= ? THEN ? ELSE ? END,
+                   'bench-' || g, 'benchmark', 'DOG', 'HANDMADE', 'IN_STOCK', false, 0, 1000 + g, 1, 10, 0,
+                   NOW() - g * INTERVAL '1 minute', NOW()
+            FROM generate_series(1, ?) g
+            """, TARGET_SELLER_PRODUCTS, targetSellerId, otherSellerUser.getId(), totalProducts);
+
+        jdbcTemplate.update("""
+            INSERT INTO images (id, image_url, created_at, updated_at)
+            SELECT 'bench-' || p.product_number || '-' || k,
+                   'https://cdn.example.com/bench/' || p.product_number || '/' || k || '.jpg', NOW(), NOW()
+            FROM products p CROSS JOIN generate_series(1, 2) k
+            WHERE p.product_number > 900000000
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO products_images (id, product_id, product_image_id, created_at, updated_at)
+            SELECT gen_random_uuid()::text, p.id, 'bench-' || p.product_number || '-' || k,
+                   NOW() + k * INTERVAL '1 second', NOW()
+            FROM products p CROSS JOIN generate_series(1, 2) k
+            WHERE p.product_number > 900000000
+            """);
+
+        jdbcTemplate.update("""
+            INSERT INTO reviews (id, product_id, buyer_id, star, contents, created_at, updated_at)
+            SELECT gen_random_uuid()::text, bp.id, ?, 1 + (g % 5), 'benchmark', NOW(), NOW()
+            FROM generate_series(1, ?) g
+            JOIN (
+                SELECT id, (product_number - 900000001) AS rn FROM products WHERE product_number > 900000000
+            ) bp ON bp.rn = g % ?
+            """, buyerUser.getId(), REVIEWS, totalProducts);
+
+        jdbcTemplate.execute("ANALYZE products, images, products_images, reviews");
+    }
+
+    @Test
+    void productCardPageCostAtOneMillionReviews() {
+        for (int offset : new int[]{0, 48}) {
+            List<String> legacy = measure("legacy CTE, offset=" + offset, () -> jdbcTemplate
+                    .queryForList(LEGACY_QUERY, targetSellerId, PAGE_SIZE, offset)
+                    .stream().map(row -> row.get("id") + ":" + row.get("review_count")).toList());
+
+            List<String> lateral = measure("page + LATERAL, offset=" + offset, () -> productStoreMapper
+                    .findSellerProductsBaseInfo(targetSellerId, null, null, null, PAGE_SIZE, offset)
+                    .stream().map(this::key).toList());
+
+            assertThat(lateral).containsExactlyElementsOf(legacy);
+        }
+    }
+
+    private <T> T measure(String name, Supplier<T> query) {
+        T result = null;
+        for (int i = 0; i < WARMUP; i++) {
+            result = query.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = query.get();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        log.info("[ProductStore benchmark] {} reviews={}, products={}: {} ms/op",
+                name, REVIEWS, TARGET_SELLER_PRODUCTS + OTHER_SELLER_PRODUCTS, String.format("%.2f", millis));
+        return result;
+    }
+
+    private String key(ProductStoreInfoDTO product) {
+        return product.productId() + ":" + product.reviewCount();
+    }
+
+    private Users persistUser(String name, Role role) {
+        Users user = Users.builder()
+                .provider("google")
+                .providerId(name)
+                .userNameAttribute("sub")
+                .name(name)
+                .role(role)
+                .build();
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.domain.dto.ProductCatalogSearchCondition;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursor;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.ProductStoreSortKey;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.mapper.ProductCatalogMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalogService 단위 테스트")
+class ProductCatalogServiceImplTest {
+
+    @InjectMocks
+    private ProductCatalogServiceImpl productCatalogService;
+
+    @Mock
+    private ProductCatalogMapper productCatalogMapper;
+
+    private final OffsetDateTime createdAt = OffsetDateTime.parse("2025-07-01T10:15:30.123456+09:00");
+
+    private ProductStoreCursorRowDTO row(String productId, long price, OffsetDateTime rowCreatedAt) {
+        return new ProductStoreCursorRowDTO(productId, 1001L, "연어 트릿", price, false, 0.0, "image.jpg",
+                PetCategory.DOG, ProductCategory.HANDMADE, StockStatus.IN_STOCK, 4.5, 10L, 0.0, rowCreatedAt);
+    }
+
+    @Test
+    @DisplayName("성공 - 조건을 매퍼 파라미터로 변환하고 size + 1 개가 조회되면 다음 커서 생성")
+    void getCatalogProducts_FirstPage_HasNext() {
+        // given
+        ProductCatalogSearchCondition condition = new ProductCatalogSearchCondition(
+                PetCategory.DOG, ProductCategory.HANDMADE, 1000L, 50000L, true,
+                List.of(StockStatus.IN_STOCK, StockStatus.LOW_STOCK), " 연어 ");
+        given(productCatalogMapper.findCatalogProducts("DOG", "HANDMADE", 1000L, 50000L, true,
+                List.of("IN_STOCK", "LOW_STOCK"), "%연어%", true, "CREATED_AT_DESC", null, null, null, 2))
+                .willReturn(List.of(row("product1", 10000L, createdAt), row("product2", 9000L, createdAt.minusDays(1))));
+
+        // when
+        ProductStoreCursorPageDTO result = productCatalogService.getCatalogProducts(condition, "createdAt,desc", null, 1);
+
+        // then
+        assertThat(result.content()).extracting(ProductStoreInfoDTO::productId).containsExactly("product1");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isNull();
+
+        ProductStoreCursor next = ProductStoreCursor.decode(result.nextCursor(), ProductStoreSortKey.CREATED_AT_DESC);
+        assertThat(next.productId()).isEqualTo("product1");
+        assertThat(next.createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("성공 - 가격 커서로 이어서 조회하고 마지막 페이지는 다음 커서 없음")
+    void getCatalogProducts_PriceCursor_LastPage() {
+        // given
+        String cursor = new ProductStoreCursor(ProductStoreSortKey.PRICE_ASC, null, 10000L, "product1").encode();
+        given(productCatalogMapper.findCatalogProducts(null, null, null, null, false, null, null, false,
+                "PRICE_ASC", null, 10000L, "product1", 21))
+                .willReturn(List.of(row("product2", 12000L, createdAt)));
+
+        // when
+        ProductStoreCursorPageDTO result = productCatalogService
+                .getCatalogProducts(ProductCatalogSearchCondition.empty(), "price,asc", cursor, 20);
+
+        // then
+        assertThat(result.content()).extracting(ProductStoreInfoDTO::productId).containsExactly("product2");
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 검색어의 LIKE 특수문자는 이스케이프")
+    void getCatalogProducts_EscapesLikeWildcards() {
+        // given
+        ProductCatalogSearchCondition condition = new ProductCatalogSearchCondition(
+                null, null, null, null, null, null, "100%_");
+        given(productCatalogMapper.findCatalogProducts(isNull(), isNull(), isNull(), isNull(), eq(false), isNull(),
+                eq("%100\\%\\_%"), eq(false), eq("CREATED_AT_DESC"), isNull(), isNull(), isNull(), eq(21)))
+                .willReturn(List.of());
+
+        // when
+        ProductStoreCursorPageDTO result = productCatalogService.getCatalogProducts(condition, null, null, 20);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패 - 최소 가격이 최대 가격보다 큰 경우")
+    void getCatalogProducts_InvalidPriceRange_ThrowsException() {
+        // given
+        ProductCatalogSearchCondition condition = new ProductCatalogSearchCondition(
+                null, null, 5000L, 1000L, null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> productCatalogService.getCatalogProducts(condition, "createdAt,desc", null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최소 가격");
+        verifyNoInteractions(productCatalogMapper);
+    }
+
+    @Test
+    @DisplayName("실패 - 정렬 기준이 다른 커서")
+    void getCatalogProducts_SortMismatch_ThrowsException() {
+        // given
+        String cursor = new ProductStoreCursor(ProductStoreSortKey.PRICE_ASC, null, 10000L, "product1").encode();
+
+        // when & then
+        assertThatThrownBy(() -> productCatalogService
+                .getCatalogProducts(ProductCatalogSearchCondition.empty(), "createdAt,desc", cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬 기준");
+    }
+}
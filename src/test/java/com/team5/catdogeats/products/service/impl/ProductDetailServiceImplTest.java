@@ -0,0 +1,116 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.products.component.StockValidator;
+import com.team5.catdogeats.products.domain.dto.ProductDetailResponseDto;
+import com.team5.catdogeats.products.domain.dto.ProductDetailRowDTO;
+import com.team5.catdogeats.products.domain.dto.ProductDetailView;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.dto.StockAvailabilityDto;
+import com.team5.catdogeats.products.mapper.ProductDetailMapper;
+import com.team5.catdogeats.products.service.ProductDetailCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailService 단위 테스트")
+class ProductDetailServiceImplTest {
+
+    @InjectMocks
+    private ProductDetailServiceImpl productDetailService;
+
+    @Mock
+    private ProductDetailMapper productDetailMapper;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private StockValidator stockValidator;
+
+    private final Long productNumber = 2507011015301234L;
+    private ProductDetailRowDTO row;
+
+    @BeforeEach
+    void setUp() {
+        row = new ProductDetailRowDTO("product1", productNumber, "연어 트릿", "국내산 연어로 만든 트릿",
+                PetCategory.DOG, ProductCategory.HANDMADE, StockStatus.IN_STOCK, true, 10.0, 12000L, (short) 2,
+                "seller1", "멍멍이네 수제간식", "profile.jpg", 4.5, 12L);
+    }
+
+    @Test
+    @DisplayName("성공 - 상세 정보와 가용 재고가 모두 캐시에 있으면 DB 를 조회하지 않음")
+    void getProductDetail_CacheHit_NoDbAccess() {
+        // given
+        ProductDetailView view = ProductDetailView.of(row, List.of("a.jpg"));
+        given(productDetailCacheService.get(productNumber)).willReturn(Optional.of(view));
+        given(productDetailCacheService.getAvailableStock("product1")).willReturn(Optional.of(7));
+
+        // when
+        ProductDetailResponseDto result = productDetailService.getProductDetail(productNumber);
+
+        // then
+        assertThat(result.product()).isEqualTo(view);
+        assertThat(result.availableStock()).isEqualTo(7);
+        assertThat(result.purchasable()).isTrue();
+        verifyNoInteractions(productDetailMapper, stockValidator);
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시 미스면 상세 정보와 가용 재고를 조회해 각각 캐시에 저장")
+    void getProductDetail_CacheMiss_LoadsAndCaches() {
+        // given
+        given(productDetailCacheService.get(productNumber)).willReturn(Optional.empty());
+        given(productDetailCacheService.currentInvalidationSeq()).willReturn(3L);
+        given(productDetailMapper.findDetailByProductNumber(productNumber)).willReturn(row);
+        given(productDetailMapper.findImageUrls("product1")).willReturn(List.of("a.jpg", "b.jpg"));
+        given(productDetailCacheService.getAvailableStock("product1")).willReturn(Optional.empty());
+        given(stockValidator.getStockAvailability("product1")).willReturn(StockAvailabilityDto.builder()
+                .productId("product1").actualStock(10).reservedStock(10).availableStock(0).build());
+
+        // when
+        ProductDetailResponseDto result = productDetailService.getProductDetail(productNumber);
+
+        // then
+        assertThat(result.product().imageUrls()).containsExactly("a.jpg", "b.jpg");
+        assertThat(result.product().seller().vendorName()).isEqualTo("멍멍이네 수제간식");
+        assertThat(result.availableStock()).isZero();
+        assertThat(result.purchasable()).isFalse();
+        verify(productDetailCacheService).put(result.product(), 3L);
+        verify(productDetailCacheService).putAvailableStock("product1", 0);
+    }
+
+    @Test
+    @DisplayName("실패 - 존재하지 않는 상품은 캐시에 저장하지 않음")
+    void getProductDetail_NotFound_ThrowsException() {
+        // given
+        given(productDetailCacheService.get(productNumber)).willReturn(Optional.empty());
+        given(productDetailMapper.findDetailByProductNumber(productNumber)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> productDetailService.getProductDetail(productNumber))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(productDetailCacheService, never()).put(any(), anyLong());
+        verify(productDetailCacheService, never()).putAvailableStock(any(), anyInt());
+    }
+}
@@ -0,0 +1,67 @@
+package com.team5.catdogeats.products.service.impl;
+
+import com.team5.catdogeats.products.repository.ProductRatingStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductRatingStatsService 단위 테스트")
+class ProductRatingStatsServiceImplTest {
+
+    @Mock
+    private ProductRatingStatsRepository productRatingStatsRepository;
+
+    @InjectMocks
+    private ProductRatingStatsServiceImpl productRatingStatsService;
+
+    private static final String PRODUCT_ID = "product1";
+
+    @Test
+    @DisplayName("집계 행이 있으면 증분 UPDATE 만 실행")
+    void applyReviewDelta_ExistingRow_IncrementsOnly() {
+        // given
+        given(productRatingStatsRepository.applyDelta(PRODUCT_ID, 4.5, 1)).willReturn(1);
+
+        // when
+        productRatingStatsService.applyReviewDelta(PRODUCT_ID, 4.5, 1);
+
+        // then
+        verify(productRatingStatsRepository).applyDelta(PRODUCT_ID, 4.5, 1);
+        verify(productRatingStatsRepository, never()).insertFromReviews(anyString(), anyDouble(), anyLong());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 리뷰 테이블 기준으로 생성")
+    void applyReviewDelta_MissingRow_InsertsFromReviews() {
+        // given
+        given(productRatingStatsRepository.applyDelta(PRODUCT_ID, -3.0, -1)).willReturn(0);
+
+        // when
+        productRatingStatsService.applyReviewDelta(PRODUCT_ID, -3.0, -1);
+
+        // then
+        verify(productRatingStatsRepository).insertFromReviews(PRODUCT_ID, -3.0, -1);
+    }
+
+    @Test
+    @DisplayName("별점이 바뀌지 않은 수정은 갱신하지 않음")
+    void applyReviewDelta_NoChange_Skips() {
+        // when
+        productRatingStatsService.applyReviewDelta(PRODUCT_ID, 0.0, 0);
+
+        // then
+        verifyNoInteractions(productRatingStatsRepository);
+    }
+}
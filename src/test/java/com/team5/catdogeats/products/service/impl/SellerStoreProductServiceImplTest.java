@@ -3,8 +3,13 @@ package com.team5.catdogeats.products.service.impl;
 import com.team5.catdogeats.orders.service.ProductBestScoreService;
 import com.team5.catdogeats.pets.domain.enums.PetCategory;
 import com.team5.catdogeats.products.domain.dto.ProductBestScoreDataDTO;
+import com.team5.catdogeats.products.domain.dto.ProductBestScoreRankDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursor;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorPageDTO;
+import com.team5.catdogeats.products.domain.dto.ProductStoreCursorRowDTO;
 import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.ProductStoreSortKey;
 import com.team5.catdogeats.products.domain.enums.StockStatus;
 import com.team5.catdogeats.products.mapper.ProductStoreMapper;
 import com.team5.catdogeats.users.controller.SellerStoreExceptionHandler.ProductDataRetrievalException;
@@ -19,7 +24,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +53,7 @@ class SellerStoreProductServiceImplTest {
 
     private String testSellerId;
     private List<ProductStoreInfoDTO> testProducts;
-    private List<ProductBestScoreDataDTO> testBestScoreData;
+    private List<ProductBestScoreRankDTO> testBestScores;
 
     @BeforeEach
     void setUp() {
@@ -84,9 +92,9 @@ class SellerStoreProductServiceImplTest {
                 )
         );
 
-        testBestScoreData = Arrays.asList(
-                new ProductBestScoreDataDTO("product1", 100L, 1000000L, 4.5, 100L, 30L),
-                new ProductBestScoreDataDTO("product2", 80L, 800000L, 4.0, 50L, 20L)
+        testBestScores = Arrays.asList(
+                new ProductBestScoreRankDTO("product1", 98.5),
+                new ProductBestScoreRankDTO("product2", 80.0)
         );
     }
 
@@ -230,8 +238,8 @@ class SellerStoreProductServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             List<String> topProductIds = Arrays.asList("product1", "product2");
 
-            given(productBestScoreService.getProductBestScoreData(testSellerId))
-                    .willReturn(testBestScoreData);
+            given(productBestScoreService.getTopBestScores(testSellerId, null, null, 10))
+                    .willReturn(testBestScores);
             given(productStoreMapper.findProductsByIds(topProductIds,null,null))
                     .willReturn(testProducts);
 
@@ -242,10 +250,28 @@ class SellerStoreProductServiceImplTest {
             // then
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getTotalElements()).isEqualTo(2L);
+            assertThat(result.getContent().get(0).bestScore()).isEqualTo(98.5);
+            assertThat(result.getContent().get(1).bestScore()).isEqualTo(80.0);
 
-            // 베스트 점수 계산 공식:
-            // (판매량*0.4) + (매출액*0.3) + (평점*0.15) + (리뷰수*0.1) + (최근주문*0.05)
-            // 각 지표는 0-100으로 정규화됨
+            // 점수는 product_best_scores 에 미리 계산되어 있으므로 상품별 원본 집계를 하지 않음
+            verify(productBestScoreService, never()).getProductBestScoreData(anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 베스트 점수 데이터 없음")
+        void getSellerProductsBaseInfo_BestFilter_NoScores() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(productBestScoreService.getTopBestScores(testSellerId, "DOG", null, 10))
+                    .willReturn(List.of());
+
+            // when
+            Page<ProductStoreInfoDTO> result = sellerStoreProductService
+                    .getSellerProductsBaseInfo(testSellerId, PetCategory.DOG, null, "best", pageable);
+
+            // then
+            assertThat(result.getContent()).isEmpty();
+            verify(productStoreMapper, never()).findProductsByIds(anyList(), any(), any());
         }
 
         @Test
@@ -281,4 +307,88 @@ class SellerStoreProductServiceImplTest {
             assertThat(bestScore).isEqualTo(100.0); // 모든 지표가 만점
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("커서 상품 조회 테스트")
+    class CursorProductQueryTests {
+
+        private final OffsetDateTime createdAt = OffsetDateTime.parse("2025-07-01T10:15:30.123456+09:00");
+
+        private ProductStoreCursorRowDTO row(ProductStoreInfoDTO info, OffsetDateTime rowCreatedAt) {
+            return new ProductStoreCursorRowDTO(info.productId(), info.productNumber(), info.title(), info.price(),
+                    info.isDiscounted(), info.discountRate(), info.mainImageUrl(), info.petCategory(),
+                    info.productCategory(), info.stockStatus(), info.avgRating(), info.reviewCount(),
+                    info.bestScore(), rowCreatedAt);
+        }
+
+        @Test
+        @DisplayName("성공 - size + 1 개가 조회되면 마지막 상품 기준 다음 커서를 만들고 개수는 집계하지 않음")
+        void getSellerProductsByCursor_FirstPage_HasNext() {
+            // given
+            Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+            given(productStoreMapper.findSellerProductsByCursor(testSellerId, null, null, null,
+                    "CREATED_AT_DESC", null, null, null, 2))
+                    .willReturn(List.of(row(testProducts.get(0), createdAt), row(testProducts.get(1), createdAt.minusDays(1))));
+
+            // when
+            ProductStoreCursorPageDTO result = sellerStoreProductService
+                    .getSellerProductsByCursor(testSellerId, null, null, null, sort, null, 1, false);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalElements()).isNull();
+
+            ProductStoreCursor next = ProductStoreCursor.decode(result.nextCursor(), ProductStoreSortKey.CREATED_AT_DESC);
+            assertThat(next.productId()).isEqualTo("product1");
+            assertThat(next.createdAt()).isEqualTo(createdAt);
+            verify(productStoreMapper, never()).countSellerProductsForStore(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 가격 커서로 이어서 조회하고 마지막 페이지는 다음 커서 없음")
+        void getSellerProductsByCursor_PriceCursor_LastPage() {
+            // given
+            Sort sort = Sort.by(Sort.Direction.ASC, "price");
+            String cursor = new ProductStoreCursor(ProductStoreSortKey.PRICE_ASC, null, 10000L, "product1").encode();
+            given(productStoreMapper.findSellerProductsByCursor(testSellerId, null, null, null,
+                    "PRICE_ASC", null, 10000L, "product1", 11))
+                    .willReturn(List.of(row(testProducts.get(1), createdAt)));
+            given(productStoreMapper.countSellerProductsForStore(testSellerId, null, null, null))
+                    .willReturn(2L);
+
+            // when
+            ProductStoreCursorPageDTO result = sellerStoreProductService
+                    .getSellerProductsByCursor(testSellerId, null, null, null, sort, cursor, 10, true);
+
+            // then
+            assertThat(result.content()).extracting(ProductStoreInfoDTO::productId).containsExactly("product2");
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.totalElements()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("실패 - 정렬 기준이 다른 커서")
+        void getSellerProductsByCursor_SortMismatch_ThrowsException() {
+            // given
+            String cursor = new ProductStoreCursor(ProductStoreSortKey.PRICE_ASC, null, 10000L, "product1").encode();
+
+            // when & then
+            assertThatThrownBy(() -> sellerStoreProductService.getSellerProductsByCursor(
+                    testSellerId, null, null, null, Sort.by(Sort.Direction.DESC, "createdAt"), cursor, 10, false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("정렬 기준");
+        }
+
+        @Test
+        @DisplayName("실패 - 형식이 잘못된 커서")
+        void getSellerProductsByCursor_MalformedCursor_ThrowsException() {
+            // when & then
+            assertThatThrownBy(() -> sellerStoreProductService.getSellerProductsByCursor(
+                    testSellerId, null, null, null, Sort.by("createdAt"), "not-a-cursor!!", 10, false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("유효하지 않은 커서");
+        }
+    }
+}
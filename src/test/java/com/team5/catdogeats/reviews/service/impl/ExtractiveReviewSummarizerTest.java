@@ -0,0 +1,76 @@
+package com.team5.catdogeats.reviews.service.impl;
+
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewSummaryDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewTextDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("추출 리뷰 요약기 테스트")
+class ExtractiveReviewSummarizerTest {
+
+    private final ExtractiveReviewSummarizer summarizer = new ExtractiveReviewSummarizer();
+
+    private static ReviewTextDTO review(String id, double star, String contents) {
+        return new ReviewTextDTO(id, star, contents, null, OffsetDateTime.parse("2025-07-10T12:00:00Z"));
+    }
+
+    private static List<List<ReviewTextDTO>> pages() {
+        return List.of(
+                List.of(
+                        review("r1", 5.0, "강아지가 정말 잘 먹어요. 포장이 깔끔해요."),
+                        review("r2", 4.5, "우리 강아지가 잘 먹어요! 재구매 의사 있어요."),
+                        review("r3", 1.0, "배송이 너무 늦었어요. 유통기한이 짧아요.")
+                ),
+                List.of(
+                        review("r4", 4.0, "강아지가 정말 잘 먹어서 또 샀어요."),
+                        review("r5", 3.0, "그냥 보통이에요."),
+                        review("r6", 2.0, "배송이 늦어서 아쉬워요.")
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("긍정(4점 이상) / 부정(2점 이하) 리뷰를 나눠 자주 언급된 문장을 고르고, 같은 입력에는 같은 결과")
+    void summarizeProduct() {
+        // when
+        ProductReviewSummaryDTO first = summarizer.summarizeProduct("product-1", pages().iterator());
+        ProductReviewSummaryDTO second = summarizer.summarizeProduct("product-1", pages().iterator());
+
+        // then
+        assertThat(first.productId()).isEqualTo("product-1");
+        assertThat(first.positiveReview()).contains("잘 먹어요").doesNotContain("배송");
+        assertThat(first.negativeReview()).contains("배송이").doesNotContain("잘 먹어요");
+        assertThat(first.positiveReview()).doesNotContain("보통");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("요약할 리뷰가 없으면 빈 요약")
+    void summarizeProduct_noReviews() {
+        // when
+        ProductReviewSummaryDTO summary = summarizer.summarizeProduct("product-1",
+                List.of(List.of(review("r1", 3.0, "보통이에요."))).iterator());
+
+        // then
+        assertThat(summary.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리뷰 한 줄 요약은 첫 문장이며 100자를 넘지 않음")
+    void summarizeReview() {
+        // given
+        String longSentence = "가".repeat(150);
+
+        // when & then
+        assertThat(summarizer.summarizeReview(review("r1", 5.0, "  잘 먹어요. 또 살게요.")))
+                .isEqualTo("잘 먹어요.");
+        assertThat(summarizer.summarizeReview(review("r2", 5.0, longSentence)))
+                .hasSize(ExtractiveReviewSummarizer.MAX_REVIEW_SUMMARY_LENGTH)
+                .endsWith("…");
+    }
+}
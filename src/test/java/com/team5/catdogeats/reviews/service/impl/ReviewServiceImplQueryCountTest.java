@@ -0,0 +1,183 @@
+package com.team5.catdogeats.reviews.service.impl;
+
+import com.team5.catdogeats.pets.domain.Pets;
+import com.team5.catdogeats.pets.domain.enums.Gender;
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.pets.repository.PetRepository;
+import com.team5.catdogeats.products.domain.Products;
+import com.team5.catdogeats.products.domain.enums.ProductCategory;
+import com.team5.catdogeats.products.domain.enums.StockStatus;
+import com.team5.catdogeats.products.repository.ProductRepository;
+import com.team5.catdogeats.products.service.ProductRatingStatsService;
+import com.team5.catdogeats.reviews.domain.Reviews;
+import com.team5.catdogeats.reviews.domain.dto.ProductReviewResponseDto;
+import com.team5.catdogeats.reviews.mapper.ReviewFeedMapper;
+import com.team5.catdogeats.reviews.repository.ReviewRepository;
+import com.team5.catdogeats.storage.domain.Images;
+import com.team5.catdogeats.storage.domain.mapping.ReviewsImages;
+import com.team5.catdogeats.storage.repository.ReviewImageRepository;
+import com.team5.catdogeats.storage.service.ReviewImageService;
+import com.team5.catdogeats.users.domain.Users;
+import com.team5.catdogeats.users.domain.enums.Role;
+import com.team5.catdogeats.users.domain.mapping.Buyers;
+import com.team5.catdogeats.users.domain.mapping.Sellers;
+import com.team5.catdogeats.users.repository.BuyerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("상품 리뷰 목록 조회 쿼리 수 테스트")
+class ReviewServiceImplQueryCountTest {
+    private static final long PRODUCT_NUMBER = 2507101200001234L;
+    private static final int REVIEW_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    private ReviewServiceImpl reviewService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = new ReviewServiceImpl(
+                reviewRepository,
+                productRepository,
+                buyerRepository,
+                reviewImageRepository,
+                mock(ReviewImageService.class),
+                petRepository,
+                mock(ApplicationEventPublisher.class),
+                mock(ProductRatingStatsService.class),
+                mock(ReviewFeedMapper.class)
+        );
+
+        Users sellerUser = em.persist(Users.builder()
+                .provider("google")
+                .providerId("seller-1")
+                .userNameAttribute("sub")
+                .name("판매자")
+                .role(Role.ROLE_SELLER)
+                .build());
+        Sellers seller = em.persist(Sellers.builder()
+                .user(sellerUser)
+                .vendorName("멍냥상점")
+                .build());
+        Products product = em.persist(Products.builder()
+                .productNumber(PRODUCT_NUMBER)
+                .seller(seller)
+                .title("닭가슴살 져키")
+                .contents("국내산 닭가슴살 100%")
+                .petCategory(PetCategory.DOG)
+                .productCategory(ProductCategory.HANDMADE)
+                .stockStatus(StockStatus.IN_STOCK)
+                .price(12000L)
+                .leadTime((short) 3)
+                .stock(50)
+                .build());
+
+        // 리뷰마다 작성자 / pet 2마리 / 이미지 2장
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Users buyerUser = em.persist(Users.builder()
+                    .provider("google")
+                    .providerId("buyer-" + i)
+                    .userNameAttribute("sub")
+                    .name("구매자" + i)
+                    .role(Role.ROLE_BUYER)
+                    .build());
+            Buyers buyer = em.persist(Buyers.builder()
+                    .user(buyerUser)
+                    .nameMaskingStatus(true)
+                    .build());
+            for (int p = 0; p < 2; p++) {
+                em.persist(Pets.builder()
+                        .buyer(buyer)
+                        .name("pet-" + i + "-" + p)
+                        .petCategory(PetCategory.DOG)
+                        .gender(Gender.M)
+                        .breed("말티즈")
+                        .age((short) 3)
+                        .build());
+            }
+
+            Reviews review = em.persist(Reviews.builder()
+                    .buyer(buyer)
+                    .product(product)
+                    .star(4.5)
+                    .contents("잘 먹어요 " + i)
+                    .build());
+            for (int m = 0; m < 2; m++) {
+                Images image = em.persist(Images.builder()
+                        .imageUrl("https://cdn.example.com/reviews/" + i + "-" + m + ".webp")
+                        .build());
+                em.persist(ReviewsImages.builder()
+                        .reviews(review)
+                        .images(image)
+                        .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("리뷰 수와 관계없이 목록 + 개수 + 이미지 + pet 4번의 쿼리로 조회")
+    void getReviewsByProductNumber_queryCountIsConstant() {
+        // when
+        Page<ProductReviewResponseDto> page = reviewService.getReviewsByProductNumber(PRODUCT_NUMBER, 0, 10);
+
+        // then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(REVIEW_COUNT);
+        assertThat(page.getContent()).allSatisfy(review -> {
+            assertThat(review.writerName()).startsWith("구매자");
+            assertThat(review.images()).hasSize(2);
+            assertThat(review.petInfoDtoList()).hasSize(2);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("리뷰가 없는 상품 번호는 존재 여부를 확인해 예외")
+    void getReviewsByProductNumber_productNotFound() {
+        // when & then
+        assertThatThrownBy(() -> reviewService.getReviewsByProductNumber(1L, 0, 10))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,152 @@
+package com.team5.catdogeats.reviews.service.impl;
+
+import com.team5.catdogeats.pets.domain.enums.PetCategory;
+import com.team5.catdogeats.pets.repository.PetRepository;
+import com.team5.catdogeats.products.repository.ProductRepository;
+import com.team5.catdogeats.products.service.ProductRatingStatsService;
+import com.team5.catdogeats.reviews.domain.dto.ReviewCursor;
+import com.team5.catdogeats.reviews.domain.dto.ReviewCursorPageDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewFeedCondition;
+import com.team5.catdogeats.reviews.domain.dto.ReviewFeedRowDTO;
+import com.team5.catdogeats.reviews.domain.dto.ReviewProductStatsDTO;
+import com.team5.catdogeats.reviews.domain.enums.ReviewSortKey;
+import com.team5.catdogeats.reviews.mapper.ReviewFeedMapper;
+import com.team5.catdogeats.reviews.repository.ReviewRepository;
+import com.team5.catdogeats.storage.repository.ReviewImageRepository;
+import com.team5.catdogeats.storage.service.ReviewImageService;
+import com.team5.catdogeats.users.repository.BuyerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 리뷰 커서 목록 조회 테스트")
+class ReviewServiceImplTest {
+    private static final long PRODUCT_NUMBER = 2507101200001234L;
+    private static final String PRODUCT_ID = "product-1";
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 7, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock private ReviewRepository reviewRepository;
+    @Mock private ProductRepository productRepository;
+    @Mock private BuyerRepository buyerRepository;
+    @Mock private ReviewImageRepository reviewImageRepository;
+    @Mock private ReviewImageService reviewImageService;
+    @Mock private PetRepository petRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ProductRatingStatsService productRatingStatsService;
+    @Mock private ReviewFeedMapper reviewFeedMapper;
+
+    @InjectMocks
+    private ReviewServiceImpl reviewService;
+
+    private static List<ReviewFeedRowDTO> rows(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ReviewFeedRowDTO(prefix + i, "buyer-" + i, "구매자" + i, 4.5, "내용",
+                        BASE_TIME.minusMinutes(i), BASE_TIME.minusMinutes(i)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("최신순 - size + 1 개를 읽어 다음 커서를 만들고 리뷰 수는 집계 테이블 값 사용")
+    void latestWithNextCursor() {
+        // given
+        given(reviewFeedMapper.findProductStats(PRODUCT_NUMBER))
+                .willReturn(Optional.of(new ReviewProductStatsDTO(PRODUCT_ID, 42L)));
+        given(reviewFeedMapper.findReviews(eq(PRODUCT_ID), eq("LATEST"), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), isNull(), eq(4)))
+                .willReturn(rows("r", 4));
+
+        // when
+        ReviewCursorPageDTO page = reviewService.getReviewFeed(PRODUCT_NUMBER, ReviewFeedCondition.empty(), "latest", null, 3);
+
+        // then
+        assertThat(page.content()).hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isEqualTo(42L);
+        ReviewCursor next = ReviewCursor.decode(page.nextCursor(), ReviewSortKey.LATEST);
+        assertThat(next.reviewId()).isEqualTo("r2");
+        assertThat(next.createdAt()).isEqualTo(BASE_TIME.minusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("사진 우선 - 사진 리뷰가 모자라면 나머지 리뷰를 이어 붙이고 커서는 나머지 구간으로 이동")
+    void photoFirstContinuesWithoutPhoto() {
+        // given
+        given(reviewFeedMapper.findProductStats(PRODUCT_NUMBER))
+                .willReturn(Optional.of(new ReviewProductStatsDTO(PRODUCT_ID, 10L)));
+        given(reviewFeedMapper.findReviews(eq(PRODUCT_ID), eq("PHOTO_FIRST"), isNull(), isNull(), isNull(), eq(true),
+                isNull(), isNull(), isNull(), eq(4)))
+                .willReturn(rows("photo", 2));
+        given(reviewFeedMapper.findReviews(eq(PRODUCT_ID), eq("PHOTO_FIRST"), isNull(), isNull(), isNull(), eq(false),
+                isNull(), isNull(), isNull(), eq(2)))
+                .willReturn(rows("plain", 2));
+
+        // when
+        ReviewCursorPageDTO page = reviewService.getReviewFeed(PRODUCT_NUMBER, ReviewFeedCondition.empty(), "photo", null, 3);
+
+        // then
+        assertThat(page.content()).extracting("id").containsExactly("photo0", "photo1", "plain0");
+        ReviewCursor next = ReviewCursor.decode(page.nextCursor(), ReviewSortKey.PHOTO_FIRST);
+        assertThat(next.photoPhase()).isFalse();
+        assertThat(next.reviewId()).isEqualTo("plain0");
+    }
+
+    @Test
+    @DisplayName("필터를 적용하면 집계 리뷰 수와 맞지 않으므로 totalElements 는 null")
+    void filteredHasNoTotal() {
+        // given
+        given(reviewFeedMapper.findProductStats(PRODUCT_NUMBER))
+                .willReturn(Optional.of(new ReviewProductStatsDTO(PRODUCT_ID, 10L)));
+        given(reviewFeedMapper.findReviews(eq(PRODUCT_ID), eq("STAR_DESC"), eq(4.0), eq(5.0), eq("CAT"), isNull(),
+                isNull(), isNull(), isNull(), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        ReviewCursorPageDTO page = reviewService.getReviewFeed(
+                PRODUCT_NUMBER, new ReviewFeedCondition(4, PetCategory.CAT), "star,desc", null, 10);
+
+        // then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalElements()).isNull();
+    }
+
+    @Test
+    @DisplayName("없는 상품 / 다른 정렬 기준의 커서는 예외")
+    void invalidRequests() {
+        // given
+        given(reviewFeedMapper.findProductStats(PRODUCT_NUMBER)).willReturn(Optional.empty());
+        given(reviewFeedMapper.findProductStats(1L))
+                .willReturn(Optional.of(new ReviewProductStatsDTO(PRODUCT_ID, 10L)));
+        String latestCursor = ReviewCursor.after(ReviewSortKey.LATEST, rows("r", 1).get(0), false).encode();
+
+        // when & then
+        assertThatThrownBy(() -> reviewService.getReviewFeed(PRODUCT_NUMBER, ReviewFeedCondition.empty(), "latest", null, 10))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> reviewService.getReviewFeed(1L, ReviewFeedCondition.empty(), "star,asc", latestCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(reviewFeedMapper, never()).findReviews(any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+}
@@ -1,6 +1,8 @@
 package com.team5.catdogeats.storage.domain.service.impl;
 
 import com.team5.catdogeats.global.config.AwsS3Config;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
+import com.team5.catdogeats.storage.service.ObjectStorageService;
 import com.team5.catdogeats.storage.service.impl.AwsS3ServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,24 +11,49 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 class AwsS3ServiceImplTest {
     @Mock
     S3Client s3Client;
 
+    @Mock
+    S3AsyncClient s3AsyncClient;
+
+    @Mock
+    S3Presigner s3Presigner;
+
     @Mock
     AwsS3Config awsS3Config;
 
@@ -65,6 +92,28 @@ class AwsS3ServiceImplTest {
         assertThat(url).isEqualTo("https://cdn.example.com/images/" + key);
     }
 
+    @Test
+    @DisplayName("이미지 비동기 업로드 성공 - 완료 후 URL 반환, 실패해도 다음 업로드 가능")
+    void uploadImageAsync_Success() {
+        // given
+        byte[] data = "hello".getBytes();
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("S3 오류")))
+                .willReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        // when
+        CompletableFuture<String> failed = awsS3Service.uploadImageAsync("dog.png", new ByteArrayInputStream(data), data.length, "image/png");
+        String url = awsS3Service.uploadImageAsync("cat.png", new ByteArrayInputStream(data), data.length, "image/png").join();
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient, times(2)).putObject(requestCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(requestCaptor.getValue().key()).isEqualTo("images/cat.png");
+        assertThat(requestCaptor.getValue().contentLength()).isEqualTo(data.length);
+        assertThat(url).isEqualTo("https://cdn.example.com/images/cat.png");
+    }
+
     @Test
     @DisplayName("파일 업로드 성공 - files 폴더에 저장")
     void uploadFile_Success() {
@@ -131,4 +180,94 @@ class AwsS3ServiceImplTest {
         assertEquals("test-bucket", request.bucket());
         assertEquals("images/"+key, request.key());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("presigned URL 발급 - Content-Type / Content-Length 를 서명에 포함")
+    void presignImageUpload_Success() throws Exception {
+        // given
+        Instant expiration = Instant.parse("2025-07-10T12:10:00Z");
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        given(presigned.url()).willReturn(new URL("https://test-bucket.s3.amazonaws.com/images/cat.png?X-Amz-Signature=abc"));
+        given(presigned.expiration()).willReturn(expiration);
+        given(awsS3Config.getPresignExpirationMinutes()).willReturn(10L);
+        given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presigned);
+
+        // when
+        PresignedUploadResponseDto response = awsS3Service.presignImageUpload("cat.png", "image/png", 1024);
+
+        // then
+        ArgumentCaptor<PutObjectPresignRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        verify(s3Presigner).presignPutObject(requestCaptor.capture());
+        PutObjectPresignRequest request = requestCaptor.getValue();
+        assertThat(request.signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(request.putObjectRequest().key()).isEqualTo("images/cat.png");
+        assertThat(request.putObjectRequest().contentType()).isEqualTo("image/png");
+        assertThat(request.putObjectRequest().contentLength()).isEqualTo(1024L);
+
+        assertThat(response.fileKey()).isEqualTo("cat.png");
+        assertThat(response.uploadUrl()).contains("X-Amz-Signature");
+        assertThat(response.expiresAt()).isEqualTo(expiration);
+    }
+
+    @Test
+    @DisplayName("다운로드 URL 발급 - 파일명 / Content-Type 을 S3 응답 헤더로 지정")
+    void presignFileDownload_Success() throws Exception {
+        // given
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        given(presigned.url()).willReturn(new URL("https://test-bucket.s3.amazonaws.com/files/a.pdf?X-Amz-Signature=abc"));
+        given(awsS3Config.getPresignExpirationMinutes()).willReturn(10L);
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willReturn(presigned);
+
+        // when
+        String url = awsS3Service.presignFileDownload("notice_a.pdf", "공지 문서.pdf", "application/pdf");
+
+        // then
+        ArgumentCaptor<GetObjectPresignRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectPresignRequest.class);
+        verify(s3Presigner).presignGetObject(requestCaptor.capture());
+        GetObjectRequest request = requestCaptor.getValue().getObjectRequest();
+        assertThat(request.key()).isEqualTo("files/notice_a.pdf");
+        assertThat(request.responseContentType()).isEqualTo("application/pdf");
+        assertThat(request.responseContentDisposition()).startsWith("attachment;").contains("filename*=UTF-8''");
+        assertThat(url).contains("X-Amz-Signature");
+    }
+
+    @Test
+    @DisplayName("업로드된 파일 앞부분 읽기 - Range GET, 전체 크기는 Content-Range 에서 계산")
+    void readImageHeader_Success() {
+        // given
+        byte[] header = {(byte) 0x89, 0x50, 0x4E, 0x47};
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentRange("bytes 0-3/5000")
+                .contentLength(4L)
+                .contentType("image/png")
+                .build();
+        given(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .willReturn(ResponseBytes.fromByteArray(response, header));
+
+        // when
+        ObjectStorageService.StoredObjectHeader object = awsS3Service.readImageHeader("cat.png", 2048);
+
+        // then
+        ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObjectAsBytes(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().key()).isEqualTo("images/cat.png");
+        assertThat(requestCaptor.getValue().range()).isEqualTo("bytes=0-2047");
+
+        assertThat(object.url()).isEqualTo("https://cdn.example.com/images/cat.png");
+        assertThat(object.header()).isEqualTo(header);
+        assertThat(object.contentLength()).isEqualTo(5000L);
+        assertThat(object.contentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("업로드되지 않은 파일 읽기 - NoSuchElementException")
+    void readFileHeader_NotUploaded() {
+        // given
+        given(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .willThrow(NoSuchKeyException.builder().message("missing").build());
+
+        // when & then
+        assertThatThrownBy(() -> awsS3Service.readFileHeader("missing.pdf", 8))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
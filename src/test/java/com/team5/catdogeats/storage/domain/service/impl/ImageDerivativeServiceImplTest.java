@@ -0,0 +1,136 @@
+package com.team5.catdogeats.storage.domain.service.impl;
+
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
+import com.team5.catdogeats.storage.repository.ImageRepository;
+import com.team5.catdogeats.storage.service.impl.ImageDerivativeServiceImpl;
+import com.team5.catdogeats.storage.util.ImageResizer;
+import com.team5.catdogeats.users.repository.SellersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 리사이즈 워커 테스트")
+class ImageDerivativeServiceImplTest {
+
+    @Mock
+    ImageRepository imageRepository;
+
+    @Mock
+    SellersRepository sellersRepository;
+
+    private InMemoryObjectStorageService storage;
+    private ImageDerivativeServiceImpl imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryObjectStorageService();
+        // 테스트에서는 호출 스레드에서 바로 실행
+        imageDerivativeService = new ImageDerivativeServiceImpl(
+                storage, imageRepository, sellersRepository, new ImageResizer(), Runnable::run);
+    }
+
+    private static byte[] image(int width, int height, String format, int type) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | 0xFF000000);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static int widthOf(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes)).getWidth();
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 크기만 만들어 저장하고 URL 기록")
+    void generate_ImageVariants() throws IOException {
+        // given - 가로 1000px JPEG: 200 / 600 만 생성, 1200 은 원본 사용
+        storage.put("images/review_abc_1.jpg", image(1000, 750, "jpg", BufferedImage.TYPE_INT_RGB), "image/jpeg");
+        given(imageRepository.updateVariantUrls(anyString(), any(), any(), any())).willReturn(1);
+
+        // when
+        imageDerivativeService.submit(ImageUploadedEvent.ofImage("image-1", "https://cdn.example.com/images/review_abc_1.jpg"));
+
+        // then
+        verify(imageRepository).updateVariantUrls(
+                "image-1",
+                "https://cdn.example.com/images/review_abc_1_w200.jpg",
+                "https://cdn.example.com/images/review_abc_1_w600.jpg",
+                null);
+        assertThat(widthOf(storage.objects().get("images/review_abc_1_w200.jpg").bytes())).isEqualTo(200);
+        assertThat(widthOf(storage.objects().get("images/review_abc_1_w600.jpg").bytes())).isEqualTo(600);
+        assertThat(storage.objects().get("images/review_abc_1_w600.jpg").contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 PNG 는 PNG 로, 브랜드 이미지는 썸네일만 생성")
+    void generate_BrandThumbnail() throws IOException {
+        // given
+        storage.put("images/brand_user_1.png", image(800, 800, "png", BufferedImage.TYPE_INT_ARGB), "image/png");
+        given(sellersRepository.updateVendorProfileThumbnail(anyString(), anyString(), anyString())).willReturn(1);
+
+        // when
+        imageDerivativeService.generate(ImageUploadedEvent.ofBrand("seller-1", "https://cdn.example.com/images/brand_user_1.png"));
+
+        // then
+        verify(sellersRepository).updateVendorProfileThumbnail(
+                "seller-1",
+                "https://cdn.example.com/images/brand_user_1.png",
+                "https://cdn.example.com/images/brand_user_1_w200.png");
+        assertThat(storage.objects()).containsOnlyKeys("images/brand_user_1.png", "images/brand_user_1_w200.png");
+    }
+
+    @Test
+    @DisplayName("처리 중 이미지가 교체되어 기록되지 않으면 만든 파일 삭제")
+    void generate_TargetChanged() throws IOException {
+        // given
+        storage.put("images/brand_user_1.jpg", image(400, 400, "jpg", BufferedImage.TYPE_INT_RGB), "image/jpeg");
+        given(sellersRepository.updateVendorProfileThumbnail(anyString(), anyString(), anyString())).willReturn(0);
+
+        // when
+        imageDerivativeService.generate(ImageUploadedEvent.ofBrand("seller-1", "https://cdn.example.com/images/brand_user_1.jpg"));
+
+        // then
+        assertThat(storage.objects()).containsOnlyKeys("images/brand_user_1.jpg");
+    }
+
+    @Test
+    @DisplayName("작은 원본 / 디코딩할 수 없는 형식(WebP 등)은 건너뜀")
+    void generate_Skipped() throws IOException {
+        // given
+        storage.put("images/review_small.png", image(150, 100, "png", BufferedImage.TYPE_INT_RGB), "image/png");
+        storage.put("images/review_webp.webp", "RIFF\0\0\0\0WEBPVP8 ".getBytes(), "image/webp");
+
+        // when
+        imageDerivativeService.generate(ImageUploadedEvent.ofImage("image-1", "https://cdn.example.com/images/review_small.png"));
+        imageDerivativeService.generate(ImageUploadedEvent.ofImage("image-2", "https://cdn.example.com/images/review_webp.webp"));
+        imageDerivativeService.generate(ImageUploadedEvent.ofImage("image-3", "https://cdn.example.com/images/missing.jpg"));
+
+        // then
+        verifyNoInteractions(imageRepository);
+        verify(sellersRepository, never()).updateVendorProfileThumbnail(anyString(), anyString(), anyString());
+        assertThat(storage.objects()).hasSize(2);
+    }
+}
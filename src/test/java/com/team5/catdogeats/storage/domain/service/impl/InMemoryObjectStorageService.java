@@ -0,0 +1,117 @@
+package com.team5.catdogeats.storage.domain.service.impl;
+
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
+import com.team5.catdogeats.storage.service.ObjectStorageService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 S3 대체 구현 (메모리 저장)
+ * 키 / URL 규칙은 AwsS3ServiceImpl 과 같습니다. (images/, files/ 접두사 + CDN 도메인)
+ */
+class InMemoryObjectStorageService implements ObjectStorageService {
+    static final String DOMAIN = "https://cdn.example.com";
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    record StoredObject(byte[] bytes, String contentType) {}
+
+    Map<String, StoredObject> objects() {
+        return objects;
+    }
+
+    void put(String key, byte[] bytes, String contentType) {
+        objects.put(key, new StoredObject(bytes, contentType));
+    }
+
+    @Override
+    public String uploadImage(String key, InputStream inputStream, long contentLength, String contentType) {
+        return store("images/" + key, inputStream, contentType);
+    }
+
+    @Override
+    public CompletableFuture<String> uploadImageAsync(String key, InputStream inputStream, long contentLength, String contentType) {
+        return CompletableFuture.completedFuture(uploadImage(key, inputStream, contentLength, contentType));
+    }
+
+    @Override
+    public InputStream downloadImage(String key) {
+        StoredObject object = objects.get("images/" + key);
+        if (object == null) {
+            throw new NoSuchElementException("images/" + key);
+        }
+        return new ByteArrayInputStream(object.bytes());
+    }
+
+    @Override
+    public String uploadFile(String key, InputStream inputStream, long contentLength, String contentType) {
+        return store("files/" + key, inputStream, contentType);
+    }
+
+    @Override
+    public void deleteFile(String key) {
+        objects.remove("files/" + key);
+    }
+
+    @Override
+    public void deleteImage(String key) {
+        objects.remove("images/" + key);
+    }
+
+    @Override
+    public String imageUrl(String key) {
+        return DOMAIN + "/images/" + key;
+    }
+
+    @Override
+    public PresignedUploadResponseDto presignImageUpload(String key, String contentType, long contentLength) {
+        return new PresignedUploadResponseDto(key, DOMAIN + "/upload/images/" + key, contentType, Instant.now().plusSeconds(600));
+    }
+
+    @Override
+    public PresignedUploadResponseDto presignFileUpload(String key, String contentType, long contentLength) {
+        return new PresignedUploadResponseDto(key, DOMAIN + "/upload/files/" + key, contentType, Instant.now().plusSeconds(600));
+    }
+
+    @Override
+    public String presignFileDownload(String key, String downloadFileName, String contentType) {
+        return DOMAIN + "/download/files/" + key;
+    }
+
+    @Override
+    public StoredObjectHeader readImageHeader(String key, int length) {
+        return readHeader("images/" + key, length);
+    }
+
+    @Override
+    public StoredObjectHeader readFileHeader(String key, int length) {
+        return readHeader("files/" + key, length);
+    }
+
+    private StoredObjectHeader readHeader(String fullKey, int length) {
+        StoredObject object = objects.get(fullKey);
+        if (object == null) {
+            throw new NoSuchElementException(fullKey);
+        }
+        byte[] header = Arrays.copyOf(object.bytes(), Math.min(length, object.bytes().length));
+        return new StoredObjectHeader(DOMAIN + "/" + fullKey, header, object.bytes().length, object.contentType());
+    }
+
+    private String store(String fullKey, InputStream inputStream, String contentType) {
+        try (inputStream) {
+            objects.put(fullKey, new StoredObject(inputStream.readAllBytes(), contentType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DOMAIN + "/" + fullKey;
+    }
+}
@@ -0,0 +1,120 @@
+package com.team5.catdogeats.storage.domain.service.impl;
+
+import com.team5.catdogeats.storage.domain.Files;
+import com.team5.catdogeats.storage.repository.FilesRepository;
+import com.team5.catdogeats.storage.service.ObjectStorageService;
+import com.team5.catdogeats.storage.service.impl.NoticeFileManagementServiceImpl;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeFileDownloadResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공지사항 파일 관리 서비스 다운로드 / 직접 업로드 테스트")
+class NoticeFileManagementServiceImplTest {
+
+    @Mock
+    FilesRepository filesRepository;
+
+    @Mock
+    ObjectStorageService objectStorageService;
+
+    @InjectMocks
+    NoticeFileManagementServiceImpl noticeFileManagementService;
+
+    private static final String NOTICE_ID = "1b2c3d4e-0000-4000-8000-000000000000";
+
+    @Test
+    @DisplayName("다운로드 - 파일을 중계하지 않고 presigned URL 발급")
+    void downloadNoticeFile_PresignedUrl() {
+        // given
+        Files file = Files.builder()
+                .fileUrl("https://cdn.example.com/files/notice_1a2b3c4d_20250710_120000_공지 문서.pdf")
+                .build();
+        given(filesRepository.findById("file-1")).willReturn(Optional.of(file));
+        given(objectStorageService.presignFileDownload(
+                eq("notice_1a2b3c4d_20250710_120000_공지 문서.pdf"), anyString(), eq("application/pdf")))
+                .willReturn("https://test-bucket.s3.amazonaws.com/files/notice.pdf?X-Amz-Signature=abc");
+
+        // when
+        NoticeFileDownloadResponseDTO response = noticeFileManagementService.downloadNoticeFile("file-1");
+
+        // then
+        assertThat(response.getDownloadUrl()).contains("X-Amz-Signature");
+        assertThat(response.getContentType()).isEqualTo("application/pdf");
+        assertThat(response.getFilename()).startsWith("notice_document_").endsWith(".pdf");
+    }
+
+    @Test
+    @DisplayName("다운로드 - 존재하지 않는 파일은 URL 을 발급하지 않음")
+    void downloadNoticeFile_NotFound() {
+        // given
+        given(filesRepository.findById("missing")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> noticeFileManagementService.downloadNoticeFile("missing"))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(objectStorageService, never()).presignFileDownload(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 발급 키에 공지사항 ID 를 포함")
+    void presignNoticeFileUpload_KeyBoundToNotice() {
+        // when
+        noticeFileManagementService.presignNoticeFileUpload(NOTICE_ID, "공지 문서.pdf", 1024L);
+
+        // then
+        verify(objectStorageService).presignFileUpload(
+                startsWith("notice_" + NOTICE_ID + "_"), eq("application/pdf"), eq(1024L));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 해당 공지사항에 발급된 키면 검증 후 저장")
+    void confirmNoticeFileUpload_Success() {
+        // given
+        String fileKey = "notice_" + NOTICE_ID + "_1a2b3c4d_20250710_120000_공지 문서.pdf";
+        String url = "https://cdn.example.com/files/" + fileKey;
+        given(objectStorageService.readFileHeader(fileKey, 8)).willReturn(new ObjectStorageService.StoredObjectHeader(
+                url, new byte[]{0x25, 0x50, 0x44, 0x46, 0x2D, 0x31, 0x2E, 0x37}, 1024L, "application/pdf"));
+        given(filesRepository.existsByFileUrl(url)).willReturn(false);
+        given(filesRepository.save(any(Files.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Files saved = noticeFileManagementService.confirmNoticeFileUpload(NOTICE_ID, fileKey);
+
+        // then
+        assertThat(saved.getFileUrl()).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 - 다른 공지사항에 발급된 키는 Storage 를 읽거나 지우지 않고 거절")
+    void confirmNoticeFileUpload_OtherNoticeKey() {
+        // given
+        String otherNoticeKey = "notice_9f8e7d6c-0000-4000-8000-000000000000_1a2b3c4d_20250710_120000_공지 문서.pdf";
+
+        // when & then
+        assertThatThrownBy(() -> noticeFileManagementService.confirmNoticeFileUpload(NOTICE_ID, otherNoticeKey))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해당 공지사항");
+        verify(objectStorageService, never()).readFileHeader(anyString(), anyInt());
+        verify(objectStorageService, never()).deleteFile(anyString());
+        verify(filesRepository, never()).save(any(Files.class));
+    }
+}
@@ -0,0 +1,339 @@
+package com.team5.catdogeats.storage.domain.service.impl;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.reviews.repository.ReviewRepository;
+import com.team5.catdogeats.storage.domain.Images;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadRequestDto;
+import com.team5.catdogeats.storage.domain.dto.PresignedUploadResponseDto;
+import com.team5.catdogeats.storage.domain.dto.ReviewImageResponseDto;
+import com.team5.catdogeats.storage.domain.dto.ReviewImageUploadResponseDto;
+import com.team5.catdogeats.storage.domain.mapping.ReviewsImages;
+import com.team5.catdogeats.storage.event.ImageUploadedEvent;
+import com.team5.catdogeats.storage.repository.ImageRepository;
+import com.team5.catdogeats.storage.repository.ReviewImageRepository;
+import com.team5.catdogeats.storage.service.ObjectStorageService;
+import com.team5.catdogeats.storage.service.impl.ReviewImageMappingWriter;
+import com.team5.catdogeats.storage.service.impl.ReviewImageSerivceImpl;
+import com.team5.catdogeats.storage.util.ImageValidationUtil;
+import com.team5.catdogeats.users.domain.dto.BuyerDTO;
+import com.team5.catdogeats.users.repository.BuyerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewImageSerivceImplTest {
+
+    private static final String REVIEW_ID = "review-1234-5678";
+    private static final String BUYER_ID = "buyer-user-1";
+    private static final UserPrincipal PRINCIPAL = new UserPrincipal("google", "buyer-1");
+
+    @Mock
+    ObjectStorageService objectStorageService;
+
+    @Mock
+    ImageRepository imageRepository;
+
+    @Mock
+    ReviewImageRepository reviewImageRepository;
+
+    @Mock
+    ReviewRepository reviewRepository;
+
+    @Mock
+    BuyerRepository buyerRepository;
+
+    @Mock
+    ImageValidationUtil imageValidationUtil;
+
+    @Mock
+    ReviewImageMappingWriter reviewImageMappingWriter;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    ReviewImageSerivceImpl reviewImageService;
+
+    private static List<MultipartFile> images(int count) {
+        return IntStream.range(0, count)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile("images", "cat" + i + ".png", "image/png", new byte[]{1, 2, 3}))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("업로드를 모두 시작한 뒤 완료되면 DB 에 한 번에 저장하고 리사이즈 버전 생성 요청")
+    void uploadReviewImage_Success() throws Exception {
+        // given
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(true);
+        given(imageValidationUtil.getFileExtension(anyString())).willReturn("png");
+        given(objectStorageService.uploadImageAsync(anyString(), any(InputStream.class), anyLong(), eq("image/png")))
+                .willReturn(CompletableFuture.completedFuture("https://cdn.example.com/images/a.png"))
+                .willReturn(CompletableFuture.completedFuture("https://cdn.example.com/images/b.png"));
+        List<ReviewImageUploadResponseDto> saved = List.of(
+                new ReviewImageUploadResponseDto("image-1", "https://cdn.example.com/images/a.png"),
+                new ReviewImageUploadResponseDto("image-2", "https://cdn.example.com/images/b.png"));
+        given(reviewImageMappingWriter.saveAll(REVIEW_ID, List.of(
+                "https://cdn.example.com/images/a.png", "https://cdn.example.com/images/b.png")))
+                .willReturn(saved);
+
+        // when
+        List<ReviewImageUploadResponseDto> result = reviewImageService.uploadReviewImage(REVIEW_ID, images(2));
+
+        // then
+        assertThat(result).isEqualTo(saved);
+        verify(objectStorageService, times(2)).uploadImageAsync(startsWith("review_review-1234-5678_"), any(InputStream.class), eq(3L), eq("image/png"));
+        verify(objectStorageService, never()).deleteImage(anyString());
+        verify(eventPublisher, times(2)).publishEvent(any(ImageUploadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("일부 업로드 실패 시 성공한 S3 파일을 지우고 DB 에 저장하지 않음")
+    void uploadReviewImage_UploadFailure() {
+        // given
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(true);
+        given(imageValidationUtil.getFileExtension(anyString())).willReturn("png");
+        given(objectStorageService.uploadImageAsync(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .willReturn(CompletableFuture.completedFuture("https://cdn.example.com/images/a.png"))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("S3 오류")));
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.uploadReviewImage(REVIEW_ID, images(2)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(objectStorageService, times(1)).deleteImage(startsWith("review_review-1234-5678_"));
+        verify(reviewImageMappingWriter, never()).saveAll(anyString(), anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("DB 저장 실패 시 업로드한 S3 파일을 모두 삭제")
+    void uploadReviewImage_SaveFailure() {
+        // given
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(true);
+        given(imageValidationUtil.getFileExtension(anyString())).willReturn("png");
+        given(objectStorageService.uploadImageAsync(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .willReturn(CompletableFuture.completedFuture("https://cdn.example.com/images/a.png"));
+        given(reviewImageMappingWriter.saveAll(eq(REVIEW_ID), anyList()))
+                .willThrow(new NoSuchElementException("해당 리뷰 없음"));
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.uploadReviewImage(REVIEW_ID, images(3)))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(objectStorageService, times(3)).deleteImage(anyString());
+    }
+
+    @Test
+    @DisplayName("이미지가 10개를 넘으면 업로드하지 않음")
+    void uploadReviewImage_TooManyImages() {
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.uploadReviewImage(REVIEW_ID, images(11)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(objectStorageService, never()).uploadImageAsync(anyString(), any(InputStream.class), anyLong(), anyString());
+    }
+
+    private static ObjectStorageService.StoredObjectHeader png(String fileKey) {
+        byte[] header = {(byte) 0x89, 0x50, 0x4E, 0x47};
+        return new ObjectStorageService.StoredObjectHeader(
+                "https://cdn.example.com/images/" + fileKey, header, 5000L, "image/png");
+    }
+
+    private void givenReviewOwner() {
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(true);
+        given(buyerRepository.findOnlyBuyerByProviderAndProviderId("google", "buyer-1"))
+                .willReturn(Optional.of(new BuyerDTO(BUYER_ID, false, false, null)));
+        given(reviewRepository.existsByIdAndBuyerUserId(REVIEW_ID, BUYER_ID)).willReturn(true);
+    }
+
+    private void givenImageUrls() {
+        given(objectStorageService.imageUrl(anyString()))
+                .willAnswer(invocation -> "https://cdn.example.com/images/" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 URL 발급 - 리뷰별 키로 발급")
+    void presignReviewImageUploads_Success() {
+        // given
+        givenReviewOwner();
+        given(imageValidationUtil.getFileExtension("cat.png")).willReturn("png");
+        given(objectStorageService.presignImageUpload(anyString(), eq("image/png"), eq(5000L)))
+                .willAnswer(invocation -> new PresignedUploadResponseDto(
+                        invocation.getArgument(0), "https://s3.example.com/signed", "image/png", Instant.now()));
+
+        // when
+        List<PresignedUploadResponseDto> result = reviewImageService.presignReviewImageUploads(
+                PRINCIPAL, REVIEW_ID, List.of(new PresignedUploadRequestDto("cat.png", "image/png", 5000L)));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).fileKey()).startsWith("review_review-1234-5678_").endsWith(".png");
+        verify(imageValidationUtil).validateUploadRequest("cat.png", "image/png", 5000L);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 앞부분만 읽어 검증한 뒤 한 번에 저장")
+    void confirmReviewImageUploads_Success() {
+        // given
+        List<String> fileKeys = List.of("review_review-1234-5678_a.png", "review_review-1234-5678_b.png");
+        givenReviewOwner();
+        givenImageUrls();
+        given(objectStorageService.readImageHeader(anyString(), eq(ImageValidationUtil.HEADER_SCAN_SIZE)))
+                .willAnswer(invocation -> png(invocation.getArgument(0)));
+        List<String> imageUrls = List.of(
+                "https://cdn.example.com/images/review_review-1234-5678_a.png",
+                "https://cdn.example.com/images/review_review-1234-5678_b.png");
+        List<ReviewImageUploadResponseDto> saved = List.of(
+                new ReviewImageUploadResponseDto("image-1", imageUrls.get(0)),
+                new ReviewImageUploadResponseDto("image-2", imageUrls.get(1)));
+        given(reviewImageMappingWriter.saveAll(REVIEW_ID, imageUrls)).willReturn(saved);
+
+        // when
+        List<ReviewImageUploadResponseDto> result = reviewImageService.confirmReviewImageUploads(PRINCIPAL, REVIEW_ID, fileKeys);
+
+        // then
+        assertThat(result).isEqualTo(saved);
+        verify(imageValidationUtil, times(2)).validateUploadedImage(any(byte[].class), eq(5000L), eq("image/png"));
+        verify(eventPublisher, times(2)).publishEvent(any(ImageUploadedEvent.class));
+        verify(objectStorageService, never()).deleteImage(anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 검증에 실패한 파일만 삭제하고 저장하지 않음")
+    void confirmReviewImageUploads_InvalidContent() {
+        // given
+        List<String> fileKeys = List.of("review_review-1234-5678_a.png", "review_review-1234-5678_b.png");
+        givenReviewOwner();
+        givenImageUrls();
+        given(objectStorageService.readImageHeader(anyString(), anyInt()))
+                .willAnswer(invocation -> png(invocation.getArgument(0)));
+        // 두 번째 파일만 검증 실패
+        doNothing()
+                .doThrow(new IllegalArgumentException("지원하지 않는 이미지 형식입니다."))
+                .when(imageValidationUtil).validateUploadedImage(any(byte[].class), anyLong(), anyString());
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.confirmReviewImageUploads(PRINCIPAL, REVIEW_ID, fileKeys))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(objectStorageService, never()).deleteImage("review_review-1234-5678_a.png");
+        verify(objectStorageService).deleteImage("review_review-1234-5678_b.png");
+        verify(reviewImageMappingWriter, never()).saveAll(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 이미 연결된 파일이 섞여 있으면 읽거나 지우지 않고 거절")
+    void confirmReviewImageUploads_LinkedAndInvalidKeys() {
+        // given: a 는 이미 리뷰에 연결된 파일, b 는 내용이 잘못된 파일
+        List<String> fileKeys = List.of("review_review-1234-5678_a.png", "review_review-1234-5678_b.png");
+        givenReviewOwner();
+        givenImageUrls();
+        given(imageRepository.existsByImageUrlIn(List.of(
+                "https://cdn.example.com/images/review_review-1234-5678_a.png",
+                "https://cdn.example.com/images/review_review-1234-5678_b.png")))
+                .willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.confirmReviewImageUploads(PRINCIPAL, REVIEW_ID, fileKeys))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 등록된");
+        verify(objectStorageService, never()).readImageHeader(anyString(), anyInt());
+        verify(objectStorageService, never()).deleteImage(anyString());
+        verify(reviewImageMappingWriter, never()).saveAll(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 다른 리뷰에 발급된 파일은 읽거나 지우지 않고 거절")
+    void confirmReviewImageUploads_ForeignKey() {
+        // given
+        givenReviewOwner();
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.confirmReviewImageUploads(
+                PRINCIPAL, REVIEW_ID, List.of("review_other-12_a.png")))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 앞자리만 같은 다른 리뷰 ID 로 발급된 파일
+        assertThatThrownBy(() -> reviewImageService.confirmReviewImageUploads(
+                PRINCIPAL, REVIEW_ID, List.of("review_review-1_a.png")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(objectStorageService, never()).readImageHeader(anyString(), anyInt());
+        verify(objectStorageService, never()).deleteImage(anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 다른 사람의 리뷰에는 URL 발급 / 연결 불가")
+    void reviewImageUploads_NotOwner() {
+        // given
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(true);
+        given(buyerRepository.findOnlyBuyerByProviderAndProviderId("google", "buyer-1"))
+                .willReturn(Optional.of(new BuyerDTO("other-buyer", false, false, null)));
+        given(reviewRepository.existsByIdAndBuyerUserId(REVIEW_ID, "other-buyer")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.presignReviewImageUploads(
+                PRINCIPAL, REVIEW_ID, List.of(new PresignedUploadRequestDto("cat.png", "image/png", 5000L))))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> reviewImageService.confirmReviewImageUploads(
+                PRINCIPAL, REVIEW_ID, List.of("review_review-1234-5678_a.png")))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(objectStorageService, never()).presignImageUpload(anyString(), anyString(), anyLong());
+        verify(objectStorageService, never()).readImageHeader(anyString(), anyInt());
+        verify(objectStorageService, never()).deleteImage(anyString());
+    }
+
+    @Test
+    @DisplayName("리뷰 이미지 조회 - 이미지가 있으면 리뷰를 따로 조회하지 않음")
+    void getReviewImagesByReviewId() {
+        // given
+        Images image = Images.builder().id("image-1").imageUrl("https://cdn.example.com/images/a.png").build();
+        given(reviewImageRepository.findAllByReviewsIdWithImages(REVIEW_ID))
+                .willReturn(List.of(ReviewsImages.builder().id("mapping-1").images(image).build()));
+
+        // when
+        List<ReviewImageResponseDto> result = reviewImageService.getReviewImagesByReviewId(REVIEW_ID);
+
+        // then
+        assertThat(result).containsExactly(new ReviewImageResponseDto("image-1", "https://cdn.example.com/images/a.png"));
+        verify(reviewRepository, never()).existsById(anyString());
+        verify(reviewRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("리뷰 이미지 조회 - 이미지가 없고 리뷰도 없으면 예외")
+    void getReviewImagesByReviewId_ReviewNotFound() {
+        // given
+        given(reviewImageRepository.findAllByReviewsIdWithImages(REVIEW_ID)).willReturn(List.of());
+        given(reviewRepository.existsById(REVIEW_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reviewImageService.getReviewImagesByReviewId(REVIEW_ID))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
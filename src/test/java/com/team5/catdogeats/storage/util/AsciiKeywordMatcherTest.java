@@ -0,0 +1,47 @@
+package com.team5.catdogeats.storage.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsciiKeywordMatcher 테스트")
+class AsciiKeywordMatcherTest {
+
+    private final AsciiKeywordMatcher matcher = new AsciiKeywordMatcher("<script", "eval(", "onerror=", "error(");
+
+    private boolean matches(String text) {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        return matcher.containsAny(data, data.length);
+    }
+
+    @Test
+    @DisplayName("대소문자와 관계없이 키워드 포함 여부 검사")
+    void containsAny_CaseInsensitive() {
+        assertThat(matches("abc<SCRIPT>alert(1)</script>")).isTrue();
+        assertThat(matches("x=EvAl(y)")).isTrue();
+        assertThat(matches("<scrip t>")).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹치는 접두사 / 다른 키워드 안에 포함된 키워드도 검사")
+    void containsAny_FailureLinks() {
+        // "evaeval(" : 첫 "eva" 가 실패해도 두 번째 "eval(" 을 찾아야 함
+        assertThat(matches("evaeval(")).isTrue();
+        // "onerror" 경로에서 "error(" 로 넘어가야 함
+        assertThat(matches("onerror(")).isTrue();
+        assertThat(matches("<<script")).isTrue();
+    }
+
+    @Test
+    @DisplayName("길이 이후의 바이트와 비 ASCII 바이트는 무시")
+    void containsAny_LengthAndBinary() {
+        byte[] data = "안녕 eval(".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(matcher.containsAny(data, data.length)).isTrue();
+        assertThat(matcher.containsAny(data, data.length - 1)).isFalse();
+        assertThat(matcher.containsAny(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00}, 4)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.team5.catdogeats.storage.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * 이미지 검증 비용 측정
+ * JPEG / PNG / WebP 코퍼스를 번갈아 검증하며, 결과는 로그로 확인합니다. (ns/op)
+ * 반복 횟수가 많아 RUN_BENCHMARK=true 일 때만 실행합니다.
+ * 변경 전 구현과 비교하려면 이전 커밋의 ImageValidationUtil 로 같은 테스트를 실행합니다.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class ImageValidationUtilBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    void validateCost() throws IOException {
+        List<MultipartFile> corpus = corpus();
+        ImageValidationUtil util = new ImageValidationUtil();
+
+        for (MultipartFile file : corpus) {
+            assertThatCode(() -> util.validateImageFile(file)).doesNotThrowAnyException();
+        }
+
+        measure("single read + Aho-Corasick", corpus, util::validateImageFile);
+    }
+
+    private void measure(String label, List<MultipartFile> corpus, Validator validator) {
+        for (int i = 0; i < WARMUP; i++) {
+            validator.validate(corpus.get(i % corpus.size()));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validator.validate(corpus.get(i % corpus.size()));
+        }
+        long nanos = (System.nanoTime() - start) / ITERATIONS;
+        log.info("[Image validation benchmark] {} -> {} ns/op (corpus={})", label, nanos, corpus.size());
+    }
+
+    @FunctionalInterface
+    private interface Validator {
+        void validate(MultipartFile file);
+    }
+
+    private static List<MultipartFile> corpus() throws IOException {
+        Random random = new Random(42);
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            BufferedImage image = new BufferedImage(64 + i * 32, 64 + i * 32, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    image.setRGB(x, y, random.nextInt(0xFFFFFF));
+                }
+            }
+            files.add(new MockMultipartFile("image", "photo" + i + ".jpg", "image/jpeg", encode(image, "jpg")));
+            files.add(new MockMultipartFile("image", "photo" + i + ".png", "image/png", encode(image, "png")));
+            files.add(new MockMultipartFile("image", "photo" + i + ".webp", "image/webp", webp(random, 4096 << i)));
+        }
+        return files;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // ImageIO 는 WebP 를 쓰지 못하므로 RIFF 헤더 + VP8 청크 형태로 구성
+    private static byte[] webp(Random random, int size) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        byte[] riff = "RIFF".getBytes(StandardCharsets.US_ASCII);
+        byte[] webp = "WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(riff, 0, content, 0, 4);
+        int length = size - 8;
+        content[4] = (byte) length;
+        content[5] = (byte) (length >> 8);
+        content[6] = (byte) (length >> 16);
+        content[7] = (byte) (length >> 24);
+        System.arraycopy(webp, 0, content, 8, webp.length);
+        // 임의 바이트가 우연히 스크립트 패턴을 만들지 않도록 ASCII 영역을 비움
+        for (int i = 16; i < content.length; i++) {
+            content[i] = (byte) (content[i] | 0x80);
+        }
+        return content;
+    }
+}
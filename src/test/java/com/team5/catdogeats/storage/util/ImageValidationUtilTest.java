@@ -603,6 +603,44 @@ class ImageValidationUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("직접 업로드 검증 테스트")
+    class DirectUploadValidationTest {
+
+        @Test
+        @DisplayName("발급 전 검증 - 파일명 / 형식 / 크기만 확인")
+        void validateUploadRequest() {
+            assertThatCode(() -> imageValidationUtil.validateUploadRequest("cat.png", "image/png", 1024))
+                    .doesNotThrowAnyException();
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadRequest("cat.png", "image/png", 11L * 1024 * 1024))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("이미지 파일 크기는 10MB를 초과할 수 없습니다.");
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadRequest("cat.php.png", "image/png", 1024))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadRequest("cat.gif", "image/gif", 1024))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("업로드된 파일 검증 - 앞부분 시그니처 / 스크립트와 저장된 크기 확인")
+        void validateUploadedImage() {
+            byte[] webp = createWebPContent();
+            byte[] script = ("GIF89a<script>alert(1)</script>").getBytes();
+
+            assertThatCode(() -> imageValidationUtil.validateUploadedImage(webp, 5000L, "image/webp"))
+                    .doesNotThrowAnyException();
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadedImage(script, 5000L, "image/png"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("스크립트");
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadedImage(new byte[]{1, 2, 3, 4}, 5000L, "image/png"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("지원하지 않는 이미지 형식");
+            assertThatThrownBy(() -> imageValidationUtil.validateUploadedImage(new byte[0], 0L, "image/png"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("이미지 파일이 비어있습니다.");
+        }
+    }
+
     // === Helper Methods ===
 
     /**
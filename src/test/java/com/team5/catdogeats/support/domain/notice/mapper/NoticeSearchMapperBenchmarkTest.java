@@ -0,0 +1,158 @@
+package com.team5.catdogeats.support.domain.notice.mapper;
+
+import com.team5.catdogeats.support.domain.Notices;
+import com.team5.catdogeats.support.domain.notice.config.NoticeSearchIndexInitializer;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchRowDTO;
+import com.team5.catdogeats.support.domain.notice.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공지사항 검색 지연 시간 측정 (공지사항 10만 건)
+ * 기존 LIKE + COUNT 페이지 조회와 pg_trgm / tsvector(simple) GIN 인덱스 키셋 검색을 같은 검색어로 비교합니다.
+ * 데이터를 대량으로 넣으므로 RUN_DB_BENCHMARK=true 일 때만 실행하고, 트랜잭션 롤백으로 정리합니다. (인덱스도 함께 롤백)
+ * 결과는 로그로 확인합니다. (평균 / p95 ms)
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "RUN_DB_BENCHMARK", matches = "true")
+class NoticeSearchMapperBenchmarkTest {
+    private static final int NOTICES = 100_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private NoticeSearchMapper noticeSearchMapper;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // 제목 단어는 5개 중 하나 (검색어당 약 20%), 'bench-{번호}' 는 한 건만 일치, 본문은 약 500자
+        jdbcTemplate.update("""
+            INSERT INTO notices (id, title, content, view_count, created_at, updated_at)
+            SELECT gen_random_uuid()::text,
+                   (ARRAY['배송', '결제', '회원', '이벤트', '점검'])[1 + g % 5] || ' 안내 bench-' || g,
+                   '멍냥 공지사항 본문입니다. ' || repeat('일반 안내 문구를 확인해 주세요. ', 15 + g % 10)
+                       || (ARRAY['환불 정책 변경', '설 연휴 배송 일정', '서버 점검 시간', '포인트 적립 기준'])[1 + g % 4]
+                       || ' 관련 내용입니다.',
+                   g % 1000,
+                   NOW() - g * INTERVAL '1 minute', NOW()
+            FROM generate_series(1, ?) g
+            """, NOTICES);
+
+        // 트랜잭션 안에서는 CONCURRENTLY 를 쓸 수 없으므로 제거하고 생성
+        for (String mode : List.of("trigram", "full_text")) {
+            NoticeSearchIndexInitializer initializer = new NoticeSearchIndexInitializer(null, mode, "simple", true);
+            initializer.preparation().forEach(jdbcTemplate::execute);
+            initializer.indexes().forEach(index ->
+                    jdbcTemplate.execute(index.createSql().replace(" CONCURRENTLY", "")));
+        }
+        jdbcTemplate.execute("ANALYZE notices");
+    }
+
+    @Test
+    void searchLatencyAtOneHundredThousandNotices() {
+        // 기존 방식: LIKE '%검색어%' + COUNT
+        Page<Notices> likeFirst = measure("LIKE + COUNT '배송', first page",
+                () -> noticeRepository.findByTitleOrContentContaining("배송",
+                        PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        assertThat(likeFirst.getContent()).hasSize(PAGE_SIZE);
+        measure("LIKE + COUNT '배송', page 100",
+                () -> noticeRepository.findByTitleOrContentContaining("배송",
+                        PageRequest.of(100, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        measure("LIKE + COUNT 'bench-77777' (1 row)",
+                () -> noticeRepository.findByTitleOrContentContaining("bench-77777",
+                        PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        for (String mode : List.of("TRIGRAM", "FULL_TEXT")) {
+            List<NoticeSearchRowDTO> relevance = measure(mode + " '배송', relevance",
+                    () -> search(mode, "배송", "RELEVANCE", null));
+            assertThat(relevance).hasSize(PAGE_SIZE);
+
+            List<NoticeSearchRowDTO> latest = measure(mode + " '배송', latest",
+                    () -> search(mode, "배송", "LATEST", null));
+            assertThat(latest).allSatisfy(row ->
+                    assertThat(row.title() + row.content()).contains("배송"));
+
+            // 100 페이지를 커서로 이동한 뒤의 페이지 (OFFSET 1000 에 해당)
+            List<NoticeSearchRowDTO> page = latest;
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                page.forEach(row -> assertThat(seen.add(row.id())).isTrue());
+                page = search(mode, "배송", "LATEST", page.get(page.size() - 1));
+            }
+            NoticeSearchRowDTO deepCursor = page.get(page.size() - 1);
+            measure(mode + " '배송', latest after 100 pages",
+                    () -> search(mode, "배송", "LATEST", deepCursor));
+
+            List<NoticeSearchRowDTO> rare = measure(mode + " 'bench-77777' (1 row)",
+                    () -> search(mode, "bench-77777", "RELEVANCE", null));
+            assertThat(rare).singleElement()
+                    .satisfies(row -> assertThat(row.title()).endsWith(" bench-77777"));
+
+            // pg_trgm 은 3글자 이상이어야 LIKE 패턴에서 인덱스용 trigram 을 뽑을 수 있음
+            measure(mode + " '이벤트' (3 chars), relevance",
+                    () -> search(mode, "이벤트", "RELEVANCE", null));
+
+            measure(mode + " '서버 점검' in content, relevance",
+                    () -> search(mode, "서버 점검", "RELEVANCE", null));
+        }
+    }
+
+    private List<NoticeSearchRowDTO> search(String mode, String keyword, String sortKey, NoticeSearchRowDTO after) {
+        return noticeSearchMapper.searchNotices(mode, "simple", keyword,
+                "TRIGRAM".equals(mode) ? "%" + keyword + "%" : null,
+                // 3글자 미만 검색어는 서비스와 같이 제목만 검색
+                "TRIGRAM".equals(mode) && keyword.length() < 3,
+                sortKey,
+                after != null ? after.rank() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                PAGE_SIZE);
+    }
+
+    private <T> T measure(String name, Supplier<T> query) {
+        T result = null;
+        for (int i = 0; i < WARMUP; i++) {
+            result = query.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            result = query.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        double avg = Arrays.stream(elapsed).average().orElse(0) / 1_000_000.0;
+        double p95 = elapsed[(int) Math.ceil(ITERATIONS * 0.95) - 1] / 1_000_000.0;
+
+        log.info("[NoticeSearch benchmark] {} notices={}: avg {} ms, p95 {} ms",
+                name, NOTICES, String.format("%.2f", avg), String.format("%.2f", p95));
+        return result;
+    }
+}
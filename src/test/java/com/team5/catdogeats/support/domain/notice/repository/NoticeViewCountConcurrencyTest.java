@@ -1,6 +1,7 @@
 package com.team5.catdogeats.support.domain.notice.repository;
 
 import com.team5.catdogeats.support.domain.Notices;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +21,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
-@SpringBootTest
+// 조회수 반영은 테스트에서 직접 호출 (스케줄러 주기를 길게)
+@SpringBootTest(properties = "notice.view-count.flush-interval-ms=3600000")
 @ActiveProfiles("dev")
 @DisplayName("공지사항 조회수 동시성 테스트 (PostgreSQL)")
 class NoticeViewCountConcurrencyTest {
@@ -28,6 +30,9 @@ class NoticeViewCountConcurrencyTest {
     @Autowired
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private NoticeViewCountService noticeViewCountService;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -164,6 +169,72 @@ class NoticeViewCountConcurrencyTest {
         assertThat(actualViewCount).isLessThan(expectedViewCount);
     }
 
+    @Test
+    @DisplayName("조회수 write-behind 동시성 테스트 - 누적 중 반복 반영해도 유실 없음")
+    void bufferedViewCount_NoLostUpdates() throws InterruptedException {
+        // given
+        int threadCount = 50;
+        int viewsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger errorCount = new AtomicInteger(0);
+
+        Long initialViewCount = noticeRepository.findById(testNoticeId)
+                .orElseThrow().getViewCount();
+
+        // 조회가 쌓이는 동안 계속 DB 에 반영 (스케줄러가 짧은 주기로 도는 상황)
+        Thread flusher = new Thread(() -> {
+            while (latch.getCount() > 0) {
+                noticeViewCountService.flush();
+            }
+        });
+
+        // when: 50개의 스레드가 동시에 조회 기록
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int v = 0; v < viewsPerThread; v++) {
+                        noticeViewCountService.increment(testNoticeId);
+                    }
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        flusher.start();
+        startLatch.countDown();
+
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        assertThat(completed).isTrue();
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+
+        executorService.shutdown();
+        boolean terminated = executorService.awaitTermination(30, TimeUnit.SECONDS);
+        assertThat(terminated).isTrue();
+
+        // 마지막 주기 반영
+        noticeViewCountService.flush();
+
+        // then: 반영 도중 들어온 조회까지 모두 DB 에 반영되어야 함
+        Long expectedViewCount = initialViewCount + (long) threadCount * viewsPerThread;
+        Long actualViewCount = noticeRepository.findById(testNoticeId).orElseThrow().getViewCount();
+
+        System.out.println("=== write-behind 조회수 동시성 테스트 결과 ===");
+        System.out.println("초기 조회수: " + initialViewCount);
+        System.out.println("총 조회 수: " + (threadCount * viewsPerThread));
+        System.out.println("최종 조회수: " + actualViewCount);
+        System.out.println("예상 조회수: " + expectedViewCount);
+
+        assertThat(errorCount.get()).isEqualTo(0);
+        assertThat(actualViewCount).isEqualTo(expectedViewCount);
+        assertThat(noticeViewCountService.pendingCount(testNoticeId)).isZero();
+    }
+
     // 새로운 트랜잭션에서 조회수 증가 실행
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void incrementViewCountInNewTransaction(String noticeId) {
@@ -0,0 +1,143 @@
+package com.team5.catdogeats.support.domain.notice.service.impl;
+
+import com.team5.catdogeats.support.domain.enums.NoticeSearchSortKey;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchCursor;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchPageDTO;
+import com.team5.catdogeats.support.domain.notice.dto.NoticeSearchRowDTO;
+import com.team5.catdogeats.support.domain.notice.mapper.NoticeSearchMapper;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공지사항 검색 서비스 테스트 (Mock)")
+class NoticeSearchServiceImplTest {
+
+    @Mock
+    private NoticeSearchMapper noticeSearchMapper;
+
+    @Mock
+    private NoticeViewCountService noticeViewCountService;
+
+    private NoticeSearchServiceImpl noticeSearchService;
+
+    @BeforeEach
+    void setUp() {
+        noticeSearchService = new NoticeSearchServiceImpl(noticeSearchMapper, noticeViewCountService, "trigram", "simple");
+    }
+
+    private static NoticeSearchRowDTO row(String id, String title, String content, float rank) {
+        return new NoticeSearchRowDTO(id, title, content,
+                OffsetDateTime.of(2025, 7, 1, 0, 0, 0, 0, ZoneOffset.UTC), 10L, rank);
+    }
+
+    @Test
+    @DisplayName("검색 - size + 1 건이 조회되면 다음 페이지 커서 반환, 검색어 강조 / 미반영 조회수 포함, 2글자 검색어는 제목만 검색")
+    void searchNotices_HasNext() {
+        // given
+        given(noticeSearchMapper.searchNotices(eq("TRIGRAM"), eq("simple"), eq("배송"), eq("%배송%"), eq(true),
+                eq("RELEVANCE"), isNull(), isNull(), isNull(), eq(3)))
+                .willReturn(List.of(
+                        row("n-3", "<긴급> 배송 지연 안내", "설 연휴 배송이 지연됩니다.", 2.5f),
+                        row("n-2", "배송 안내", "본문", 2.0f),
+                        row("n-1", "배송 일정 공지", "본문", 0.5f)));
+        given(noticeViewCountService.pendingCount(anyString())).willReturn(0L);
+        given(noticeViewCountService.pendingCount("n-3")).willReturn(2L);
+
+        // when
+        NoticeSearchPageDTO page = noticeSearchService.searchNotices(" 배송 ", null, null, 2);
+
+        // then
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.content().get(0).highlightedTitle()).isEqualTo("&lt;긴급&gt; <mark>배송</mark> 지연 안내");
+        assertThat(page.content().get(0).snippet()).isEqualTo("설 연휴 <mark>배송</mark>이 지연됩니다.");
+        assertThat(page.content().get(0).createdAt()).isEqualTo("2025-07-01 09:00:00");
+        assertThat(page.content().get(0).viewCount()).isEqualTo(12L);
+
+        NoticeSearchCursor next = NoticeSearchCursor.decode(page.nextCursor(), NoticeSearchSortKey.RELEVANCE);
+        assertThat(next.rank()).isEqualTo(2.0f);
+        assertThat(next.noticeId()).isEqualTo("n-2");
+    }
+
+    @Test
+    @DisplayName("검색 - 커서의 정렬 키 값을 다음 페이지 조건으로 전달, 마지막 페이지면 커서 없음")
+    void searchNotices_WithCursor() {
+        // given
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 7, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        String cursor = new NoticeSearchCursor(NoticeSearchSortKey.LATEST, null, createdAt, "n-5").encode();
+        given(noticeSearchMapper.searchNotices(eq("TRIGRAM"), eq("simple"), eq("100%"), eq("%100\\%%"), eq(false),
+                eq("LATEST"), isNull(), eq(createdAt), eq("n-5"), eq(11)))
+                .willReturn(List.of(row("n-4", "100% 환불 안내", "본문", 0f)));
+        given(noticeViewCountService.pendingCount("n-4")).willReturn(0L);
+
+        // when
+        NoticeSearchPageDTO page = noticeSearchService.searchNotices("100%", "latest", cursor, 10);
+
+        // then
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("전문 검색 모드 - 설정한 텍스트 검색 설정으로 조회하고 단어별로 강조")
+    void searchNotices_FullTextMode() {
+        // given
+        noticeSearchService = new NoticeSearchServiceImpl(noticeSearchMapper, noticeViewCountService, "full_text", "korean");
+        given(noticeSearchMapper.searchNotices(eq("FULL_TEXT"), eq("korean"), eq("연휴 배송"), isNull(), eq(false),
+                eq("RELEVANCE"), isNull(), isNull(), isNull(), eq(11)))
+                .willReturn(List.of(row("n-1", "연휴 기간 배송 안내", "본문", 0.3f)));
+
+        // when
+        NoticeSearchPageDTO page = noticeSearchService.searchNotices("연휴 배송", "relevance", null, 10);
+
+        // then
+        assertThat(page.content().get(0).highlightedTitle())
+                .isEqualTo("<mark>연휴</mark> 기간 <mark>배송</mark> 안내");
+    }
+
+    @Test
+    @DisplayName("검색 - 잘못된 파라미터 / 다른 정렬의 커서는 조회 없이 예외")
+    void searchNotices_InvalidParameters() {
+        String relevanceCursor = new NoticeSearchCursor(NoticeSearchSortKey.RELEVANCE, 1.0f, null, "n-1").encode();
+
+        assertThatThrownBy(() -> noticeSearchService.searchNotices(" ", null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> noticeSearchService.searchNotices("가".repeat(51), null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> noticeSearchService.searchNotices("배송", null, null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> noticeSearchService.searchNotices("배송", "latest", relevanceCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬 기준");
+        assertThatThrownBy(() -> noticeSearchService.searchNotices("배송", null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(noticeSearchMapper);
+    }
+
+    @Test
+    @DisplayName("텍스트 검색 설정 이름은 식별자 형식만 허용 (SQL 에 그대로 들어감)")
+    void constructor_RejectsInvalidTsConfig() {
+        assertThatThrownBy(() -> new NoticeSearchServiceImpl(noticeSearchMapper, noticeViewCountService,
+                "full_text", "simple'::regconfig); DROP TABLE notices; --"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -8,7 +8,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
 
 import java.util.NoSuchElementException;
 
@@ -32,10 +31,10 @@ class NoticeServiceImplFileDownloadTest {
         // given
         String fileId = "test-file-id";
 
-        Resource mockResource = mock(Resource.class);
+        String downloadUrl = "https://test-bucket.s3.amazonaws.com/files/test.pdf?X-Amz-Signature=abc";
 
         NoticeFileDownloadResponseDTO expectedResponse = new NoticeFileDownloadResponseDTO(
-                mockResource,
+                downloadUrl,
                 "test.pdf",
                 "application/pdf"
         );
@@ -48,7 +47,7 @@ class NoticeServiceImplFileDownloadTest {
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getResource()).isEqualTo(mockResource);
+        assertThat(result.getDownloadUrl()).isEqualTo(downloadUrl);
         assertThat(result.getFilename()).isEqualTo("test.pdf");
         assertThat(result.getContentType()).isEqualTo("application/pdf");
 
@@ -95,10 +94,10 @@ class NoticeServiceImplFileDownloadTest {
         // given
         String fileId = "test-file-id";
 
-        Resource mockResource = mock(Resource.class);
+        String downloadUrl = "https://test-bucket.s3.amazonaws.com/files/corrupted-file.pdf?X-Amz-Signature=abc";
 
         NoticeFileDownloadResponseDTO expectedResponse = new NoticeFileDownloadResponseDTO(
-                mockResource,
+                downloadUrl,
                 "corrupted-file.pdf",
                 "application/pdf"
         );
@@ -111,7 +110,7 @@ class NoticeServiceImplFileDownloadTest {
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getResource()).isEqualTo(mockResource);
+        assertThat(result.getDownloadUrl()).isEqualTo(downloadUrl);
         assertThat(result.getFilename()).isEqualTo("corrupted-file.pdf");
         assertThat(result.getContentType()).isEqualTo("application/pdf");
 
@@ -4,6 +4,7 @@ import com.team5.catdogeats.support.domain.Notices;
 import com.team5.catdogeats.support.domain.notice.dto.NoticeResponseDTO;
 import com.team5.catdogeats.support.domain.notice.repository.NoticeRepository;
 import com.team5.catdogeats.support.domain.notice.service.NoticeService;
+import com.team5.catdogeats.support.domain.notice.service.NoticeViewCountService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +25,8 @@ import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.*;
 
-@SpringBootTest  // ✅ 실제 Spring Context 로드
+// 조회수는 테스트에서 직접 flush (스케줄러가 테스트 도중 반영하지 않도록 주기를 길게)
+@SpringBootTest(properties = "notice.view-count.flush-interval-ms=3600000")  // ✅ 실제 Spring Context 로드
 @ActiveProfiles("dev")  // ✅ 실제 DB 사용
 @DisplayName("NoticeService 통합 테스트 - 실제 DB로 메모리 동기화 검증")
 class NoticeServiceIntegrationTest {
@@ -35,6 +37,9 @@ class NoticeServiceIntegrationTest {
     @Autowired  // ✅ 실제 Repository
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private NoticeViewCountService noticeViewCountService;
+
     @PersistenceContext  // ✅ 실제 EntityManager
     private EntityManager entityManager;
 
@@ -65,6 +70,9 @@ class NoticeServiceIntegrationTest {
 
         // when
         NoticeResponseDTO response = noticeService.getNotice(testNoticeId);
+        Long dbViewCountBeforeFlush = noticeRepository.findById(testNoticeId)
+                .orElseThrow().getViewCount();
+        noticeViewCountService.flush();
 
         // then
         Long dbViewCount = noticeRepository.findById(testNoticeId)
@@ -75,7 +83,8 @@ class NoticeServiceIntegrationTest {
         System.out.println("응답 조회수: " + response.getViewCount());
         System.out.println("DB 조회수: " + dbViewCount);
 
-        // 검증: 응답 값이 실제 DB 값과 일치해야 함
+        // 검증: 조회 시점에는 DB 에 반영되지 않고, 응답은 반영 후 DB 값과 일치해야 함
+        assertThat(dbViewCountBeforeFlush).isEqualTo(initialViewCount);
         assertThat(response.getViewCount()).isEqualTo(initialViewCount + 1);
         assertThat(response.getViewCount()).isEqualTo(dbViewCount);
         assertThat(dbViewCount).isEqualTo(initialViewCount + 1);
@@ -107,6 +116,7 @@ class NoticeServiceIntegrationTest {
         }
 
         // 최종 DB 확인
+        noticeViewCountService.flush();
         Long finalDbCount = noticeRepository.findById(testNoticeId)
                 .orElseThrow().getViewCount();
         assertThat(finalDbCount).isEqualTo(initialViewCount + 5);
@@ -164,6 +174,7 @@ class NoticeServiceIntegrationTest {
         assertThat(terminated).isTrue();
 
         // then: 결과 검증
+        noticeViewCountService.flush();
         Long finalDbCount = noticeRepository.findById(testNoticeId).orElseThrow().getViewCount();
         Long expectedFinalCount = initialViewCount + threadCount;
 
@@ -0,0 +1,114 @@
+package com.team5.catdogeats.support.domain.notice.service.impl;
+
+import com.team5.catdogeats.support.domain.notice.dto.NoticeViewCountDeltaDTO;
+import com.team5.catdogeats.support.domain.notice.mapper.NoticeViewCountMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공지사항 조회수 write-behind 카운터 테스트")
+class NoticeViewCountServiceImplTest {
+
+    @Mock
+    private NoticeViewCountMapper noticeViewCountMapper;
+
+    @InjectMocks
+    private NoticeViewCountServiceImpl noticeViewCountService;
+
+    @Test
+    @DisplayName("누적된 조회수를 공지사항별 한 건씩 한 번의 UPDATE 로 반영")
+    void flush_BatchesPendingCounts() {
+        // given
+        noticeViewCountService.increment("notice-1");
+        noticeViewCountService.increment("notice-1");
+        noticeViewCountService.increment("notice-2");
+
+        // when
+        noticeViewCountService.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NoticeViewCountDeltaDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(noticeViewCountMapper).addViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new NoticeViewCountDeltaDTO("notice-1", 2),
+                new NoticeViewCountDeltaDTO("notice-2", 1));
+        assertThat(noticeViewCountService.pendingCount("notice-1")).isZero();
+        assertThat(noticeViewCountService.pendingCount("notice-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 후 새로 들어온 조회수만 다음 주기에 반영, 누적이 없으면 UPDATE 하지 않음")
+    void flush_OnlyNewCountsAfterFlush() {
+        // given
+        noticeViewCountService.increment("notice-1");
+        noticeViewCountService.flush();
+
+        // when
+        noticeViewCountService.flush();
+        noticeViewCountService.increment("notice-1");
+        noticeViewCountService.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NoticeViewCountDeltaDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(noticeViewCountMapper, times(2)).addViewCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactly(new NoticeViewCountDeltaDTO("notice-1", 1));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적 조회수를 유지하고 다음 주기에 합쳐서 재시도")
+    void flush_FailureKeepsPendingCounts() {
+        // given
+        noticeViewCountService.increment("notice-1");
+        willThrow(new RuntimeException("DB 연결 실패"))
+                .given(noticeViewCountMapper).addViewCounts(anyList());
+
+        // when
+        noticeViewCountService.flush();
+
+        // then
+        assertThat(noticeViewCountService.pendingCount("notice-1")).isEqualTo(1);
+
+        // 다음 주기 재시도
+        willReturn(1).given(noticeViewCountMapper).addViewCounts(anyList());
+        noticeViewCountService.increment("notice-1");
+        noticeViewCountService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NoticeViewCountDeltaDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(noticeViewCountMapper, times(2)).addViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new NoticeViewCountDeltaDTO("notice-1", 2));
+        assertThat(noticeViewCountService.pendingCount("notice-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 공지사항의 누적 조회수는 반영하지 않음")
+    void discard_RemovesPendingCounts() {
+        // given
+        noticeViewCountService.increment("notice-1");
+
+        // when
+        noticeViewCountService.discard("notice-1");
+        noticeViewCountService.flush();
+
+        // then
+        assertThat(noticeViewCountService.pendingCount("notice-1")).isZero();
+        verify(noticeViewCountMapper, never()).addViewCounts(anyList());
+    }
+}
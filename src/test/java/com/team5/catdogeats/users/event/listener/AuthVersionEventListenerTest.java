@@ -0,0 +1,51 @@
+package com.team5.catdogeats.users.event.listener;
+
+import com.team5.catdogeats.auth.dto.UserPrincipal;
+import com.team5.catdogeats.auth.service.AuthVersionService;
+import com.team5.catdogeats.users.event.UserAuthorityChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("권한 버전 이벤트 리스너 테스트")
+class AuthVersionEventListenerTest {
+
+    @InjectMocks
+    private AuthVersionEventListener authVersionEventListener;
+
+    @Mock
+    private AuthVersionService authVersionService;
+
+    private final UserPrincipal userPrincipal = new UserPrincipal("google", "12345");
+
+    @Test
+    @DisplayName("권한 변경 커밋 후 권한 버전 증가")
+    void handleUserAuthorityChanged_BumpsVersion() {
+        // when
+        authVersionEventListener.handleUserAuthorityChanged(UserAuthorityChangedEvent.of(userPrincipal));
+
+        // then
+        verify(authVersionService).bumpVersion(userPrincipal);
+    }
+
+    @Test
+    @DisplayName("버전 증가 실패는 이미 커밋된 요청에 전파하지 않음")
+    void handleUserAuthorityChanged_SwallowsFailure() {
+        // given
+        willThrow(new RedisConnectionFailureException("redis down"))
+                .given(authVersionService).bumpVersion(userPrincipal);
+
+        // when & then
+        assertThatCode(() -> authVersionEventListener.handleUserAuthorityChanged(UserAuthorityChangedEvent.of(userPrincipal)))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,122 @@
+package com.team5.catdogeats.users.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class SellerStoreQueryExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("조회는 대기 시간과 같은 statement_timeout 을 건 읽기 전용 트랜잭션에서 실행")
+    void submit_AppliesStatementTimeout() {
+        // given
+        SellerStoreQueryExecutor executor = new SellerStoreQueryExecutor(Runnable::run, 1_500, transactionManager, jdbcTemplate);
+
+        // when
+        Long result = executor.join(executor.submit(() -> {
+            jdbcTemplate.queryForObject("SELECT 1", Long.class);
+            return 1L;
+        }));
+
+        // then
+        assertThat(result).isEqualTo(1L);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder order = inOrder(transactionManager, jdbcTemplate);
+        order.verify(transactionManager).getTransaction(definition.capture());
+        order.verify(jdbcTemplate).execute("SET LOCAL statement_timeout = 1500");
+        order.verify(jdbcTemplate).queryForObject("SELECT 1", Long.class);
+        order.verify(transactionManager).commit(any());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 시간은 큐 대기를 빼고 실행을 시작한 시점부터 측정")
+    void submit_TimeoutExcludesQueueWait() throws Exception {
+        // given
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        SellerStoreQueryExecutor executor = new SellerStoreQueryExecutor(pool, 100, 1_000, 1, null, null);
+
+        try {
+            // when
+            CompletableFuture<Long> slow = executor.submit(() -> {
+                sleep(80);
+                return 1L;
+            });
+            CompletableFuture<Long> queued = executor.submit(() -> {
+                sleep(50);
+                return 2L;
+            });
+
+            // then - 두 번째 조회는 대기 포함 130ms 지만 실행은 50ms 라 성공
+            assertThat(executor.join(slow)).isEqualTo(1L);
+            assertThat(executor.join(queued)).isEqualTo(2L);
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 지나면 큐에 남은 조회는 취소되어 실행되지 않음")
+    void join_MaxWaitExceeded_CancelsQueuedQuery() throws Exception {
+        // given
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        SellerStoreQueryExecutor executor = new SellerStoreQueryExecutor(pool, 50, 50, 1, null, null);
+        AtomicBoolean queuedRan = new AtomicBoolean(false);
+
+        try {
+            executor.submit(() -> {
+                sleep(200);
+                return 1L;
+            });
+            CompletableFuture<Long> queued = executor.submit(() -> {
+                queuedRan.set(true);
+                return 2L;
+            });
+
+            // when & then
+            assertThatThrownBy(() -> executor.join(queued))
+                    .isInstanceOf(SellerStoreQueryExecutor.QueryTimeoutException.class);
+            assertThat(queued.isCancelled()).isTrue();
+
+            pool.submit(() -> { }).get(1, TimeUnit.SECONDS);
+            assertThat(queuedRan).isFalse();
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -50,6 +51,9 @@ class SellerBrandImageServiceImplTest {
     @Mock
     private ImageValidationUtil imageValidationUtil;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SellerBrandImageServiceImpl sellerBrandImageService;
 
@@ -491,9 +495,9 @@ class SellerBrandImageServiceImplTest {
 
             // then
             String generatedFilename = filenameCaptor.getValue();
-            // user-uuid-123에서 8자리 잘림: user-uui
-            assertThat(generatedFilename).matches("brand_user-uui_[a-f0-9]{32}\\.jpg");
-            assertThat(generatedFilename).startsWith("brand_user-uui");
+            // 다른 판매자와 겹치지 않도록 userId 전체 사용
+            assertThat(generatedFilename).matches("brand_user-uuid-123_[a-f0-9]{32}\\.jpg");
+            assertThat(generatedFilename).startsWith("brand_user-uuid-123_");
             assertThat(generatedFilename).endsWith(".jpg");
         }
 
@@ -575,6 +579,43 @@ class SellerBrandImageServiceImplTest {
             assertThat(generatedFilename).startsWith("brand_short123");
             assertThat(generatedFilename).endsWith(".jpg");
         }
+
+        @Test
+        @DisplayName("실패: 다른 판매자가 쓰고 있는 파일은 confirm 하지 않음")
+        void confirmBrandImageUpload_AlreadyUsedByOtherSeller() {
+            // given
+            String fileKey = "brand_user-uuid-123_abc.jpg";
+            String imageUrl = "https://cdn.example.com/images/brand_user-uuid-123_abc.jpg";
+            when(userRepository.findByProviderAndProviderId("google", "12345"))
+                    .thenReturn(Optional.of(user));
+            when(sellersRepository.findByUserId("user-uuid-123"))
+                    .thenReturn(Optional.of(seller));
+            when(objectStorageService.imageUrl(fileKey)).thenReturn(imageUrl);
+            when(sellersRepository.existsByVendorProfileImageAndUserIdNot(imageUrl, "user-uuid-123"))
+                    .thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> sellerBrandImageService.confirmBrandImageUpload(userPrincipal, fileKey))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("이미 등록된 이미지입니다.");
+            verify(objectStorageService, never()).readImageHeader(anyString(), anyInt());
+            verify(objectStorageService, never()).deleteImage(anyString());
+        }
+
+        @Test
+        @DisplayName("실패: 앞자리만 같은 다른 판매자 ID 로 발급된 파일은 confirm 하지 않음")
+        void confirmBrandImageUpload_OtherSellerKeyWithSamePrefix() {
+            // given
+            when(userRepository.findByProviderAndProviderId("google", "12345"))
+                    .thenReturn(Optional.of(user));
+            when(sellersRepository.findByUserId("user-uuid-123"))
+                    .thenReturn(Optional.of(seller));
+
+            // when & then
+            assertThatThrownBy(() -> sellerBrandImageService.confirmBrandImageUpload(userPrincipal, "brand_user-uuid-999_abc.jpg"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(objectStorageService, never()).readImageHeader(anyString(), anyInt());
+        }
     }
 
     @Nested
@@ -7,9 +7,12 @@ import com.team5.catdogeats.products.domain.dto.ProductStoreInfoDTO;
 import com.team5.catdogeats.products.domain.enums.ProductCategory;
 import com.team5.catdogeats.products.domain.enums.StockStatus;
 import com.team5.catdogeats.products.service.SellerStoreProductService;
+import com.team5.catdogeats.users.domain.dto.SellerStoreInfoDTO;
 import com.team5.catdogeats.users.domain.dto.SellerStorePageResponse;
 import com.team5.catdogeats.users.domain.mapping.Sellers;
 import com.team5.catdogeats.users.repository.SellersRepository;
+import com.team5.catdogeats.users.service.SellerStoreHeaderCacheService;
+import com.team5.catdogeats.users.service.SellerStoreQueryExecutor;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,11 +32,15 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +59,13 @@ class SellerStoreServiceImplTest {
     @Mock
     private SellerStoreStatsService sellerStoreStatsService;
 
+    @Mock
+    private SellerStoreHeaderCacheService sellerStoreHeaderCacheService;
+
+    // 병렬 조회를 호출 스레드에서 바로 실행
+    @Spy
+    private SellerStoreQueryExecutor sellerStoreQueryExecutor = new SellerStoreQueryExecutor(Runnable::run, 1_000);
+
     private Sellers testSeller;
     private SellerStoreStatsDTO testStats;
     private List<ProductStoreInfoDTO> testProducts;
@@ -615,4 +630,160 @@ class SellerStoreServiceImplTest {
             verify(productService).getSellerProductsBaseInfo(eq(testSeller.getUserId()), isNull(), isNull(),  isNull(), any(Pageable.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("스토어 헤더 캐시 테스트")
+    class HeaderCacheTests {
+
+        @Test
+        @DisplayName("캐시 적중 - 판매자 / 집계 조회 생략")
+        void getSellerStorePage_CacheHit_SkipsHeaderQueries() {
+            // given
+            String vendorName = "멍멍이네 수제간식";
+            SellerStoreInfoDTO cachedInfo = SellerStoreInfoDTO.from(testSeller, 30L, testStats);
+
+            given(sellerStoreHeaderCacheService.get(vendorName))
+                    .willReturn(Optional.of(cachedInfo));
+            given(productService.getSellerProductsBaseInfo(eq(testSeller.getUserId()), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .willReturn(testProductPage);
+
+            // when
+            SellerStorePageResponse result = sellerStoreService.getSellerStorePage(
+                    vendorName, 2, 12, "createdAt,desc", null, null, null
+            );
+
+            // then
+            assertThat(result.sellerInfo()).isEqualTo(cachedInfo);
+            verify(sellersRepository, never()).findByVendorName(anyString());
+            verify(productService, never()).countSellerActiveProducts(anyString());
+            verify(sellerStoreStatsService, never()).getSellerStoreStats(anyString());
+        }
+
+        @Test
+        @DisplayName("캐시 미스 - 원본 조회 후 캐시 저장")
+        void getSellerStorePage_CacheMiss_StoresHeader() {
+            // given
+            String vendorName = "멍멍이네 수제간식";
+
+            given(sellerStoreHeaderCacheService.get(vendorName))
+                    .willReturn(Optional.empty());
+            given(sellersRepository.findByVendorName(vendorName))
+                    .willReturn(Optional.of(testSeller));
+            given(productService.countSellerActiveProducts(testSeller.getUserId()))
+                    .willReturn(30L);
+            given(sellerStoreStatsService.getSellerStoreStats(testSeller.getUserId()))
+                    .willReturn(testStats);
+            given(productService.getSellerProductsBaseInfo(eq(testSeller.getUserId()), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .willReturn(testProductPage);
+
+            // when
+            SellerStorePageResponse result = sellerStoreService.getSellerStorePage(
+                    vendorName, 1, 12, "createdAt,desc", null, null, null
+            );
+
+            // then
+            verify(sellerStoreHeaderCacheService).put(vendorName, result.sellerInfo());
+            assertThat(result.sellerInfo().totalReviews()).isEqualTo(testStats.totalReviews());
+        }
+    }
+
+    @Nested
+    @DisplayName("병렬 조회 테스트")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("상점 집계가 시간 초과되면 마지막 집계로 응답하고 헤더는 캐시하지 않음")
+        void getSellerStorePage_StatsTimeout_FallsBackToLastStats() throws Exception {
+            // given
+            String vendorName = "멍멍이네 수제간식";
+            String sellerId = testSeller.getUserId();
+            SellerStoreStatsDTO lastStats = new SellerStoreStatsDTO(10L, 2.0, 900L);
+            ExecutorService pool = Executors.newFixedThreadPool(3);
+            SellerStoreServiceImpl service = new SellerStoreServiceImpl(sellersRepository, productService,
+                    sellerStoreStatsService, sellerStoreHeaderCacheService, new SellerStoreQueryExecutor(pool, 100));
+
+            given(sellerStoreHeaderCacheService.get(vendorName)).willReturn(Optional.empty());
+            given(sellersRepository.findByVendorName(vendorName)).willReturn(Optional.of(testSeller));
+            given(productService.countSellerActiveProducts(sellerId)).willReturn(30L);
+            given(productService.getSellerProductsBaseInfo(eq(sellerId), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .willReturn(testProductPage);
+            given(sellerStoreStatsService.getSellerStoreStats(sellerId)).willAnswer(invocation -> {
+                Thread.sleep(1_000);
+                return testStats;
+            });
+            given(sellerStoreHeaderCacheService.getLastStats(sellerId)).willReturn(Optional.of(lastStats));
+
+            try {
+                // when
+                SellerStorePageResponse result = service.getSellerStorePage(
+                        vendorName, 1, 12, "createdAt,desc", null, null, null
+                );
+
+                // then
+                assertThat(result.sellerInfo().totalReviews()).isEqualTo(lastStats.totalReviews());
+                assertThat(result.products().content()).hasSize(2);
+                verify(sellerStoreHeaderCacheService, never()).put(anyString(), any(SellerStoreInfoDTO.class));
+            } finally {
+                pool.shutdownNow();
+                pool.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("상품 목록이 시간 초과되면 빈 목록으로 응답하고 헤더는 그대로 캐시")
+        void getSellerStorePage_ProductTimeout_ReturnsEmptyProducts() throws Exception {
+            // given
+            String vendorName = "멍멍이네 수제간식";
+            String sellerId = testSeller.getUserId();
+            ExecutorService pool = Executors.newFixedThreadPool(3);
+            SellerStoreServiceImpl service = new SellerStoreServiceImpl(sellersRepository, productService,
+                    sellerStoreStatsService, sellerStoreHeaderCacheService, new SellerStoreQueryExecutor(pool, 100));
+
+            given(sellerStoreHeaderCacheService.get(vendorName)).willReturn(Optional.empty());
+            given(sellersRepository.findByVendorName(vendorName)).willReturn(Optional.of(testSeller));
+            given(productService.countSellerActiveProducts(sellerId)).willReturn(30L);
+            given(sellerStoreStatsService.getSellerStoreStats(sellerId)).willReturn(testStats);
+            given(productService.getSellerProductsBaseInfo(eq(sellerId), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .willAnswer(invocation -> {
+                        Thread.sleep(1_000);
+                        return testProductPage;
+                    });
+
+            try {
+                // when
+                SellerStorePageResponse result = service.getSellerStorePage(
+                        vendorName, 1, 12, "createdAt,desc", null, null, null
+                );
+
+                // then
+                assertThat(result.products().content()).isEmpty();
+                assertThat(result.sellerInfo().totalProducts()).isEqualTo(30L);
+                verify(sellerStoreHeaderCacheService).put(vendorName, result.sellerInfo());
+            } finally {
+                pool.shutdownNow();
+                pool.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        }
+
+        @Test
+        @DisplayName("캐시 미스 - 조회한 상점 집계를 마지막 집계로 저장")
+        void getSellerStorePage_CacheMiss_StoresLastStats() {
+            // given
+            String vendorName = "멍멍이네 수제간식";
+            String sellerId = testSeller.getUserId();
+
+            given(sellerStoreHeaderCacheService.get(vendorName)).willReturn(Optional.empty());
+            given(sellersRepository.findByVendorName(vendorName)).willReturn(Optional.of(testSeller));
+            given(productService.countSellerActiveProducts(sellerId)).willReturn(30L);
+            given(sellerStoreStatsService.getSellerStoreStats(sellerId)).willReturn(testStats);
+            given(productService.getSellerProductsBaseInfo(eq(sellerId), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .willReturn(testProductPage);
+
+            // when
+            sellerStoreService.getSellerStorePage(vendorName, 1, 12, "createdAt,desc", null, null, null);
+
+            // then
+            verify(sellerStoreHeaderCacheService).putLastStats(sellerId, testStats);
+        }
+    }
+}